@@ -0,0 +1,51 @@
+package seedu.sgsafe.domain.casefiles;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures wrapping an info field of different lengths, as {@code list --mode verbose} does, where only the
+ * first {@link CaseFormatter#MAX_VERBOSE_LINES_PER_FIELD} lines are shown, and as {@code read} does, where
+ * every line is shown. The text mixes words of ordinary length with an occasional word too long for a line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CaseFormatterBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int infoLength;
+
+    private String info;
+
+    @Setup(Level.Trial)
+    public void createInfo() {
+        String[] words = {"Stolen", "bicycle", "outside", "the", "community", "centre", "near", "Block", "123",
+            "reported", "by", "a", "neighbour", "https://example.com/reports/" + "x".repeat(100)};
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; builder.length() < infoLength; i++) {
+            builder.append(words[i % words.length]).append(' ');
+        }
+        info = builder.substring(0, infoLength);
+    }
+
+    @Benchmark
+    public List<String> wrapVerbose() {
+        return CaseFormatter.wrapField(true, "Info", info, CaseFormatter.MAX_DISPLAY_WIDTH_CHARACTERS);
+    }
+
+    @Benchmark
+    public List<String> wrapRead() {
+        return CaseFormatter.wrapField(false, "Info", info, CaseFormatter.MAX_DISPLAY_WIDTH_CHARACTERS);
+    }
+}
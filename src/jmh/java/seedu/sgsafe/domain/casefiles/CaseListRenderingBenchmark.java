@@ -0,0 +1,118 @@
+package seedu.sgsafe.domain.casefiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.utils.settings.Settings;
+import seedu.sgsafe.utils.ui.DateFormatter;
+
+/**
+ * Measures rendering every case the way {@code list} does, in summary and verbose mode.
+ * <p>
+ * The {@code cached} variants return the lines each case kept from the previous listing. The {@code rendered}
+ * variants change the output date format first, to a pattern that prints the same dates, so every case renders
+ * its lines again. The {@code uncached} variants do the same and also clear the {@link DateFormatter} cache
+ * before each case, so every date is formatted with a freshly compiled formatter, as it was before formatters
+ * were cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CaseListRenderingBenchmark {
+
+    @Param({"10000", "100000"})
+    private int caseCount;
+
+    private List<Case> cases;
+
+    private String originalDateFormat;
+
+    @Setup(Level.Trial)
+    public void populateCases() {
+        CaseManager.clearCases();
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < caseCount; i++) {
+            String id = CaseManager.generateHexId();
+            CaseManager.addCase(new TheftCase(id, "Case " + i, date.plusDays(i % 365),
+                    "Stolen bicycle outside the community centre", "victim", "officer"));
+        }
+        cases = CaseManager.getCaseList();
+        originalDateFormat = Settings.getOutputDateFormat();
+    }
+
+    @TearDown(Level.Trial)
+    public void clearCases() {
+        Settings.setOutputDateFormat(originalDateFormat);
+        CaseManager.clearCases();
+    }
+
+    /**
+     * Switches between two patterns that print the same dates, which makes every case render its lines again.
+     */
+    private static void forceRendering() {
+        boolean isYearOfEra = Settings.getOutputDateFormat().equals("dd/MM/yyyy");
+        Settings.setOutputDateFormat(isYearOfEra ? "dd/MM/uuuu" : "dd/MM/yyyy");
+    }
+
+    @Benchmark
+    public void summaryCached(Blackhole blackhole) {
+        for (Case c : cases) {
+            blackhole.consume(c.getDisplayLine());
+        }
+    }
+
+    @Benchmark
+    public void summaryRendered(Blackhole blackhole) {
+        forceRendering();
+        for (Case c : cases) {
+            blackhole.consume(c.getDisplayLine());
+        }
+    }
+
+    @Benchmark
+    public void summaryUncached(Blackhole blackhole) {
+        forceRendering();
+        for (Case c : cases) {
+            DateFormatter.clearCache();
+            blackhole.consume(c.getDisplayLine());
+        }
+    }
+
+    @Benchmark
+    public void verboseCached(Blackhole blackhole) {
+        for (Case c : cases) {
+            blackhole.consume(c.getMultiLineVerboseDisplay());
+        }
+    }
+
+    @Benchmark
+    public void verboseRendered(Blackhole blackhole) {
+        forceRendering();
+        for (Case c : cases) {
+            blackhole.consume(c.getMultiLineVerboseDisplay());
+        }
+    }
+
+    @Benchmark
+    public void verboseUncached(Blackhole blackhole) {
+        forceRendering();
+        for (Case c : cases) {
+            DateFormatter.clearCache();
+            blackhole.consume(c.getMultiLineVerboseDisplay());
+        }
+    }
+}
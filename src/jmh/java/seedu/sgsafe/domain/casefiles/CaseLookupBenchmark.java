@@ -0,0 +1,77 @@
+package seedu.sgsafe.domain.casefiles;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+/**
+ * Compares the indexed {@link CaseManager#getCaseById(String)} lookup against the
+ * linear stream scan it replaced, for archives of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CaseLookupBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int caseCount;
+
+    // IDs near the start, middle and end of the list, looked up in rotation
+    private String[] targetIds;
+
+    private int nextTarget;
+
+    @Setup(Level.Trial)
+    public void populateCases() {
+        CaseManager.clearCases();
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < caseCount; i++) {
+            String id = CaseManager.generateHexId();
+            CaseManager.addCase(new TheftCase(id, "Case " + i, date, "info", "victim", "officer"));
+        }
+        targetIds = new String[] {
+            String.format("%06x", 0),
+            String.format("%06x", caseCount / 2),
+            String.format("%06x", caseCount - 1)
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void clearCases() {
+        CaseManager.clearCases();
+    }
+
+    private String nextTargetId() {
+        nextTarget = (nextTarget + 1) % targetIds.length;
+        return targetIds[nextTarget];
+    }
+
+    /**
+     * The lookup as it was implemented before the ID index was introduced.
+     */
+    @Benchmark
+    public Case linearScanLookup() {
+        String id = nextTargetId();
+        return CaseManager.getCaseList().stream()
+                .filter(c -> (c.getId().equals(id.toLowerCase()) && !c.isDeleted()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Benchmark
+    public Case indexedLookup() {
+        return CaseManager.getCaseById(nextTargetId());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.sgsafe.domain.casefiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+/**
+ * Compares {@link CaseManager#findCasesByKeyword(String)}, which goes through the search index,
+ * against the full scan of titles it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CaseSearchBenchmark {
+
+    private static final String[] PLACES = {"Yishun", "Clementi", "Jurong", "Tampines", "Bedok", "Woodlands",
+        "Serangoon", "Punggol", "Bishan", "Queenstown"};
+
+    private static final String[] OBJECTS = {"bicycle", "wallet", "phone", "laptop", "jewellery", "scooter",
+        "handbag", "watch"};
+
+    @Param({"1000000"})
+    private int caseCount;
+
+    /** A rare title word, a common title word, and a multi-term query across fields. */
+    @Param({"case4242", "theft", "bishan laptop"})
+    private String keyword;
+
+    @Setup(Level.Trial)
+    public void populateCases() {
+        CaseManager.clearCases();
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < caseCount; i++) {
+            String id = CaseManager.generateHexId();
+            String object = OBJECTS[i % OBJECTS.length];
+            String title = "Case" + i + " " + object + " theft";
+            String info = "Reported at " + PLACES[(i / 7) % PLACES.length] + " MRT station";
+            CaseManager.addCase(new TheftCase(id, title, date, info, "Victim " + (i % 5000), "Officer " + (i % 300)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void clearCases() {
+        CaseManager.clearCases();
+    }
+
+    /**
+     * The search as it was implemented before the search index was introduced.
+     */
+    @Benchmark
+    public List<Case> titleScan() {
+        List<Case> casesFound = new ArrayList<>();
+        for (Case c : CaseManager.getCaseList()) {
+            if (c.getTitle().toLowerCase().contains(keyword.toLowerCase())) {
+                casesFound.add(c);
+            }
+        }
+        return casesFound;
+    }
+
+    @Benchmark
+    public List<Case> indexedSearch() {
+        return CaseManager.findCasesByKeyword(keyword);
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.sgsafe.utils.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+/**
+ * Measures the latency of an {@code edit} command as the main loop sees it, from changing the case to being
+ * ready for the next command, when changes are saved on the command thread and when they are handed to a
+ * {@link BackgroundSaver}. Sample mode reports the p50 and p99 latencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandLatencyBenchmark {
+
+    @Param({"10000"})
+    private int caseCount;
+
+    @Param({"sync", "background"})
+    private String saveMode;
+
+    private File saveFile;
+    private File journalFile;
+    private Storage storage;
+    private BackgroundSaver saver;
+
+    private int nextEdit;
+
+    @Setup(Level.Trial)
+    public void populateCases() throws IOException {
+        CaseManager.clearCases();
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < caseCount; i++) {
+            String id = CaseManager.generateHexId();
+            CaseManager.addCase(new TheftCase(id, "Case " + i, date, "info", "victim", "officer"));
+        }
+        saveFile = File.createTempFile("sgsafe-bench", ".txt");
+        journalFile = File.createTempFile("sgsafe-bench", ".journal");
+        journalFile.delete();
+        storage = new Storage(saveFile.getPath(), journalFile.getPath());
+        storage.saveToFile();
+        if (saveMode.equals("background")) {
+            saver = new BackgroundSaver(storage);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void clearCases() {
+        if (saver != null) {
+            saver.close();
+        } else {
+            storage.close();
+        }
+        CaseManager.clearCases();
+        saveFile.delete();
+        journalFile.delete();
+    }
+
+    @Benchmark
+    public String editCommand() throws Exception {
+        String id = CaseManager.getHexIdForSlot(nextEdit % caseCount);
+        String displayLine = CaseManager.editCase(id, Map.of("title", "Edited case " + nextEdit++));
+        if (saver != null) {
+            saver.requestSave();
+        } else {
+            storage.saveChanges();
+        }
+        return displayLine;
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.sgsafe.utils.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.sgsafe.domain.casefiles.Case;
+
+/**
+ * Measures encoding and decoding of a single save line with {@link SaveFormatCodec},
+ * for a fully populated case of every category.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SaveFormatCodecBenchmark {
+
+    // Every additional field used by any category; each case only keeps the ones it declares
+    private static final String ADDITIONAL_FIELDS = "|financial-value:1250.50|location:Blk 123 Jurong West"
+            + "|stolen-object:Mobile phone|monetary-damage:800.0|number-of-victims:2|weapon:Knife"
+            + "|vehicle-type:Car|vehicle-plate:SGX1234A|road-name:Orchard Road|speed-limit:60"
+            + "|exceeded-speed:95|number-of-casualties:1|custom-category:Littering";
+
+    @Param({"BURGLARY", "SCAM", "THEFT", "ARSON", "VANDALISM", "RAPE", "VOYEURISM",
+            "ACCIDENT", "SPEEDING", "ASSAULT", "MURDER", "ROBBERY", "OTHERS"})
+    private String category;
+
+    private final SaveFormatCodec codec = new SaveFormatCodec();
+
+    private Case sampleCase;
+
+    private String saveLine;
+
+    @Setup(Level.Trial)
+    public void createSampleCase() {
+        String line = "category:" + category
+                + "|title:Incident reported at the void deck|date:14/10/2025"
+                + "|info:Witnesses saw the suspect leave towards the MRT station."
+                + "|victim:John Tan|officer:Sgt. Lim|is-deleted:0|is-open:1"
+                + "|created-at:14/10/2025 10:45:33|updated-at:20/10/2025 12:12:10"
+                + ADDITIONAL_FIELDS;
+        sampleCase = SaveFormatCodec.decode(line, "000000");
+        saveLine = SaveFormatCodec.toSaveString(sampleCase);
+    }
+
+    @Benchmark
+    public CharSequence encode() {
+        return codec.encode(sampleCase);
+    }
+
+    @Benchmark
+    public Case decode() {
+        return SaveFormatCodec.decode(saveLine, "000000");
+    }
+}
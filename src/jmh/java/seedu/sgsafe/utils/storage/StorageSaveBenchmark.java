@@ -0,0 +1,106 @@
+package seedu.sgsafe.utils.storage;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+/**
+ * Compares the atomic {@link Storage#saveToFile()}, which writes a temporary file through a channel, forces it
+ * to disk and renames it over the save file, against the unforced in-place rewrite it replaced, and measures
+ * a burst of single-case journal appends with the group commit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageSaveBenchmark {
+
+    /** The number of edits saved one after another by {@link #journalAppendBurst()}. */
+    private static final int EDITS_PER_BURST = 100;
+
+    @Param({"1000", "100000"})
+    private int caseCount;
+
+    private File saveFile;
+    private File journalFile;
+    private Storage storage;
+
+    private int nextEdit;
+
+    @Setup(Level.Trial)
+    public void populateCases() throws IOException {
+        CaseManager.clearCases();
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < caseCount; i++) {
+            String id = CaseManager.generateHexId();
+            CaseManager.addCase(new TheftCase(id, "Case " + i, date, "info", "victim", "officer"));
+        }
+        saveFile = File.createTempFile("sgsafe-bench", ".txt");
+        journalFile = File.createTempFile("sgsafe-bench", ".journal");
+        journalFile.delete();
+        storage = new Storage(saveFile.getPath(), journalFile.getPath());
+        storage.saveToFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void clearCases() {
+        storage.close();
+        CaseManager.clearCases();
+        saveFile.delete();
+        journalFile.delete();
+        new File(saveFile.getPath() + Storage.TEMPORARY_FILE_SUFFIX).delete();
+    }
+
+    /**
+     * The full save as it was implemented before saves were made atomic: the save file is truncated and
+     * rewritten in place, and never forced to disk.
+     */
+    @Benchmark
+    public void inPlaceRewrite() throws IOException {
+        CaseManager.readWithoutChanges(cases -> {
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(saveFile))) {
+                for (Case c : cases) {
+                    writer.write(SaveFormatCodec.toSaveString(c));
+                    writer.newLine();
+                }
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    public boolean atomicSave() {
+        return storage.saveToFile();
+    }
+
+    /**
+     * Saves {@link #EDITS_PER_BURST} single-case edits in quick succession, as a script of commands would,
+     * so that most appends share the force of an earlier one.
+     */
+    @Benchmark
+    public void journalAppendBurst() throws Exception {
+        for (int i = 0; i < EDITS_PER_BURST; i++) {
+            String id = CaseManager.getHexIdForSlot(nextEdit % caseCount);
+            CaseManager.editCase(id, Map.of("title", "Edited case " + nextEdit++));
+            storage.saveChanges();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.sgsafe.utils.ui;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+/**
+ * Measures printing one million summary lines to a file, the way {@code list} prints them.
+ * <p>
+ * {@code printlnPerLine} is the old path: one {@code println} per line on an auto-flushing
+ * {@link PrintStream}, like {@code System.out}. The other benchmarks print the same lines through
+ * {@link Display}, with and without dividers and indentation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DisplayBenchmark {
+
+    private static final int LINE_COUNT = 1_000_000;
+
+    private List<String> lines;
+    private File outputFile;
+    private PrintStream out;
+    private PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void renderLines() throws IOException {
+        lines = new ArrayList<>(LINE_COUNT);
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            lines.add(new TheftCase(String.format("%06x", i), "Case " + i, date.plusDays(i % 365),
+                    "Stolen bicycle", "victim", "officer").getDisplayLine());
+        }
+        outputFile = File.createTempFile("display-benchmark", ".txt");
+        originalOut = System.out;
+    }
+
+    @Setup(Level.Iteration)
+    public void openOutput() throws IOException {
+        out = new PrintStream(new BufferedOutputStream(new FileOutputStream(outputFile)), true);
+        System.setOut(out);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeOutput() {
+        System.setOut(originalOut);
+        out.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutput() {
+        Display.setPlainOutput(false);
+        outputFile.delete();
+    }
+
+    @Benchmark
+    public void printlnPerLine() {
+        out.println("\t____________________________________________________________");
+        for (String line : lines) {
+            out.println("\t" + line);
+        }
+        out.println("\t____________________________________________________________");
+    }
+
+    @Benchmark
+    public void messageWriter() {
+        Display.setPlainOutput(false);
+        writeMessage();
+    }
+
+    @Benchmark
+    public void messageWriterPlain() {
+        Display.setPlainOutput(true);
+        writeMessage();
+    }
+
+    private void writeMessage() {
+        try (Display.MessageWriter writer = Display.startMessage()) {
+            for (String line : lines) {
+                writer.writeLine(line);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.sgsafe.utils.ui;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.sgsafe.utils.settings.Settings;
+
+/**
+ * Measures parsing the kind of {@code add} and {@code edit} lines found in batch files.
+ * <p>
+ * {@code regexFlagSplit} is the old way of extracting flags: escaping {@code \--} with a placeholder,
+ * splitting on a lookahead regex and stripping each prefix with another regex, into a {@link HashMap}.
+ * {@code flagScanner} extracts the same flags with the single-pass scanner that replaced it, and
+ * {@code parseInput} runs the whole parser, including the conversion of flag values to their types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+
+    private static final String[] LINES = {
+        "add --category theft --title Stolen bicycle at Yishun MRT --date 14/10/2025 "
+                + "--info Bicycle was left unlocked outside exit B for about ten minutes --victim Tan Ah Kow "
+                + "--officer Sgt. Lim",
+        "add --category murder --title Stabbing at void deck --date 01/02/2024 "
+                + "--info Found at block 123, the suspect fled on foot --victim John Doe --officer Insp. Wong",
+        "edit 00beef --weapon kitchen knife --number-of-victims 2 --info Updated after autopsy \\-- see report",
+        "edit 000123 --vehicle-plate SGX1234A --speed-limit 60 --exceeded-speed 95 --road-name Orchard Road",
+        "add --category scam --title Phishing SMS --date 20/09/2025 --info Victim clicked a link and lost savings",
+    };
+
+    @Setup
+    public void setDateFormat() {
+        Settings.setInputDateFormat("dd/MM/yyyy");
+    }
+
+    @Benchmark
+    public void regexFlagSplit(Blackhole blackhole) {
+        for (String line : LINES) {
+            int flagsStart = line.indexOf("--");
+            blackhole.consume(splitFlagsWithRegex(line.substring(flagsStart)));
+        }
+    }
+
+    @Benchmark
+    public void flagScanner(Blackhole blackhole) {
+        for (String line : LINES) {
+            int flagsStart = line.indexOf("--");
+            blackhole.consume(Parser.extractFlagValues(line.substring(flagsStart)));
+        }
+    }
+
+    @Benchmark
+    public void parseInput(Blackhole blackhole) {
+        for (String line : LINES) {
+            blackhole.consume(Parser.parseInput(line));
+        }
+    }
+
+    private static Map<String, String> splitFlagsWithRegex(String input) {
+        String escapedInput = input.replace("\\--", "<<<ESCAPED_DOUBLE_DASH>>>");
+        Map<String, String> flagValues = new HashMap<>();
+        for (String part : escapedInput.split("\\s+(?=--)")) {
+            String trimmedPart = part.replaceFirst("--", "").trim();
+            int spaceIndex = trimmedPart.indexOf(" ");
+            String flag = trimmedPart.substring(0, spaceIndex).trim();
+            String value = trimmedPart.substring(spaceIndex + 1).trim();
+            flagValues.put(flag, value.replace("<<<ESCAPED_DOUBLE_DASH>>>", "--"));
+        }
+        return flagValues;
+    }
+}
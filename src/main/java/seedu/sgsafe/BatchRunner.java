@@ -0,0 +1,174 @@
+package seedu.sgsafe;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.sgsafe.utils.command.Command;
+import seedu.sgsafe.utils.command.CommandType;
+import seedu.sgsafe.utils.exceptions.InvalidCommandException;
+import seedu.sgsafe.utils.storage.Storage;
+import seedu.sgsafe.utils.ui.Display;
+import seedu.sgsafe.utils.ui.Parser;
+
+/**
+ * Runs a script of commands without user interaction, for example a nightly dump of {@code add} and
+ * {@code edit} lines.
+ * <p>
+ * Each non-blank line is parsed and executed like interactive input, but the messages of individual commands
+ * are not shown and changes are only persisted at the end of the script, or after every given number of
+ * commands. A line that cannot be parsed or is rejected is counted as a failure and the script carries on.
+ * A {@code bye} line ends the script early. Once the script ends, {@link #getSummary()} describes how it went.
+ */
+public class BatchRunner {
+
+    private static final Logger logger = Logger.getLogger(BatchRunner.class.getName());
+
+    /** Number of failed lines listed in the summary. */
+    private static final int MAX_REPORTED_FAILURES = 10;
+
+    /** Number of characters of a failed line shown in the summary. */
+    private static final int MAX_REPORTED_LINE_LENGTH = 60;
+
+    private final Storage storage;
+    private final int saveInterval;
+
+    private int commandCount = 0;
+    private int failureCount = 0;
+    private int saveCount = 0;
+    private long elapsedNanos = 0;
+    private final List<String> reportedFailures = new ArrayList<>();
+
+    /**
+     * Creates a runner that persists changes through the given storage.
+     *
+     * @param storage      the storage to persist changes with
+     * @param saveInterval the number of commands after which changes are persisted, or {@code 0} to only
+     *                     persist them once the script ends
+     */
+    public BatchRunner(Storage storage, int saveInterval) {
+        assert saveInterval >= 0 : "Save interval must not be negative";
+        this.storage = storage;
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Runs every command read from the script, then persists the changes.
+     *
+     * @param script the lines of the script
+     * @throws IOException if the script cannot be read; changes made by the commands run so far are persisted
+     */
+    public void run(BufferedReader script) throws IOException {
+        long startTime = System.nanoTime();
+        Display.setMuted(true);
+        try {
+            String line;
+            int lineNumber = 0;
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (!runCommand(line, lineNumber)) {
+                    break;
+                }
+                if (saveInterval > 0 && commandCount % saveInterval == 0) {
+                    save();
+                }
+            }
+        } finally {
+            Display.setMuted(false);
+            save();
+            elapsedNanos = System.nanoTime() - startTime;
+        }
+    }
+
+    /**
+     * Parses and executes one line of the script.
+     *
+     * @param line       the line to run
+     * @param lineNumber the position of the line in the script, counting from 1
+     * @return {@code false} if the line ends the script; {@code true} otherwise
+     */
+    private boolean runCommand(String line, int lineNumber) {
+        Command command;
+        try {
+            command = Parser.parseInput(line);
+        } catch (InvalidCommandException e) {
+            commandCount++;
+            recordFailure(line, lineNumber);
+            return true;
+        }
+        if (command.getCommandType() == CommandType.BYE) {
+            return false;
+        }
+
+        commandCount++;
+        try {
+            command.execute();
+            if (command.hasFailed()) {
+                recordFailure(line, lineNumber);
+            }
+        } catch (InvalidCommandException e) {
+            recordFailure(line, lineNumber);
+        }
+        return true;
+    }
+
+    private void recordFailure(String line, int lineNumber) {
+        failureCount++;
+        logger.log(Level.WARNING, "Batch line " + lineNumber + " failed: " + line);
+        if (reportedFailures.size() < MAX_REPORTED_FAILURES) {
+            String shownLine = line.length() > MAX_REPORTED_LINE_LENGTH
+                    ? line.substring(0, MAX_REPORTED_LINE_LENGTH) + "..."
+                    : line;
+            reportedFailures.add("Line " + lineNumber + ": " + shownLine.strip());
+        }
+    }
+
+    private void save() {
+        long before = storage.getBytesWritten();
+        storage.saveChanges();
+        if (storage.getBytesWritten() != before) {
+            saveCount++;
+        }
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public int getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Describes the script that was run: how many commands ran and failed, how long they took, and how
+     * often changes were persisted, followed by the first few failed lines.
+     *
+     * @return the lines of the summary
+     */
+    public String[] getSummary() {
+        double seconds = elapsedNanos / 1e9;
+        List<String> lines = new ArrayList<>();
+        lines.add("Batch complete: " + commandCount + " command(s) run, " + failureCount + " failed.");
+        lines.add(String.format("Time taken: %.3f s (%.0f commands per second)",
+                seconds, seconds > 0 ? commandCount / seconds : 0.0));
+        lines.add("Changes saved " + saveCount + " time(s).");
+        if (!reportedFailures.isEmpty()) {
+            lines.add("Failed lines:");
+            lines.addAll(reportedFailures);
+            if (failureCount > reportedFailures.size()) {
+                lines.add("... and " + (failureCount - reportedFailures.size()) + " more (see sgsafe.log)");
+            }
+        }
+        return lines.toArray(new String[0]);
+    }
+}
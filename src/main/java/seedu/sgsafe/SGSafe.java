@@ -1,12 +1,17 @@
 package seedu.sgsafe;
 
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
 import java.util.Scanner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.sgsafe.utils.command.Command;
+import seedu.sgsafe.utils.command.CommandType;
 import seedu.sgsafe.utils.exceptions.InvalidCommandException;
 import seedu.sgsafe.utils.logger.LoggerConfig;
+import seedu.sgsafe.utils.storage.BackgroundSaver;
 import seedu.sgsafe.utils.storage.Storage;
 import seedu.sgsafe.utils.ui.Display;
 import seedu.sgsafe.utils.ui.Parser;
@@ -20,24 +25,124 @@ public class SGSafe {
     private static final Logger logger = Logger.getLogger(SGSafe.class.getName());
     // The location of the save file
     private static final String SAVE_FILE_NAME = "./data.txt";
+    // The location of the journal that changes are appended to between full saves
+    private static final String JOURNAL_FILE_NAME = "./data.journal";
+    // The location of the binary snapshot kept alongside the save file for faster start-up
+    private static final String SNAPSHOT_FILE_NAME = "./data.snapshot";
     //the Storage object to handle loading and saving
-    private static final Storage storage = new Storage(SAVE_FILE_NAME);
+    private static final Storage storage = new Storage(SAVE_FILE_NAME, JOURNAL_FILE_NAME, SNAPSHOT_FILE_NAME);
+    // Launch option that prints output without dividers or indentation, for other programs to read
+    private static final String PLAIN_OUTPUT_OPTION = "--plain";
+    // Launch option that runs the commands in a file instead of reading them interactively
+    private static final String BATCH_OPTION = "--batch";
+    // Launch option that persists a batch after every given number of commands instead of only at the end
+    private static final String SAVE_EVERY_OPTION = "--save-every";
+
+    // The script to run in batch mode, or null to read commands interactively
+    private static String batchFilename = null;
+    // The number of batch commands after which changes are persisted, or 0 to persist them once at the end
+    private static int batchSaveInterval = 0;
+    // Persists the changes made by interactive commands on a thread of its own
+    private static BackgroundSaver saver;
 
     /**
      * Main method that starts the SGSafe application.
      * Invokes initialization, enters the command loop, and prints exit message.
      *
-     * @param args command-line arguments (not used)
+     * @param args command-line arguments; {@code --plain} prints output without dividers or indentation,
+     *             {@code --batch FILE} runs the commands in a file, and {@code --save-every N} persists a batch
+     *             after every {@code N} commands
      */
     public static void main(String[] args) {
         LoggerConfig.configureLogger();
         logger.log(Level.INFO, "SGSafe application started.");
 
-        //load the cases from the savefile
+        // Output is written out once per command rather than once per message
+        Display.setAutoFlush(false);
+        if (!applyLaunchOptions(args)) {
+            Display.flush();
+            return;
+        }
+
+        //load the cases from the savefile, deferring case details until they are needed
+        storage.setLazyLoading(true);
         storage.loadCaseManager();
-        
+
+        if (batchFilename != null) {
+            // Force journal records still waiting for a group commit to disk, however the application exits
+            Runtime.getRuntime().addShutdownHook(new Thread(storage::close));
+            runBatch();
+            Display.flush();
+            return;
+        }
+
+        saver = new BackgroundSaver(storage);
+        // Write out changes still waiting to be saved, however the application exits; this prints nothing
+        Runtime.getRuntime().addShutdownHook(new Thread(saver::close));
+
         Display.printWelcomeMessage();
+        Display.flush();
         mainLoop();
+        saver.close();
+        saver.showPendingMessages();
+        Display.flush();
+    }
+
+    /**
+     * Applies the command-line options the application was launched with.
+     * Unrecognised options are reported and otherwise ignored.
+     *
+     * @param args command-line arguments
+     * @return {@code false} if an option is missing its value or has an invalid one; {@code true} otherwise
+     */
+    private static boolean applyLaunchOptions(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            boolean hasValue = i + 1 < args.length;
+            if (arg.equals(PLAIN_OUTPUT_OPTION)) {
+                Display.setPlainOutput(true);
+            } else if (arg.equals(BATCH_OPTION) && hasValue) {
+                batchFilename = args[++i];
+            } else if (arg.equals(SAVE_EVERY_OPTION) && hasValue) {
+                batchSaveInterval = parseSaveInterval(args[++i]);
+                if (batchSaveInterval <= 0) {
+                    Display.printMessage("The value for " + SAVE_EVERY_OPTION + " must be a positive whole number.");
+                    return false;
+                }
+            } else if (arg.equals(BATCH_OPTION) || arg.equals(SAVE_EVERY_OPTION)) {
+                Display.printMessage("The option " + arg + " needs a value.");
+                return false;
+            } else {
+                logger.log(Level.WARNING, "Unrecognised launch option: " + arg);
+                Display.printMessage("Ignoring unrecognised option: " + arg);
+            }
+        }
+        return true;
+    }
+
+    private static int parseSaveInterval(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Runs the commands in the batch file and prints a summary of the run.
+     */
+    private static void runBatch() {
+        logger.log(Level.INFO, "Running batch file: " + batchFilename);
+        BatchRunner batchRunner = new BatchRunner(storage, batchSaveInterval);
+        try (BufferedReader script = new BufferedReader(new FileReader(batchFilename))) {
+            batchRunner.run(script);
+        } catch (IOException e) {
+            Display.printMessage("Something went wrong while reading the batch file: " + e.getMessage());
+            if (batchRunner.getCommandCount() == 0) {
+                return;
+            }
+        }
+        Display.printMessage(batchRunner.getSummary());
     }
 
     /**
@@ -56,16 +161,33 @@ public class SGSafe {
 
     /**
      * Parses and executes a user command.
+     * <p>
+     * Changes are handed to the {@link BackgroundSaver} to persist, so the next command can be read as soon as
+     * this one has changed the cases in memory, unless the command asks for its changes to be saved before its
+     * output is shown. Before exiting, every change is written out.
      *
      * @param userInput the raw input string entered by the user
      */
     private static void handleUserCommand(String userInput) {
         try {
             Command command = Parser.parseInput(userInput);
+            if (command.getCommandType() == CommandType.BYE) {
+                // The application exits from within the command, so show any save problem first
+                saver.close();
+                saver.showPendingMessages();
+            }
             command.execute();
-            storage.saveToFile();
+            if (command.isMutating()) {
+                saver.requestSave();
+                if (command.isSavedBeforeOutput()) {
+                    saver.flush();
+                }
+            }
         } catch (InvalidCommandException e) {
             Display.printMessage(e.getErrorMessage());
+        } finally {
+            saver.showPendingMessages();
+            Display.flush();
         }
     }
 }
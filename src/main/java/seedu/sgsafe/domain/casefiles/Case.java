@@ -3,17 +3,17 @@ package seedu.sgsafe.domain.casefiles;
 import seedu.sgsafe.domain.casefiles.type.CaseType;
 import seedu.sgsafe.domain.casefiles.type.CaseCategory;
 import seedu.sgsafe.utils.settings.Settings;
-import seedu.sgsafe.utils.storage.Storage;
 import seedu.sgsafe.utils.ui.DateFormatter;
 
 import java.time.LocalDate;
 
 import java.time.LocalDateTime;
 
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 /**
  * Represents a case file in the SGSafe system.
@@ -21,6 +21,11 @@ import java.util.ArrayList;
  */
 public abstract class Case {
 
+    /** Stands in for the loader of a case whose deferred fields are being loaded. */
+    private static final Supplier<Case> LOADING_FIELDS = () -> {
+        throw new IllegalStateException("Deferred fields are being loaded");
+    };
+
     /** The type of case. */
     protected CaseType type;
 
@@ -30,8 +35,14 @@ public abstract class Case {
     /** The category name to be printed. */
     protected String categoryString;
 
-    /** The title or summary of the case. */
-    private final String id;
+    /** The unique ID of the case, or {@link CaseIdAllocator#NO_ID} if it has none. */
+    private final int id;
+
+    /**
+     * The ID exactly as it was given, kept only when it is not in the form produced by
+     * {@link CaseIdAllocator#format(int)}, so that it can be returned unchanged.
+     */
+    private final String unformattedId;
 
     /** The title or summary of the case. */
     private String title;
@@ -48,17 +59,47 @@ public abstract class Case {
     /** The name of the officer assigned to the case. */
     private String officer;
 
-    /** Indicates whether the case is currently open. */
-    private boolean isOpen;
+    /**
+     * Indicates whether the case is currently open. Volatile, like {@link #isDeleted} and {@link #updatedAt},
+     * so that a case closed, reopened or deleted through {@link CaseManager} is seen as such by every thread.
+     */
+    private volatile boolean isOpen;
 
     /** Indicates whether a case has been deleted. */
-    private boolean isDeleted;
+    private volatile boolean isDeleted;
 
     /** Metadata timestamp for auditing of when the case is created. */
     private LocalDateTime createdAt;
 
     /** Metadata timestamp for auditing of when the case is updated. */
-    private LocalDateTime updatedAt;
+    private volatile LocalDateTime updatedAt;
+
+    /**
+     * Supplies a fully loaded copy of this case while only its summary fields (ID, category, status, date
+     * and title) have been loaded, or {@code null} once every field is loaded. See {@link #deferFields(Supplier)}.
+     * <p>
+     * Set to {@link #LOADING_FIELDS} while {@link #loadDeferredFields()} copies the fields in, and only set to
+     * {@code null} once they have all been copied, so that a thread that sees {@code null} sees every field.
+     */
+    private volatile Supplier<Case> deferredFields;
+
+    /**
+     * One bit for each numeric field of a subclass that has been set, as the primitive fields that hold
+     * them cannot be {@code null}. Each subclass chooses the bits for its own fields; sibling classes may
+     * reuse the same bits.
+     */
+    private byte setNumericFields;
+
+    /**
+     * The summary and verbose lines last rendered for this case, or {@code null} if they have not been rendered
+     * since the case was last changed. Lines rendered under an earlier {@link Settings#getVersion()} are stale,
+     * so changing a format re-renders every case the next time it is shown, without visiting each case.
+     * <p>
+     * Lines are rendered and this is cleared while holding the lock on this case, and every method that changes
+     * the rendered fields clears it after changing them, so lines rendered from a half-changed case never
+     * outlive the change.
+     */
+    private volatile RenderedLines renderedLines;
 
     /**
      * Constructs a {@code Case} object with the specified details.
@@ -72,7 +113,10 @@ public abstract class Case {
      * @param officer the name of the officer assigned
      */
     public Case(String id, String title, LocalDate date, String info, String victim, String officer) {
-        this.id = id;
+        int parsedId = CaseIdAllocator.parse(id);
+        boolean isFormatted = parsedId != CaseIdAllocator.NO_ID && CaseIdAllocator.format(parsedId).equals(id);
+        this.id = parsedId;
+        this.unformattedId = isFormatted ? null : id;
         this.title = title;
         this.date = date;
         this.info = info;
@@ -108,6 +152,7 @@ public abstract class Case {
      * @return the additional information about the case
      */
     public String getInfo() {
+        loadDeferredFields();
         return info;
     }
 
@@ -144,6 +189,7 @@ public abstract class Case {
      * @return the name of the victim, or null if not specified
      */
     public String getVictim() {
+        loadDeferredFields();
         return victim;
     }
 
@@ -153,15 +199,28 @@ public abstract class Case {
      * @return the name of the officer, or null if not specified
      */
     public String getOfficer() {
+        loadDeferredFields();
         return officer;
     }
 
     /**
-     * Retrieves the unique ID of the case.
+     * Retrieves the unique ID of the case, formatted for display.
      *
-     * @return the case ID
+     * @return the case ID, or {@code null} if the case has none
      */
     public String getId() {
+        if (unformattedId != null || id == CaseIdAllocator.NO_ID) {
+            return unformattedId;
+        }
+        return CaseIdAllocator.format(id);
+    }
+
+    /**
+     * Retrieves the unique ID of the case as a number.
+     *
+     * @return the case ID, or {@link CaseIdAllocator#NO_ID} if the case has none
+     */
+    public int getIdNumber() {
         return this.id;
     }
 
@@ -170,8 +229,10 @@ public abstract class Case {
     }
 
     public void setDeleted(boolean isDeleted) {
+        loadDeferredFields();
         this.isDeleted = isDeleted;
         this.updatedAt = LocalDateTime.now();
+        forgetRenderedLines();
     }
 
     /**
@@ -180,7 +241,9 @@ public abstract class Case {
      * @param createdAt the {@link LocalDateTime} that createdAt should be set to.
      */
     public void setCreatedAt(LocalDateTime createdAt) {
+        loadDeferredFields();
         this.createdAt = createdAt;
+        forgetRenderedLines();
     }
 
     /**
@@ -189,7 +252,9 @@ public abstract class Case {
      * @param updatedAt the {@link LocalDateTime} that updatedAt should be set to.
      */
     public void setUpdatedAt(LocalDateTime updatedAt) {
+        loadDeferredFields();
         this.updatedAt = updatedAt;
+        forgetRenderedLines();
     }
 
     /**
@@ -210,12 +275,112 @@ public abstract class Case {
         this.isDeleted = isDeleted;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        forgetRenderedLines();
+    }
+
+    /**
+     * Defers loading every field other than the ID, category, status, date and title until one of them is
+     * needed, for example by {@code read}, {@code edit} or a verbose listing.
+     * <p>
+     * {@code loader} must return a new, fully loaded case with the same content as this case. Until the
+     * deferred fields are loaded, this case must not be modified; every method that modifies a case loads
+     * the deferred fields first.
+     *
+     * @param loader supplies a fully loaded copy of this case
+     */
+    public void deferFields(Supplier<Case> loader) {
+        this.deferredFields = loader;
+    }
+
+    /**
+     * Returns whether every field of this case has been loaded.
+     *
+     * @return {@code false} if some fields are still deferred
+     */
+    public boolean isFullyLoaded() {
+        return deferredFields == null;
+    }
+
+    /**
+     * Returns a case with the same content as this case and every field loaded, without loading the
+     * deferred fields into this case. Use this to read a case once, for example when saving or indexing it.
+     *
+     * @return this case if it is fully loaded; otherwise a fully loaded copy
+     */
+    public Case getFullyLoadedView() {
+        Supplier<Case> loader = deferredFields;
+        if (loader == null) {
+            return this;
+        } else if (loader == LOADING_FIELDS) {
+            // Another thread is loading the fields into this case; wait for it to finish
+            loadDeferredFields();
+            return this;
+        }
+        return loader.get();
+    }
+
+    /**
+     * Loads the deferred fields of this case, if any, from a fully loaded copy.
+     * Subclasses must call this before reading their own fields outside the methods of this class.
+     * <p>
+     * Threads that call this at the same time load the fields only once; the others wait until the fields
+     * are loaded. The setters called to restore the additional fields call this again on the loading thread,
+     * which returns straight away.
+     */
+    protected void loadDeferredFields() {
+        if (deferredFields == null) {
+            return;
+        }
+        synchronized (this) {
+            Supplier<Case> loader = deferredFields;
+            if (loader == null || loader == LOADING_FIELDS) {
+                return;
+            }
+            deferredFields = LOADING_FIELDS;
+            Case loadedCase;
+            try {
+                loadedCase = loader.get();
+            } catch (RuntimeException e) {
+                deferredFields = loader;
+                throw e;
+            }
+            this.info = loadedCase.info;
+            this.victim = loadedCase.victim;
+            this.officer = loadedCase.officer;
+            this.createdAt = loadedCase.createdAt;
+            this.updatedAt = loadedCase.updatedAt;
+            CaseEdit additionalFields = new CaseEdit();
+            loadedCase.writeAdditionalSaveFields((key, value) -> {
+                if (value != null) {
+                    additionalFields.put(key, value);
+                }
+            });
+            restoreSavedFields(additionalFields);
+            deferredFields = null;
+        }
     }
 
     public List<String> getAdditionalFields() {
         return new ArrayList<>();
     }
 
+    /**
+     * Returns the free-text values of this case that the {@code find} command searches.
+     * Subclasses with additional text fields should override this method and add their values
+     * to the list returned by the superclass implementation.
+     *
+     * @return a mutable list of the searchable values, some of which may be {@code null}
+     */
+    public List<String> getSearchableValues() {
+        loadDeferredFields();
+        List<String> searchableValues = new ArrayList<>();
+        searchableValues.add(title);
+        searchableValues.add(info);
+        searchableValues.add(victim);
+        searchableValues.add(officer);
+        return searchableValues;
+    }
+
     //@@author xelisce
 
     /**
@@ -226,8 +391,18 @@ public abstract class Case {
      * @return a formatted summary line for this case
      */
     public String getDisplayLine() {
-        String dateString = DateFormatter.formatDate(date, Settings.getOutputDateFormat());
-        return CaseFormatter.formatCaseSummaryLine(isOpen, categoryString, id, dateString, title);
+        RenderedLines cached = renderedLines;
+        if (cached != null && cached.displayLine != null && cached.settingsVersion == Settings.getVersion()) {
+            return cached.displayLine;
+        }
+        synchronized (this) {
+            long settingsVersion = Settings.getVersion();
+            String dateString = DateFormatter.formatDate(date, Settings.getOutputDateFormat());
+            String displayLine = CaseFormatter.formatCaseSummaryLine(isOpen, categoryString, getId(), dateString,
+                    title);
+            renderedLines = getRenderedLinesFor(settingsVersion).withDisplayLine(displayLine);
+            return displayLine;
+        }
     }
 
     /**
@@ -239,8 +414,22 @@ public abstract class Case {
      * @return an array of formatted lines for verbose display
      */
     public String[] getMultiLineVerboseDisplay() {
+        RenderedLines cached = renderedLines;
+        if (cached != null && cached.verboseLines != null && cached.settingsVersion == Settings.getVersion()) {
+            return cached.verboseLines.clone();
+        }
+        synchronized (this) {
+            long settingsVersion = Settings.getVersion();
+            String[] verboseLines = renderVerboseLines();
+            renderedLines = getRenderedLinesFor(settingsVersion).withVerboseLines(verboseLines);
+            return verboseLines.clone();
+        }
+    }
+
+    private String[] renderVerboseLines() {
+        loadDeferredFields();
         List<String> lines = new ArrayList<>();
-        lines.add(CaseFormatter.formatCaseIDHeader(id));
+        lines.add(CaseFormatter.formatCaseIDHeader(getId()));
 
         String dateString = DateFormatter.formatDate(date, Settings.getOutputDateFormat());
         String statusString = CaseFormatter.convertStatusToString(isOpen);
@@ -263,14 +452,40 @@ public abstract class Case {
     }
     //@@ author
 
+    /**
+     * Returns the lines already rendered under {@code settingsVersion}, to add newly rendered lines to.
+     * Must be called while holding the lock on this case.
+     */
+    private RenderedLines getRenderedLinesFor(long settingsVersion) {
+        RenderedLines cached = renderedLines;
+        if (cached != null && cached.settingsVersion == settingsVersion) {
+            return cached;
+        }
+        return new RenderedLines(settingsVersion, null, null);
+    }
+
+    /**
+     * Drops the rendered lines of this case. Call this after changing a field that they show, so that the
+     * lines are rendered again; waits for lines being rendered at the time, so that those are dropped too.
+     */
+    private void forgetRenderedLines() {
+        synchronized (this) {
+            renderedLines = null;
+        }
+    }
+
     public void setClosed() {
+        loadDeferredFields();
         this.isOpen = false;
         updatedAt = LocalDateTime.now();
+        forgetRenderedLines();
     }
 
     public void setOpen() {
+        loadDeferredFields();
         this.isOpen = true;
         updatedAt = LocalDateTime.now();
+        forgetRenderedLines();
     }
 
     /**
@@ -299,27 +514,52 @@ public abstract class Case {
      * <p>
      * Each key in {@code newValues} corresponds to a valid editable field (e.g. {@code title}, {@code date},
      * {@code info}, {@code victim}, {@code officer}). Only fields present in the map are updated; all
-     * others remain unchanged.
+     * others remain unchanged. The values are converted with {@link CaseEdit#of(Map)}.
      *
      * @param newValues a map containing field names and their new values
      */
     public void update(Map<String, Object> newValues) {
-        if (newValues.containsKey("title")) {
-            this.title = (String) newValues.get("title");
+        update(CaseEdit.of(newValues));
+    }
+
+    /**
+     * Updates the editable fields of {@code Case} instance using the values of an edit. Only fields given a
+     * value are updated; all others remain unchanged. Subclasses with additional fields should override this
+     * method, calling it first.
+     *
+     * @param edit the new values of the fields to change
+     */
+    public void update(CaseEdit edit) {
+        loadDeferredFields();
+        if (edit.hasValue("title")) {
+            this.title = edit.getText("title");
         }
-        if (newValues.containsKey("date")) {
-            this.date = (LocalDate) newValues.get("date");
+        if (edit.hasValue("date")) {
+            this.date = edit.getDate();
         }
-        if (newValues.containsKey("info")) {
-            this.info = (String) newValues.get("info");
+        if (edit.hasValue("info")) {
+            this.info = edit.getText("info");
         }
-        if (newValues.containsKey("victim")) {
-            this.victim = (String) newValues.get("victim");
+        if (edit.hasValue("victim")) {
+            this.victim = edit.getText("victim");
         }
-        if (newValues.containsKey("officer")) {
-            this.officer = (String) newValues.get("officer");
+        if (edit.hasValue("officer")) {
+            this.officer = edit.getText("officer");
         }
         this.updatedAt = LocalDateTime.now();
+        forgetRenderedLines();
+    }
+
+    /**
+     * Restores the additional fields of this case from their saved values, without changing when the case
+     * was last updated.
+     *
+     * @param savedFields the saved values of the additional fields, already converted to their types
+     */
+    public void restoreSavedFields(CaseEdit savedFields) {
+        LocalDateTime savedUpdatedAt = this.updatedAt;
+        update(savedFields);
+        this.updatedAt = savedUpdatedAt;
     }
 
     //@@author shennontay
@@ -332,6 +572,7 @@ public abstract class Case {
      * @return a list of formatted display lines for the base fields
      */
     protected List<String> getBaseDisplayLines() {
+        loadDeferredFields();
         List<String> lines = new ArrayList<>();
 
         String dateString = DateFormatter.formatDate(date, Settings.getOutputDateFormat());
@@ -342,7 +583,7 @@ public abstract class Case {
         String statusString = CaseFormatter.convertStatusToString(isOpen);
 
         CaseFormatter.addWrappedFieldForRead(lines, "Title", title);
-        CaseFormatter.addWrappedFieldForRead(lines,"Case ID", id);
+        CaseFormatter.addWrappedFieldForRead(lines,"Case ID", getId());
         CaseFormatter.addWrappedFieldForRead(lines,"Status", statusString);
         CaseFormatter.addWrappedFieldForRead(lines,"Category", categoryString);
         CaseFormatter.addWrappedFieldForRead(lines,"Date", dateString);
@@ -372,35 +613,96 @@ public abstract class Case {
     //@@author
 
     /**
-     * Converts this object's data fields into a single comma-separated string suitable for saving.
+     * Passes each saved field of this case to {@code writer} as a key and a value, in save order. The fields
+     * shared by every case come first, followed by those passed to
+     * {@link #writeAdditionalSaveFields(BiConsumer)}. Dates, timestamps and flags are passed as
+     * {@link LocalDate}s, {@link LocalDateTime}s and {@link Boolean}s; a {@code null} value means the field
+     * is not set.
+     *
+     * @param writer the consumer receiving each field name and value
+     */
+    public void writeSaveFields(BiConsumer<String, Object> writer) {
+        loadDeferredFields();
+        writer.accept("id", getId());
+        writer.accept("category", this.category);
+        writer.accept("title", this.title);
+        writer.accept("date", this.date);
+        writer.accept("info", this.info);
+        writer.accept("victim", this.victim);
+        writer.accept("officer", this.officer);
+        writer.accept("is-deleted", this.isDeleted);
+        writer.accept("is-open", this.isOpen);
+        writer.accept("created-at", this.createdAt);
+        writer.accept("updated-at", this.updatedAt);
+        writeAdditionalSaveFields(writer);
+    }
+
+    /**
+     * Passes each additional field of this case to {@code writer} as a key and a value, in save order.
+     * Text is passed as a {@code String}, whole numbers as {@code Integer}s and amounts as {@code Double}s;
+     * a {@code null} value means the field is not set.
      * <p>
-     * If any string field (e.g. {@code title}, {@code date}, etc.) is {@code null}, it will be replaced
-     * with an empty string in the output. The {@code isDeleted} field is represented as {@code "1"} if true
-     * and {@code "0"} if false.
-     * </p>
+     * The default implementation has no additional fields. Subclasses that declare additional fields
+     * should override this method and write their fields after calling the superclass implementation.
+     *
+     * @param writer the consumer receiving each field name and value
+     */
+    public void writeAdditionalSaveFields(BiConsumer<String, Object> writer) {
+        loadDeferredFields();
+    }
+
+    /**
+     * Returns whether the numeric field tracked by {@code fieldBit} has been set.
+     * Like the fields themselves, the bits are only accurate once {@link #loadDeferredFields()} has been called.
+     *
+     * @param fieldBit the bit the subclass chose for the field
+     * @return {@code true} if the field has a value; {@code false} otherwise
+     */
+    protected boolean isNumericFieldSet(int fieldBit) {
+        return (setNumericFields & fieldBit) != 0;
+    }
+
+    /**
+     * Records that the numeric field tracked by {@code fieldBit} has been given a value.
      *
-     * @return a formatted string containing all of this object's field values
-     */
-    public String toSaveString() {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(Storage.getSaveDatePattern());
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(Storage.getSaveDateTimePattern());
-        return "category:" + this.category.toString()
-                + "|title:" + (this.title == null ? "" : this.title)
-                + "|date:" + (this.date == null ? "" : this.date.format(dateFormatter))
-                + "|info:" + (this.info == null ? "" : this.info)
-                + "|victim:" + (this.victim == null ? "" : this.victim)
-                + "|officer:" + (this.officer == null ? "" : this.officer)
-                + "|is-deleted:" + (this.isDeleted ? "1" : "0")
-                + "|is-open:" + (this.isOpen ? "1" : "0")
-                + "|created-at:" + (this.createdAt == null ? "" : this.createdAt.format(dateTimeFormatter))
-                + "|updated-at:" + (this.updatedAt == null ? "" : this.updatedAt.format(dateTimeFormatter));
+     * @param fieldBit the bit the subclass chose for the field, which must fit in a {@code byte}
+     */
+    protected void markNumericFieldSet(int fieldBit) {
+        assert fieldBit > 0 && fieldBit <= Byte.MAX_VALUE : "fieldBit should be a single bit of a byte";
+        setNumericFields |= (byte) fieldBit;
     }
 
     public LocalDateTime getCreatedAt() {
+        loadDeferredFields();
         return createdAt;
     }
 
     public LocalDateTime getUpdatedAt() {
+        loadDeferredFields();
         return updatedAt;
     }
+
+    /**
+     * The lines rendered for a case under one settings version. Either kind of line is {@code null} until it is
+     * first rendered. Instances are never changed, so that a thread that reads the reference sees whole lines.
+     */
+    private static final class RenderedLines {
+        private final long settingsVersion;
+        private final String displayLine;
+        private final String[] verboseLines;
+
+        private RenderedLines(long settingsVersion, String displayLine, String[] verboseLines) {
+            this.settingsVersion = settingsVersion;
+            this.displayLine = displayLine;
+            this.verboseLines = verboseLines;
+        }
+
+        private RenderedLines withDisplayLine(String displayLine) {
+            return new RenderedLines(settingsVersion, displayLine, verboseLines);
+        }
+
+        private RenderedLines withVerboseLines(String[] verboseLines) {
+            return new RenderedLines(settingsVersion, displayLine, verboseLines);
+        }
+    }
 }
@@ -0,0 +1,195 @@
+package seedu.sgsafe.domain.casefiles;
+
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseType;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary indexes from the status, category, type and date of cases to their slots (positions in the
+ * case list), used to answer a {@link CaseQuery} without scanning the case list.
+ * <p>
+ * Each index is a {@link BitSet} of slots: one per status, one per {@link CaseCategory}, one per
+ * {@link CaseType}, and one per date, with the dates kept sorted so that a date range is a contiguous
+ * run of entries. A query is answered by intersecting the bitsets of its criteria. The number of open
+ * and closed cases is counted as cases are added and removed.
+ * <p>
+ * Deleted cases are only recorded in the deleted bitset. Like {@link CaseSearchIndex}, the index is
+ * maintained incrementally by {@link CaseManager}: a case must be removed from the index before its
+ * status, date or deletion changes, and added back afterwards.
+ */
+class CaseAttributeIndex {
+
+    private final BitSet openSlots = new BitSet();
+    private final BitSet closedSlots = new BitSet();
+    private final BitSet deletedSlots = new BitSet();
+    private final EnumMap<CaseCategory, BitSet> slotsByCategory = new EnumMap<>(CaseCategory.class);
+    private final EnumMap<CaseType, BitSet> slotsByType = new EnumMap<>(CaseType.class);
+    private final TreeMap<LocalDate, BitSet> slotsByDate = new TreeMap<>();
+
+    private int openCount = 0;
+    private int closedCount = 0;
+
+    /**
+     * Records a case in the indexes.
+     *
+     * @param slot      the position of the case in the case list
+     * @param caseToAdd the case to index
+     */
+    void add(int slot, Case caseToAdd) {
+        if (caseToAdd.isDeleted()) {
+            deletedSlots.set(slot);
+            return;
+        }
+        if (caseToAdd.isOpen()) {
+            openSlots.set(slot);
+            openCount++;
+        } else {
+            closedSlots.set(slot);
+            closedCount++;
+        }
+        if (caseToAdd.getCategory() != null) {
+            slotsByCategory.computeIfAbsent(caseToAdd.getCategory(), c -> new BitSet()).set(slot);
+        }
+        if (caseToAdd.getType() != null) {
+            slotsByType.computeIfAbsent(caseToAdd.getType(), t -> new BitSet()).set(slot);
+        }
+        if (caseToAdd.getDate() != null) {
+            slotsByDate.computeIfAbsent(caseToAdd.getDate(), d -> new BitSet()).set(slot);
+        }
+    }
+
+    /**
+     * Removes a case from the indexes. The case must still hold the values it was indexed with.
+     *
+     * @param slot         the position of the case in the case list
+     * @param caseToRemove the case to remove
+     */
+    void remove(int slot, Case caseToRemove) {
+        if (deletedSlots.get(slot)) {
+            deletedSlots.clear(slot);
+            return;
+        }
+        if (openSlots.get(slot)) {
+            openSlots.clear(slot);
+            openCount--;
+        } else if (closedSlots.get(slot)) {
+            closedSlots.clear(slot);
+            closedCount--;
+        } else {
+            return;
+        }
+        clearSlot(slotsByCategory.get(caseToRemove.getCategory()), slot);
+        clearSlot(slotsByType.get(caseToRemove.getType()), slot);
+        if (caseToRemove.getDate() != null) {
+            BitSet dateSlots = slotsByDate.get(caseToRemove.getDate());
+            clearSlot(dateSlots, slot);
+            if (dateSlots != null && dateSlots.isEmpty()) {
+                slotsByDate.remove(caseToRemove.getDate());
+            }
+        }
+    }
+
+    private static void clearSlot(BitSet slots, int slot) {
+        if (slots != null) {
+            slots.clear(slot);
+        }
+    }
+
+    /**
+     * Removes every case from the indexes.
+     */
+    void clear() {
+        openSlots.clear();
+        closedSlots.clear();
+        deletedSlots.clear();
+        slotsByCategory.clear();
+        slotsByType.clear();
+        slotsByDate.clear();
+        openCount = 0;
+        closedCount = 0;
+    }
+
+    /**
+     * Returns the number of cases that are not deleted and have the given status.
+     *
+     * @param isOpen {@code true} for open cases, {@code false} for closed cases, or {@code null} for both
+     * @return the number of matching cases
+     */
+    int countByStatus(Boolean isOpen) {
+        if (isOpen == null) {
+            return openCount + closedCount;
+        }
+        return isOpen ? openCount : closedCount;
+    }
+
+    /**
+     * Returns the number of deleted cases, including corrupted entries.
+     *
+     * @return the number of deleted cases
+     */
+    int countDeleted() {
+        return deletedSlots.cardinality();
+    }
+
+    /**
+     * Returns the slots of all cases selected by the query.
+     *
+     * @param query the criteria to select cases by
+     * @return a new bitset of the matching slots, which the caller may modify
+     */
+    BitSet select(CaseQuery query) {
+        BitSet matches;
+        if (query.getOpen() == null) {
+            matches = (BitSet) openSlots.clone();
+            matches.or(closedSlots);
+        } else {
+            matches = (BitSet) (query.getOpen() ? openSlots : closedSlots).clone();
+        }
+        if (query.getCategory() != null) {
+            intersect(matches, slotsByCategory.get(query.getCategory()));
+        }
+        if (query.getType() != null) {
+            intersect(matches, slotsByType.get(query.getType()));
+        }
+        if (query.hasDateRange()) {
+            intersect(matches, selectByDate(query.getFromDate(), query.getToDate()));
+        }
+        return matches;
+    }
+
+    private static void intersect(BitSet matches, BitSet slots) {
+        if (slots == null) {
+            matches.clear();
+        } else {
+            matches.and(slots);
+        }
+    }
+
+    /**
+     * Returns the slots of all cases dated within the given range, either end of which may be open.
+     */
+    private BitSet selectByDate(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            return new BitSet();
+        }
+        Iterable<BitSet> dateSlots;
+        if (fromDate == null && toDate == null) {
+            dateSlots = slotsByDate.values();
+        } else if (fromDate == null) {
+            dateSlots = slotsByDate.headMap(toDate, true).values();
+        } else if (toDate == null) {
+            dateSlots = slotsByDate.tailMap(fromDate, true).values();
+        } else {
+            dateSlots = slotsByDate.subMap(fromDate, true, toDate, true).values();
+        }
+        BitSet matches = new BitSet();
+        for (BitSet slots : dateSlots) {
+            matches.or(slots);
+        }
+        return matches;
+    }
+}
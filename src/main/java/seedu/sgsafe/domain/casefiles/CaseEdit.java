@@ -0,0 +1,162 @@
+package seedu.sgsafe.domain.casefiles;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The new values of the fields changed by an edit, keyed by the flag names used to edit them (e.g.
+ * {@code title}, {@code speed-limit}).
+ * <p>
+ * Whole numbers and amounts are kept as {@code int}s and {@code double}s, so that they reach the typed setters
+ * of a case, such as {@code SpeedingCase.setSpeedLimit(int)}, without being boxed on the way. Text values and
+ * the date are kept by flag name; a text value may be {@code null} to clear the field.
+ */
+public class CaseEdit {
+
+    /** The flags of the numeric fields; the index of a flag is its slot in the value arrays and masks. */
+    private static final List<String> NUMERIC_FLAGS = List.of("number-of-victims", "number-of-casualties",
+            "exceeded-speed", "speed-limit", "monetary-damage", "financial-value");
+
+    /** Every flag given, in the order given, including numeric flags given without a usable value. */
+    private final Set<String> flags = new LinkedHashSet<>();
+
+    /** The text values and the date, by flag name. */
+    private final Map<String, Object> objectValues = new HashMap<>();
+
+    private final int[] intValues = new int[NUMERIC_FLAGS.size()];
+    private final double[] doubleValues = new double[NUMERIC_FLAGS.size()];
+
+    /** Bit {@code i} is set if {@code intValues[i]} holds a value. */
+    private int intMask = 0;
+
+    /** Bit {@code i} is set if {@code doubleValues[i]} holds a value. */
+    private int doubleMask = 0;
+
+    /**
+     * Creates an edit from values that are already converted to their types, as {@code Integer}s for whole
+     * numbers, {@code Double}s for amounts, a {@link LocalDate} for the date and {@code String}s otherwise.
+     * A numeric value of any other type, including {@code null}, is ignored, as it cannot be stored.
+     *
+     * @param values the new values by flag name
+     * @return the edit
+     */
+    public static CaseEdit of(Map<String, Object> values) {
+        CaseEdit edit = new CaseEdit();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            edit.put(entry.getKey(), entry.getValue());
+        }
+        return edit;
+    }
+
+    /**
+     * Adds a value that is already converted to its type, as described in {@link #of(Map)}.
+     *
+     * @param flag  the flag name
+     * @param value the new value
+     */
+    void put(String flag, Object value) {
+        if (!isNumericFlag(flag)) {
+            flags.add(flag);
+            objectValues.put(flag, value);
+        } else if (value instanceof Integer intValue) {
+            setInt(flag, intValue);
+        } else if (value instanceof Double doubleValue) {
+            setDouble(flag, doubleValue);
+        } else {
+            flags.add(flag);
+        }
+    }
+
+    /**
+     * Returns whether the flag names a numeric field, whose value is set with {@link #setInt(String, int)} or
+     * {@link #setDouble(String, double)}.
+     */
+    public static boolean isNumericFlag(String flag) {
+        return NUMERIC_FLAGS.contains(flag);
+    }
+
+    public CaseEdit setText(String flag, String value) {
+        assert !isNumericFlag(flag) && !flag.equals("date") : flag + " does not hold text";
+        flags.add(flag);
+        objectValues.put(flag, value);
+        return this;
+    }
+
+    public CaseEdit setDate(LocalDate date) {
+        flags.add("date");
+        objectValues.put("date", date);
+        return this;
+    }
+
+    public CaseEdit setInt(String flag, int value) {
+        int slot = getSlot(flag);
+        flags.add(flag);
+        intValues[slot] = value;
+        intMask |= 1 << slot;
+        return this;
+    }
+
+    public CaseEdit setDouble(String flag, double value) {
+        int slot = getSlot(flag);
+        flags.add(flag);
+        doubleValues[slot] = value;
+        doubleMask |= 1 << slot;
+        return this;
+    }
+
+    /**
+     * Returns every flag given, in the order given.
+     *
+     * @return the flags, which cannot be modified
+     */
+    public Set<String> getFlags() {
+        return Collections.unmodifiableSet(flags);
+    }
+
+    /**
+     * Returns whether a text value, or the date, was given for the flag.
+     *
+     * @param flag the flag name
+     * @return {@code true} if the field should be set, possibly to {@code null}
+     */
+    public boolean hasValue(String flag) {
+        return objectValues.containsKey(flag);
+    }
+
+    public String getText(String flag) {
+        return (String) objectValues.get(flag);
+    }
+
+    public LocalDate getDate() {
+        return (LocalDate) objectValues.get("date");
+    }
+
+    public boolean hasInt(String flag) {
+        return (intMask & (1 << getSlot(flag))) != 0;
+    }
+
+    public int getInt(String flag) {
+        assert hasInt(flag) : flag + " has no whole number";
+        return intValues[getSlot(flag)];
+    }
+
+    public boolean hasDouble(String flag) {
+        return (doubleMask & (1 << getSlot(flag))) != 0;
+    }
+
+    public double getDouble(String flag) {
+        assert hasDouble(flag) : flag + " has no amount";
+        return doubleValues[getSlot(flag)];
+    }
+
+    private static int getSlot(String flag) {
+        int slot = NUMERIC_FLAGS.indexOf(flag);
+        assert slot >= 0 : flag + " is not a numeric flag";
+        return slot;
+    }
+}
@@ -2,6 +2,8 @@ package seedu.sgsafe.domain.casefiles;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for formatting case information for display.
@@ -14,6 +16,13 @@ public class CaseFormatter {
     /** Max characters per display line (used for truncation/wrapping). Counted from after the tab in display */
     static final int MAX_DISPLAY_WIDTH_CHARACTERS = 100;
 
+    /** Spaces that indentation is copied from, so that wrapping a line does not build a new indent string. */
+    private static final String SPACES = " ".repeat(MAX_DISPLAY_WIDTH_CHARACTERS);
+
+    /** Label prefixes formatted so far, by label, as the same few labels are used for every case. */
+    private static final Map<String, String> verbosePrefixes = new ConcurrentHashMap<>();
+    private static final Map<String, String> readPrefixes = new ConcurrentHashMap<>();
+
     //@@author shennontay
     /** Fixed width for field labels in read command. */
     static final String MAX_LABEL_STRING_WIDTH_FOR_READ_COMMAND = "%-17s"; // longest label is "Created by"
@@ -33,7 +42,7 @@ public class CaseFormatter {
     /** Format specifiers for summary fields. */
     static final String MAX_STATUS_STRING_WIDTH   = "%-8s";   // [Closed] is the longest
     static final String MAX_CATEGORY_STRING_WIDTH = "%-16s";  // Traffic accident is the longest
-    static final String MAX_ID_STRING_WIDTH       = "%-6s";   // 6-char hex ID
+    static final String MAX_ID_STRING_WIDTH       = "%-" + CaseIdAllocator.MAX_DIGITS + "s"; // longest hex ID
     static final String MAX_DATE_STRING_WIDTH     = "%-10s";  // dd/MM/yyyy
     static final String MAX_TITLE_STRING_WIDTH    = "%s";     // do not truncate title here
     static final int MAX_TITLE_WIDTH              = 40;       // title is truncated separately using this with ellipses
@@ -153,15 +162,14 @@ public class CaseFormatter {
         String prefix = formatPrefix(label, verbose);
         int available = width - prefix.length();
 
-        List<String> wrapped = wrapWords(prefix, value, available);
-
         //@@author xelisce
         // Limit the number of lines per field for verbose printing
-        if (verbose && wrapped.size() > MAX_VERBOSE_LINES_PER_FIELD) {
-            List<String> limited = new ArrayList<>(wrapped.subList(0, MAX_VERBOSE_LINES_PER_FIELD));
-            String last = limited.get(MAX_VERBOSE_LINES_PER_FIELD - 1);
-            limited.set(MAX_VERBOSE_LINES_PER_FIELD - 1, last + "...");
-            return limited;
+        int maxLines = verbose ? MAX_VERBOSE_LINES_PER_FIELD : Integer.MAX_VALUE;
+        WordWrapper wrapper = new WordWrapper(prefix, available, maxLines);
+        List<String> wrapped = wrapper.wrap(value);
+        if (wrapper.isTruncated()) {
+            int lastIndex = wrapped.size() - 1;
+            wrapped.set(lastIndex, wrapped.get(lastIndex) + "...");
         }
 
         return wrapped;
@@ -171,106 +179,157 @@ public class CaseFormatter {
     /** Formats a label prefix depending on mode. */
     protected static String formatPrefix(String label, boolean verbose) {
         if (verbose) {
-            return String.format(PREFIX_FORMAT_STRING_FOR_VERBOSE, label);
+            return verbosePrefixes.computeIfAbsent(label,
+                    newLabel -> String.format(PREFIX_FORMAT_STRING_FOR_VERBOSE, newLabel));
         } else {
-            return String.format(PREFIX_FORMAT_STRING_FOR_READ_COMMAND, label);
+            return readPrefixes.computeIfAbsent(label,
+                    newLabel -> String.format(PREFIX_FORMAT_STRING_FOR_READ_COMMAND, newLabel));
         }
     }
     //@@author
 
     /**
-     * Immutable record representing the state of a line being wrapped.
-     *
-     * @param line          current line buffer
-     * @param currentLength number of characters used in the line
+     * Appends {@code length} spaces to {@code line}.
      */
-    protected record LineState(StringBuilder line, int currentLength) {
+    private static void appendIndent(StringBuilder line, int length) {
+        if (length <= SPACES.length()) {
+            line.append(SPACES, 0, length);
+        } else {
+            line.append(" ".repeat(length));
+        }
     }
 
     /**
-     * Splits text into wrapped lines based on available width.
-     *
-     * @param prefix    label prefix
-     * @param value     text to wrap
-     * @param available max characters per line (excluding prefix)
-     * @return list of wrapped lines
+     * Wraps a field value into lines without creating a string for each word.
+     * <p>
+     * The value is walked by index and each line is built in one {@code StringBuilder}, which is cleared and
+     * indented again for the next line. A word longer than a line is split into chunks ending with a dash.
+     * Wrapping stops as soon as a line beyond the limit is reached, so a long value shown in verbose mode is
+     * only wrapped as far as it is shown.
      */
-    private static List<String> wrapWords(String prefix, String value, int available) {
-        List<String> lines = new ArrayList<>();
-        String[] words = value.split(" ");
-        StringBuilder line = new StringBuilder(prefix);
-        int currentLength = 0;
-
-        for (String word : words) {
-            word = handleLongWord(word, available, prefix, lines, line);
-            LineState state = tryAddWord(word, line, currentLength, available, prefix, lines);
-            line = state.line;
-            currentLength = state.currentLength;
+    private static final class WordWrapper {
+        private final List<String> lines = new ArrayList<>();
+        private final StringBuilder line;
+        private final int indentLength;
+        private final int available;
+        private final int maxLines;
+
+        /** Number of characters of the value in the current line. */
+        private int currentLength = 0;
+
+        /** Whether the value has more lines than {@link #maxLines}. */
+        private boolean isTruncated = false;
+
+        /**
+         * Starts wrapping a value with {@code prefix} at the start of the first line.
+         *
+         * @param prefix    label prefix for the first line, whose length the other lines are indented by
+         * @param available max characters of the value per line
+         * @param maxLines  number of lines after which the rest of the value is left out
+         */
+        private WordWrapper(String prefix, int available, int maxLines) {
+            assert available > 1 : "available should leave room for a character and a dash";
+            this.indentLength = prefix.length();
+            this.available = available;
+            this.maxLines = maxLines;
+            this.line = new StringBuilder(prefix.length() + available + 1);
+            line.append(prefix);
         }
 
-        lines.add(line.toString());
-        return lines;
-    }
+        /**
+         * Wraps {@code value}, whose words are separated by single spaces, like {@code value.split(" ")}.
+         *
+         * @param value text to wrap
+         * @return the wrapped lines, at most {@link #maxLines} of them
+         */
+        private List<String> wrap(String value) {
+            // Spaces at the end are dropped, as split(" ") drops the empty words after them
+            int end = value.length();
+            while (end > 0 && value.charAt(end - 1) == ' ') {
+                end--;
+            }
+            int wordStart = 0;
+            while (wordStart < end && !isTruncated) {
+                int wordEnd = value.indexOf(' ', wordStart);
+                if (wordEnd < 0 || wordEnd > end) {
+                    wordEnd = end;
+                }
+                addWord(value, wordStart, wordEnd);
+                wordStart = wordEnd + 1;
+            }
+            if (!isTruncated) {
+                endLine();
+            }
+            return lines;
+        }
 
-    //@@author xelisce
-    /**
-     * Splits words longer than the available width into chunks.
-     *
-     * @param word      word to process
-     * @param available max characters per line
-     * @param prefix    label prefix for indentation
-     * @param lines     list of lines to append to
-     * @param line      current line buffer
-     * @return remaining portion of the word
-     */
-    protected static String handleLongWord(String word, int available, String prefix,
-                                           List<String> lines, StringBuilder line) {
-        while (word.length() > available) {
-            int chunkLength = available - 1; // leave one character's space for dash
-            String chunk = word.substring(0, chunkLength) + "-";
-            lines.add(line.toString() + chunk);
-            word = word.substring(chunkLength);
+        private boolean isTruncated() {
+            return isTruncated;
+        }
+
+        private void addWord(String value, int start, int end) {
+            // Split a word too long for a line into chunks, each filling a line of its own
+            while (end - start > available) {
+                int chunkEnd = start + available - 1; // leave one character's space for dash
+                line.append(value, start, chunkEnd).append('-');
+                if (!endLine()) {
+                    return;
+                }
+                start = chunkEnd;
+            }
+
+            int wordLength = end - start;
+            if (currentLength + wordLength > available) {
+                if (!endLine()) {
+                    return;
+                }
+                currentLength = 0;
+            }
+            if (currentLength > 0) {
+                line.append(' ');
+                currentLength++;
+            }
+            line.append(value, start, end);
+            currentLength += wordLength;
+        }
+
+        /**
+         * Adds the current line and starts an indented one, unless the line limit has been reached.
+         *
+         * @return {@code false} if the line limit has been reached and wrapping should stop
+         */
+        private boolean endLine() {
+            if (lines.size() == maxLines) {
+                isTruncated = true;
+                return false;
+            }
+            lines.add(line.toString());
             line.setLength(0);
-            line.append(" ".repeat(prefix.length())); // indent
+            appendIndent(line, indentLength);
+            return true;
         }
-        return word;
     }
-    //@@author
 
-    //@@author shennontay
     /**
-     * Attempts to add a word to the current line, wrapping if necessary.
+     * Formats a numeric field of a case for display, or returns an empty string if the field is not set.
      *
-     * @param word          word to add
-     * @param line          current line buffer
-     * @param currentLength number of characters already in the line
-     * @param available     max characters per line
-     * @param prefix        label prefix for indentation
-     * @param lines         list of lines to append to
-     * @return updated line state
+     * @param isSet whether the field has a value
+     * @param value the value of the field
+     * @return the value as a string, or an empty string
      */
-    protected static LineState tryAddWord(String word, StringBuilder line, int currentLength,
-                                          int available, String prefix, List<String> lines) {
-        // If word doesn't fit, flush current line
-        if (currentLength + word.length() > available) {
-            lines.add(line.toString());
-            line = new StringBuilder(" ".repeat(prefix.length()));
-            currentLength = 0;
-        }
-
-        // Add space if not first word
-        if (currentLength > 0) {
-            line.append(" ");
-            currentLength++;
-        }
-
-        line.append(word);
-        currentLength += word.length();
-
-        return new LineState(line, currentLength);
+    public static String formatCount(boolean isSet, int value) {
+        return isSet ? Integer.toString(value) : "";
     }
 
-    public static String safeString(Integer val) {
-        return val == null ? "" : val.toString();
+    /**
+     * Formats a monetary field of a case for display with two decimal places, or returns an empty string
+     * if the field is not set.
+     *
+     * @param isSet  whether the field has a value
+     * @param amount the value of the field
+     * @return the amount as a string, or an empty string
+     */
+    public static String formatAmount(boolean isSet, double amount) {
+        return isSet ? String.format("%.2f", amount) : "";
     }
 }
@@ -0,0 +1,117 @@
+package seedu.sgsafe.domain.casefiles;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out case IDs from a counter that only ever increases.
+ * <p>
+ * IDs are non-negative {@code int}s, shown to users as lowercase hexadecimal zero-padded to at least six digits.
+ * Because the counter is independent of the number of stored cases, cases can be removed from the case list
+ * without a later case being given the ID of an earlier one. The counter is saved together with the cases, so
+ * that IDs are not reused after the application restarts either.
+ * <p>
+ * An ID is used up only once a case with it is stored: {@link #peek()} gives the next free ID and
+ * {@link #advancePast(int)} moves the counter past it, so a case that fails to be created does not leave a gap.
+ * {@link CaseManager} does both under its write lock, so two new cases are never given the same ID. The counter
+ * is an {@link AtomicInteger}, so it can still be read from any thread.
+ */
+public class CaseIdAllocator {
+
+    /** Marks the absence of an ID, e.g. for a case that was loaded from a corrupted save entry. */
+    public static final int NO_ID = -1;
+
+    /** The smallest number of hexadecimal digits an ID is shown with. */
+    private static final int MIN_DIGITS = 6;
+
+    /** The largest number of hexadecimal digits an ID can have, which fits any non-negative {@code int}. */
+    static final int MAX_DIGITS = 8;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Returns the next free ID, without using it up.
+     *
+     * @return the next free ID
+     */
+    public int peek() {
+        return nextId.get();
+    }
+
+    /**
+     * Advances the counter past an ID that is already in use, so that it is never handed out again.
+     * IDs below the counter, and {@link #NO_ID}, leave it unchanged.
+     *
+     * @param usedId the ID in use
+     */
+    public void advancePast(int usedId) {
+        if (usedId != NO_ID && usedId != Integer.MAX_VALUE) {
+            nextId.accumulateAndGet(usedId + 1, Math::max);
+        }
+    }
+
+    /**
+     * Sets the next ID to hand out, e.g. to the value saved with the cases.
+     *
+     * @param nextId the next free ID
+     */
+    public void setNext(int nextId) {
+        assert nextId >= 0 : "nextId should not be negative";
+        this.nextId.set(nextId);
+    }
+
+    /**
+     * Starts handing out IDs from zero again.
+     */
+    public void reset() {
+        nextId.set(0);
+    }
+
+    /**
+     * Formats an ID the way it is shown to users: lowercase hexadecimal, zero-padded to six digits.
+     *
+     * @param id a non-negative ID
+     * @return the formatted ID
+     */
+    public static String format(int id) {
+        assert id >= 0 : "id should not be negative";
+        int digits = Math.max(MIN_DIGITS, (Integer.SIZE - Integer.numberOfLeadingZeros(id) + 3) / 4);
+        char[] text = new char[digits];
+        int remaining = id;
+        for (int i = digits - 1; i >= 0; i--) {
+            text[i] = HEX_DIGITS[remaining & 0xf];
+            remaining >>>= 4;
+        }
+        return new String(text);
+    }
+
+    /**
+     * Parses an ID typed by a user or read from a save file. Upper and lowercase digits are accepted, with any
+     * number of leading zeros up to eight digits in total.
+     *
+     * @param text the ID in hexadecimal
+     * @return the ID, or {@link #NO_ID} if the text is not one to eight hexadecimal digits or is too large
+     */
+    public static int parse(String text) {
+        if (text == null || text.isEmpty() || text.length() > MAX_DIGITS) {
+            return NO_ID;
+        }
+        long value = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else if (c >= 'A' && c <= 'F') {
+                digit = c - 'A' + 10;
+            } else {
+                return NO_ID;
+            }
+            value = (value << 4) | digit;
+        }
+        return value > Integer.MAX_VALUE ? NO_ID : (int) value;
+    }
+}
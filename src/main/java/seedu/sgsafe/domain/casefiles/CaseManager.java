@@ -1,8 +1,15 @@
 package seedu.sgsafe.domain.casefiles;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import seedu.sgsafe.utils.exceptions.CaseAlreadyClosedException;
 import seedu.sgsafe.utils.exceptions.CaseCannotBeEditedException;
@@ -14,24 +21,131 @@ import seedu.sgsafe.utils.exceptions.InvalidEditFlagException;
 /**
  * Manages the collection of {@link Case} objects in the SGSafe system.
  * Provides functionality to store, retrieve, and display case records.
+ * <p>
+ * Every method may be called from several threads at once. The case list and its indexes are guarded by a
+ * single {@link StampedLock}: changes take the write lock, queries take the read lock, and
+ * {@link #getCaseById(String)} reads optimistically without taking the lock at all, falling back to the read
+ * lock only if a case was not found, and to the write lock only if the ID index is out of date. Every case,
+ * including deleted ones, can be read as a list through {@link #readWithoutChanges(CaseReader)}.
  */
 public class CaseManager {
 
-    // Format string for generating case IDs
-    private static final String CASE_ID_FORMAT = "%06x";
+    /** Guards {@link #caseList}, its indexes and {@link #changedCases}. */
+    private static final StampedLock lock = new StampedLock();
 
     /**
      * The central list of case records maintained by the application.
      * Each {@link Case} represents a single incident or report.
      */
-    private static ArrayList<Case> caseList = new ArrayList<>();
+    private static final CaseList caseList = new CaseList();
+
+    /** A read-only view of {@link #caseList}, handed to readers of every case. */
+    private static final List<Case> caseListView = Collections.unmodifiableList(caseList);
+
+    /**
+     * Primary index mapping each case ID to its slot in {@link #caseList}.
+     * <p>
+     * Kept in sync by {@link #addCase(Case)}. Deleted cases keep their slot since they are
+     * never physically removed from the list; {@link #getCaseById(String)} filters them out.
+     * A concurrent map, so that optimistic lookups can read it while another thread changes it.
+     */
+    private static final ConcurrentHashMap<Integer, Integer> caseIdIndex = new ConcurrentHashMap<>();
+
+    /** Returned by {@link #resolveSlot(int)} when the ID index must be rebuilt before an ID can be resolved. */
+    private static final int STALE_INDEX_SLOT = -2;
+
+    /**
+     * Hands out the IDs of new cases. It is advanced past the ID of every case that is added, so that an ID
+     * is never reused, even if cases are later removed from {@link #caseList}.
+     */
+    private static final CaseIdAllocator idAllocator = new CaseIdAllocator();
+
+    /**
+     * Full-text index over the searchable values of every case that is not deleted.
+     * <p>
+     * Built on the first search rather than at start-up, so that loading the save file does not pay
+     * for it, and kept in sync with every change from then on.
+     */
+    private static final CaseSearchIndex searchIndex = new CaseSearchIndex();
+
+    /** Whether {@link #searchIndex} has been built and is being kept in sync. */
+    private static boolean isSearchIndexBuilt = false;
+
+    /**
+     * Secondary indexes over the status, category, type and date of every case, used to answer
+     * {@link CaseQuery} lookups and counts without scanning the case list.
+     */
+    private static final CaseAttributeIndex attributeIndex = new CaseAttributeIndex();
+
+    /**
+     * The {@link CaseList#getModificationCount()} of {@link #caseList} that {@link #attributeIndex} is in sync
+     * with. If the list is modified without going through {@code CaseManager}, the counts differ and the index
+     * is rebuilt before it is next used.
+     */
+    private static int attributeIndexModificationCount = 0;
+
+    /**
+     * The {@link CaseList#getModificationCount()} of {@link #caseList} that {@link #caseIdIndex} is in sync with,
+     * like {@link #attributeIndexModificationCount}. A list that was cleared and refilled with as many cases
+     * still has a different count, so the index is rebuilt before it is next used.
+     */
+    private static int idIndexModificationCount = 0;
+
+    /**
+     * Cases that were added or modified since the last call to {@link #drainChangedCases()},
+     * in the order they were first changed. Used by {@code Storage} to persist only what changed.
+     */
+    private static final LinkedHashSet<Case> changedCases = new LinkedHashSet<>();
+
+    /** Incremented on every change to the case list, so that callers can detect changes cheaply. */
+    private static volatile long version = 0;
+
+    /** Total number of deleted cases removed from {@link #caseList} by {@link #removeDeletedCases()}. */
+    private static volatile long removedCaseCount = 0;
 
     public static int getCaseListSize() {
-        return caseList.size();
+        long stamp = lock.tryOptimisticRead();
+        int size = caseList.size();
+        if (lock.validate(stamp)) {
+            return size;
+        }
+        stamp = lock.readLock();
+        try {
+            return caseList.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns a read-only view of every case, including deleted ones. The view is not guarded by the lock, so
+     * it must only be read while no other thread changes the cases; other classes read every case through
+     * {@link #readWithoutChanges(CaseReader)} instead.
+     *
+     * @return a read-only view of the case list
+     */
+    static List<Case> getCaseList() {
+        return caseListView;
+    }
+
+    /**
+     * Returns the case list version, which increases every time a case is added, replaced or modified
+     * through {@code CaseManager}.
+     *
+     * @return the current case list version
+     */
+    public static long getVersion() {
+        return version;
     }
 
-    public static ArrayList<Case> getCaseList() {
-        return caseList;
+    /**
+     * Records that a case was added or modified. The write lock must be held.
+     *
+     * @param changedCase the case that changed
+     */
+    private static void markChanged(Case changedCase) {
+        changedCases.add(changedCase);
+        version++;
     }
 
     /**
@@ -41,39 +155,533 @@ public class CaseManager {
      */
     public static void addCase(Case newCase) {
         assert newCase != null : "newCase should not be null";
+        long stamp = lock.writeLock();
+        try {
+            addCaseLocked(newCase);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Gives a new case the next free ID and adds it to the case list, as one step, so that cases added by
+     * several threads at once are never given the same ID.
+     *
+     * @param caseFactory creates the case to add from its hexadecimal ID; called with the write lock held,
+     *                    so it must not call back into {@code CaseManager}
+     * @return the case that was added
+     */
+    public static Case addNewCase(Function<String, ? extends Case> caseFactory) {
+        long stamp = lock.writeLock();
+        try {
+            Case newCase = caseFactory.apply(CaseIdAllocator.format(idAllocator.peek()));
+            assert newCase != null : "caseFactory should not return null";
+            addCaseLocked(newCase);
+            return newCase;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private static void addCaseLocked(Case newCase) {
+        boolean isAttributeIndexCurrent = isAttributeIndexCurrent();
+        boolean isIdIndexCurrent = isIdIndexCurrent();
         caseList.add(newCase);
+        if (isAttributeIndexCurrent) {
+            attributeIndex.add(caseList.size() - 1, newCase);
+            attributeIndexModificationCount = caseList.getModificationCount();
+        }
+        if (isIdIndexCurrent) {
+            indexCase(newCase, caseList.size() - 1);
+            idIndexModificationCount = caseList.getModificationCount();
+        }
+        indexForSearch(newCase, caseList.size() - 1);
+        idAllocator.advancePast(newCase.getIdNumber());
+        markChanged(newCase);
+    }
+
+    /**
+     * Replaces the case stored in the given slot of the case list.
+     * <p>
+     * The replacement must carry the ID belonging to that slot (see {@link #findSlotById(int)}). This is used
+     * when replaying saved changes on top of cases that were already loaded.
+     *
+     * @param slot        the position of the case to replace
+     * @param replacement the {@link Case} to store in that position
+     */
+    public static void replaceCase(int slot, Case replacement) {
+        assert replacement != null : "replacement should not be null";
+        long stamp = lock.writeLock();
+        try {
+            assert slot >= 0 && slot < caseList.size() : "slot should be within the case list";
+            if (isSearchIndexBuilt) {
+                searchIndex.remove(slot, caseList.get(slot));
+            }
+            attributeIndex.remove(slot, caseList.get(slot));
+            caseList.set(slot, replacement);
+            attributeIndex.add(slot, replacement);
+            if (replacement.getIdNumber() != CaseIdAllocator.NO_ID) {
+                caseIdIndex.put(replacement.getIdNumber(), slot);
+            }
+            idAllocator.advancePast(replacement.getIdNumber());
+            indexForSearch(replacement, slot);
+            markChanged(replacement);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes every case from the case list, clears the ID, search and attribute indexes, and starts
+     * handing out IDs from zero again.
+     */
+    public static void clearCases() {
+        long stamp = lock.writeLock();
+        try {
+            caseList.clear();
+            caseIdIndex.clear();
+            idAllocator.reset();
+            searchIndex.clear();
+            attributeIndex.clear();
+            attributeIndexModificationCount = caseList.getModificationCount();
+            isSearchIndexBuilt = false;
+            idIndexModificationCount = caseList.getModificationCount();
+            changedCases.clear();
+            version++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the cases that were added or modified since the previous call, and resets the record.
+     *
+     * @return the changed cases, in the order they were first changed
+     */
+    public static List<Case> drainChangedCases() {
+        long stamp = lock.writeLock();
+        try {
+            List<Case> drained = new ArrayList<>(changedCases);
+            changedCases.clear();
+            return drained;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
     //@@author shennontay
     /**
      * Finds and returns a {@link Case} object from the case list using its unique ID.
+     * <p>
+     * The lookup goes through {@link #caseIdIndex}, so it takes constant time regardless of the
+     * number of cases. If the index is found to be out of date, it is rebuilt before the lookup is retried.
      *
      * @param id the hexadecimal ID of the case to find
      * @return the Case with the matching ID, or null if not found
      */
     public static Case getCaseById(String id) {
-        return caseList.stream()
-                .filter(c -> (c.getId().equals(id.toLowerCase()) && !c.isDeleted()))
-                .findFirst()
-                .orElse(null);
+        int parsedId = CaseIdAllocator.parse(id);
+        if (parsedId == CaseIdAllocator.NO_ID) {
+            return null;
+        }
+        Case foundCase = peekIndex(parsedId);
+        if (foundCase == null) {
+            // Either there is no such case or a change got in the way, so look again under the lock
+            long stamp = lockForLookUp(parsedId);
+            try {
+                int slot = resolveSlot(parsedId);
+                foundCase = slot == -1 ? null : caseList.get(slot);
+            } finally {
+                lock.unlock(stamp);
+            }
+        }
+        if (foundCase == null || foundCase.isDeleted()) {
+            return null;
+        }
+        return foundCase;
     }
     //@@author
 
+    /**
+     * Looks up a case in the ID index with an optimistic read, without taking the lock.
+     *
+     * @param id the ID of the case
+     * @return the case with the ID, or null if it is not in the index, the index does not hold the case in
+     *     the indexed slot, or the case list was changed during the lookup
+     */
+    private static Case peekIndex(int id) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp == 0) {
+            return null;
+        }
+        Integer slot = caseIdIndex.get(id);
+        Case foundCase = slot == null ? null : caseList.getIfPresent(slot);
+        if (!lock.validate(stamp) || foundCase == null || foundCase.getIdNumber() != id) {
+            return null;
+        }
+        return foundCase;
+    }
+
+    /**
+     * Looks up a case, including a deleted case, rebuilding the ID index first if it is out of date.
+     * The write lock must be held.
+     *
+     * @param id the ID of the case
+     * @return the case with the ID, or null if no case has the ID
+     */
+    private static Case findCaseLocked(int id) {
+        Case foundCase = lookUpIndex(id);
+        if (foundCase == null && !isIdIndexCurrent()) {
+            rebuildIndex();
+            foundCase = lookUpIndex(id);
+        }
+        return foundCase;
+    }
+
+    /**
+     * Looks up a case that is not deleted for a change. The write lock must be held.
+     *
+     * @param caseId the hexadecimal ID of the case
+     * @return the case with the ID
+     * @throws CaseNotFoundException if no case that is not deleted has the ID
+     */
+    private static Case getCaseForChange(String caseId) throws CaseNotFoundException {
+        int parsedId = CaseIdAllocator.parse(caseId);
+        Case foundCase = parsedId == CaseIdAllocator.NO_ID ? null : findCaseLocked(parsedId);
+        if (foundCase == null || foundCase.isDeleted()) {
+            throw new CaseNotFoundException(caseId);
+        }
+        return foundCase;
+    }
+
+    /**
+     * Returns the slot of the case with the given ID in the case list, including a deleted case.
+     *
+     * @param id the ID of the case
+     * @return the slot of the case, or -1 if no case has the ID
+     */
+    public static int findSlotById(int id) {
+        long stamp = lockForLookUp(id);
+        try {
+            return resolveSlot(id);
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Takes the read lock for looking up an ID. If the ID index must be rebuilt before the ID can be resolved,
+     * the write lock is taken to rebuild it and is then converted into the read lock, so that looking up an ID
+     * that no case has only takes the write lock when the case list was changed since the index was built.
+     *
+     * @param id the ID to be looked up
+     * @return the stamp of the lock, to be released with {@link StampedLock#unlock(long)}
+     */
+    private static long lockForLookUp(int id) {
+        long stamp = lock.readLock();
+        if (resolveSlot(id) != STALE_INDEX_SLOT) {
+            return stamp;
+        }
+        long writeStamp = lock.tryConvertToWriteLock(stamp);
+        if (writeStamp == 0) {
+            lock.unlockRead(stamp);
+            writeStamp = lock.writeLock();
+        }
+        if (resolveSlot(id) == STALE_INDEX_SLOT) {
+            rebuildIndex();
+        }
+        return lock.tryConvertToReadLock(writeStamp);
+    }
+
+    /**
+     * Resolves an ID through the index without changing it, verifying that the indexed slot still holds that
+     * case. The read or write lock must be held.
+     *
+     * @param id the ID of the case
+     * @return the slot of the case, -1 if no case has the ID, or {@link #STALE_INDEX_SLOT} if the index is out
+     *     of date and must be rebuilt first
+     */
+    private static int resolveSlot(int id) {
+        Integer slot = caseIdIndex.get(id);
+        if (slot == null) {
+            return isIdIndexCurrent() ? -1 : STALE_INDEX_SLOT;
+        }
+        if (slot >= caseList.size() || caseList.get(slot).getIdNumber() != id) {
+            return STALE_INDEX_SLOT;
+        }
+        return slot;
+    }
+
+    /**
+     * Resolves an ID through the index, verifying that the indexed slot still holds that case.
+     * The write lock must be held, as the index is rebuilt if it is out of date.
+     *
+     * @param id the ID of the case
+     * @return the case in the indexed slot, or null if the ID is not indexed
+     */
+    private static Case lookUpIndex(int id) {
+        Integer slot = caseIdIndex.get(id);
+        if (slot == null) {
+            return null;
+        }
+        if (slot >= caseList.size() || caseList.get(slot).getIdNumber() != id) {
+            rebuildIndex();
+            slot = caseIdIndex.get(id);
+            if (slot == null) {
+                return null;
+            }
+        }
+        return caseList.get(slot);
+    }
+
+    /**
+     * Records the slot of a case in the ID index. Cases without an ID (e.g. corrupted save entries)
+     * are not indexed. If an ID appears more than once, the first slot is kept.
+     *
+     * @param indexedCase the case to index
+     * @param slot        the position of the case in {@link #caseList}
+     */
+    private static void indexCase(Case indexedCase, int slot) {
+        if (indexedCase.getIdNumber() != CaseIdAllocator.NO_ID) {
+            caseIdIndex.putIfAbsent(indexedCase.getIdNumber(), slot);
+        }
+    }
+
+    /**
+     * Adds a case to the search index if the index has been built, unless the case is deleted.
+     *
+     * @param indexedCase the case to index
+     * @param slot        the position of the case in {@link #caseList}
+     */
+    private static void indexForSearch(Case indexedCase, int slot) {
+        if (isSearchIndexBuilt && !indexedCase.isDeleted()) {
+            searchIndex.add(slot, indexedCase);
+        }
+    }
+
+    /**
+     * Rebuilds the ID index, and the search index if it has been built, from scratch using the
+     * current contents of {@link #caseList}.
+     */
+    private static void rebuildIndex() {
+        caseIdIndex.clear();
+        for (int i = 0; i < caseList.size(); i++) {
+            indexCase(caseList.get(i), i);
+        }
+        idIndexModificationCount = caseList.getModificationCount();
+        if (isSearchIndexBuilt) {
+            rebuildSearchIndex();
+        }
+    }
+
+    /**
+     * Builds the search index from scratch using the current contents of {@link #caseList}.
+     */
+    private static void rebuildSearchIndex() {
+        searchIndex.clear();
+        isSearchIndexBuilt = true;
+        for (int i = 0; i < caseList.size(); i++) {
+            indexForSearch(caseList.get(i), i);
+        }
+    }
+
+    /**
+     * Returns whether {@link #caseIdIndex} reflects every structural change made to {@link #caseList}.
+     */
+    private static boolean isIdIndexCurrent() {
+        return idIndexModificationCount == caseList.getModificationCount();
+    }
+
+    /**
+     * Returns whether {@link #attributeIndex} reflects every structural change made to {@link #caseList}.
+     */
+    private static boolean isAttributeIndexCurrent() {
+        return attributeIndexModificationCount == caseList.getModificationCount();
+    }
+
+    /**
+     * Takes the read lock, making sure first that the ID and attribute indexes, and the search index if it is
+     * needed, are up to date. If they are not, the write lock is taken to bring them up to date and is then
+     * converted into the read lock.
+     *
+     * @param isSearchIndexNeeded whether the search index should be built if it has not been yet
+     * @return the stamp of the read lock, to be released with {@link StampedLock#unlock(long)}
+     */
+    private static long readLockWithCurrentIndexes(boolean isSearchIndexNeeded) {
+        long stamp = lock.readLock();
+        if (areIndexesCurrent(isSearchIndexNeeded)) {
+            return stamp;
+        }
+        long writeStamp = lock.tryConvertToWriteLock(stamp);
+        if (writeStamp == 0) {
+            lock.unlockRead(stamp);
+            writeStamp = lock.writeLock();
+        }
+        if (!isIdIndexCurrent()) {
+            rebuildIndex();
+        }
+        if (isSearchIndexNeeded && !isSearchIndexBuilt) {
+            rebuildSearchIndex();
+        }
+        ensureAttributeIndexCurrent();
+        return lock.tryConvertToReadLock(writeStamp);
+    }
+
+    private static boolean areIndexesCurrent(boolean isSearchIndexNeeded) {
+        return isIdIndexCurrent() && isAttributeIndexCurrent()
+                && (isSearchIndexBuilt || !isSearchIndexNeeded);
+    }
+
+    /**
+     * Rebuilds the attribute index from scratch if the case list was modified without going through
+     * {@code CaseManager}. The write lock must be held.
+     */
+    private static void ensureAttributeIndexCurrent() {
+        if (isAttributeIndexCurrent()) {
+            return;
+        }
+        attributeIndex.clear();
+        for (int i = 0; i < caseList.size(); i++) {
+            attributeIndex.add(i, caseList.get(i));
+        }
+        attributeIndexModificationCount = caseList.getModificationCount();
+    }
+
+    /**
+     * Returns the cases selected by a query, answered from the attribute indexes.
+     *
+     * @param query the criteria to select cases by
+     * @return the matching cases, in the order they were added
+     */
+    public static ArrayList<Case> getCases(CaseQuery query) {
+        return getCases(query, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a range of the cases selected by a query, answered from the attribute indexes.
+     * Only the cases within the range are visited, so a page of results costs the same however many
+     * cases match.
+     *
+     * @param query  the criteria to select cases by
+     * @param offset the number of matching cases to skip
+     * @param limit  the maximum number of cases to return
+     * @return the matching cases within the range, in the order they were added
+     */
+    public static ArrayList<Case> getCases(CaseQuery query, int offset, int limit) {
+        long stamp = readLockWithCurrentIndexes(false);
+        try {
+            BitSet slots = attributeIndex.select(query);
+            ArrayList<Case> cases = new ArrayList<>(Math.min(limit, slots.cardinality()));
+            int slot = slots.nextSetBit(0);
+            for (int skipped = 0; skipped < offset && slot >= 0; skipped++) {
+                slot = slots.nextSetBit(slot + 1);
+            }
+            for (; slot >= 0 && cases.size() < limit; slot = slots.nextSetBit(slot + 1)) {
+                cases.add(caseList.get(slot));
+            }
+            return cases;
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Passes every case selected by a query to {@code action}, in the order they were added, without
+     * collecting the matching cases into a list first.
+     * <p>
+     * The read lock is held throughout, so other threads can query the cases but not change them until
+     * every case has been visited. The action must not change the cases itself.
+     *
+     * @param query  the criteria to select cases by
+     * @param action the action to perform on each matching case
+     */
+    public static void forEachCase(CaseQuery query, Consumer<Case> action) {
+        long stamp = readLockWithCurrentIndexes(false);
+        try {
+            BitSet slots = attributeIndex.select(query);
+            for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+                action.accept(caseList.get(slot));
+            }
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of cases selected by a query. Queries that only filter by status are counted in
+     * constant time; other queries are counted from the attribute indexes without visiting any case.
+     *
+     * @param query the criteria to select cases by
+     * @return the number of matching cases
+     */
+    public static int countCases(CaseQuery query) {
+        long stamp = readLockWithCurrentIndexes(false);
+        try {
+            if (query.isStatusOnly()) {
+                return attributeIndex.countByStatus(query.getOpen());
+            }
+            return attributeIndex.select(query).cardinality();
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Reads the cases with the read lock held, so that no case is added, changed or removed until the reader
+     * returns, for example to save a consistent copy of the cases from another thread. The reader is given a
+     * read-only view of every case, including deleted ones, and must not call any other method of
+     * {@code CaseManager} that takes the lock.
+     *
+     * @param reader reads the cases
+     * @param <T>    the type of the result of the reader
+     * @param <E>    the type of exception the reader may throw
+     * @return the result of the reader
+     * @throws E if the reader throws it
+     */
+    public static <T, E extends Exception> T readWithoutChanges(CaseReader<T, E> reader) throws E {
+        long stamp = lock.readLock();
+        try {
+            return reader.read(caseListView);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Computes statistics over the cases selected by a query, in a single pass over the matching cases.
+     *
+     * @param query      the criteria to select cases by
+     * @param dateBucket the periods to group the cases into by date
+     * @return the statistics of the matching cases
+     */
+    public static CaseStatistics computeStatistics(CaseQuery query, DateBucket dateBucket) {
+        CaseStatistics statistics = new CaseStatistics(dateBucket);
+        forEachCase(query, statistics::add);
+        return statistics;
+    }
+
     /**
      * Closes an existing case in the case list.
      *
      * @param caseId the case to be closed
      */
     public static String closeCase(String caseId) throws CaseNotFoundException {
-        Case caseToClose = getCaseById(caseId);
-        if (caseToClose == null) {
-            throw new CaseNotFoundException(caseId);
-        }
-        if (!caseToClose.isOpen()) {
-            throw new CaseAlreadyClosedException(caseId);
+        Case caseToClose;
+        long stamp = lock.writeLock();
+        try {
+            caseToClose = getCaseForChange(caseId);
+            if (!caseToClose.isOpen()) {
+                throw new CaseAlreadyClosedException(caseId);
+            }
+            int slot = caseIdIndex.get(caseToClose.getIdNumber());
+            attributeIndex.remove(slot, caseToClose);
+            caseToClose.setClosed();
+            attributeIndex.add(slot, caseToClose);
+            markChanged(caseToClose);
+            assert !caseToClose.isOpen() : "Case should be closed";
+        } finally {
+            lock.unlockWrite(stamp);
         }
-        caseToClose.setClosed();
-        assert !caseToClose.isOpen() : "Case should be closed";
         return caseToClose.getDisplayLine();
     }
 
@@ -83,15 +691,22 @@ public class CaseManager {
      * @param caseId the case to be opened
      */
     public static String openCase(String caseId) throws CaseNotFoundException {
-        Case caseToOpen = getCaseById(caseId);
-        if (caseToOpen == null) {
-            throw new CaseNotFoundException(caseId);
-        }
-        if (caseToOpen.isOpen()) {
-            throw new CaseAlreadyOpenException(caseId);
+        Case caseToOpen;
+        long stamp = lock.writeLock();
+        try {
+            caseToOpen = getCaseForChange(caseId);
+            if (caseToOpen.isOpen()) {
+                throw new CaseAlreadyOpenException(caseId);
+            }
+            int slot = caseIdIndex.get(caseToOpen.getIdNumber());
+            attributeIndex.remove(slot, caseToOpen);
+            caseToOpen.setOpen();
+            attributeIndex.add(slot, caseToOpen);
+            markChanged(caseToOpen);
+            assert caseToOpen.isOpen() : "Case should be open";
+        } finally {
+            lock.unlockWrite(stamp);
         }
-        caseToOpen.setOpen();
-        assert caseToOpen.isOpen() : "Case should be open";
         return caseToOpen.getDisplayLine();
     }
 
@@ -101,7 +716,7 @@ public class CaseManager {
      * Finds the case by its {@code caseId} using {@link #getCaseById(String)} and applies
      * the updates from {@code newFlagValues} via {@link Case#update(Map)}.
      *
-     * @param caseId the 6-character hexadecimal case ID
+     * @param caseId the hexadecimal case ID
      * @param newFlagValues map of field names to new values
      * @return the updated case’s display line
      * @throws CaseNotFoundException   if no case with the given ID exists
@@ -109,44 +724,69 @@ public class CaseManager {
      */
     public static String editCase(String caseId, Map<String, Object> newFlagValues)
             throws CaseNotFoundException, IncorrectFlagException {
-        // Retrieve the case to edit
-        Case caseToEdit = getCaseById(caseId);
-        if (caseToEdit == null) {
-            throw new CaseNotFoundException(caseId);
-        }
+        return editCase(caseId, CaseEdit.of(newFlagValues));
+    }
 
-        if (!caseToEdit.isOpen()) {
-            throw new CaseCannotBeEditedException(caseId);
-        }
+    /**
+     * Updates an existing {@link Case} with the values of an edit, as {@link #editCase(String, Map)} does.
+     *
+     * @param caseId the hexadecimal case ID
+     * @param edit   the new values of the fields to change
+     * @return the updated case’s display line
+     * @throws CaseNotFoundException   if no case with the given ID exists
+     * @throws InvalidEditFlagException  if any flags in {@code edit} are invalid
+     */
+    public static String editCase(String caseId, CaseEdit edit)
+            throws CaseNotFoundException, IncorrectFlagException {
+        Case caseToEdit;
+        long stamp = lock.writeLock();
+        try {
+            // Retrieve the case to edit
+            caseToEdit = getCaseForChange(caseId);
 
-        // Validate flags before updating
-        List<String> invalidFlags = getInvalidEditFlags(caseToEdit, newFlagValues);
-        if (!invalidFlags.isEmpty()) {
-            throw new InvalidEditFlagException(invalidFlags, caseId);
-        }
+            if (!caseToEdit.isOpen()) {
+                throw new CaseCannotBeEditedException(caseId);
+            }
+
+            // Validate flags before updating
+            List<String> invalidFlags = getInvalidEditFlags(caseToEdit, edit);
+            if (!invalidFlags.isEmpty()) {
+                throw new InvalidEditFlagException(invalidFlags, caseId);
+            }
 
-        //Update and return the display line
-        caseToEdit.update(newFlagValues);
+            //Update the case and its indexes
+            int slot = caseIdIndex.get(caseToEdit.getIdNumber());
+            if (isSearchIndexBuilt) {
+                searchIndex.remove(slot, caseToEdit);
+            }
+            attributeIndex.remove(slot, caseToEdit);
+            caseToEdit.update(edit);
+            indexForSearch(caseToEdit, slot);
+            attributeIndex.add(slot, caseToEdit);
+            markChanged(caseToEdit);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
         return caseToEdit.getDisplayLine();
     }
 
     /**
-     * Checks which flags in {@code newFlagValues} are invalid for the given {@link Case}.
+     * Checks which flags in {@code edit} are invalid for the given {@link Case}.
      * <p>
-     * Only the flag names (map keys) are validated; values are ignored.
+     * Only the flag names are validated; values are ignored.
      *
-     * @param targetCase    the case whose valid flags are used for validation
-     * @param newFlagValues a map of flag names and their corresponding values
+     * @param targetCase the case whose valid flags are used for validation
+     * @param edit       the flags and their corresponding values
      * @return list of invalid flag names; empty if all are valid
      */
-    public static List<String> getInvalidEditFlags(Case targetCase, Map<String, Object> newFlagValues) {
+    public static List<String> getInvalidEditFlags(Case targetCase, CaseEdit edit) {
         assert targetCase != null : "Target case must not be null";
-        assert newFlagValues != null : "Input flag map must not be null";
+        assert edit != null : "Input edit must not be null";
 
         List<String> validFlags = targetCase.getValidEditFlags();
         List<String> invalidFlags = new ArrayList<>();
 
-        for (String flag : newFlagValues.keySet()) {
+        for (String flag : edit.getFlags()) {
             if (!validFlags.contains(flag)) {
                 invalidFlags.add(flag);
             }
@@ -163,22 +803,127 @@ public class CaseManager {
      * @return the deleted case's display line.
      */
     public static String deleteCase(String caseId) throws CaseNotFoundException {
-        Case caseToDelete = getCaseById(caseId);
-        if (caseToDelete == null) {
-            throw new CaseNotFoundException(caseId);
+        Case caseToDelete;
+        long stamp = lock.writeLock();
+        try {
+            caseToDelete = getCaseForChange(caseId);
+            int slot = caseIdIndex.get(caseToDelete.getIdNumber());
+            if (isSearchIndexBuilt) {
+                searchIndex.remove(slot, caseToDelete);
+            }
+            attributeIndex.remove(slot, caseToDelete);
+            caseToDelete.setDeleted(true);
+            attributeIndex.add(slot, caseToDelete);
+            markChanged(caseToDelete);
+        } finally {
+            lock.unlockWrite(stamp);
         }
-        caseToDelete.setDeleted(true);
         return caseToDelete.getDisplayLine();
     }
 
+    /**
+     * Returns the number of deleted cases still held in the case list, including corrupted save entries,
+     * which count as deleted.
+     *
+     * @return the number of deleted cases
+     */
+    public static int getDeletedCaseCount() {
+        long stamp = readLockWithCurrentIndexes(false);
+        try {
+            return attributeIndex.countDeleted();
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Removes every deleted case, including corrupted save entries, from the case list.
+     * <p>
+     * Deleted cases are otherwise kept in the list so that their slots do not change. Removing them moves
+     * the remaining cases to new slots, so the ID, search and attribute indexes are rebuilt afterwards.
+     * The remaining cases keep their IDs, and the IDs of removed cases are not handed out again.
+     *
+     * @return the number of cases removed
+     */
+    public static int removeDeletedCases() {
+        long stamp = lock.writeLock();
+        try {
+            int sizeBefore = caseList.size();
+            caseList.removeIf(Case::isDeleted);
+            int removedCount = sizeBefore - caseList.size();
+            if (removedCount == 0) {
+                return 0;
+            }
+            changedCases.removeIf(Case::isDeleted);
+            rebuildIndex();
+            ensureAttributeIndexCurrent();
+            removedCaseCount += removedCount;
+            version++;
+            return removedCount;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the total number of cases removed by {@link #removeDeletedCases()}. The total only ever grows,
+     * so a change in it tells that cases were removed since it was last read.
+     *
+     * @return the number of cases removed so far
+     */
+    public static long getRemovedCaseCount() {
+        return removedCaseCount;
+    }
+
+    /**
+     * Finds all cases that are not deleted and match every word of the keyword.
+     * <p>
+     * Matching is case-insensitive. A word of the keyword matches a case if any word in the case's
+     * searchable values (see {@link Case#getSearchableValues()}) starts with it. The lookup goes through
+     * the search index, so it does not scan the whole case list, except to build the index on first use.
+     *
+     * @param keyword the words to search for
+     * @return the matching cases, in the order they were added
+     */
     public static ArrayList<Case> findCasesByKeyword(String keyword) {
-        ArrayList<Case> casesFound = new ArrayList<>();
-        for (Case c : caseList) {
-            if (c.getTitle().toLowerCase().contains(keyword.toLowerCase())) {
-                casesFound.add(c);
+        return findCasesByKeyword(keyword, CaseQuery.all());
+    }
+
+    /**
+     * Finds all cases that match every word of the keyword and are selected by the query.
+     * The keyword matches are intersected with the attribute indexes before any case is visited.
+     *
+     * @param keyword the words to search for
+     * @param query   the criteria that the matching cases must also meet
+     * @return the matching cases, in the order they were added
+     * @see #findCasesByKeyword(String)
+     */
+    public static ArrayList<Case> findCasesByKeyword(String keyword, CaseQuery query) {
+        long stamp = readLockWithCurrentIndexes(true);
+        try {
+            BitSet matchingSlots = searchIndex.search(keyword);
+            if (query.hasCriteria()) {
+                matchingSlots.and(attributeIndex.select(query));
+            }
+            ArrayList<Case> casesFound = new ArrayList<>(matchingSlots.cardinality());
+            for (int slot = matchingSlots.nextSetBit(0); slot >= 0; slot = matchingSlots.nextSetBit(slot + 1)) {
+                if (slot >= caseList.size() || !searchIndex.isIndexedAt(slot, caseList.get(slot))) {
+                    // The list was modified without going through CaseManager
+                    lock.unlock(stamp);
+                    stamp = lock.writeLock();
+                    rebuildIndex();
+                    lock.unlock(stamp);
+                    stamp = 0;
+                    return findCasesByKeyword(keyword, query);
+                }
+                casesFound.add(caseList.get(slot));
+            }
+            return casesFound;
+        } finally {
+            if (stamp != 0) {
+                lock.unlock(stamp);
             }
         }
-        return casesFound;
     }
       
     /**
@@ -199,24 +944,86 @@ public class CaseManager {
     // @@author xelisce
 
     /**
-     * Generates a unique 6-character hexadecimal ID for a new case.
+     * Generates a unique hexadecimal ID for a new case.
      * <p>
-     * The ID is derived from the current size of {@code caseList}, formatted as a
-     * zero-padded lowercase hexadecimal string. This ensures compact, readable,
-     * and collision-free identifiers as long as cases are not removed or reordered.
+     * The ID is the next one from {@link #idAllocator}, formatted as a lowercase hexadecimal string
+     * zero-padded to six digits. It is used up once a case with the ID is added, so consecutive calls
+     * without adding a case return the same ID. IDs do not depend on the number of cases, so they stay
+     * collision-free even if cases are removed from the case list.
      * <p>
      * Example outputs:
      * <ul>
      *   <li>{@code 000000} — first case</li>
-     *   <li>{@code 00000a} — tenth case</li>
+     *   <li>{@code 00000a} — eleventh case</li>
      *   <li>{@code 0000ff} — 256th case</li>
      * </ul>
      *
-     * @return a 6-character hexadecimal string representing the new case ID
+     * @return a hexadecimal string representing the new case ID
      */
     public static String generateHexId() {
-        int raw = getCaseListSize();
-        return String.format(CASE_ID_FORMAT, raw); // zero-padded 6-digit hex
+        return CaseIdAllocator.format(idAllocator.peek());
     }
 
+    /**
+     * Returns the ID that the next new case will be given, as a number.
+     *
+     * @return the next free case ID
+     */
+    public static int getNextId() {
+        return idAllocator.peek();
+    }
+
+    /**
+     * Sets the ID that the next new case will be given, e.g. to the value saved with the cases. The ID
+     * still advances past the ID of any case added afterwards.
+     *
+     * @param nextId the next free case ID
+     */
+    public static void setNextId(int nextId) {
+        idAllocator.setNext(nextId);
+    }
+
+    /**
+     * Returns the ID that a case stored at the given slot of the case list was given before IDs were saved
+     * with the cases, when they were derived from the number of cases. Used to load older save files.
+     *
+     * @param slot the position of the case in the case list
+     * @return a hexadecimal string representing the case ID
+     */
+    public static String getHexIdForSlot(int slot) {
+        return CaseIdAllocator.format(slot);
+    }
+
+    /**
+     * Reads the cases for {@link #readWithoutChanges(CaseReader)}.
+     *
+     * @param <T> the type of the result
+     * @param <E> the type of exception thrown if the cases cannot be read
+     */
+    @FunctionalInterface
+    public interface CaseReader<T, E extends Exception> {
+        T read(List<Case> cases) throws E;
+    }
+
+    /**
+     * The case list, which exposes its modification count so that indexes can tell when it was
+     * structurally modified (cases added, removed or cleared) without going through {@code CaseManager}.
+     */
+    private static class CaseList extends ArrayList<Case> {
+        int getModificationCount() {
+            return modCount;
+        }
+
+        /**
+         * Returns the case in a slot, or null if the slot is past the end of the list. Used for optimistic
+         * reads, which may see the list shrink while they read it and validate what they read afterwards.
+         */
+        Case getIfPresent(int slot) {
+            try {
+                return slot < size() ? get(slot) : null;
+            } catch (IndexOutOfBoundsException e) {
+                return null;
+            }
+        }
+    }
 }
@@ -0,0 +1,171 @@
+package seedu.sgsafe.domain.casefiles;
+
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseType;
+
+import java.time.LocalDate;
+
+/**
+ * Describes which cases to select by status, category, type and date.
+ * <p>
+ * A query never selects deleted cases. Every criterion that is not set matches any case, so
+ * {@link #all()} selects every case that is not deleted. Queries are immutable; each {@code with}
+ * method returns a new query with one more criterion.
+ * <p>
+ * {@link CaseManager#getCases(CaseQuery)} answers a query from its secondary indexes, while
+ * {@link #matches(Case)} checks a single case directly.
+ */
+public class CaseQuery {
+
+    private static final CaseQuery ALL = new CaseQuery(null, null, null, null, null);
+
+    /** The status to select ({@code true} for open), or {@code null} for any status. */
+    private final Boolean isOpen;
+
+    /** The category to select, or {@code null} for any category. */
+    private final CaseCategory category;
+
+    /** The type to select, or {@code null} for any type. */
+    private final CaseType type;
+
+    /** The earliest date to select, inclusive, or {@code null} for no lower bound. */
+    private final LocalDate fromDate;
+
+    /** The latest date to select, inclusive, or {@code null} for no upper bound. */
+    private final LocalDate toDate;
+
+    private CaseQuery(Boolean isOpen, CaseCategory category, CaseType type, LocalDate fromDate, LocalDate toDate) {
+        this.isOpen = isOpen;
+        this.category = category;
+        this.type = type;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    /**
+     * Returns a query that selects every case that is not deleted.
+     *
+     * @return the query without criteria
+     */
+    public static CaseQuery all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a copy of this query that only selects open cases, or only closed cases.
+     *
+     * @param isOpen {@code true} to select open cases; {@code false} to select closed cases
+     * @return the narrowed query
+     */
+    public CaseQuery withOpen(boolean isOpen) {
+        return new CaseQuery(isOpen, category, type, fromDate, toDate);
+    }
+
+    /**
+     * Returns a copy of this query that only selects cases of the given category.
+     *
+     * @param category the category to select
+     * @return the narrowed query
+     */
+    public CaseQuery withCategory(CaseCategory category) {
+        return new CaseQuery(isOpen, category, type, fromDate, toDate);
+    }
+
+    /**
+     * Returns a copy of this query that only selects cases of the given type.
+     *
+     * @param type the type to select
+     * @return the narrowed query
+     */
+    public CaseQuery withType(CaseType type) {
+        return new CaseQuery(isOpen, category, type, fromDate, toDate);
+    }
+
+    /**
+     * Returns a copy of this query that only selects cases dated within the given range.
+     * Cases without a date are not selected.
+     *
+     * @param fromDate the earliest date, inclusive, or {@code null} for no lower bound
+     * @param toDate   the latest date, inclusive, or {@code null} for no upper bound
+     * @return the narrowed query
+     */
+    public CaseQuery withDateRange(LocalDate fromDate, LocalDate toDate) {
+        return new CaseQuery(isOpen, category, type, fromDate, toDate);
+    }
+
+    public Boolean getOpen() {
+        return isOpen;
+    }
+
+    public CaseCategory getCategory() {
+        return category;
+    }
+
+    public CaseType getType() {
+        return type;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    /**
+     * Returns whether this query has any criterion, that is, whether it selects fewer than all cases that
+     * are not deleted.
+     *
+     * @return {@code true} if a status, category, type or date criterion is set
+     */
+    public boolean hasCriteria() {
+        return isOpen != null || !isStatusOnly();
+    }
+
+    /**
+     * Returns whether this query only filters by status, in which case its result size is known without
+     * looking at individual cases.
+     *
+     * @return {@code true} if no category, type or date criterion is set
+     */
+    public boolean isStatusOnly() {
+        return category == null && type == null && !hasDateRange();
+    }
+
+    /**
+     * Returns whether this query restricts the date of the cases it selects.
+     *
+     * @return {@code true} if a lower or upper date bound is set
+     */
+    public boolean hasDateRange() {
+        return fromDate != null || toDate != null;
+    }
+
+    /**
+     * Returns whether the given case is selected by this query.
+     *
+     * @param caseToCheck the case to check
+     * @return {@code true} if the case is not deleted and meets every criterion of this query
+     */
+    public boolean matches(Case caseToCheck) {
+        if (caseToCheck.isDeleted()) {
+            return false;
+        }
+        if (isOpen != null && caseToCheck.isOpen() != isOpen) {
+            return false;
+        }
+        if (category != null && caseToCheck.getCategory() != category) {
+            return false;
+        }
+        if (type != null && caseToCheck.getType() != type) {
+            return false;
+        }
+        if (hasDateRange()) {
+            LocalDate date = caseToCheck.getDate();
+            return date != null && (fromDate == null || !date.isBefore(fromDate))
+                    && (toDate == null || !date.isAfter(toDate));
+        }
+        return true;
+    }
+}
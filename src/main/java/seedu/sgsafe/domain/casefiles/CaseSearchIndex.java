@@ -0,0 +1,196 @@
+package seedu.sgsafe.domain.casefiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index from words to the cases that contain them, used by the {@code find} command.
+ * <p>
+ * Every value returned by {@link Case#getSearchableValues()} is split into tokens, which are maximal runs
+ * of letters and digits, lowercased. Each token maps to a posting list of the slots (positions in the
+ * case list) of the cases containing it. A query is split into terms the same way; a case matches if,
+ * for every term, it contains a token starting with that term.
+ * <p>
+ * The index is maintained incrementally by {@link CaseManager}: a case must be removed from the index
+ * before any of its searchable values change, and added back afterwards.
+ */
+class CaseSearchIndex {
+
+    /** Posting lists keyed by token, sorted so that all tokens sharing a prefix are adjacent. */
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+
+    /** The case indexed in each slot, or {@code null} if that slot is not indexed. */
+    private final ArrayList<Case> indexedCases = new ArrayList<>();
+
+    /**
+     * Adds the tokens of a case to the index.
+     *
+     * @param slot       the position of the case in the case list
+     * @param caseToAdd  the case to index
+     */
+    void add(int slot, Case caseToAdd) {
+        while (indexedCases.size() <= slot) {
+            indexedCases.add(null);
+        }
+        indexedCases.set(slot, caseToAdd);
+        for (String token : getTokens(caseToAdd)) {
+            postings.computeIfAbsent(token, t -> new PostingList()).add(slot);
+        }
+    }
+
+    /**
+     * Removes the tokens of a case from the index. The case must still hold the values it was indexed with.
+     *
+     * @param slot         the position of the case in the case list
+     * @param caseToRemove the case to remove
+     */
+    void remove(int slot, Case caseToRemove) {
+        if (slot >= indexedCases.size() || indexedCases.get(slot) == null) {
+            return;
+        }
+        indexedCases.set(slot, null);
+        for (String token : getTokens(caseToRemove)) {
+            PostingList postingList = postings.get(token);
+            if (postingList != null && postingList.remove(slot) && postingList.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Removes every case from the index.
+     */
+    void clear() {
+        postings.clear();
+        indexedCases.clear();
+    }
+
+    /**
+     * Returns whether the given case is the one indexed in the given slot.
+     *
+     * @param slot         the position in the case list
+     * @param expectedCase the case expected in that slot
+     * @return {@code true} if {@code expectedCase} is indexed in {@code slot}
+     */
+    boolean isIndexedAt(int slot, Case expectedCase) {
+        return slot < indexedCases.size() && indexedCases.get(slot) == expectedCase;
+    }
+
+    /**
+     * Returns the slots of all cases matching every term of the query.
+     *
+     * @param query the search keywords
+     * @return the matching slots, or an empty set if the query contains no terms
+     */
+    BitSet search(String query) {
+        List<String> terms = new ArrayList<>();
+        tokenize(query, terms);
+
+        BitSet matches = null;
+        for (String term : terms) {
+            BitSet termMatches = new BitSet(indexedCases.size());
+            for (PostingList postingList : getPostingsWithPrefix(term).values()) {
+                postingList.addTo(termMatches);
+            }
+            if (matches == null) {
+                matches = termMatches;
+            } else {
+                matches.and(termMatches);
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+        return matches == null ? new BitSet() : matches;
+    }
+
+    /**
+     * Returns the posting lists of all tokens starting with the given term.
+     */
+    private NavigableMap<String, PostingList> getPostingsWithPrefix(String term) {
+        return postings.subMap(term, true, term + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns the distinct tokens of all searchable values of a case.
+     */
+    private static Set<String> getTokens(Case caseToTokenize) {
+        List<String> tokens = new ArrayList<>();
+        for (String value : caseToTokenize.getFullyLoadedView().getSearchableValues()) {
+            tokenize(value, tokens);
+        }
+        return new HashSet<>(tokens);
+    }
+
+    /**
+     * Splits text into lowercase runs of letters and digits, appending them to {@code tokens}.
+     *
+     * @param text   the text to split, which may be {@code null}
+     * @param tokens the list to append the tokens to
+     */
+    static void tokenize(String text, List<String> tokens) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean isWordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start == -1) {
+                start = i;
+            } else if (!isWordChar && start != -1) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * A sorted list of slots, stored as a growable {@code int} array.
+     * Slots are usually added in increasing order, in which case adding is an append.
+     */
+    private static class PostingList {
+        private int[] slots = new int[2];
+        private int size = 0;
+
+        void add(int slot) {
+            int position = Arrays.binarySearch(slots, 0, size, slot);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, insertAt, slots, insertAt + 1, size - insertAt);
+            slots[insertAt] = slot;
+            size++;
+        }
+
+        boolean remove(int slot) {
+            int position = Arrays.binarySearch(slots, 0, size, slot);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(slots, position + 1, slots, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void addTo(BitSet bitSet) {
+            for (int i = 0; i < size; i++) {
+                bitSet.set(slots[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package seedu.sgsafe.domain.casefiles;
+
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseType;
+import seedu.sgsafe.domain.casefiles.type.financial.FinancialCase;
+import seedu.sgsafe.domain.casefiles.type.property.PropertyCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+import seedu.sgsafe.domain.casefiles.type.violent.ViolentCase;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+
+/**
+ * Aggregates over a set of cases, built up one case at a time by {@link #add(Case)}.
+ * <p>
+ * Cases are counted by status, {@link CaseType}, {@link CaseCategory} and {@link DateBucket}, and the numeric
+ * fields of each category are summed: the financial value of financial cases, the monetary damage of property
+ * cases, the number of victims of violent cases, the number of casualties of accidents, and how far speeding
+ * drivers were over the limit. Counts are kept in arrays indexed by enum ordinal, and numeric fields are read
+ * through their unboxed accessors, so that no number is boxed however many cases are added.
+ */
+public class CaseStatistics {
+
+    private final DateBucket dateBucket;
+
+    private int caseCount = 0;
+    private int openCount = 0;
+
+    private final int[] countByType = new int[CaseType.values().length];
+    private final int[] openCountByType = new int[CaseType.values().length];
+    private final int[] countByCategory = new int[CaseCategory.values().length];
+    private final int[] openCountByCategory = new int[CaseCategory.values().length];
+
+    /** The number of cases and of open cases in each date bucket, keyed by the first day of the bucket. */
+    private final TreeMap<LocalDate, int[]> countsByDate = new TreeMap<>();
+
+    /** The total financial value or monetary damage of the cases of each category that have one. */
+    private final double[] amountByCategory = new double[CaseCategory.values().length];
+    private final int[] amountCountByCategory = new int[CaseCategory.values().length];
+
+    private long totalVictims = 0;
+    private long totalCasualties = 0;
+    private long totalExcessSpeed = 0;
+    private int speedingCount = 0;
+
+    /**
+     * Constructs empty statistics that group cases by date into the given periods.
+     *
+     * @param dateBucket the periods to group cases into by date
+     */
+    public CaseStatistics(DateBucket dateBucket) {
+        assert dateBucket != null : "dateBucket should not be null";
+        this.dateBucket = dateBucket;
+    }
+
+    /**
+     * Adds a case that is not deleted to the statistics.
+     * <p>
+     * The fields read to count the case are never deferred. Its numeric fields are read from
+     * {@link Case#getFullyLoadedView()}, so that computing statistics does not load every case for good.
+     *
+     * @param c the case to add
+     */
+    public void add(Case c) {
+        assert !c.isDeleted() : "Deleted cases should not be added to statistics";
+        caseCount++;
+        boolean isOpen = c.isOpen();
+        if (isOpen) {
+            openCount++;
+        }
+        if (c.getType() != null) {
+            countByType[c.getType().ordinal()]++;
+            openCountByType[c.getType().ordinal()] += isOpen ? 1 : 0;
+        }
+        if (c.getCategory() != null) {
+            countByCategory[c.getCategory().ordinal()]++;
+            openCountByCategory[c.getCategory().ordinal()] += isOpen ? 1 : 0;
+        }
+        if (c.getDate() != null) {
+            int[] counts = countsByDate.computeIfAbsent(dateBucket.getStart(c.getDate()), d -> new int[2]);
+            counts[0]++;
+            counts[1] += isOpen ? 1 : 0;
+        }
+        if (c instanceof FinancialCase || c instanceof PropertyCase || c instanceof ViolentCase
+                || c instanceof AccidentCase || c instanceof SpeedingCase) {
+            addNumericFields(c.getFullyLoadedView());
+        }
+    }
+
+    private void addNumericFields(Case c) {
+        if (c instanceof FinancialCase financialCase && financialCase.hasFinancialValue()) {
+            addAmount(c.getCategory(), financialCase.getFinancialValueAsDouble());
+        } else if (c instanceof PropertyCase propertyCase && propertyCase.hasMonetaryDamage()) {
+            addAmount(c.getCategory(), propertyCase.getMonetaryDamageAsDouble());
+        } else if (c instanceof ViolentCase violentCase && violentCase.hasNumberOfVictims()) {
+            totalVictims += violentCase.getNumberOfVictimsAsInt();
+        } else if (c instanceof AccidentCase accidentCase && accidentCase.hasNumberOfCasualties()) {
+            totalCasualties += accidentCase.getNumberOfCasualtiesAsInt();
+        } else if (c instanceof SpeedingCase speedingCase && speedingCase.hasSpeedLimit()
+                && speedingCase.hasExceededSpeed()) {
+            totalExcessSpeed += speedingCase.getExceededSpeedAsInt() - speedingCase.getSpeedLimitAsInt();
+            speedingCount++;
+        }
+    }
+
+    private void addAmount(CaseCategory category, double amount) {
+        amountByCategory[category.ordinal()] += amount;
+        amountCountByCategory[category.ordinal()]++;
+    }
+
+    public DateBucket getDateBucket() {
+        return dateBucket;
+    }
+
+    public int getCaseCount() {
+        return caseCount;
+    }
+
+    public int getOpenCount() {
+        return openCount;
+    }
+
+    public int getClosedCount() {
+        return caseCount - openCount;
+    }
+
+    public int getCount(CaseType type) {
+        return countByType[type.ordinal()];
+    }
+
+    public int getOpenCount(CaseType type) {
+        return openCountByType[type.ordinal()];
+    }
+
+    public int getCount(CaseCategory category) {
+        return countByCategory[category.ordinal()];
+    }
+
+    public int getOpenCount(CaseCategory category) {
+        return openCountByCategory[category.ordinal()];
+    }
+
+    /**
+     * Returns the first day of every date bucket that holds at least one case, in date order.
+     *
+     * @return a read-only view of the start dates of the buckets
+     */
+    public NavigableSet<LocalDate> getDateBucketStarts() {
+        return Collections.unmodifiableNavigableSet(countsByDate.navigableKeySet());
+    }
+
+    /**
+     * Returns the number of cases in the date bucket starting on {@code start}.
+     *
+     * @param start the first day of the bucket, as returned by {@link #getDateBucketStarts()}
+     * @return the number of cases in the bucket
+     */
+    public int getCountInBucket(LocalDate start) {
+        int[] counts = countsByDate.get(start);
+        return counts == null ? 0 : counts[0];
+    }
+
+    /**
+     * Returns the number of open cases in the date bucket starting on {@code start}.
+     *
+     * @param start the first day of the bucket, as returned by {@link #getDateBucketStarts()}
+     * @return the number of open cases in the bucket
+     */
+    public int getOpenCountInBucket(LocalDate start) {
+        int[] counts = countsByDate.get(start);
+        return counts == null ? 0 : counts[1];
+    }
+
+    /**
+     * Returns the total financial value, for a financial category, or monetary damage, for a property
+     * category, of the cases of {@code category} that have one.
+     *
+     * @param category the category to total
+     * @return the total amount, or zero if no case of the category has one
+     */
+    public double getTotalAmount(CaseCategory category) {
+        return amountByCategory[category.ordinal()];
+    }
+
+    /**
+     * Returns the number of cases of {@code category} counted in {@link #getTotalAmount(CaseCategory)}.
+     *
+     * @param category the category to count
+     * @return the number of cases with an amount
+     */
+    public int getAmountCount(CaseCategory category) {
+        return amountCountByCategory[category.ordinal()];
+    }
+
+    public long getTotalVictims() {
+        return totalVictims;
+    }
+
+    public long getTotalCasualties() {
+        return totalCasualties;
+    }
+
+    /**
+     * Returns the number of speeding cases with both a speed limit and an exceeded speed.
+     *
+     * @return the number of speeding cases counted in {@link #getAverageExcessSpeed()}
+     */
+    public int getSpeedingCount() {
+        return speedingCount;
+    }
+
+    /**
+     * Returns how far over the speed limit drivers were on average, over the speeding cases with both a
+     * speed limit and an exceeded speed.
+     *
+     * @return the average of the exceeded speed minus the speed limit, or {@code NaN} if there are no such cases
+     */
+    public double getAverageExcessSpeed() {
+        return speedingCount == 0 ? Double.NaN : (double) totalExcessSpeed / speedingCount;
+    }
+}
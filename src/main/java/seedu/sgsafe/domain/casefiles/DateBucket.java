@@ -0,0 +1,45 @@
+package seedu.sgsafe.domain.casefiles;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Specifies the periods that {@link CaseStatistics} groups cases into by their date.
+ */
+public enum DateBucket {
+    /** Groups cases by calendar month. */
+    MONTH(DateTimeFormatter.ofPattern("MMM yyyy", Locale.ENGLISH)),
+
+    /** Groups cases by calendar year. */
+    YEAR(DateTimeFormatter.ofPattern("yyyy", Locale.ENGLISH));
+
+    private final DateTimeFormatter labelFormatter;
+
+    DateBucket(DateTimeFormatter labelFormatter) {
+        this.labelFormatter = labelFormatter;
+    }
+
+    /**
+     * Returns the first day of the period that contains {@code date}, which identifies the period.
+     *
+     * @param date the date of a case
+     * @return the first day of its period
+     */
+    public LocalDate getStart(LocalDate date) {
+        return switch (this) {
+        case MONTH -> date.withDayOfMonth(1);
+        case YEAR -> date.withDayOfYear(1);
+        };
+    }
+
+    /**
+     * Returns the label shown for the period starting on {@code start}, such as {@code Oct 2025}.
+     *
+     * @param start the first day of the period
+     * @return the label of the period
+     */
+    public String getLabel(LocalDate start) {
+        return labelFormatter.format(start);
+    }
+}
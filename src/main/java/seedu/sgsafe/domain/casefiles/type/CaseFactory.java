@@ -0,0 +1,55 @@
+package seedu.sgsafe.domain.casefiles.type;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.financial.BurglaryCase;
+import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.property.ArsonCase;
+import seedu.sgsafe.domain.casefiles.type.property.VandalismCase;
+import seedu.sgsafe.domain.casefiles.type.sexual.RapeCase;
+import seedu.sgsafe.domain.casefiles.type.sexual.VoyeurismCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+import seedu.sgsafe.domain.casefiles.type.violent.AssaultCase;
+import seedu.sgsafe.domain.casefiles.type.violent.MurderCase;
+import seedu.sgsafe.domain.casefiles.type.violent.RobberyCase;
+
+import java.time.LocalDate;
+
+/**
+ * Creates cases of the subclass of {@link Case} that matches a {@link CaseCategory}, for the {@code add}
+ * command, for loading saved cases and for importing cases.
+ */
+public class CaseFactory {
+
+    /**
+     * Instantiates the subclass of {@link Case} that matches the given category.
+     *
+     * @param category the category of the case
+     * @param id       the hexadecimal ID of the case
+     * @param title    the title of the case
+     * @param date     the date of the case
+     * @param info     the information of the case
+     * @param victim   the victim of the case, or {@code null}
+     * @param officer  the officer of the case, or {@code null}
+     * @return the new case
+     */
+    public static Case createCase(CaseCategory category, String id, String title, LocalDate date,
+                                  String info, String victim, String officer) {
+        return switch (category) {
+        case BURGLARY -> new BurglaryCase(id, title, date, info, victim, officer);
+        case SCAM -> new ScamCase(id, title, date, info, victim, officer);
+        case THEFT -> new TheftCase(id, title, date, info, victim, officer);
+        case ARSON -> new ArsonCase(id, title, date, info, victim, officer);
+        case VANDALISM -> new VandalismCase(id, title, date, info, victim, officer);
+        case RAPE -> new RapeCase(id, title, date, info, victim, officer);
+        case VOYEURISM -> new VoyeurismCase(id, title, date, info, victim, officer);
+        case ACCIDENT -> new AccidentCase(id, title, date, info, victim, officer);
+        case SPEEDING -> new SpeedingCase(id, title, date, info, victim, officer);
+        case ASSAULT -> new AssaultCase(id, title, date, info, victim, officer);
+        case MURDER -> new MurderCase(id, title, date, info, victim, officer);
+        case ROBBERY -> new RobberyCase(id, title, date, info, victim, officer);
+        case OTHERS -> new OthersCase(id, title, date, info, victim, officer);
+        };
+    }
+}
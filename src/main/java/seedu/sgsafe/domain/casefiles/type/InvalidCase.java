@@ -15,8 +15,7 @@ public class InvalidCase extends Case {
         return true;
     }
 
-    @Override
-    public String toSaveString() {
+    public String getInvalidSaveString() {
         return this.invalidSaveString;
     }
 }
@@ -1,11 +1,12 @@
 package seedu.sgsafe.domain.casefiles.type;
 
 import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseEdit;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Represents a case that does not fall under any predefined category.
@@ -26,10 +27,10 @@ public class OthersCase extends Case {
     }
 
     public String getCustomCategory() {
+        loadDeferredFields();
         return customCategory;
     }
 
-
     @Override
     public String[] getReadCaseDisplay() {
         // Get base display lines from parent Case class
@@ -51,10 +52,10 @@ public class OthersCase extends Case {
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
-        if (newValues.containsKey("custom-category")) {
-            this.customCategory = (String) newValues.get("custom-category");
+    public void update(CaseEdit edit) {
+        super.update(edit);
+        if (edit.hasValue("custom-category")) {
+            this.customCategory = edit.getText("custom-category");
         }
     }
 
@@ -66,8 +67,15 @@ public class OthersCase extends Case {
     }
 
     @Override
-    public String toSaveString() {
-        return super.toSaveString()
-                + "|custom-category:" + (this.customCategory  == null ? "" : this.customCategory);
+    public void writeAdditionalSaveFields(BiConsumer<String, Object> writer) {
+        super.writeAdditionalSaveFields(writer);
+        writer.accept("custom-category", this.customCategory);
+    }
+
+    @Override
+    public List<String> getSearchableValues() {
+        List<String> searchableValues = super.getSearchableValues();
+        searchableValues.add(this.customCategory);
+        return searchableValues;
     }
 }
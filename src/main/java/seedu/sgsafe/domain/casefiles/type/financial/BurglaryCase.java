@@ -1,11 +1,12 @@
 package seedu.sgsafe.domain.casefiles.type.financial;
 
+import seedu.sgsafe.domain.casefiles.CaseEdit;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 import seedu.sgsafe.domain.casefiles.type.CaseCategory;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Represents a case involving a burglary.
@@ -21,6 +22,7 @@ public class BurglaryCase extends FinancialCase {
     }
 
     public String getLocation() {
+        loadDeferredFields();
         return location;
     }
 
@@ -43,10 +45,10 @@ public class BurglaryCase extends FinancialCase {
                 "financial-value", "location");
     }
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
-        if (newValues.containsKey("location")) {
-            this.location = (String) newValues.get("location");
+    public void update(CaseEdit edit) {
+        super.update(edit);
+        if (edit.hasValue("location")) {
+            this.location = edit.getText("location");
         }
     }
 
@@ -59,8 +61,15 @@ public class BurglaryCase extends FinancialCase {
     }
 
     @Override
-    public String toSaveString() {
-        return super.toSaveString()
-                + "|location:" + (this.location == null ? "" : this.location);
+    public void writeAdditionalSaveFields(BiConsumer<String, Object> writer) {
+        super.writeAdditionalSaveFields(writer);
+        writer.accept("location", this.location);
+    }
+
+    @Override
+    public List<String> getSearchableValues() {
+        List<String> searchableValues = super.getSearchableValues();
+        searchableValues.add(this.location);
+        return searchableValues;
     }
 }
@@ -1,12 +1,13 @@
 package seedu.sgsafe.domain.casefiles.type.financial;
 
 import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseEdit;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 import seedu.sgsafe.domain.casefiles.type.CaseType;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Represents a case under the Financial type.
@@ -15,8 +16,10 @@ import java.util.Map;
  * such as {@link BurglaryCase}, {@link ScamCase} and {@link TheftCase}.
  */
 public abstract class FinancialCase extends Case {
+    private static final int FINANCIAL_VALUE_BIT = 1;
+
     /** The estimated financial value lost by the victim. */
-    private Double financialValue;
+    private double financialValue;
 
     public FinancialCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
@@ -24,15 +27,36 @@ public abstract class FinancialCase extends Case {
     }
 
     public Double getFinancialValue() {
+        return hasFinancialValue() ? financialValue : null;
+    }
+
+    public boolean hasFinancialValue() {
+        loadDeferredFields();
+        return isNumericFieldSet(FINANCIAL_VALUE_BIT);
+    }
+
+    /**
+     * Returns the financial value without boxing it, or zero if it is not set.
+     *
+     * @return the financial value
+     */
+    public double getFinancialValueAsDouble() {
+        loadDeferredFields();
         return financialValue;
     }
 
+    public void setFinancialValue(double financialValue) {
+        loadDeferredFields();
+        this.financialValue = financialValue;
+        markNumericFieldSet(FINANCIAL_VALUE_BIT);
+    }
+
     //@@author shennontay
     @Override
     public String[] getReadCaseDisplay() {
         List<String> displayList = getBaseDisplayLines();
 
-        String formattedValue = (financialValue == null) ? "" : String.format("%.2f", financialValue);
+        String formattedValue = CaseFormatter.formatAmount(isNumericFieldSet(FINANCIAL_VALUE_BIT), financialValue);
         CaseFormatter.addWrappedFieldForRead(displayList, "Financial Value", formattedValue);
         CaseFormatter.addWrappedFieldForRead(displayList, "Info", getInfo());
 
@@ -46,10 +70,10 @@ public abstract class FinancialCase extends Case {
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
-        if (newValues.containsKey("financial-value") && newValues.get("financial-value") != null) {
-            this.financialValue = (Double) newValues.get("financial-value");
+    public void update(CaseEdit edit) {
+        super.update(edit);
+        if (edit.hasDouble("financial-value")) {
+            setFinancialValue(edit.getDouble("financial-value"));
         }
     }
 
@@ -62,9 +86,8 @@ public abstract class FinancialCase extends Case {
     }
 
     @Override
-    public String toSaveString() {
-        return super.toSaveString()
-                + "|financial-value:"
-                + (this.financialValue == null ? "" : String.format("%.2f", this.financialValue));
+    public void writeAdditionalSaveFields(BiConsumer<String, Object> writer) {
+        super.writeAdditionalSaveFields(writer);
+        writer.accept("financial-value", isNumericFieldSet(FINANCIAL_VALUE_BIT) ? this.financialValue : null);
     }
 }
@@ -1,9 +1,10 @@
 package seedu.sgsafe.domain.casefiles.type.financial;
 
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
 import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.CaseEdit;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 
 import java.time.LocalDate;
@@ -22,6 +23,7 @@ public class TheftCase extends FinancialCase {
     }
 
     public String getStolenObject () {
+        loadDeferredFields();
         return stolenObject;
     }
 
@@ -45,10 +47,10 @@ public class TheftCase extends FinancialCase {
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
-        if (newValues.containsKey("stolen-object")) {
-            this.stolenObject = (String) newValues.get("stolen-object");
+    public void update(CaseEdit edit) {
+        super.update(edit);
+        if (edit.hasValue("stolen-object")) {
+            this.stolenObject = edit.getText("stolen-object");
         }
     }
 
@@ -61,8 +63,15 @@ public class TheftCase extends FinancialCase {
     }
 
     @Override
-    public String toSaveString() {
-        return super.toSaveString()
-                + "|stolen-object:" + (this.stolenObject == null ? "" : this.stolenObject);
+    public void writeAdditionalSaveFields(BiConsumer<String, Object> writer) {
+        super.writeAdditionalSaveFields(writer);
+        writer.accept("stolen-object", this.stolenObject);
+    }
+
+    @Override
+    public List<String> getSearchableValues() {
+        List<String> searchableValues = super.getSearchableValues();
+        searchableValues.add(this.stolenObject);
+        return searchableValues;
     }
 }
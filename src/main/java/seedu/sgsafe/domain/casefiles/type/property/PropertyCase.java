@@ -1,12 +1,13 @@
 package seedu.sgsafe.domain.casefiles.type.property;
 
 import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseEdit;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 import seedu.sgsafe.domain.casefiles.type.CaseType;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Represents a case under the Financial type.
@@ -15,11 +16,13 @@ import java.util.Map;
  * such as {@link ArsonCase} and {@link VandalismCase}.
  */
 public abstract class PropertyCase extends Case {
+    private static final int MONETARY_DAMAGE_BIT = 1;
+
     /** The location where the property-related case occurred. */
     private String location;
 
     /** The estimated monetary damage caused by the incident. */
-    private Double monetaryDamage;
+    private double monetaryDamage;
 
     public PropertyCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
@@ -27,19 +30,42 @@ public abstract class PropertyCase extends Case {
     }
 
     public String getLocation() {
+        loadDeferredFields();
         return location;
     }
 
     public Double getMonetaryDamage() {
+        return hasMonetaryDamage() ? monetaryDamage : null;
+    }
+
+    public boolean hasMonetaryDamage() {
+        loadDeferredFields();
+        return isNumericFieldSet(MONETARY_DAMAGE_BIT);
+    }
+
+    /**
+     * Returns the monetary damage without boxing it, or zero if it is not set.
+     *
+     * @return the monetary damage
+     */
+    public double getMonetaryDamageAsDouble() {
+        loadDeferredFields();
         return monetaryDamage;
     }
 
+    public void setMonetaryDamage(double monetaryDamage) {
+        loadDeferredFields();
+        this.monetaryDamage = monetaryDamage;
+        markNumericFieldSet(MONETARY_DAMAGE_BIT);
+    }
+
     //@@author shennontay
     @Override
     public String[] getReadCaseDisplay() {
         List<String> displayList = getBaseDisplayLines();
 
-        String formattedMonetaryDamage = (monetaryDamage == null) ? "" : String.format("%.2f", monetaryDamage);
+        String formattedMonetaryDamage =
+                CaseFormatter.formatAmount(isNumericFieldSet(MONETARY_DAMAGE_BIT), monetaryDamage);
 
         CaseFormatter.addWrappedFieldForRead(displayList, "Location", this.location);
         CaseFormatter.addWrappedFieldForRead(displayList, "Monetary Damage", formattedMonetaryDamage);
@@ -55,13 +81,13 @@ public abstract class PropertyCase extends Case {
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
-        if (newValues.containsKey("location")) {
-            this.location = (String) newValues.get("location");
+    public void update(CaseEdit edit) {
+        super.update(edit);
+        if (edit.hasValue("location")) {
+            this.location = edit.getText("location");
         }
-        if (newValues.containsKey("monetary-damage") && newValues.get("monetary-damage") != null) {
-            this.monetaryDamage = (Double) newValues.get("monetary-damage");
+        if (edit.hasDouble("monetary-damage")) {
+            setMonetaryDamage(edit.getDouble("monetary-damage"));
         }
     }
 
@@ -75,9 +101,17 @@ public abstract class PropertyCase extends Case {
     }
 
     @Override
-    public String toSaveString() {
-        return super.toSaveString()
-                + "|location:" + (this.location == null ? "" : this.location)
-                + "|monetary-damage:" + (this.monetaryDamage == null ? "" : this.monetaryDamage);
+    public void writeAdditionalSaveFields(BiConsumer<String, Object> writer) {
+        super.writeAdditionalSaveFields(writer);
+        writer.accept("location", this.location);
+        writer.accept("monetary-damage",
+                isNumericFieldSet(MONETARY_DAMAGE_BIT) ? this.monetaryDamage : null);
+    }
+
+    @Override
+    public List<String> getSearchableValues() {
+        List<String> searchableValues = super.getSearchableValues();
+        searchableValues.add(this.location);
+        return searchableValues;
     }
 }
@@ -1,18 +1,21 @@
 package seedu.sgsafe.domain.casefiles.type.traffic;
 
+import seedu.sgsafe.domain.casefiles.CaseEdit;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 import seedu.sgsafe.domain.casefiles.type.CaseCategory;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Represents a case involving a traffic accident.
  */
 public class AccidentCase extends TrafficCase{
+    private static final int NUMBER_OF_CASUALTIES_BIT = 1;
+
     /** The number of people killed or injured by the traffic accident. */
-    private Integer numberOfCasualties;
+    private int numberOfCasualties;
 
     public AccidentCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
@@ -21,9 +24,30 @@ public class AccidentCase extends TrafficCase{
     }
 
     public Integer getNumberOfCasualties() {
+        return hasNumberOfCasualties() ? numberOfCasualties : null;
+    }
+
+    public boolean hasNumberOfCasualties() {
+        loadDeferredFields();
+        return isNumericFieldSet(NUMBER_OF_CASUALTIES_BIT);
+    }
+
+    /**
+     * Returns the number of casualties without boxing it, or zero if it is not set.
+     *
+     * @return the number of casualties
+     */
+    public int getNumberOfCasualtiesAsInt() {
+        loadDeferredFields();
         return numberOfCasualties;
     }
 
+    public void setNumberOfCasualties(int numberOfCasualties) {
+        loadDeferredFields();
+        this.numberOfCasualties = numberOfCasualties;
+        markNumericFieldSet(NUMBER_OF_CASUALTIES_BIT);
+    }
+
     //@@author shennontay
     @Override
     public String[] getReadCaseDisplay() {
@@ -33,7 +57,8 @@ public class AccidentCase extends TrafficCase{
         CaseFormatter.addWrappedFieldForRead(displayList, "Vehicle Plate", this.getVehiclePlate());
         CaseFormatter.addWrappedFieldForRead(displayList, "Road Name", this.getRoadName());
         CaseFormatter.addWrappedFieldForRead(displayList,
-                "Number of Casualties", CaseFormatter.safeString(this.numberOfCasualties));
+                "Number of Casualties",
+                CaseFormatter.formatCount(isNumericFieldSet(NUMBER_OF_CASUALTIES_BIT), this.numberOfCasualties));
 
         CaseFormatter.addWrappedFieldForRead(displayList, "Info", getInfo());
 
@@ -48,10 +73,10 @@ public class AccidentCase extends TrafficCase{
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
-        if (newValues.containsKey("number-of-casualties") && newValues.get("number-of-casualties") != null) {
-            this.numberOfCasualties= (Integer) newValues.get("number-of-casualties");
+    public void update(CaseEdit edit) {
+        super.update(edit);
+        if (edit.hasInt("number-of-casualties")) {
+            setNumberOfCasualties(edit.getInt("number-of-casualties"));
         }
     }
 
@@ -64,8 +89,9 @@ public class AccidentCase extends TrafficCase{
     }
 
     @Override
-    public String toSaveString() {
-        return super.toSaveString()
-                + "|number-of-casualties:" + (this.numberOfCasualties == null ? "" : this.numberOfCasualties);
+    public void writeAdditionalSaveFields(BiConsumer<String, Object> writer) {
+        super.writeAdditionalSaveFields(writer);
+        writer.accept("number-of-casualties",
+                isNumericFieldSet(NUMBER_OF_CASUALTIES_BIT) ? this.numberOfCasualties : null);
     }
 }
@@ -1,9 +1,10 @@
 package seedu.sgsafe.domain.casefiles.type.traffic;
 
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
 import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.CaseEdit;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 
 import java.time.LocalDate;
@@ -12,11 +13,14 @@ import java.time.LocalDate;
  * Represents a case involving speeding offences.
  */
 public class SpeedingCase extends TrafficCase {
+    private static final int SPEED_LIMIT_BIT = 1;
+    private static final int EXCEEDED_SPEED_BIT = 1 << 1;
+
     /** The speed limit of the road */
-    private Integer speedLimit;
+    private int speedLimit;
 
     /** The actual speed the driver was driving at. */
-    private Integer exceededSpeed;
+    private int exceededSpeed;
 
     public SpeedingCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
@@ -25,13 +29,55 @@ public class SpeedingCase extends TrafficCase {
     }
 
     public Integer getSpeedLimit() {
-        return speedLimit;
+        return hasSpeedLimit() ? speedLimit : null;
     }
 
     public Integer getExceededSpeed() {
+        return hasExceededSpeed() ? exceededSpeed : null;
+    }
+
+    public boolean hasSpeedLimit() {
+        loadDeferredFields();
+        return isNumericFieldSet(SPEED_LIMIT_BIT);
+    }
+
+    public boolean hasExceededSpeed() {
+        loadDeferredFields();
+        return isNumericFieldSet(EXCEEDED_SPEED_BIT);
+    }
+
+    /**
+     * Returns the speed limit without boxing it, or zero if it is not set.
+     *
+     * @return the speed limit
+     */
+    public int getSpeedLimitAsInt() {
+        loadDeferredFields();
+        return speedLimit;
+    }
+
+    /**
+     * Returns the speed the driver was driving at without boxing it, or zero if it is not set.
+     *
+     * @return the exceeded speed
+     */
+    public int getExceededSpeedAsInt() {
+        loadDeferredFields();
         return exceededSpeed;
     }
 
+    public void setSpeedLimit(int speedLimit) {
+        loadDeferredFields();
+        this.speedLimit = speedLimit;
+        markNumericFieldSet(SPEED_LIMIT_BIT);
+    }
+
+    public void setExceededSpeed(int exceededSpeed) {
+        loadDeferredFields();
+        this.exceededSpeed = exceededSpeed;
+        markNumericFieldSet(EXCEEDED_SPEED_BIT);
+    }
+
     //@@author shennontay
     @Override
     public String[] getReadCaseDisplay() {
@@ -40,9 +86,10 @@ public class SpeedingCase extends TrafficCase {
         CaseFormatter.addWrappedFieldForRead(displayList, "Vehicle Type", this.getVehicleType());
         CaseFormatter.addWrappedFieldForRead(displayList, "Vehicle Plate", this.getVehiclePlate());
         CaseFormatter.addWrappedFieldForRead(displayList, "Road Name", this.getRoadName());
-        CaseFormatter.addWrappedFieldForRead(displayList, "Speed Limit", CaseFormatter.safeString(this.speedLimit));
+        CaseFormatter.addWrappedFieldForRead(displayList, "Speed Limit",
+                CaseFormatter.formatCount(isNumericFieldSet(SPEED_LIMIT_BIT), this.speedLimit));
         CaseFormatter.addWrappedFieldForRead(displayList, "Exceeded Speed",
-                CaseFormatter.safeString(this.exceededSpeed));
+                CaseFormatter.formatCount(isNumericFieldSet(EXCEEDED_SPEED_BIT), this.exceededSpeed));
 
         CaseFormatter.addWrappedFieldForRead(displayList, "Info", getInfo());
 
@@ -58,13 +105,13 @@ public class SpeedingCase extends TrafficCase {
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
-        if (newValues.containsKey("speed-limit") && newValues.get("speed-limit") != null) {
-            this.speedLimit = (Integer) newValues.get("speed-limit");
+    public void update(CaseEdit edit) {
+        super.update(edit);
+        if (edit.hasInt("speed-limit")) {
+            setSpeedLimit(edit.getInt("speed-limit"));
         }
-        if (newValues.containsKey("exceeded-speed") && newValues.get("exceeded-speed") != null) {
-            this.exceededSpeed = (Integer) newValues.get("exceeded-speed");
+        if (edit.hasInt("exceeded-speed")) {
+            setExceededSpeed(edit.getInt("exceeded-speed"));
         }
     }
 
@@ -77,9 +124,10 @@ public class SpeedingCase extends TrafficCase {
     }
 
     @Override
-    public String toSaveString() {
-        return super.toSaveString()
-                + "|speed-limit:" + (this.speedLimit == null ? "" : this.speedLimit)
-                + "|exceeded-speed:" + (this.exceededSpeed == null ? "" : this.exceededSpeed);
+    public void writeAdditionalSaveFields(BiConsumer<String, Object> writer) {
+        super.writeAdditionalSaveFields(writer);
+        writer.accept("speed-limit", isNumericFieldSet(SPEED_LIMIT_BIT) ? this.speedLimit : null);
+        writer.accept("exceeded-speed",
+                isNumericFieldSet(EXCEEDED_SPEED_BIT) ? this.exceededSpeed : null);
     }
 }
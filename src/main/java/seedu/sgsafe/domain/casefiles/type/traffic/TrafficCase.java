@@ -1,10 +1,11 @@
 package seedu.sgsafe.domain.casefiles.type.traffic;
 
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
 import seedu.sgsafe.domain.casefiles.Case;
 import seedu.sgsafe.domain.casefiles.type.CaseType;
+import seedu.sgsafe.domain.casefiles.CaseEdit;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 
 import java.time.LocalDate;
@@ -31,14 +32,17 @@ public abstract class TrafficCase extends Case {
     }
 
     public String getVehicleType() {
+        loadDeferredFields();
         return vehicleType;
     }
 
     public String getVehiclePlate() {
+        loadDeferredFields();
         return vehiclePlate;
     }
 
     public String getRoadName() {
+        loadDeferredFields();
         return roadName;
     }
 
@@ -67,16 +71,16 @@ public abstract class TrafficCase extends Case {
     }
     
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
-        if (newValues.containsKey("vehicle-type")) {
-            this.vehicleType = (String) newValues.get("vehicle-type");
+    public void update(CaseEdit edit) {
+        super.update(edit);
+        if (edit.hasValue("vehicle-type")) {
+            this.vehicleType = edit.getText("vehicle-type");
         }
-        if (newValues.containsKey("vehicle-plate")) {
-            this.vehiclePlate = (String) newValues.get("vehicle-plate");
+        if (edit.hasValue("vehicle-plate")) {
+            this.vehiclePlate = edit.getText("vehicle-plate");
         }
-        if (newValues.containsKey("road-name")) {
-            this.roadName = (String) newValues.get("road-name");
+        if (edit.hasValue("road-name")) {
+            this.roadName = edit.getText("road-name");
         }
     }
 
@@ -90,10 +94,19 @@ public abstract class TrafficCase extends Case {
     }
 
     @Override
-    public String toSaveString() {
-        return super.toSaveString()
-                + "|vehicle-type:" + (this.vehicleType  == null ? "" : this.vehicleType)
-                + "|vehicle-plate:" + (this.vehiclePlate == null ? "" : this.vehiclePlate)
-                + "|road-name:" + (this.roadName == null ? "" : this.roadName);
+    public void writeAdditionalSaveFields(BiConsumer<String, Object> writer) {
+        super.writeAdditionalSaveFields(writer);
+        writer.accept("vehicle-type", this.vehicleType);
+        writer.accept("vehicle-plate", this.vehiclePlate);
+        writer.accept("road-name", this.roadName);
+    }
+
+    @Override
+    public List<String> getSearchableValues() {
+        List<String> searchableValues = super.getSearchableValues();
+        searchableValues.add(this.vehicleType);
+        searchableValues.add(this.vehiclePlate);
+        searchableValues.add(this.roadName);
+        return searchableValues;
     }
 }
@@ -1,12 +1,13 @@
 package seedu.sgsafe.domain.casefiles.type.violent;
 
 import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseEdit;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 import seedu.sgsafe.domain.casefiles.type.CaseType;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Represents a case under the Financial type.
@@ -15,11 +16,13 @@ import java.util.Map;
  * such as {@link AssaultCase}, {@link MurderCase} and {@link RobberyCase}.
  */
 public abstract class ViolentCase extends Case {
+    private static final int NUMBER_OF_VICTIMS_BIT = 1;
+
     /** The weapon used by the suspect or culprit. */
     private String weapon;
 
     /** The number of victims affected. */
-    private Integer numberOfVictims;
+    private int numberOfVictims;
 
     public ViolentCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
@@ -28,20 +31,46 @@ public abstract class ViolentCase extends Case {
 
     //@@author shennontay
     public String getWeapon() {
+        loadDeferredFields();
         return weapon;
     }
 
     public Integer getNumberOfVictims() {
+        return hasNumberOfVictims() ? numberOfVictims : null;
+    }
+
+    //@@author
+
+    public boolean hasNumberOfVictims() {
+        loadDeferredFields();
+        return isNumericFieldSet(NUMBER_OF_VICTIMS_BIT);
+    }
+
+    /**
+     * Returns the number of victims without boxing it, or zero if it is not set.
+     *
+     * @return the number of victims
+     */
+    public int getNumberOfVictimsAsInt() {
+        loadDeferredFields();
         return numberOfVictims;
     }
 
+    public void setNumberOfVictims(int numberOfVictims) {
+        loadDeferredFields();
+        this.numberOfVictims = numberOfVictims;
+        markNumericFieldSet(NUMBER_OF_VICTIMS_BIT);
+    }
+
+    //@@author shennontay
     @Override
     public String[] getReadCaseDisplay() {
         List<String> displayList = getBaseDisplayLines();
 
         CaseFormatter.addWrappedFieldForRead(displayList, "Weapon", this.weapon);
         CaseFormatter.addWrappedFieldForRead(
-                displayList, "Number of Victims", CaseFormatter.safeString(this.numberOfVictims));
+                displayList, "Number of Victims",
+                CaseFormatter.formatCount(isNumericFieldSet(NUMBER_OF_VICTIMS_BIT), this.numberOfVictims));
 
         CaseFormatter.addWrappedFieldForRead(displayList, "Info", getInfo());
 
@@ -54,13 +83,13 @@ public abstract class ViolentCase extends Case {
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
-        if (newValues.containsKey("weapon")) {
-            this.weapon = (String) newValues.get("weapon");
+    public void update(CaseEdit edit) {
+        super.update(edit);
+        if (edit.hasValue("weapon")) {
+            this.weapon = edit.getText("weapon");
         }
-        if (newValues.containsKey("number-of-victims") && newValues.get("number-of-victims") != null) {
-            this.numberOfVictims = (Integer) newValues.get("number-of-victims");
+        if (edit.hasInt("number-of-victims")) {
+            setNumberOfVictims(edit.getInt("number-of-victims"));
         }
     }
 
@@ -74,9 +103,17 @@ public abstract class ViolentCase extends Case {
     }
 
     @Override
-    public String toSaveString() {
-        return super.toSaveString()
-                + "|number-of-victims:" + (this.numberOfVictims  == null ? "" : this.numberOfVictims)
-                + "|weapon:" + (this.weapon == null ? "" : this.weapon);
+    public void writeAdditionalSaveFields(BiConsumer<String, Object> writer) {
+        super.writeAdditionalSaveFields(writer);
+        writer.accept("number-of-victims",
+                isNumericFieldSet(NUMBER_OF_VICTIMS_BIT) ? this.numberOfVictims : null);
+        writer.accept("weapon", this.weapon);
+    }
+
+    @Override
+    public List<String> getSearchableValues() {
+        List<String> searchableValues = super.getSearchableValues();
+        searchableValues.add(this.weapon);
+        return searchableValues;
     }
 }
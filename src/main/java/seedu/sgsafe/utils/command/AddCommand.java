@@ -1,25 +1,15 @@
 package seedu.sgsafe.utils.command;
 
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
-import seedu.sgsafe.domain.casefiles.type.financial.BurglaryCase;
-import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
-import seedu.sgsafe.domain.casefiles.type.property.ArsonCase;
-import seedu.sgsafe.domain.casefiles.type.property.VandalismCase;
-import seedu.sgsafe.domain.casefiles.type.sexual.RapeCase;
-import seedu.sgsafe.domain.casefiles.type.sexual.VoyeurismCase;
-import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
-import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
-import seedu.sgsafe.domain.casefiles.type.violent.AssaultCase;
-import seedu.sgsafe.domain.casefiles.type.violent.MurderCase;
-import seedu.sgsafe.domain.casefiles.type.OthersCase;
-import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
-import seedu.sgsafe.domain.casefiles.type.violent.RobberyCase;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseFactory;
 import seedu.sgsafe.utils.exceptions.InvalidCategoryException;
 import seedu.sgsafe.domain.casefiles.Case;
 import seedu.sgsafe.domain.casefiles.CaseManager;
 import seedu.sgsafe.utils.ui.Display;
 
 import java.time.LocalDate;
+import java.util.Locale;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -96,41 +86,43 @@ public class AddCommand extends Command {
         return caseOfficer;
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     // @@author zhengjie2002
 
     /**
      * Executes the AddCommand, creating a new case based on the provided details.
-     * Each case type is instantiated according to the specified category.
-     * The case is added to the CaseManager, and a confirmation message is displayed.
+     * The case is created and added to the CaseManager in one step, so that it is given an ID no other
+     * case has, and a confirmation message is displayed.
      *
      * @throws InvalidCategoryException if the case category is invalid.
      */
     @Override
     public void execute() {
-        String id = CaseManager.generateHexId();
-        Case newCase;
-
-        switch (caseCategory) {
-        case "scam" -> newCase = new ScamCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "theft" -> newCase = new TheftCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "burglary" -> newCase = new BurglaryCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "arson" -> newCase = new ArsonCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "vandalism" -> newCase = new VandalismCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "rape" -> newCase = new RapeCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "voyeurism" -> newCase = new VoyeurismCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "speeding" -> newCase = new SpeedingCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "accident" -> newCase = new AccidentCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "assault" -> newCase = new AssaultCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "murder" -> newCase = new MurderCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "robbery" -> newCase = new RobberyCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "others" -> newCase = new OthersCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        default -> throw new InvalidCategoryException();
-        }
-
-        CaseManager.addCase(newCase);
+        Case newCase = CaseManager.addNewCase(this::createCase);
         Display.printMessage("New case added:", generateListTableHeaderMessage(), newCase.getDisplayLine());
     }
 
+    /**
+     * Instantiates the case type matching the specified category with the given ID.
+     *
+     * @param id the hexadecimal ID of the new case
+     * @return the new case
+     * @throws InvalidCategoryException if the case category is invalid.
+     */
+    private Case createCase(String id) {
+        CaseCategory category;
+        try {
+            category = CaseCategory.valueOf(caseCategory.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCategoryException();
+        }
+        return CaseFactory.createCase(category, id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
+    }
+
     private String generateListTableHeaderMessage() {
         return String.format(CaseFormatter.SUMMARY_FORMAT_STRING, "STATUS", "CATEGORY", "ID", "DATE", "TITLE");
     }
@@ -16,6 +16,7 @@ public class ByeCommand extends Command {
     public void execute() {
         logger.info("Executing ByeCommand: Exiting application.");
         Display.printGoodbyeMessage();
+        Display.flush();
         System.exit(0);
     }
 }
@@ -1,5 +1,7 @@
 package seedu.sgsafe.utils.command;
 
+import seedu.sgsafe.domain.casefiles.CaseQuery;
+
 /**
  * Specifies the mode for listing case files in the SGSafe system.
  * Determines whether the command should list open cases, closed cases, or all cases.
@@ -12,5 +14,18 @@ public enum CaseListingMode {
     OPEN_ONLY,
 
     /** List only closed cases. */
-    CLOSED_ONLY
+    CLOSED_ONLY;
+
+    /**
+     * Returns the query that selects the cases listed in this mode.
+     *
+     * @return a {@link CaseQuery} filtering by the status of this mode
+     */
+    public CaseQuery toQuery() {
+        return switch (this) {
+        case OPEN_ONLY -> CaseQuery.all().withOpen(true);
+        case CLOSED_ONLY -> CaseQuery.all().withOpen(false);
+        case DEFAULT -> CaseQuery.all();
+        };
+    }
 }
@@ -27,12 +27,18 @@ public class CloseCommand extends Command {
         logger.log(Level.INFO, "CloseCommand created");
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public void execute() {
         try {
             String displayLine = CaseManager.closeCase(caseId);
             Display.printMessage("Case closed:", displayLine);
         } catch (CaseNotFoundException e) {
+            markFailed();
             Display.printMessage(e.getErrorMessage());
         }
     }
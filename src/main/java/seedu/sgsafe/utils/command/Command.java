@@ -3,6 +3,9 @@ package seedu.sgsafe.utils.command;
 public abstract class Command {
     protected CommandType commandType;
 
+    // Whether the last execution was rejected after its reason was shown to the user
+    private boolean hasFailed = false;
+
     public CommandType getCommandType() {
         return commandType;
     }
@@ -11,6 +14,44 @@ public abstract class Command {
         return null;
     }
 
+    /**
+     * Returns whether executing this command may change cases or settings.
+     * Commands that only read data keep the default, which lets the caller skip saving after them.
+     *
+     * @return {@code true} if the command may change persisted data; {@code false} otherwise
+     */
+    public boolean isMutating() {
+        return false;
+    }
+
+    /**
+     * Returns whether the changes made by this command should be persisted before its output is shown, so that
+     * messages shown while saving them appear together with it.
+     *
+     * @return {@code true} if the caller should wait for the save; {@code false} to let it run in the background
+     */
+    public boolean isSavedBeforeOutput() {
+        return false;
+    }
+
+    /**
+     * Returns whether the last execution of this command was rejected, for example because the case it refers to
+     * does not exist. The reason has already been shown to the user; invalid input is instead reported by throwing
+     * an {@link seedu.sgsafe.utils.exceptions.InvalidCommandException}.
+     *
+     * @return {@code true} if the command was rejected; {@code false} otherwise
+     */
+    public boolean hasFailed() {
+        return hasFailed;
+    }
+
+    /**
+     * Records that this execution of the command was rejected. Subclasses call this after showing the reason.
+     */
+    protected void markFailed() {
+        hasFailed = true;
+    }
+
     // Abstract method to be implemented by subclasses to execute the command
     public abstract void execute();
 }
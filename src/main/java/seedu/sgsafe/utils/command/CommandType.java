@@ -11,5 +11,9 @@ public enum CommandType {
     HELP,
     FIND,
     SETTING,
-    READ
+    READ,
+    IMPORT,
+    EXPORT,
+    COMPACT,
+    STATS
 }
@@ -0,0 +1,45 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.util.logging.Logger;
+
+/**
+ * Represents a command to remove deleted cases, and entries that could not be read from the save file,
+ * for good. They are otherwise kept so that every case keeps its place in the case list, which costs
+ * memory, save file space and start-up time. The remaining cases keep their IDs.
+ */
+public class CompactCommand extends Command {
+
+    private static final Logger logger = Logger.getLogger(CompactCommand.class.getName());
+
+    public CompactCommand() {
+        this.commandType = CommandType.COMPACT;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    /**
+     * Returns {@code true}, since the save that follows rewrites the save file and reports how much it reclaimed.
+     */
+    @Override
+    public boolean isSavedBeforeOutput() {
+        return true;
+    }
+
+    @Override
+    public void execute() {
+        int removedCount = CaseManager.removeDeletedCases();
+        logger.info("Removed " + removedCount + " deleted cases");
+        if (removedCount == 0) {
+            Display.printMessage("There are no deleted cases to remove.");
+            return;
+        }
+        Display.printMessage("Removed " + removedCount + " deleted or unreadable case(s) for good.",
+                CaseManager.getCaseListSize() + " case(s) remain, with their IDs unchanged.");
+    }
+}
@@ -29,12 +29,18 @@ public class DeleteCommand extends Command {
         return caseId;
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public void execute() {
         try {
             String caseToDelete = CaseManager.deleteCase(this.caseId);
             Display.printMessage("Case deleted:", generateListTableHeaderMessage(),  caseToDelete);
         } catch (CaseNotFoundException e) {
+            markFailed();
             Display.printMessage(e.getErrorMessage());
         }
     }
@@ -2,6 +2,7 @@ package seedu.sgsafe.utils.command;
 
 import java.util.Map;
 
+import seedu.sgsafe.domain.casefiles.CaseEdit;
 import seedu.sgsafe.domain.casefiles.CaseManager;
 import seedu.sgsafe.utils.exceptions.CaseNotFoundException;
 import seedu.sgsafe.utils.exceptions.InvalidEditFlagException;
@@ -16,26 +17,38 @@ public class EditCommand extends Command {
     // The case number of the case to edit
     private final String caseId;
 
-    // Map of new field values, where the key is the flag (e.g. "title", "date")
-    private final Map<String, Object> newFlagValues;
+    // New field values, keyed by the flag (e.g. "title", "date")
+    private final CaseEdit newFlagValues;
 
     // Constructor that sets the case number and new field values
-    public EditCommand(String caseId, Map<String, Object> newFlagValues) {
+    public EditCommand(String caseId, CaseEdit newFlagValues) {
         this.commandType = CommandType.EDIT;
         this.caseId = caseId;
         this.newFlagValues = newFlagValues;
     }
 
+    // Constructor that sets the case number and new field values already converted to their types
+    public EditCommand(String caseId, Map<String, Object> newFlagValues) {
+        this(caseId, CaseEdit.of(newFlagValues));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public void execute() {
         try {
             String displayLine = CaseManager.editCase(caseId, newFlagValues);
             Display.printMessage("Case edited:", displayLine);
         } catch (CaseNotFoundException e) {
+            markFailed();
             Display.printMessage(e.getErrorMessage());
         } catch (InvalidEditFlagException e) {
             assert e.getInvalidFlags() != null;
             assert !e.getInvalidFlags().isEmpty();
+            markFailed();
             Display.printMessage(e.getErrorMessage());
         }
     }
@@ -49,6 +49,7 @@ public class EditPromptCommand extends Command {
             );
             
         } catch (CaseNotFoundException e) {
+            markFailed();
             Display.printMessage(e.getErrorMessage());
         }
     }
@@ -0,0 +1,77 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.utils.storage.CaseExporter;
+import seedu.sgsafe.utils.storage.ExportFormat;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command to write cases to a CSV or JSON Lines file.
+ * <p>
+ * The cases are written by {@link CaseExporter}, which streams them to the file one at a time. Like
+ * {@link ListCommand}, the command can be limited to open or closed cases with a {@link CaseListingMode}.
+ */
+public class ExportCommand extends Command {
+
+    private static final Logger logger = Logger.getLogger(ExportCommand.class.getName());
+
+    /** Size of the buffer in front of the export file, in characters. */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private final ExportFormat format;
+    private final String filename;
+    private final CaseListingMode listingMode;
+
+    /**
+     * Constructs an {@code ExportCommand} that writes the cases selected by the listing mode to a file.
+     *
+     * @param format      the format to write the cases in
+     * @param filename    the path of the file to write; an existing file is replaced
+     * @param listingMode the mode used to select the cases to export
+     */
+    public ExportCommand(ExportFormat format, String filename, CaseListingMode listingMode) {
+        assert format != null && filename != null && listingMode != null;
+        this.commandType = CommandType.EXPORT;
+        this.format = format;
+        this.filename = filename;
+        this.listingMode = listingMode;
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public CaseListingMode getListingMode() {
+        return listingMode;
+    }
+
+    @Override
+    public void execute() {
+        CaseExporter exporter;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(Path.of(filename)),
+                StandardCharsets.UTF_8), WRITE_BUFFER_SIZE)) {
+            exporter = new CaseExporter(writer, format);
+            exporter.export(listingMode.toQuery());
+        } catch (IOException | InvalidPathException e) {
+            logger.log(Level.WARNING, "Failed to write export file " + filename, e);
+            markFailed();
+            Display.printMessage("Something went wrong while writing " + filename + ": " + e.getMessage());
+            return;
+        }
+        Display.printMessage("Exported " + exporter.getExportedCount() + " case(s) to " + filename + ".");
+    }
+}
@@ -4,9 +4,11 @@ import seedu.sgsafe.domain.casefiles.Case;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 import seedu.sgsafe.domain.casefiles.CaseManager;
 import seedu.sgsafe.utils.ui.Display;
+import seedu.sgsafe.utils.ui.Display.MessageWriter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 /**
@@ -19,6 +21,9 @@ public class FindCommand extends Command {
     /** The mode that determines which cases to include in the listing. */
     private final CaseListingMode listingMode;
 
+    /** The page of matching cases to display. */
+    private final Pagination pagination;
+
     /**
      * Constructs a FindCommand with the specified keyword and listing mode.
      *
@@ -26,22 +31,24 @@ public class FindCommand extends Command {
      * @param listingMode The mode that determines which cases to include in the listing.
      */
     public FindCommand(String keyword, CaseListingMode listingMode) {
-        this.keyword = keyword;
-        this.listingMode = listingMode;
+        this(keyword, listingMode, Pagination.none());
     }
 
     /**
-     * Generates a list of display lines for all cases in the provided list.
+     * Constructs a FindCommand that displays one page of the matching cases.
      *
-     * @param caseList The list of cases to generate display lines for.
-     * @return A list of strings representing the display lines of the cases.
+     * @param keyword     The keyword to search for in case records.
+     * @param listingMode The mode that determines which cases to include in the listing.
+     * @param pagination  The page of matching cases to display.
      */
-    private List<String> getAllCaseDisplayLines(ArrayList<Case> caseList) {
-        List<String> lines = new ArrayList<>();
-        for (Case c : caseList) {
-            lines.add(c.getDisplayLine());
-        }
-        return lines;
+    public FindCommand(String keyword, CaseListingMode listingMode, Pagination pagination) {
+        this.keyword = keyword;
+        this.listingMode = listingMode;
+        this.pagination = pagination;
+    }
+
+    public Pagination getPagination() {
+        return pagination;
     }
 
     /**
@@ -54,74 +61,50 @@ public class FindCommand extends Command {
     }
 
     /**
-     * Generates an array of case descriptions based on the provided case list.
+     * Generates the case descriptions for the provided case list, passing each line to {@code output}
+     * as soon as it is formatted. Only the cases on the requested page are formatted.
      *
      * @param caseList The list of cases to generate descriptions for.
-     * @return An array of strings representing the case descriptions.
+     * @param output   Receives the formatted lines in order.
      */
-    private String[] getCaseDescriptions(ArrayList<Case> caseList) {
+    private void writeCaseDescriptions(ArrayList<Case> caseList, Consumer<String> output) {
         int count = caseList.size();
-        List<String> outputLines = new ArrayList<>();
 
         if (count == 0) {
-            outputLines.add("No cases found matching the keyword.");
-            return outputLines.toArray(new String[0]);
+            output.accept("No cases found matching the keyword.");
+            return;
         }
 
-        outputLines.add("A total of " + count + " case(s) found matching the keyword: \"" + keyword + "\"");
-
-        outputLines.add("To view more details of a case, use the command: read CASE_ID");
-
-        outputLines.add(generateListTableHeaderMessage());
-
-        List<String> formattedCaseLines = getAllCaseDisplayLines(caseList);
-        outputLines.addAll(formattedCaseLines);
+        output.accept("A total of " + count + " case(s) found matching the keyword: \"" + keyword + "\"");
+        if (pagination.isPaginated()) {
+            output.accept(pagination.describe(count));
+        }
 
-        return outputLines.toArray(new String[0]);
-    }
+        output.accept("To view more details of a case, use the command: read CASE_ID");
 
-    /**
-     * Filters the provided list of cases based on their visibility and the listing mode.
-     *
-     * @param caseList The list of cases to filter.
-     * @return A filtered list of cases.
-     */
-    private ArrayList<Case> filterCases(ArrayList<Case> caseList) {
-        ArrayList<Case> filteredCases = new ArrayList<>();
-        for (Case c : caseList) {
-            if (isCaseVisible(c)) {
-                filteredCases.add(c);
-            }
+        List<Case> casesOnPage = pagination.apply(caseList);
+        if (casesOnPage.isEmpty()) {
+            return;
         }
-        return filteredCases;
-    }
 
-    /**
-     * Determines whether a case is visible based on its status and the listing mode.
-     *
-     * @param caseToCheck The case to check for visibility.
-     * @return True if the case is visible, false otherwise.
-     */
-    private Boolean isCaseVisible(Case caseToCheck) {
-        if (caseToCheck.isDeleted()) {
-            return false;
+        output.accept(generateListTableHeaderMessage());
+
+        for (Case c : casesOnPage) {
+            output.accept(c.getDisplayLine());
         }
-        return switch (this.listingMode) {
-        case OPEN_ONLY -> caseToCheck.isOpen();
-        case CLOSED_ONLY -> !caseToCheck.isOpen();
-        default -> true;
-        };
     }
 
     /**
      * Executes the FindCommand by searching for cases matching the keyword,
      * filtering them based on the listing mode, and displaying the results.
+     * The listing mode is applied through the secondary indexes of {@link CaseManager}, and each line is
+     * written out as soon as it is formatted.
      */
     @Override
     public void execute() {
-        ArrayList<Case> caseList = CaseManager.findCasesByKeyword(keyword);
-        ArrayList<Case> filteredCaseList = filterCases(caseList);
-        String[] caseDescriptions = getCaseDescriptions(filteredCaseList);
-        Display.printMessage(caseDescriptions);
+        ArrayList<Case> filteredCaseList = CaseManager.findCasesByKeyword(keyword, listingMode.toQuery());
+        try (MessageWriter writer = Display.startMessage()) {
+            writeCaseDescriptions(filteredCaseList, writer::writeLine);
+        }
     }
 }
@@ -49,12 +49,13 @@ public class HelpCommand extends Command {
                     "and output detail.\n" +
                     "\n" +
                     "\tUsage:\n" +
-                    "\t\tlist [--status open|closed] [--mode verbose]\n" +
+                    "\t\tlist [--status open|closed] [--mode verbose] [--page PAGE] [--limit LIMIT]\n" +
                     "\n" +
                     "\tExamples:\n" +
                     "\t\tlist\n" +
                     "\t\tlist --status closed\n" +
                     "\t\tlist --status open --mode verbose\n" +
+                    "\t\tlist --page 2 --limit 50\n" +
                     "\n" +
                     "\tFlags:\n" +
                     "\t\t--status value    Filters cases by their status.\n" +
@@ -64,6 +65,9 @@ public class HelpCommand extends Command {
                     "\t\t--mode value      Controls the output detail level.\n" +
                     "\t\t\tverbose → Detailed multi-line output\n" +
                     "\n" +
+                    "\t\t--page value      Shows only the given page of cases, counting from 1.\n" +
+                    "\t\t--limit value     Sets the number of cases per page (default 20).\n" +
+                    "\n" +
                     "\tDisplayed Fields (Default mode):\n" +
                     "\t\t• Status (Open/Closed)\n" +
                     "\t\t• Category\n" +
@@ -113,7 +117,7 @@ public class HelpCommand extends Command {
                     "\t\t• Additional category-specific fields (e.g., Weapon, Road name, Vehicle type, etc.)\n" +
                     "\n" +
                     "\tNotes:\n" +
-                    "\t\t• The case ID must be exactly 6 hexadecimal digits (e.g., 000001, 00beef).\n" +
+                    "\t\t• The case ID must be 6 to 8 hexadecimal digits (e.g., 000001, 00beef).\n" +
                     "\t\t• Use 'list' to check the case ID of the case to be read.\n" +
                     "\t___________________________________________________________________________________________" +
                     "_______________________________________\n" +
@@ -138,7 +142,7 @@ public class HelpCommand extends Command {
                     "\tNotes:\n" +
                     "\t\t• All flags must correspond to valid editable fields for that case type.\n" +
                     "\t\t• Invalid flags will cancel the update and display an error message.\n" +
-                    "\t\t• The case ID must be exactly 6 hexadecimal digits (e.g., 000001, 00beef).\n" +
+                    "\t\t• The case ID must be 6 to 8 hexadecimal digits (e.g., 000001, 00beef).\n" +
                     "\t\t• Use 'list' to check the case ID of the case to be edited.\n" +
                     "\t\t• Date format defaults to dd/MM/yyyy. You can change it using the 'setting' command.\n" +
                     "\t____________________________________________________________________________________________" +
@@ -156,7 +160,7 @@ public class HelpCommand extends Command {
                     "\t\tclose 000003\n" +
                     "\n" +
                     "\tNotes:\n" +
-                    "\t\t• The case ID must be exactly 6 hexadecimal digits (e.g., 000001, 00beef).\n" +
+                    "\t\t• The case ID must be 6 to 8 hexadecimal digits (e.g., 000001, 00beef).\n" +
                     "\t\t• Use 'list' to check the case ID of the case to be closed.\n" +
                     "\t___________________________________________________________________________________" +
                     "_______________________________________________\n" +
@@ -173,7 +177,7 @@ public class HelpCommand extends Command {
                     "\t\topen 000003\n" +
                     "\n" +
                     "\tNotes:\n" +
-                    "\t\t• The case ID must be exactly 6 hexadecimal digits (e.g., 000001, 00beef).\n" +
+                    "\t\t• The case ID must be 6 to 8 hexadecimal digits (e.g., 000001, 00beef).\n" +
                     "\t\t• Use 'list' to check the case ID of the case to be opened.\n" +
                     "\t___________________________________________________________________________________________" +
                     "_______________________________________\n" +
@@ -190,7 +194,7 @@ public class HelpCommand extends Command {
                     "\t\tdelete 00012a\n" +
                     "\n" +
                     "\tNotes:\n" +
-                    "\t\t• The case ID must be exactly 6 hexadecimal digits (e.g., 000001, 00beef).\n" +
+                    "\t\t• The case ID must be 6 to 8 hexadecimal digits (e.g., 000001, 00beef).\n" +
                     "\t\t• Use 'list' to check the case ID of the case to be deleted.\n" +
                     "\t____________________________________________________________________________________" +
                     "______________________________________________\n" +
@@ -220,11 +224,12 @@ public class HelpCommand extends Command {
                     "\t\tDisplays all cases whose titles match the keyword(s) provided.\n" +
                     "\n" +
                     "\tUsage:\n" +
-                    "\t\tfind --keyword KEYWORD [--status <open|closed>] \n" +
+                    "\t\tfind --keyword KEYWORD [--status <open|closed>] [--page PAGE] [--limit LIMIT]\n" +
                     "\n" +
                     "\tExamples:\n" +
                     "\t\tfind --keyword homicide \n" +
                     "\t\tfind --keyword murder at home --status open\n" +
+                    "\t\tfind --keyword knife --page 2 --limit 10\n" +
                     "\n" +
                     "\tNotes:\n" +
                     "\t\t• KEYWORD is a string literal that will be matched. However, it is case-insensitive.\n" +
@@ -233,6 +238,77 @@ public class HelpCommand extends Command {
                     "\t_______________________________________________________________________________________" +
                     "___________________________________________\n" +
                     "\n" +
+                    "\tIMPORT — Add cases from a CSV file\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tAdds one case for every row of a CSV file and reports the rows that could not be added.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\timport --file FILE\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\timport --file cases.csv\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• The first row names the columns, using the same names as the flags of 'add' and " +
+                            "'edit'.\n" +
+                    "\t\t• The category, title, date and info columns are required.\n" +
+                    "\t\t• Cases are given IDs in the order their rows appear in the file.\n" +
+                    "\t_______________________________________________________________________________________" +
+                    "___________________________________________\n" +
+                    "\n" +
+                    "\tEXPORT — Write cases to a CSV or JSON Lines file\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tWrites every case, or only open or closed cases, with all of their details to a file.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\texport --format csv|jsonl --file FILE [--status open|closed]\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\texport --format csv --file cases.csv\n" +
+                    "\t\texport --format jsonl --file open-cases.jsonl --status open\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• An existing file with the same name is replaced.\n" +
+                    "\t\t• A CSV file can be added back with 'import'; the cases are given new IDs.\n" +
+                    "\t_______________________________________________________________________________________" +
+                    "___________________________________________\n" +
+                    "\n" +
+                    "\tSTATS — Show figures about the cases\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tCounts the cases by type, category, status and month or year, and totals their financial\n" +
+                    "\t\tvalues, monetary damage, victims, casualties and speeds over the limit.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\tstats [--status open|closed] [--by month|year]\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\tstats\n" +
+                    "\t\tstats --status open --by year\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• Cases are grouped by month unless '--by year' is given.\n" +
+                    "\t\t• Deleted cases are not counted.\n" +
+                    "\t_______________________________________________________________________________________" +
+                    "___________________________________________\n" +
+                    "\n" +
+                    "\tCOMPACT — Remove deleted cases for good\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tRemoves deleted cases, and entries that could not be read from the save file, from memory\n" +
+                    "\t\tand from the save file, so that the application starts up faster.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\tcompact\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• The remaining cases keep their IDs, and the IDs of removed cases are never reused.\n" +
+                    "\t\t• This also happens automatically once deleted cases make up a large share of the cases.\n" +
+                    "\t_______________________________________________________________________________________" +
+                    "___________________________________________\n" +
+                    "\n" +
                     "\tHELP — Display this help menu\n" +
                     "\n" +
                     "\tDescription:\n" +
@@ -0,0 +1,92 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.utils.storage.CsvCaseImporter;
+import seedu.sgsafe.utils.ui.Display;
+import seedu.sgsafe.utils.ui.Display.MessageWriter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command to add cases in bulk from a CSV file.
+ * <p>
+ * The rows of the file are imported by {@link CsvCaseImporter}. When executed, this command reports how many
+ * cases were added and lists every rejected row with the reason it was rejected. Like any other command that
+ * changes cases, the new cases are saved once after the command.
+ */
+public class ImportCommand extends Command {
+
+    private static final Logger logger = Logger.getLogger(ImportCommand.class.getName());
+
+    private final String filename;
+
+    /**
+     * Constructs an {@code ImportCommand} for the given file.
+     *
+     * @param filename the path of the CSV file to import
+     */
+    public ImportCommand(String filename) {
+        assert filename != null;
+        this.commandType = CommandType.IMPORT;
+        this.filename = filename;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    /**
+     * Imports the file and reports the result. If the file stops being readable part-way through, the cases
+     * imported before that stay added, and the report says which line could not be read.
+     */
+    @Override
+    public void execute() {
+        CsvCaseImporter importer = null;
+        String readError = null;
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(filename))) {
+            importer = new CsvCaseImporter(reader);
+            importer.importCases();
+        } catch (NoSuchFileException e) {
+            markFailed();
+            Display.printMessage("The file " + filename + " does not exist.");
+            return;
+        } catch (IOException | InvalidPathException e) {
+            logger.log(Level.WARNING, "Failed to read import file " + filename, e);
+            markFailed();
+            if (importer == null) {
+                Display.printMessage("Something went wrong while reading " + filename + ": " + e.getMessage());
+                return;
+            }
+            readError = "Something went wrong while reading line " + (importer.getLineNumber() + 1) + " of "
+                    + filename + ": " + e.getMessage();
+        }
+
+        List<String> rejectedRows = importer.getRejectedRows();
+        if (!rejectedRows.isEmpty()) {
+            markFailed();
+        }
+        try (MessageWriter writer = Display.startMessage()) {
+            if (readError != null) {
+                writer.writeLine(readError);
+            }
+            writer.writeLine("Imported " + importer.getImportedCount() + " case(s) from " + filename
+                    + (readError == null ? "." : " before that line."));
+            if (!rejectedRows.isEmpty()) {
+                writer.writeLine(rejectedRows.size() + " row(s) were rejected:");
+                rejectedRows.forEach(writer::writeLine);
+            }
+        }
+    }
+}
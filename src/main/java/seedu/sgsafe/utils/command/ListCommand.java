@@ -1,13 +1,15 @@
 package seedu.sgsafe.utils.command;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import seedu.sgsafe.domain.casefiles.Case;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.CaseQuery;
 import seedu.sgsafe.utils.ui.Display;
+import seedu.sgsafe.utils.ui.Display.MessageWriter;
 
 /**
  * Represents a command that lists case files in the SGSafe system.
@@ -15,7 +17,8 @@ import seedu.sgsafe.utils.ui.Display;
  * This command supports multiple listing modes to filter cases:
  * {@link CaseListingMode#OPEN_ONLY}, {@link CaseListingMode#CLOSED_ONLY},
  * and {@link CaseListingMode#DEFAULT}.
- * It also supports verbose mode to display detailed case information.
+ * It also supports verbose mode to display detailed case information,
+ * and can show one page of the matching cases at a time.
  */
 public class ListCommand extends Command {
 
@@ -25,6 +28,9 @@ public class ListCommand extends Command {
     /** Whether to display cases in verbose (multi-line) format. */
     private final boolean isVerbose;
 
+    /** The page of matching cases to display. */
+    private final Pagination pagination;
+
     /**
      * Constructs a {@code ListCommand} with the specified listing mode and verbosity.
      *
@@ -32,9 +38,21 @@ public class ListCommand extends Command {
      * @param isVerbose   whether to display cases in verbose format
      */
     public ListCommand(CaseListingMode listingMode, boolean isVerbose) {
+        this(listingMode, isVerbose, Pagination.none());
+    }
+
+    /**
+     * Constructs a {@code ListCommand} that displays one page of the matching cases.
+     *
+     * @param listingMode the mode used to filter cases for display
+     * @param isVerbose   whether to display cases in verbose format
+     * @param pagination  the page of matching cases to display
+     */
+    public ListCommand(CaseListingMode listingMode, boolean isVerbose, Pagination pagination) {
         this.commandType = CommandType.LIST;
         this.listingMode = listingMode;
         this.isVerbose = isVerbose;
+        this.pagination = pagination;
     }
 
     /**
@@ -46,17 +64,21 @@ public class ListCommand extends Command {
         return this.listingMode;
     }
 
+    public Pagination getPagination() {
+        return this.pagination;
+    }
+
     /**
      * Executes the command by retrieving and displaying the filtered list of cases.
      * <p>
-     * The case list is obtained from {@link CaseManager#getCaseList()},
-     * formatted using {@link #getCaseDescriptions(ArrayList)}, and printed via {@link Display#printMessage(String[])}.
+     * The matching cases are selected by {@link CaseManager}, and each line is written to a
+     * {@link MessageWriter} as soon as it is formatted, so the listing is never held in memory as a whole.
      */
     @Override
     public void execute() {
-        ArrayList<Case> caseList = CaseManager.getCaseList();
-        String[] caseDescriptions = getCaseDescriptions(caseList);
-        Display.printMessage(caseDescriptions);
+        try (MessageWriter writer = Display.startMessage()) {
+            writeCaseDescriptions(writer::writeLine);
+        }
     }
 
     /**
@@ -75,36 +97,57 @@ public class ListCommand extends Command {
      *   </li>
      * </ul>
      *
-     * @param caseList the full list of cases to filter and format
      * @return an array of formatted strings representing the filtered and formatted case descriptions
      */
-    String[] getCaseDescriptions(ArrayList<Case> caseList) {
-        ArrayList<Case> matchingCases = filterCasesByMode(caseList);
-        int count = matchingCases.size();
+    String[] getCaseDescriptions() {
         List<String> outputLines = new ArrayList<>();
+        writeCaseDescriptions(outputLines::add);
+        return outputLines.toArray(new String[0]);
+    }
 
-        outputLines.add(generateCaseCountMessage(count));
-        if (!isVerbose && !matchingCases.isEmpty()) {
+    /**
+     * Formats the case descriptions described in {@link #getCaseDescriptions()}, passing each line to
+     * {@code output} as soon as it is formatted. Only the cases on the requested page are formatted, and
+     * without a page the cases are formatted as {@link CaseManager#forEachCase} visits them.
+     *
+     * @param output receives the formatted lines in order
+     */
+    void writeCaseDescriptions(Consumer<String> output) {
+        CaseQuery query = listingMode.toQuery();
+        int count = CaseManager.countCases(query);
+        List<Case> casesOnPage = pagination.isPaginated()
+                ? CaseManager.getCases(query, pagination.getOffset(), pagination.getLimit())
+                : null;
+        boolean hasCasesToShow = casesOnPage == null ? count > 0 : !casesOnPage.isEmpty();
+
+        output.accept(generateCaseCountMessage(count));
+        if (pagination.isPaginated() && count > 0) {
+            output.accept(pagination.describe(count));
+        }
+        if (!isVerbose && hasCasesToShow) {
             // Add explanatory message as separate lines with a divider
-            outputLines.add("---");
-            outputLines.add("Note: Only very basic case details are shown here.");
-            outputLines.add("For more in depth information about the case (e.g. Info, Victim, Officer)");
-            outputLines.add("run: list --mode verbose");
-            outputLines.add("---");
-            outputLines.add(generateListTableHeaderMessage());
-        } else if (isVerbose && !matchingCases.isEmpty()) {
+            output.accept("---");
+            output.accept("Note: Only very basic case details are shown here.");
+            output.accept("For more in depth information about the case (e.g. Info, Victim, Officer)");
+            output.accept("run: list --mode verbose");
+            output.accept("---");
+            output.accept(generateListTableHeaderMessage());
+        } else if (isVerbose && hasCasesToShow) {
             // Add explanatory message as separate lines with a divider
-            outputLines.add("---");
-            outputLines.add("Note: Only basic case details (e.g. Title) are shown here and is truncated if too long.");
-            outputLines.add("For full case information (e.g. case-specific details like murder weapon),");
-            outputLines.add("use the read command");
-            outputLines.add("To use the read command, run: read <caseID>");
-            outputLines.add("---");
+            output.accept("---");
+            output.accept("Note: Only basic case details (e.g. Title) are shown here and is truncated if too long.");
+            output.accept("For full case information (e.g. case-specific details like murder weapon),");
+            output.accept("use the read command");
+            output.accept("To use the read command, run: read <caseID>");
+            output.accept("---");
+        }
+        if (casesOnPage == null) {
+            CaseManager.forEachCase(query, currentCase -> writeCase(currentCase, output));
+        } else {
+            for (Case currentCase : casesOnPage) {
+                writeCase(currentCase, output);
+            }
         }
-        List<String> formattedCaseLines = formatCases(matchingCases);
-        outputLines.addAll(formattedCaseLines);
-
-        return outputLines.toArray(new String[0]);
     }
 
     /**
@@ -120,59 +163,22 @@ public class ListCommand extends Command {
     }
 
     /**
-     * Formats a list of cases based on the current verbosity setting.
+     * Formats a case based on the current verbosity setting.
      * <p>
-     * In verbose mode, each case is rendered using {@link Case#getMultiLineVerboseDisplay()},
-     * prefixed with a divider line. In summary mode, each case is rendered using {@link Case#getDisplayLine()}.
+     * In verbose mode, the case is rendered using {@link Case#getMultiLineVerboseDisplay()},
+     * prefixed with a divider line. In summary mode, the case is rendered using {@link Case#getDisplayLine()}.
      *
-     * @param cases the list of cases to format
-     * @return a list of formatted strings representing each case
+     * @param currentCase the case to format
+     * @param output      receives the formatted lines of the case in order
      */
-    private List<String> formatCases(List<Case> cases) {
-        List<String> lines = new ArrayList<>();
-
-        for (Case currentCase : cases) {
-            if (this.isVerbose) {
-                String[] currentLines = currentCase.getMultiLineVerboseDisplay();
-                lines.addAll(Arrays.asList(currentLines));
-            } else {
-                String currentLine = currentCase.getDisplayLine();
-                lines.add(currentLine);
+    private void writeCase(Case currentCase, Consumer<String> output) {
+        if (this.isVerbose) {
+            for (String currentLine : currentCase.getMultiLineVerboseDisplay()) {
+                output.accept(currentLine);
             }
+        } else {
+            output.accept(currentCase.getDisplayLine());
         }
-
-        return lines;
-    }
-
-    /**
-     * Filters the provided list of cases based on the current {@link CaseListingMode}.
-     *
-     * @param caseList the full list of cases to filter
-     * @return a new list containing only the cases that match the filter criteria
-     */
-    private ArrayList<Case> filterCasesByMode(ArrayList<Case> caseList) {
-        return new ArrayList<>(
-                caseList.stream()
-                        .filter(this::isCaseVisible)
-                        .toList()
-        );
-    }
-
-    /**
-     * Determines whether a given case should be included in the listing based on the current mode.
-     *
-     * @param caseRecord the case to evaluate
-     * @return {@code true} if the case matches the filter criteria; {@code false} otherwise
-     */
-    private boolean isCaseVisible(Case caseRecord) {
-        if (caseRecord.isDeleted()) {
-            return false;
-        }
-        return switch (this.listingMode) {
-        case OPEN_ONLY -> caseRecord.isOpen();
-        case CLOSED_ONLY -> !caseRecord.isOpen();
-        case DEFAULT -> true;
-        };
     }
 
     /**
@@ -26,12 +26,18 @@ public class OpenCommand extends Command {
         logger.log(Level.INFO, "OpenCommand created");
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public void execute() {
         try {
             String displayLine = CaseManager.openCase(caseId);
             Display.printMessage("Case reopened:", displayLine);
         } catch (CaseNotFoundException e) {
+            markFailed();
             Display.printMessage(e.getErrorMessage());
         }
     }
@@ -0,0 +1,104 @@
+package seedu.sgsafe.utils.command;
+
+import java.util.List;
+
+/**
+ * Represents the page of results that a listing command should display.
+ * <p>
+ * Results are split into pages of {@code limit} cases each, and pages are numbered from 1. A listing that
+ * is not paginated shows every result on a single page.
+ */
+public class Pagination {
+
+    /** Number of cases per page when a page is requested without a limit. */
+    public static final int DEFAULT_LIMIT = 20;
+
+    private static final Pagination NONE = new Pagination(1, Integer.MAX_VALUE, false);
+
+    /** The page to display, starting from 1. */
+    private final int page;
+
+    /** The maximum number of cases per page. */
+    private final int limit;
+
+    /** Whether the results are split into pages at all. */
+    private final boolean isPaginated;
+
+    private Pagination(int page, int limit, boolean isPaginated) {
+        assert page >= 1 : "page should be positive";
+        assert limit >= 1 : "limit should be positive";
+        this.page = page;
+        this.limit = limit;
+        this.isPaginated = isPaginated;
+    }
+
+    /**
+     * Constructs a {@code Pagination} showing the given page of results.
+     *
+     * @param page  the page to display, starting from 1
+     * @param limit the maximum number of cases per page
+     */
+    public Pagination(int page, int limit) {
+        this(page, limit, true);
+    }
+
+    /**
+     * Returns a {@code Pagination} that shows every result.
+     *
+     * @return the pagination of a listing without pages
+     */
+    public static Pagination none() {
+        return NONE;
+    }
+
+    public boolean isPaginated() {
+        return isPaginated;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of results before the first result on this page.
+     *
+     * @return the offset of this page, capped at {@link Integer#MAX_VALUE}
+     */
+    public int getOffset() {
+        return (int) Math.min((long) (page - 1) * limit, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the results on this page.
+     *
+     * @param results every result, in display order
+     * @param <T>     the type of the results
+     * @return a view of the results on this page, which may be empty
+     */
+    public <T> List<T> apply(List<T> results) {
+        int from = Math.min(getOffset(), results.size());
+        int to = (int) Math.min((long) from + limit, results.size());
+        return results.subList(from, to);
+    }
+
+    /**
+     * Describes which results are shown on this page, for display after the result count.
+     *
+     * @param total the total number of results, which must be positive
+     * @return a line such as {@code "Showing 21-40 of 95 (page 2 of 5)"}
+     */
+    public String describe(int total) {
+        assert total > 0 : "there should be results to describe";
+        int pageCount = (int) ((total + (long) limit - 1) / limit);
+        if (page > pageCount) {
+            return "There is nothing on page " + page + ". The last page is page " + pageCount + ".";
+        }
+        int first = getOffset() + 1;
+        int last = (int) Math.min((long) getOffset() + limit, total);
+        return "Showing " + first + "-" + last + " of " + total + " (page " + page + " of " + pageCount + ")";
+    }
+}
@@ -18,6 +18,7 @@ public class ReadCommand extends Command {
         try {
             display = CaseManager.readCase(caseId);
         } catch (CaseNotFoundException e) {
+            markFailed();
             Display.printMessage(e.getErrorMessage());
         }
         if (display != null) {
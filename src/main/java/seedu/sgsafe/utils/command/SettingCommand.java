@@ -42,6 +42,11 @@ public class SettingCommand extends Command {
         return settingType;
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     /**
      * Executes the setting command to update the specified date format.
      * Determines which date format setting to update based on the setting type,
@@ -86,6 +91,7 @@ public class SettingCommand extends Command {
             Display.printMessage(settingName + SUCCESSFUL_UPDATE_MESSAGE + newDateFormat);
         } catch (Exception e) {
             setter.accept(previousFormat);
+            markFailed();
             Display.printMessage(INVALID_FORMAT_MESSAGE + previousFormat);
         }
     }
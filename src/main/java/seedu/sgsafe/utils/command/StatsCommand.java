@@ -0,0 +1,118 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.CaseStatistics;
+import seedu.sgsafe.domain.casefiles.DateBucket;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseType;
+import seedu.sgsafe.utils.ui.Display;
+import seedu.sgsafe.utils.ui.Display.MessageWriter;
+
+import java.time.LocalDate;
+
+/**
+ * Represents a command that shows aggregate figures over the cases: how many there are of each type,
+ * category and status and in each month or year, and the totals of their numeric fields.
+ * <p>
+ * The figures are computed by {@link CaseManager#computeStatistics} in a single pass over the cases selected
+ * by the {@link CaseListingMode}. Types, categories and periods without any case are left out.
+ */
+public class StatsCommand extends Command {
+
+    private final CaseListingMode listingMode;
+    private final DateBucket dateBucket;
+
+    /**
+     * Constructs a {@code StatsCommand} over the cases selected by the listing mode.
+     *
+     * @param listingMode the mode used to select the cases to aggregate
+     * @param dateBucket  the periods to group the cases into by date
+     */
+    public StatsCommand(CaseListingMode listingMode, DateBucket dateBucket) {
+        assert listingMode != null && dateBucket != null;
+        this.commandType = CommandType.STATS;
+        this.listingMode = listingMode;
+        this.dateBucket = dateBucket;
+    }
+
+    public CaseListingMode getListingMode() {
+        return listingMode;
+    }
+
+    public DateBucket getDateBucket() {
+        return dateBucket;
+    }
+
+    @Override
+    public void execute() {
+        CaseStatistics statistics = CaseManager.computeStatistics(listingMode.toQuery(), dateBucket);
+        if (statistics.getCaseCount() == 0) {
+            Display.printMessage("There are no cases to show statistics for.");
+            return;
+        }
+
+        try (MessageWriter writer = Display.startMessage()) {
+            writer.writeLine(statistics.getCaseCount() + " case(s): " + statistics.getOpenCount() + " open, "
+                    + statistics.getClosedCount() + " closed.");
+
+            writer.writeLine("By type:");
+            for (CaseType type : CaseType.values()) {
+                writeCountLine(writer, toLabel(type), statistics.getCount(type), statistics.getOpenCount(type));
+            }
+
+            writer.writeLine("By category:");
+            for (CaseCategory category : CaseCategory.values()) {
+                writeCountLine(writer, toLabel(category), statistics.getCount(category),
+                        statistics.getOpenCount(category));
+            }
+
+            writer.writeLine("By " + dateBucket.name().toLowerCase() + ":");
+            for (LocalDate start : statistics.getDateBucketStarts()) {
+                writeCountLine(writer, dateBucket.getLabel(start), statistics.getCountInBucket(start),
+                        statistics.getOpenCountInBucket(start));
+            }
+
+            writeNumericFields(writer, statistics);
+        }
+    }
+
+    private static void writeCountLine(MessageWriter writer, String label, int count, int openCount) {
+        if (count > 0) {
+            writer.writeLine(String.format("  %-18s %6d (%d open)", label, count, openCount));
+        }
+    }
+
+    private static void writeNumericFields(MessageWriter writer, CaseStatistics statistics) {
+        boolean hasHeading = false;
+        for (CaseCategory category : CaseCategory.values()) {
+            int amountCount = statistics.getAmountCount(category);
+            if (amountCount == 0) {
+                continue;
+            }
+            if (!hasHeading) {
+                writer.writeLine("Financial value lost or monetary damage:");
+                hasHeading = true;
+            }
+            writer.writeLine(String.format("  %-18s %12.2f over %d case(s)", toLabel(category),
+                    statistics.getTotalAmount(category), amountCount));
+        }
+        if (statistics.getTotalVictims() > 0) {
+            writer.writeLine("Victims of violent cases: " + statistics.getTotalVictims());
+        }
+        if (statistics.getTotalCasualties() > 0) {
+            writer.writeLine("Casualties of traffic accidents: " + statistics.getTotalCasualties());
+        }
+        if (statistics.getSpeedingCount() > 0) {
+            writer.writeLine(String.format("Average speed over the limit: %.1f over %d speeding case(s)",
+                    statistics.getAverageExcessSpeed(), statistics.getSpeedingCount()));
+        }
+    }
+
+    /**
+     * Returns the name of an enum constant in sentence case, e.g. {@code Financial} for {@code FINANCIAL}.
+     */
+    private static String toLabel(Enum<?> constant) {
+        String name = constant.name();
+        return name.charAt(0) + name.substring(1).toLowerCase();
+    }
+}
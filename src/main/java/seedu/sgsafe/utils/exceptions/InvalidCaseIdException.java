@@ -10,7 +10,7 @@ package seedu.sgsafe.utils.exceptions;
  */
 public class InvalidCaseIdException extends InvalidCommandException {
     private static final String ERROR_MESSAGE = "The case ID is missing or the format is incorrect.";
-    private static final String TIP = "Case ID should be exactly 6 characters of 0-9 or A-F.";
+    private static final String TIP = "Case ID should be 6 to 8 characters of 0-9 or A-F.";
 
     /**
      * Constructs an {@code InvalidCaseIdException} with a default error message
@@ -0,0 +1,12 @@
+package seedu.sgsafe.utils.exceptions;
+
+public class InvalidCompactCommandException extends InvalidCommandException {
+
+    private static final String ERROR_MESSAGE = "The 'compact' command does not take any arguments.";
+    private static final String USAGE = "Usage: compact";
+    private static final String TIP = "Simply type 'compact' to remove deleted cases for good.";
+
+    public InvalidCompactCommandException() {
+        super(ERROR_MESSAGE, USAGE, TIP);
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when an export command is malformed.
+ */
+public class InvalidExportCommandException extends InvalidCommandException {
+
+    private static final String ERROR_MESSAGE = "Your export command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for an export command is:";
+    private static final String CORRECT_COMMAND_FORMAT = "export --format csv|jsonl --file FILE [--status open|closed]";
+    private static final String EXAMPLE_COMMAND = "Example: export --format csv --file cases.csv";
+
+    /**
+     * Constructs an {@code InvalidExportCommandException} with a predefined error message and usage example.
+     */
+    public InvalidExportCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND);
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when an import command is malformed.
+ */
+public class InvalidImportCommandException extends InvalidCommandException {
+
+    private static final String ERROR_MESSAGE = "Your import command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for an import command is:";
+    private static final String CORRECT_COMMAND_FORMAT = "import --file FILE";
+    private static final String EXAMPLE_COMMAND = "Example: import --file cases.csv";
+
+    /**
+     * Constructs an {@code InvalidImportCommandException} with a predefined error message and usage example.
+     */
+    public InvalidImportCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND);
+    }
+}
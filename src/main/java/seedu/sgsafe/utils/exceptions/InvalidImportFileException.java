@@ -0,0 +1,20 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a file to import cannot be used at all, for example because its header
+ * row is missing a required column. No cases are imported from such a file.
+ */
+public class InvalidImportFileException extends InvalidCommandException {
+
+    private static final String ERROR_MESSAGE = "No cases were imported from the file.";
+    private static final String TIP = "The first row must name the columns, e.g. category,title,date,info,victim";
+
+    /**
+     * Constructs an {@code InvalidImportFileException} with the reason the file cannot be imported.
+     *
+     * @param reason why the file cannot be imported
+     */
+    public InvalidImportFileException(String reason) {
+        super(ERROR_MESSAGE, reason, TIP);
+    }
+}
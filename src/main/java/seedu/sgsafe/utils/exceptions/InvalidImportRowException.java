@@ -0,0 +1,17 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a row of an imported file cannot become a case, for example because a
+ * mandatory value is missing or a value does not apply to the row's category.
+ */
+public class InvalidImportRowException extends InvalidCommandException {
+
+    /**
+     * Constructs an {@code InvalidImportRowException} with the reason the row was rejected.
+     *
+     * @param reason why the row was rejected
+     */
+    public InvalidImportRowException(String reason) {
+        super(reason);
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Exception thrown when the page or limit flag of a listing command is not a positive whole number.
+ */
+public class InvalidPageException extends InvalidCommandException {
+
+    private static final String STARTING_MESSAGE = "The value for flag '";
+    private static final String ENDING_MESSAGE = "' must be a positive whole number.";
+    private static final String EXAMPLE_COMMAND = "Example: list --page 2 --limit 50";
+
+    /**
+     * Constructs an {@code InvalidPageException} for the given flag.
+     *
+     * @param flag the name of the flag with the invalid value
+     */
+    public InvalidPageException(String flag) {
+        super(STARTING_MESSAGE + flag + ENDING_MESSAGE, EXAMPLE_COMMAND);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.sgsafe.utils.settings;
 
+import seedu.sgsafe.utils.ui.DateFormatter;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -20,11 +22,15 @@ public class Settings {
     // Logger for logging purposes
     private static final Logger logger = Logger.getLogger(Settings.class.getName());
 
-    private static String inputDateFormat = DEFAULT_DATE_FORMAT;
+    private static volatile String inputDateFormat = DEFAULT_DATE_FORMAT;
+
+    private static volatile String outputDateFormat = DEFAULT_DATE_FORMAT;
 
-    private static String outputDateFormat = DEFAULT_DATE_FORMAT;
+    private static volatile String dateTimeFormat = DEAFULT_DATE_TIME_FORMAT;
 
-    private static String dateTimeFormat = DEAFULT_DATE_TIME_FORMAT;
+    // Incremented whenever any format actually changes, so that callers can detect changes cheaply.
+    // The formats are volatile too, so that cases saved on another thread are saved with the latest formats
+    private static volatile long version = 0;
 
     public static String getInputDateFormat() {
         return inputDateFormat;
@@ -38,6 +44,15 @@ public class Settings {
         return dateTimeFormat;
     }
 
+    /**
+     * Returns the settings version, which increases every time a format is changed to a different value.
+     *
+     * @return the current settings version
+     */
+    public static long getVersion() {
+        return version;
+    }
+
     /**
      * Sets the output date format.
      * Validates the provided format by attempting to create a `DateTimeFormatter`.
@@ -47,7 +62,10 @@ public class Settings {
     public static void setOutputDateFormat(String format) {
         // Validate format by attempting to create a DateTimeFormatter and parse. If it fails it will throw an exception
         validateDateFormat(format);
-        outputDateFormat = format;
+        if (!format.equals(outputDateFormat)) {
+            outputDateFormat = format;
+            onFormatChanged();
+        }
     }
 
     /**
@@ -59,7 +77,10 @@ public class Settings {
     public static void setInputDateFormat(String format) {
         // Validate format by attempting to create a DateTimeFormatter and parse. If it fails it will throw an exception
         validateDateFormat(format);
-        inputDateFormat = format;
+        if (!format.equals(inputDateFormat)) {
+            inputDateFormat = format;
+            onFormatChanged();
+        }
     }
 
     /**
@@ -71,7 +92,18 @@ public class Settings {
     public static void setDateTimeFormat(String format) {
         // Validate format by attempting to create a DateTimeFormatter and parse. If it fails it will throw an exception
         validateDateTimeFormat(format);
-        dateTimeFormat = format;
+        if (!format.equals(dateTimeFormat)) {
+            dateTimeFormat = format;
+            onFormatChanged();
+        }
+    }
+
+    /**
+     * Bumps the settings version and drops formatters compiled for the previous patterns.
+     */
+    private static void onFormatChanged() {
+        version++;
+        DateFormatter.clearCache();
     }
 
     /**
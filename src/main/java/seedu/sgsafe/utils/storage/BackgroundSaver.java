@@ -0,0 +1,280 @@
+package seedu.sgsafe.utils.storage;
+
+import seedu.sgsafe.utils.ui.Display;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Persists changes through a {@link Storage} on a thread of its own, so that a command that changes the cases
+ * returns as soon as the cases have been changed in memory, instead of waiting for the disk.
+ * <p>
+ * Each call to {@link #requestSave()} puts a save request on a bounded queue. The saving thread takes every
+ * request waiting on the queue at once and serves them with a single {@link Storage#saveChanges()}, which
+ * persists every change made so far, so a burst of commands is coalesced into one save. If the queue is full
+ * because saving has fallen behind, {@link #requestSave()} tells the user and waits for room, so that the
+ * changes that are not yet on disk stay bounded.
+ * <p>
+ * {@link #flush()} waits until every requested save has been done, and {@link #close()} does the same before
+ * stopping the thread and forcing the journal to disk. If the saving thread has stopped unexpectedly, requests
+ * are saved on the calling thread instead, so that no change is left waiting on a queue nobody takes from.
+ * Messages that {@code Storage} shows while saving are kept until the command thread shows them with
+ * {@link #showPendingMessages()}, since {@link Display} must only be used from one thread.
+ */
+public class BackgroundSaver {
+
+    private static final Logger logger = Logger.getLogger(BackgroundSaver.class.getName());
+
+    /** Number of save requests that can wait on the queue before {@link #requestSave()} blocks. */
+    static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    /** Put on the queue by {@link #close()} to stop the saving thread once the requests before it are served. */
+    private static final long STOP_REQUEST = -1;
+
+    /** How long a request waits for room on the queue before checking that the saving thread is still running. */
+    private static final long PUT_TIMEOUT_MILLIS = 100;
+
+    private static final String FALLING_BEHIND_MESSAGE =
+            "Saving is falling behind; waiting for earlier changes to be written to disk...";
+
+    private final Storage storage;
+
+    /** The sequence numbers of the requested saves that the saving thread has not taken yet. */
+    private final BlockingQueue<Long> requests;
+
+    /** Messages shown by {@code Storage} while saving, waiting to be shown on the command thread. */
+    private final ConcurrentLinkedQueue<String> pendingMessages = new ConcurrentLinkedQueue<>();
+
+    private final Thread savingThread;
+
+    /** The sequence number of the last save requested. Only changed by the thread that requests saves. */
+    private volatile long requestedSequence = 0;
+
+    /** The sequence number of the last requested save that has been done. Guarded by {@code this}. */
+    private long savedSequence = 0;
+
+    /** Number of times a save request had to wait for room on the queue. */
+    private volatile int backpressureCount = 0;
+
+    /**
+     * Number of times {@link Storage#saveChanges()} was called to serve the requests. Only changed while
+     * holding {@code this}, since saves may also run on the threads calling this saver.
+     */
+    private volatile int saveCount = 0;
+
+    /** Held throughout {@link #close()}, so that a second call waits until the first has finished. */
+    private final Object closeLock = new Object();
+
+    private boolean isClosed = false;
+
+    /**
+     * Starts a saving thread for {@code storage} with a queue of {@link #DEFAULT_QUEUE_CAPACITY} requests.
+     *
+     * @param storage the storage to persist changes with, which must not be used by any other thread from now on
+     */
+    public BackgroundSaver(Storage storage) {
+        this(storage, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Starts a saving thread for {@code storage}.
+     *
+     * @param storage       the storage to persist changes with, which must not be used by any other thread
+     *                      from now on
+     * @param queueCapacity the number of save requests that can wait before {@link #requestSave()} blocks
+     */
+    public BackgroundSaver(Storage storage, int queueCapacity) {
+        assert queueCapacity > 0 : "queueCapacity should be positive";
+        this.storage = storage;
+        this.requests = new ArrayBlockingQueue<>(queueCapacity);
+        storage.setSaveMessageSink(pendingMessages::add);
+        savingThread = new Thread(this::runSavingLoop, "sgsafe-saver");
+        // Changes still waiting are written by close(), which runs on exit through a shutdown hook
+        savingThread.setDaemon(true);
+        savingThread.start();
+    }
+
+    /**
+     * Asks for the changes made so far to be persisted, without waiting for them to be. Blocks only while the
+     * queue of requests is full, after telling the user that saving is falling behind. If the saving thread has
+     * stopped, the changes are saved before this returns.
+     */
+    public void requestSave() {
+        assert !isClosed : "requestSave() should not be called after close()";
+        requestedSequence++;
+        if (!savingThread.isAlive()) {
+            save(requestedSequence);
+            return;
+        }
+        if (requests.offer(requestedSequence)) {
+            return;
+        }
+        backpressureCount++;
+        logger.log(Level.WARNING, "Save queue is full; waiting for the saving thread");
+        Display.printLine(FALLING_BEHIND_MESSAGE);
+        Display.flush();
+        if (!putWhileSaving(requestedSequence)) {
+            save(requestedSequence);
+        }
+    }
+
+    /**
+     * Waits until every save requested so far has been done, doing it on this thread if the saving thread has
+     * stopped first.
+     */
+    public void flush() {
+        long target = requestedSequence;
+        boolean isInterrupted = false;
+        synchronized (this) {
+            while (savedSequence < target && savingThread.isAlive()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+        }
+        if (getSavedSequence() < target) {
+            save(target);
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Does every save requested so far, stops the saving thread and forces the journal to disk. A call made
+     * while another is in progress waits for it to finish, and later calls have no effect.
+     * <p>
+     * Nothing is printed, so this may be called from a shutdown hook. Messages shown while saving are kept for
+     * {@link #showPendingMessages()}.
+     */
+    public void close() {
+        synchronized (closeLock) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            putWhileSaving(STOP_REQUEST);
+            boolean isInterrupted = false;
+            while (savingThread.isAlive()) {
+                try {
+                    savingThread.join();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+            long lastSequence = requestedSequence;
+            if (getSavedSequence() < lastSequence) {
+                // The saving thread stopped before serving every request
+                save(lastSequence);
+            }
+            storage.close();
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Shows the messages that {@code Storage} left while saving, such as save errors, in one message.
+     * Call this on the thread that runs commands, before its output is flushed.
+     */
+    public void showPendingMessages() {
+        List<String> messages = new ArrayList<>();
+        String message;
+        while ((message = pendingMessages.poll()) != null) {
+            messages.add(message);
+        }
+        if (!messages.isEmpty()) {
+            Display.printMessage(messages.toArray(new String[0]));
+        }
+    }
+
+    public int getBackpressureCount() {
+        return backpressureCount;
+    }
+
+    public int getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Puts a request on the queue, waiting for room for as long as the saving thread is running.
+     *
+     * @param request the request to put
+     * @return {@code true} if the request was put; {@code false} if the saving thread stopped first
+     */
+    private boolean putWhileSaving(long request) {
+        boolean isInterrupted = false;
+        boolean isPut = false;
+        while (!isPut && savingThread.isAlive()) {
+            try {
+                isPut = requests.offer(request, PUT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return isPut;
+    }
+
+    private synchronized long getSavedSequence() {
+        return savedSequence;
+    }
+
+    /**
+     * Takes the waiting requests in batches, serving each batch with one save, until asked to stop.
+     */
+    private void runSavingLoop() {
+        List<Long> batch = new ArrayList<>();
+        boolean isStopping = false;
+        while (!isStopping) {
+            try {
+                batch.add(requests.take());
+            } catch (InterruptedException e) {
+                logger.log(Level.WARNING, "Saving thread interrupted; stopping", e);
+                break;
+            }
+            requests.drainTo(batch);
+            long lastSequence = 0;
+            for (long request : batch) {
+                if (request == STOP_REQUEST) {
+                    isStopping = true;
+                } else {
+                    lastSequence = Math.max(lastSequence, request);
+                }
+            }
+            batch.clear();
+            if (lastSequence > 0) {
+                save(lastSequence);
+            }
+        }
+        synchronized (this) {
+            // Wake anyone still waiting in flush(), which gives up once this thread has ended
+            notifyAll();
+        }
+    }
+
+    private void save(long lastSequence) {
+        try {
+            storage.saveChanges();
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Unexpected error while saving", e);
+            pendingMessages.add("Something went wrong while saving: " + e.getMessage());
+        }
+        synchronized (this) {
+            saveCount++;
+            savedSequence = lastSequence;
+            notifyAll();
+        }
+    }
+}
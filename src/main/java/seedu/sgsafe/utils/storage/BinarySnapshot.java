@@ -0,0 +1,545 @@
+package seedu.sgsafe.utils.storage;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseEdit;
+import seedu.sgsafe.domain.casefiles.CaseIdAllocator;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseFactory;
+import seedu.sgsafe.domain.casefiles.type.InvalidCase;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes the binary snapshot of the save file.
+ * <p>
+ * A snapshot holds the same cases and settings as the text save file, in a compact columnar layout that
+ * loads without parsing any text: IDs are stored as numbers, dates as epoch days, timestamps as epoch seconds,
+ * categories as enum ordinals, and every string (including the values of additional fields) as an index into a
+ * string pool where each distinct string is stored once, length-prefixed.
+ * <p>
+ * The layout is, in order:
+ * <ol>
+ *     <li>Header: magic number, format version, and the length and last-modified time of the text save
+ *     file the snapshot was written alongside</li>
+ *     <li>Settings: input date format, output date format and timestamp format, followed by the ID the
+ *     next new case will be given</li>
+ *     <li>String pool: the number of strings, then each string as a byte length and its UTF-8 bytes</li>
+ *     <li>Case columns: the number of cases, then one column per field, each holding a value for
+ *     every case in order</li>
+ *     <li>Additional fields: the number of fields per case, then a key and value reference per field</li>
+ * </ol>
+ * A snapshot can also be mapped into memory with {@link #map(File)}, in which case only the summary fields
+ * of each case are read up front and the rest are read from the mapped file when a case first needs them.
+ * <p>
+ * The category ordinals depend on the declaration order of {@link CaseCategory}, so new categories must be
+ * added at the end of the enum, or {@link #FORMAT_VERSION} must be increased.
+ */
+public class BinarySnapshot {
+
+    private static final int MAGIC = 0x53475346; // "SGSF"
+
+    private static final int FORMAT_VERSION = 2;
+
+    /** Category ordinal used for corrupted entries, which are kept as {@link InvalidCase}s. */
+    private static final byte INVALID_CATEGORY = -1;
+
+    private static final int NULL_REFERENCE = -1;
+
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private static final byte FLAG_OPEN = 1;
+
+    private static final byte FLAG_DELETED = 2;
+
+    /** The number of string columns shared by every case: title, info, victim and officer. */
+    private static final int BASE_STRING_COLUMNS = 4;
+
+    private static final CaseCategory[] CATEGORIES = CaseCategory.values();
+
+    private final String inputDateFormat;
+    private final String outputDateFormat;
+    private final String dateTimeFormat;
+    private final int nextId;
+    private final long sourceLength;
+    private final long sourceLastModified;
+    private final List<Case> cases;
+
+    /**
+     * Constructs a snapshot of the given settings and cases, where the next new case is given the ID after
+     * the largest ID among the cases.
+     *
+     * @param inputDateFormat    the input date format setting
+     * @param outputDateFormat   the output date format setting
+     * @param dateTimeFormat     the timestamp format setting
+     * @param sourceLength       the length of the text save file holding the same data
+     * @param sourceLastModified the last-modified time of that text save file
+     * @param cases              the cases, in slot order
+     */
+    public BinarySnapshot(String inputDateFormat, String outputDateFormat, String dateTimeFormat,
+                          long sourceLength, long sourceLastModified, List<Case> cases) {
+        this(inputDateFormat, outputDateFormat, dateTimeFormat, getNextIdAfter(cases),
+                sourceLength, sourceLastModified, cases);
+    }
+
+    /**
+     * Constructs a snapshot of the given settings and cases.
+     *
+     * @param inputDateFormat    the input date format setting
+     * @param outputDateFormat   the output date format setting
+     * @param dateTimeFormat     the timestamp format setting
+     * @param nextId             the ID the next new case will be given
+     * @param sourceLength       the length of the text save file holding the same data
+     * @param sourceLastModified the last-modified time of that text save file
+     * @param cases              the cases, in slot order
+     */
+    public BinarySnapshot(String inputDateFormat, String outputDateFormat, String dateTimeFormat, int nextId,
+                          long sourceLength, long sourceLastModified, List<Case> cases) {
+        this.inputDateFormat = inputDateFormat;
+        this.outputDateFormat = outputDateFormat;
+        this.dateTimeFormat = dateTimeFormat;
+        this.nextId = nextId;
+        this.sourceLength = sourceLength;
+        this.sourceLastModified = sourceLastModified;
+        this.cases = cases;
+    }
+
+    public String getInputDateFormat() {
+        return inputDateFormat;
+    }
+
+    public String getOutputDateFormat() {
+        return outputDateFormat;
+    }
+
+    public String getDateTimeFormat() {
+        return dateTimeFormat;
+    }
+
+    public int getNextId() {
+        return nextId;
+    }
+
+    public List<Case> getCases() {
+        return cases;
+    }
+
+    private static int getNextIdAfter(List<Case> cases) {
+        CaseIdAllocator allocator = new CaseIdAllocator();
+        for (Case c : cases) {
+            allocator.advancePast(c.getIdNumber());
+        }
+        return allocator.peek();
+    }
+
+    /**
+     * Returns whether this snapshot was written alongside the given text save file as it is now.
+     *
+     * @param sourceFile the text save file
+     * @return {@code true} if the save file is absent or has not changed since the snapshot was written
+     */
+    public boolean isCurrentFor(File sourceFile) {
+        if (!sourceFile.exists()) {
+            return true;
+        }
+        return sourceFile.length() == sourceLength && sourceFile.lastModified() == sourceLastModified;
+    }
+
+    /**
+     * Writes this snapshot to a file, replacing its contents, and forces it to disk so that it can safely be
+     * renamed into place afterwards.
+     *
+     * @param file the file to write to
+     * @throws IOException if the file cannot be written
+     */
+    public void write(File file) throws IOException {
+        int caseCount = cases.size();
+        byte[] categories = new byte[caseCount];
+        byte[] flags = new byte[caseCount];
+        int[] ids = new int[caseCount];
+        int[] dates = new int[caseCount];
+        long[] createdAts = new long[caseCount];
+        long[] updatedAts = new long[caseCount];
+        int[][] baseStrings = new int[BASE_STRING_COLUMNS][caseCount];
+        int[] additionalFieldCounts = new int[caseCount];
+        List<Integer> additionalFields = new ArrayList<>();
+        StringPool pool = new StringPool();
+
+        for (int i = 0; i < caseCount; i++) {
+            Case c = cases.get(i).getFullyLoadedView();
+            if (c instanceof InvalidCase invalidCase) {
+                categories[i] = INVALID_CATEGORY;
+                ids[i] = CaseIdAllocator.NO_ID;
+                baseStrings[0][i] = pool.getReference(invalidCase.getInvalidSaveString());
+                for (int column = 1; column < baseStrings.length; column++) {
+                    baseStrings[column][i] = NULL_REFERENCE;
+                }
+                dates[i] = NULL_DATE;
+                createdAts[i] = NULL_TIMESTAMP;
+                updatedAts[i] = NULL_TIMESTAMP;
+                continue;
+            }
+            categories[i] = (byte) c.getCategory().ordinal();
+            flags[i] = (byte) ((c.isOpen() ? FLAG_OPEN : 0) | (c.isDeleted() ? FLAG_DELETED : 0));
+            ids[i] = c.getIdNumber();
+            dates[i] = c.getDate() == null ? NULL_DATE : (int) c.getDate().toEpochDay();
+            createdAts[i] = toEpochSecond(c.getCreatedAt());
+            updatedAts[i] = toEpochSecond(c.getUpdatedAt());
+            baseStrings[0][i] = pool.getReference(c.getTitle());
+            baseStrings[1][i] = pool.getReference(c.getInfo());
+            baseStrings[2][i] = pool.getReference(c.getVictim());
+            baseStrings[3][i] = pool.getReference(c.getOfficer());
+
+            int fieldCountBefore = additionalFields.size();
+            c.writeAdditionalSaveFields((key, value) -> {
+                if (value != null) {
+                    additionalFields.add(pool.getReference(key));
+                    additionalFields.add(pool.getReference(SaveFormatCodec.formatSavedValue(key, value)));
+                }
+            });
+            additionalFieldCounts[i] = (additionalFields.size() - fieldCountBefore) / 2;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(sourceLength);
+            out.writeLong(sourceLastModified);
+            out.writeUTF(inputDateFormat);
+            out.writeUTF(outputDateFormat);
+            out.writeUTF(dateTimeFormat);
+            out.writeInt(nextId);
+
+            pool.write(out);
+
+            out.writeInt(caseCount);
+            out.write(categories);
+            out.write(flags);
+            for (int id : ids) {
+                out.writeInt(id);
+            }
+            for (int date : dates) {
+                out.writeInt(date);
+            }
+            for (long createdAt : createdAts) {
+                out.writeLong(createdAt);
+            }
+            for (long updatedAt : updatedAts) {
+                out.writeLong(updatedAt);
+            }
+            for (int[] column : baseStrings) {
+                for (int reference : column) {
+                    out.writeInt(reference);
+                }
+            }
+            for (int count : additionalFieldCounts) {
+                out.writeInt(count);
+            }
+            for (int reference : additionalFields) {
+                out.writeInt(reference);
+            }
+            out.flush();
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Reads a snapshot from a file, loading every field of every case.
+     *
+     * @param file the file to read from
+     * @return the snapshot read from the file
+     * @throws IOException if the file cannot be read, or is not a complete snapshot in this format
+     */
+    public static BinarySnapshot read(File file) throws IOException {
+        return decode(ByteBuffer.wrap(Files.readAllBytes(file.toPath())), false);
+    }
+
+    /**
+     * Maps a snapshot file into memory and reads only the summary fields of each case: the category,
+     * status, date and title. The remaining fields of a case are decoded from the mapped file the first
+     * time they are needed, as described in {@link Case#deferFields(java.util.function.Supplier)}.
+     * <p>
+     * The mapping stays valid until every case read from it is unreachable, so the file must not be
+     * modified afterwards. Some platforms also refuse to replace or delete a mapped file, so a new snapshot
+     * should be written to another file until the program exits.
+     *
+     * @param file the file to map
+     * @return the snapshot read from the file
+     * @throws IOException if the file cannot be mapped, or is not a complete snapshot in this format
+     */
+    public static BinarySnapshot map(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is too large to map: " + channel.size() + " bytes");
+            }
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), true);
+        }
+    }
+
+    private static BinarySnapshot decode(ByteBuffer buffer, boolean isLazy) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Not a snapshot in a supported format");
+            }
+            long sourceLength = buffer.getLong();
+            long sourceLastModified = buffer.getLong();
+            String inputDateFormat = readUtf(buffer);
+            String outputDateFormat = readUtf(buffer);
+            String dateTimeFormat = readUtf(buffer);
+            int nextId = buffer.getInt();
+
+            Contents contents = new Contents(buffer, isLazy);
+            List<Case> cases = new ArrayList<>(contents.caseCount);
+            for (int slot = 0; slot < contents.caseCount; slot++) {
+                cases.add(isLazy ? contents.readSummary(slot) : contents.readCase(slot));
+            }
+            return new BinarySnapshot(inputDateFormat, outputDateFormat, dateTimeFormat, nextId,
+                    sourceLength, sourceLastModified, cases);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Snapshot is truncated", e);
+        } catch (IllegalStateException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a string written by {@link DataOutputStream#writeUTF(String)}.
+     */
+    private static String readUtf(ByteBuffer buffer) throws IOException {
+        int length = Short.toUnsignedInt(buffer.getShort(buffer.position()));
+        byte[] encoded = new byte[2 + length];
+        buffer.get(encoded);
+        return new DataInputStream(new ByteArrayInputStream(encoded)).readUTF();
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime == null ? NULL_TIMESTAMP : dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return epochSecond == NULL_TIMESTAMP ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * A dictionary of the distinct strings in a snapshot, each identified by its position.
+     */
+    private static class StringPool {
+        private final Map<String, Integer> references = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        int getReference(String value) {
+            if (value == null) {
+                return NULL_REFERENCE;
+            }
+            Integer reference = references.get(value);
+            if (reference == null) {
+                reference = strings.size();
+                references.put(value, reference);
+                strings.add(value);
+            }
+            return reference;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(strings.size());
+            for (String value : strings) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * The string pool and case columns of a snapshot held in a buffer, with the position of each column.
+     * All reads use absolute positions, so cases can be read in any order and from any thread.
+     */
+    private static class Contents {
+        private final ByteBuffer buffer;
+
+        /** The decoded strings, or {@code null} if strings are decoded from the buffer on demand. */
+        private final String[] strings;
+
+        /** The position of each string's length prefix, used when strings are decoded on demand. */
+        private final int[] stringPositions;
+
+        private final int caseCount;
+        private final int categoriesPosition;
+        private final int flagsPosition;
+        private final int idsPosition;
+        private final int datesPosition;
+        private final int createdAtsPosition;
+        private final int updatedAtsPosition;
+        private final int referencesPosition;
+        private final int additionalFieldsPosition;
+
+        /** The index of the first additional field of each case, followed by the total number of fields. */
+        private final int[] firstAdditionalField;
+
+        /**
+         * Reads the positions of the string pool and case columns, starting at the buffer's position.
+         *
+         * @param buffer            the buffer holding the snapshot, positioned at the string pool
+         * @param isDecodedOnDemand whether strings are decoded when needed instead of all at once
+         * @throws IOException if the snapshot is incomplete or refers to strings that do not exist
+         */
+        Contents(ByteBuffer buffer, boolean isDecodedOnDemand) throws IOException {
+            this.buffer = buffer;
+            int stringCount = buffer.getInt();
+            stringPositions = new int[stringCount];
+            strings = isDecodedOnDemand ? null : new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                stringPositions[i] = buffer.position();
+                int length = buffer.getInt();
+                if (strings != null) {
+                    strings[i] = decodeString(buffer.position(), length);
+                }
+                buffer.position(buffer.position() + length);
+            }
+
+            caseCount = buffer.getInt();
+            categoriesPosition = buffer.position();
+            flagsPosition = categoriesPosition + caseCount;
+            idsPosition = flagsPosition + caseCount;
+            datesPosition = idsPosition + Integer.BYTES * caseCount;
+            createdAtsPosition = datesPosition + Integer.BYTES * caseCount;
+            updatedAtsPosition = createdAtsPosition + Long.BYTES * caseCount;
+            referencesPosition = updatedAtsPosition + Long.BYTES * caseCount;
+            int countsPosition = referencesPosition + Integer.BYTES * BASE_STRING_COLUMNS * caseCount;
+            additionalFieldsPosition = countsPosition + Integer.BYTES * caseCount;
+
+            firstAdditionalField = new int[caseCount + 1];
+            for (int slot = 0; slot < caseCount; slot++) {
+                firstAdditionalField[slot + 1] = firstAdditionalField[slot]
+                        + buffer.getInt(countsPosition + Integer.BYTES * slot);
+            }
+            long end = additionalFieldsPosition + 2L * Integer.BYTES * firstAdditionalField[caseCount];
+            if (end > buffer.limit()) {
+                throw new IOException("Snapshot is truncated");
+            }
+
+            // Check every reference up front, so that reading a case later cannot fail
+            for (int position = referencesPosition; position < countsPosition; position += Integer.BYTES) {
+                checkReference(buffer.getInt(position));
+            }
+            for (int position = additionalFieldsPosition; position < end; position += Integer.BYTES) {
+                checkReference(buffer.getInt(position));
+            }
+            for (int position = idsPosition; position < datesPosition; position += Integer.BYTES) {
+                if (buffer.getInt(position) < CaseIdAllocator.NO_ID) {
+                    throw new IOException("Case ID out of range: " + buffer.getInt(position));
+                }
+            }
+        }
+
+        private void checkReference(int reference) throws IOException {
+            if (reference != NULL_REFERENCE && (reference < 0 || reference >= stringPositions.length)) {
+                throw new IOException("String reference out of range: " + reference);
+            }
+        }
+
+        /**
+         * Reads every field of the case in the given slot.
+         */
+        Case readCase(int slot) {
+            byte category = getCategoryOrdinal(slot);
+            if (category == INVALID_CATEGORY) {
+                return new InvalidCase(getBaseString(0, slot));
+            }
+            Case c = createCase(slot, category, getBaseString(1, slot), getBaseString(2, slot),
+                    getBaseString(3, slot));
+            CaseEdit savedFields = new CaseEdit();
+            for (int field = firstAdditionalField[slot]; field < firstAdditionalField[slot + 1]; field++) {
+                int position = additionalFieldsPosition + 2 * Integer.BYTES * field;
+                String key = getString(buffer.getInt(position));
+                String value = getString(buffer.getInt(position + Integer.BYTES));
+                try {
+                    SaveFormatCodec.putSavedValue(savedFields, key, value);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalStateException("Invalid value in snapshot for " + key + ": " + value, e);
+                }
+            }
+            c.restoreSavedFields(savedFields);
+            byte flags = buffer.get(flagsPosition + slot);
+            c.initialiseMetadataFromSave((flags & FLAG_OPEN) != 0, (flags & FLAG_DELETED) != 0,
+                    toDateTime(buffer.getLong(createdAtsPosition + Long.BYTES * slot)),
+                    toDateTime(buffer.getLong(updatedAtsPosition + Long.BYTES * slot)));
+            return c;
+        }
+
+        /**
+         * Reads the summary fields of the case in the given slot, deferring the rest to {@link #readCase(int)}.
+         */
+        Case readSummary(int slot) {
+            byte category = getCategoryOrdinal(slot);
+            if (category == INVALID_CATEGORY) {
+                return readCase(slot);
+            }
+            Case c = createCase(slot, category, null, null, null);
+            byte flags = buffer.get(flagsPosition + slot);
+            c.initialiseMetadataFromSave((flags & FLAG_OPEN) != 0, (flags & FLAG_DELETED) != 0, null, null);
+            c.deferFields(() -> readCase(slot));
+            return c;
+        }
+
+        private byte getCategoryOrdinal(int slot) {
+            byte category = buffer.get(categoriesPosition + slot);
+            if (category != INVALID_CATEGORY && (category < 0 || category >= CATEGORIES.length)) {
+                throw new IllegalStateException("Unknown category ordinal " + category);
+            }
+            return category;
+        }
+
+        private Case createCase(int slot, byte category, String info, String victim, String officer) {
+            int epochDay = buffer.getInt(datesPosition + Integer.BYTES * slot);
+            LocalDate date = epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay);
+            int id = buffer.getInt(idsPosition + Integer.BYTES * slot);
+            String formattedId = id == CaseIdAllocator.NO_ID ? null : CaseIdAllocator.format(id);
+            return CaseFactory.createCase(CATEGORIES[category], formattedId,
+                    getBaseString(0, slot), date, info, victim, officer);
+        }
+
+        private String getBaseString(int column, int slot) {
+            return getString(buffer.getInt(referencesPosition + Integer.BYTES * (column * caseCount + slot)));
+        }
+
+        private String getString(int reference) {
+            if (reference == NULL_REFERENCE) {
+                return null;
+            }
+            if (strings != null) {
+                return strings[reference];
+            }
+            int position = stringPositions[reference];
+            return decodeString(position + Integer.BYTES, buffer.getInt(position));
+        }
+
+        private String decodeString(int position, int length) {
+            byte[] bytes = new byte[length];
+            buffer.get(position, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
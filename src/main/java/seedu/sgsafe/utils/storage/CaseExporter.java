@@ -0,0 +1,297 @@
+package seedu.sgsafe.utils.storage;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.CaseQuery;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseFactory;
+import seedu.sgsafe.utils.settings.Settings;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the cases held by {@link CaseManager} to a CSV or JSON Lines file.
+ * <p>
+ * Every case is written as one row or one line holding its ID, status, category, the fields shared by all
+ * cases, its timestamps and the additional fields of its category (see {@link Case#getAdditionalFields()}).
+ * A CSV file has one column for every additional field of any category, left empty for cases of other
+ * categories, and writes dates in the current input date format, so that it can be read back by
+ * {@link CsvCaseImporter}. A JSON Lines file writes dates and timestamps in ISO-8601 and leaves out the
+ * additional fields of other categories. Amounts are written in both formats as plain decimals with two
+ * decimal places, such as {@code 12345678.90}.
+ * <p>
+ * Cases are visited one at a time with {@link CaseManager#forEachCase(CaseQuery, java.util.function.Consumer)}
+ * and each row is written to the writer as soon as it is formatted, so exporting does not hold more than one
+ * formatted case in memory. Cases that are only partially loaded are read through
+ * {@link Case#getFullyLoadedView()}, so exporting does not load them for good either.
+ */
+public class CaseExporter {
+
+    private static final List<String> BASE_COLUMNS = List.of("id", "status", "category", "title", "date", "info",
+            "victim", "officer", "created-at", "updated-at");
+
+    /** Every additional field of at least one category, in the order the categories declare them. */
+    private static final List<String> ADDITIONAL_COLUMNS;
+
+    /** The position of each additional field in {@link #ADDITIONAL_COLUMNS}. */
+    private static final Map<String, Integer> ADDITIONAL_COLUMN_POSITIONS = new HashMap<>();
+
+    static {
+        Set<String> additionalColumns = new LinkedHashSet<>();
+        for (CaseCategory category : CaseCategory.values()) {
+            Case template = CaseFactory.createCase(category, null, null, null, null, null, null);
+            additionalColumns.addAll(template.getAdditionalFields());
+        }
+        ADDITIONAL_COLUMNS = List.copyOf(additionalColumns);
+        for (int i = 0; i < ADDITIONAL_COLUMNS.size(); i++) {
+            ADDITIONAL_COLUMN_POSITIONS.put(ADDITIONAL_COLUMNS.get(i), i);
+        }
+    }
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /** ISO-8601 timestamps to the second, the precision that timestamps are saved with. */
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss");
+
+    private final Writer writer;
+    private final ExportFormat format;
+    private final DateTimeFormatter csvDateFormatter;
+
+    /** The row being formatted; reused for every case. */
+    private final StringBuilder row = new StringBuilder(256);
+
+    /** The additional field values of the case being formatted, by position in {@link #ADDITIONAL_COLUMNS}. */
+    private final Object[] additionalValues = new Object[ADDITIONAL_COLUMNS.size()];
+
+    private int exportedCount = 0;
+
+    /**
+     * Creates an exporter that writes to the given writer. The writer should be buffered, since every case
+     * is written to it separately.
+     *
+     * @param writer the writer to export to
+     * @param format the format to export in
+     */
+    public CaseExporter(Writer writer, ExportFormat format) {
+        this.writer = writer;
+        this.format = format;
+        this.csvDateFormatter = DateTimeFormatter.ofPattern(Settings.getInputDateFormat());
+    }
+
+    /**
+     * Returns the columns of an exported CSV file, in order.
+     *
+     * @return the column names
+     */
+    public static List<String> getCsvColumns() {
+        List<String> columns = new ArrayList<>(BASE_COLUMNS);
+        columns.addAll(ADDITIONAL_COLUMNS);
+        return columns;
+    }
+
+    /**
+     * Writes every case selected by the query, in the order the cases were added, then flushes the writer.
+     *
+     * @param query the criteria to select the cases to export by
+     * @throws IOException if writing fails; the cases written so far may be incomplete
+     */
+    public void export(CaseQuery query) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(String.valueOf(SEPARATOR), getCsvColumns()));
+            writer.write('\n');
+        }
+        try {
+            CaseManager.forEachCase(query, this::writeCase);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    public int getExportedCount() {
+        return exportedCount;
+    }
+
+    private void writeCase(Case exportedCase) {
+        Case loadedCase = exportedCase.getFullyLoadedView();
+        Arrays.fill(additionalValues, null);
+        loadedCase.writeAdditionalSaveFields((key, value) -> {
+            Integer position = ADDITIONAL_COLUMN_POSITIONS.get(key);
+            if (position != null) {
+                additionalValues[position] = value;
+            }
+        });
+
+        row.setLength(0);
+        switch (format) {
+        case CSV -> appendCsvRow(loadedCase);
+        case JSONL -> appendJsonLine(loadedCase);
+        default -> throw new AssertionError("Unknown export format: " + format);
+        }
+        row.append('\n');
+        try {
+            writer.append(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        exportedCount++;
+    }
+
+    private void appendCsvRow(Case exportedCase) {
+        appendCsvValue(exportedCase.getId());
+        row.append(SEPARATOR).append(exportedCase.isOpen() ? "open" : "closed");
+        row.append(SEPARATOR).append(exportedCase.getCategory().name().toLowerCase(Locale.ROOT));
+        row.append(SEPARATOR);
+        appendCsvValue(exportedCase.getTitle());
+        row.append(SEPARATOR);
+        if (exportedCase.getDate() != null) {
+            csvDateFormatter.formatTo(exportedCase.getDate(), row);
+        }
+        row.append(SEPARATOR);
+        appendCsvValue(exportedCase.getInfo());
+        row.append(SEPARATOR);
+        appendCsvValue(exportedCase.getVictim());
+        row.append(SEPARATOR);
+        appendCsvValue(exportedCase.getOfficer());
+        row.append(SEPARATOR);
+        appendTimestamp(exportedCase.getCreatedAt());
+        row.append(SEPARATOR);
+        appendTimestamp(exportedCase.getUpdatedAt());
+        for (Object value : additionalValues) {
+            row.append(SEPARATOR);
+            appendCsvValue(value);
+        }
+    }
+
+    private void appendTimestamp(LocalDateTime timestamp) {
+        if (timestamp != null) {
+            TIMESTAMP_FORMATTER.formatTo(timestamp, row);
+        }
+    }
+
+    /**
+     * Appends a CSV value, in double quotes if it contains a separator, a quote or a line break.
+     * A {@code null} value is left empty.
+     */
+    private void appendCsvValue(Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Double amount && Double.isFinite(amount)) {
+            appendAmount(amount);
+            return;
+        }
+        String text = value.toString();
+        boolean needsQuotes = false;
+        for (int i = 0; i < text.length() && !needsQuotes; i++) {
+            char c = text.charAt(i);
+            needsQuotes = c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            row.append(text);
+            return;
+        }
+        row.append(QUOTE);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == QUOTE) {
+                row.append(QUOTE);
+            }
+            row.append(c);
+        }
+        row.append(QUOTE);
+    }
+
+    private void appendJsonLine(Case exportedCase) {
+        row.append('{');
+        appendJsonField("id", exportedCase.getId());
+        appendJsonField("status", exportedCase.isOpen() ? "open" : "closed");
+        appendJsonField("category", exportedCase.getCategory().name().toLowerCase(Locale.ROOT));
+        appendJsonField("title", exportedCase.getTitle());
+        appendJsonField("date", exportedCase.getDate());
+        appendJsonField("info", exportedCase.getInfo());
+        appendJsonField("victim", exportedCase.getVictim());
+        appendJsonField("officer", exportedCase.getOfficer());
+        appendJsonField("created-at", exportedCase.getCreatedAt());
+        appendJsonField("updated-at", exportedCase.getUpdatedAt());
+        // Only the fields of the case's own category were set by writeAdditionalSaveFields
+        List<String> ownFields = exportedCase.getAdditionalFields();
+        for (String field : ownFields) {
+            appendJsonField(field, additionalValues[ADDITIONAL_COLUMN_POSITIONS.get(field)]);
+        }
+        row.append('}');
+    }
+
+    /**
+     * Appends a JSON member. Numbers are written as JSON numbers, amounts with two decimal places,
+     * {@code null} as {@code null}, and dates, timestamps and text as JSON strings.
+     */
+    private void appendJsonField(String key, Object value) {
+        if (row.charAt(row.length() - 1) != '{') {
+            row.append(SEPARATOR);
+        }
+        appendJsonString(key);
+        row.append(':');
+        if (value == null) {
+            row.append("null");
+        } else if (value instanceof Double amount && Double.isFinite(amount)) {
+            appendAmount(amount);
+        } else if (value instanceof Number number && Double.isFinite(number.doubleValue())) {
+            row.append(number);
+        } else if (value instanceof LocalDate) {
+            row.append(QUOTE).append(value).append(QUOTE);
+        } else if (value instanceof LocalDateTime timestamp) {
+            row.append(QUOTE);
+            appendTimestamp(timestamp);
+            row.append(QUOTE);
+        } else {
+            appendJsonString(value.toString());
+        }
+    }
+
+    /**
+     * Appends an amount as a plain decimal with two decimal places, which is a valid JSON number and is
+     * read back by {@link CsvCaseImporter}.
+     */
+    private void appendAmount(double amount) {
+        row.append(BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).toPlainString());
+    }
+
+    private void appendJsonString(String text) {
+        row.append(QUOTE);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '"' -> row.append("\\\"");
+            case '\\' -> row.append("\\\\");
+            case '\n' -> row.append("\\n");
+            case '\r' -> row.append("\\r");
+            case '\t' -> row.append("\\t");
+            default -> {
+                if (c < 0x20) {
+                    row.append(String.format("\\u%04x", (int) c));
+                } else {
+                    row.append(c);
+                }
+            }
+            }
+        }
+        row.append(QUOTE);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.sgsafe.utils.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes lines of text to a {@link FileChannel}, encoding them as UTF-8 straight into a direct buffer that is
+ * written to the channel each time it fills up.
+ * <p>
+ * The buffer and encoder are reused from one file to the next, so a writer should be kept for as long as the
+ * {@link Storage} that owns it. A writer must only be used from one thread at a time.
+ */
+final class ChannelLineWriter {
+
+    /** Size of the direct buffer that lines are encoded into, in bytes. */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /** Replaces characters that cannot be encoded, such as unpaired surrogates, as {@code FileWriter} does. */
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private FileChannel channel;
+    private long byteCount;
+
+    /**
+     * Starts writing to a channel, at the channel's current position.
+     *
+     * @param channel the channel to write to, which stays open until the caller closes it
+     */
+    void start(FileChannel channel) {
+        this.channel = channel;
+        this.byteCount = 0;
+        buffer.clear();
+    }
+
+    /**
+     * Writes a line of text followed by the platform line separator.
+     *
+     * @param line the line to write, without a line separator
+     * @throws IOException if writing to the channel fails
+     */
+    void writeLine(CharSequence line) throws IOException {
+        assert channel != null : "start() should be called before writing";
+        CharBuffer chars = CharBuffer.wrap(line);
+        encoder.reset();
+        while (encoder.encode(chars, buffer, true).isOverflow()) {
+            drain();
+        }
+        CoderResult result;
+        while ((result = encoder.flush(buffer)).isOverflow()) {
+            drain();
+        }
+        assert result.isUnderflow() : "Encoding errors should be replaced";
+        if (buffer.remaining() < LINE_SEPARATOR.length) {
+            drain();
+        }
+        buffer.put(LINE_SEPARATOR);
+    }
+
+    /**
+     * Writes out whatever is still in the buffer. The channel is not forced to disk and not closed.
+     *
+     * @return the number of bytes written to the channel since {@link #start(FileChannel)}
+     * @throws IOException if writing to the channel fails
+     */
+    long finish() throws IOException {
+        drain();
+        channel = null;
+        return byteCount;
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            byteCount += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
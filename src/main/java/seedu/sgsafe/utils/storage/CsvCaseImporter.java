@@ -0,0 +1,404 @@
+package seedu.sgsafe.utils.storage;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseEdit;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseFactory;
+import seedu.sgsafe.utils.exceptions.InputLengthExceededException;
+import seedu.sgsafe.utils.exceptions.InvalidCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidImportFileException;
+import seedu.sgsafe.utils.exceptions.InvalidImportRowException;
+import seedu.sgsafe.utils.ui.Parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Imports cases from a CSV file into {@link CaseManager}.
+ * <p>
+ * The first row names the columns using the flag names of the {@code add} and {@code edit} commands, e.g.
+ * {@code category,title,date,info,victim,officer,weapon}. The {@code category}, {@code title}, {@code date}
+ * and {@code info} columns are required. Each following row becomes one case: its values are converted the
+ * same way as flag values typed by the user (see {@link Parser#convertFlagValueTypes(Map)}), and values
+ * specific to a category, such as {@code weapon} or {@code vehicle-plate}, are set on the case as an
+ * {@code edit} would. An empty value is treated as missing, and values may be quoted to contain commas.
+ * <p>
+ * A file written by {@link CaseExporter} can be imported again: its {@code status} column decides whether
+ * each case is added open or closed, while its {@code id}, {@code created-at} and {@code updated-at} columns
+ * are ignored, since imported cases are given new IDs and timestamps.
+ * <p>
+ * Rows are read in batches. The rows of a batch are converted and validated in parallel, and the valid ones
+ * are then added in file order, so cases get IDs in the order they appear in the file. A row that cannot
+ * become a case is rejected with a reason and does not stop the import.
+ */
+public class CsvCaseImporter {
+
+    private static final Logger logger = Logger.getLogger(CsvCaseImporter.class.getName());
+
+    /** Number of rows read into memory, validated and added at a time. */
+    private static final int IMPORT_BATCH_SIZE = 16384;
+
+    /** Minimum number of rows in a batch before validation is split across threads. */
+    private static final int PARALLEL_VALIDATION_THRESHOLD = 2048;
+
+    /** Maximum length of a value, as for values typed by the user. */
+    private static final int MAX_VALUE_LENGTH = 5000;
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("category", "title", "date", "info");
+
+    /** Columns written by {@link CaseExporter} that do not describe the content of a case. */
+    private static final List<String> IGNORED_COLUMNS = List.of("id", "created-at", "updated-at");
+
+    /** The columns each category accepts, besides {@code category}. */
+    private static final Map<CaseCategory, Set<String>> COLUMNS_BY_CATEGORY = new EnumMap<>(CaseCategory.class);
+
+    /** Every column accepted by at least one category. */
+    private static final Set<String> KNOWN_COLUMNS = new LinkedHashSet<>();
+
+    static {
+        KNOWN_COLUMNS.add("category");
+        KNOWN_COLUMNS.add("status");
+        KNOWN_COLUMNS.addAll(IGNORED_COLUMNS);
+        for (CaseCategory category : CaseCategory.values()) {
+            Case template = CaseFactory.createCase(category, null, null, null, null, null, null);
+            Set<String> columns = new LinkedHashSet<>(template.getValidEditFlags());
+            COLUMNS_BY_CATEGORY.put(category, columns);
+            KNOWN_COLUMNS.addAll(columns);
+        }
+    }
+
+    private final BufferedReader reader;
+
+    private String[] columns;
+    private int lineNumber = 0;
+    private int importedCount = 0;
+    private final List<String> rejectedRows = new ArrayList<>();
+
+    /**
+     * Creates an importer that reads the given CSV text.
+     *
+     * @param reader the CSV text, starting with the header row
+     */
+    public CsvCaseImporter(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Adds a case to {@link CaseManager} for every valid row of the file.
+     *
+     * @throws IOException                 if the file cannot be read; the cases of the rows read before the line
+     *                                     that could not be read, {@link #getLineNumber()} + 1, stay added
+     * @throws InvalidImportFileException  if the header row is missing or invalid, in which case nothing is added
+     */
+    public void importCases() throws IOException {
+        columns = readHeader();
+
+        List<Row> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        Row row;
+        try {
+            while ((row = readRow()) != null) {
+                batch.add(row);
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    importBatch(batch);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            importBatch(batch);
+            logger.log(Level.WARNING, "Stopped importing after line " + lineNumber + " with " + importedCount
+                    + " cases imported", e);
+            throw e;
+        }
+        importBatch(batch);
+        logger.log(Level.INFO, "Imported " + importedCount + " cases; rejected " + rejectedRows.size() + " rows");
+    }
+
+    public int getImportedCount() {
+        return importedCount;
+    }
+
+    /**
+     * Returns the number of lines read so far, including the header row and blank lines.
+     *
+     * @return the line number of the last line read
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Returns the rows that were rejected, each described as {@code "Line N: reason"}, in file order.
+     *
+     * @return the rejected rows
+     */
+    public List<String> getRejectedRows() {
+        return rejectedRows;
+    }
+
+    /**
+     * Reads and checks the header row.
+     */
+    private String[] readHeader() throws IOException {
+        Row header = readRow();
+        if (header == null) {
+            throw new InvalidImportFileException("The file is empty.");
+        }
+        List<String> values = splitRow(header.text);
+        String[] headerColumns = new String[values.size()];
+        Set<String> seenColumns = new LinkedHashSet<>();
+        for (int i = 0; i < headerColumns.length; i++) {
+            // Spreadsheet programs may start the file with a byte order mark
+            String column = values.get(i).replace(BYTE_ORDER_MARK, "").strip().toLowerCase(Locale.ROOT);
+            if (!KNOWN_COLUMNS.contains(column)) {
+                throw new InvalidImportFileException("Unknown column '" + column + "'.");
+            }
+            if (!seenColumns.add(column)) {
+                throw new InvalidImportFileException("The column '" + column + "' appears more than once.");
+            }
+            headerColumns[i] = column;
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!seenColumns.contains(required)) {
+                throw new InvalidImportFileException("The required column '" + required + "' is missing.");
+            }
+        }
+        return headerColumns;
+    }
+
+    /**
+     * Reads the text of the next row, which spans several lines if a quoted value contains a line break.
+     *
+     * @return the next row, or {@code null} at the end of the file
+     */
+    private Row readRow() throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.isBlank()) {
+            lineNumber++;
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        int firstLineNumber = lineNumber;
+
+        // A row ends on the first line that leaves an even number of quotes in the row
+        boolean isInsideQuotes = hasOddQuoteCount(line);
+        if (!isInsideQuotes) {
+            return new Row(firstLineNumber, line);
+        }
+        StringBuilder text = new StringBuilder(line);
+        while (isInsideQuotes) {
+            String nextLine = reader.readLine();
+            if (nextLine == null) {
+                break;
+            }
+            lineNumber++;
+            text.append('\n').append(nextLine);
+            isInsideQuotes ^= hasOddQuoteCount(nextLine);
+        }
+        return new Row(firstLineNumber, text.toString());
+    }
+
+    private static boolean hasOddQuoteCount(String line) {
+        boolean isOdd = false;
+        for (int i = line.indexOf(QUOTE); i != -1; i = line.indexOf(QUOTE, i + 1)) {
+            isOdd = !isOdd;
+        }
+        return isOdd;
+    }
+
+    /**
+     * Validates a batch of rows, in parallel if it is large, then adds the cases of the valid rows in order.
+     */
+    private void importBatch(List<Row> batch) {
+        int rowCount = batch.size();
+        Object[] results = new Object[rowCount];
+        IntStream indices = IntStream.range(0, rowCount);
+        if (rowCount >= PARALLEL_VALIDATION_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> results[i] = validateRow(batch.get(i)));
+
+        for (int i = 0; i < rowCount; i++) {
+            if (results[i] instanceof ValidRow validRow) {
+                CaseManager.addNewCase(validRow::toCase);
+                importedCount++;
+            } else {
+                String reason = String.join(" ", ((InvalidCommandException) results[i]).getErrorMessage());
+                rejectedRows.add("Line " + batch.get(i).lineNumber + ": " + reason);
+            }
+        }
+    }
+
+    /**
+     * Converts and validates a single row, returning the exception instead of throwing it so that rejected
+     * rows can be reported in file order after a parallel validation.
+     *
+     * @param row the row to validate
+     * @return the {@link ValidRow}, or the {@link InvalidCommandException} describing why the row is rejected
+     */
+    private Object validateRow(Row row) {
+        try {
+            return convertRow(row);
+        } catch (InvalidCommandException e) {
+            return e;
+        }
+    }
+
+    private ValidRow convertRow(Row row) {
+        List<String> values = splitRow(row.text);
+        if (values.size() != columns.length) {
+            throw new InvalidImportRowException("Expected " + columns.length + " values but found "
+                    + values.size() + ".");
+        }
+
+        Map<String, String> rawValues = new HashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            String value = values.get(i).strip();
+            if (value.isEmpty() || IGNORED_COLUMNS.contains(columns[i])) {
+                continue;
+            }
+            if (value.indexOf('|') != -1) {
+                throw new InvalidImportRowException("The value for '" + columns[i] + "' contains '|'.");
+            }
+            if (value.indexOf('\n') != -1 || value.indexOf('\r') != -1) {
+                throw new InvalidImportRowException("The value for '" + columns[i] + "' spans several lines.");
+            }
+            if (value.length() > MAX_VALUE_LENGTH) {
+                throw new InputLengthExceededException();
+            }
+            rawValues.put(columns[i], value);
+        }
+
+        for (String required : REQUIRED_COLUMNS) {
+            if (!rawValues.containsKey(required)) {
+                throw new InvalidImportRowException("The value for '" + required + "' is missing.");
+            }
+        }
+        CaseCategory category = parseCategory(rawValues.remove("category"));
+        boolean isOpen = parseStatus(rawValues.remove("status"));
+        Set<String> validColumns = COLUMNS_BY_CATEGORY.get(category);
+        for (String column : rawValues.keySet()) {
+            if (!validColumns.contains(column)) {
+                throw new InvalidImportRowException("The value for '" + column + "' does not apply to "
+                        + category.name().toLowerCase(Locale.ROOT) + " cases.");
+            }
+        }
+
+        CaseEdit typedValues = Parser.convertFlagValueTypes(rawValues);
+        return new ValidRow(category, isOpen, typedValues);
+    }
+
+    private static boolean parseStatus(String value) {
+        if (value == null) {
+            return true;
+        }
+        return switch (value.toLowerCase(Locale.ROOT)) {
+        case "open" -> true;
+        case "closed" -> false;
+        default -> throw new InvalidImportRowException("The status '" + value + "' is not open or closed.");
+        };
+    }
+
+    private static CaseCategory parseCategory(String value) {
+        try {
+            return CaseCategory.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidImportRowException("The category '" + value + "' does not exist.");
+        }
+    }
+
+    /**
+     * Splits the text of a row into its values. A value in double quotes may contain commas and line breaks,
+     * and a doubled quote inside it stands for one quote.
+     */
+    static List<String> splitRow(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean isInsideQuotes = false;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == QUOTE) {
+                if (isInsideQuotes && i + 1 < length && text.charAt(i + 1) == QUOTE) {
+                    value.append(QUOTE);
+                    i++;
+                } else {
+                    isInsideQuotes = !isInsideQuotes;
+                }
+            } else if (c == SEPARATOR && !isInsideQuotes) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * The text of one row of the file and the line it starts on.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final String text;
+
+        private Row(int lineNumber, String text) {
+            this.lineNumber = lineNumber;
+            this.text = text;
+        }
+    }
+
+    /**
+     * The converted values of a row that passed validation.
+     */
+    private static class ValidRow {
+        private final CaseCategory category;
+        private final boolean isOpen;
+        private final CaseEdit values;
+
+        private ValidRow(CaseCategory category, boolean isOpen, CaseEdit values) {
+            this.category = category;
+            this.isOpen = isOpen;
+            this.values = values;
+        }
+
+        /**
+         * Creates the case described by this row.
+         *
+         * @param id the ID to give the case
+         * @return the new case
+         */
+        private Case toCase(String id) {
+            Case newCase = CaseFactory.createCase(category, id,
+                    values.getText("title"), values.getDate(), values.getText("info"),
+                    values.getText("victim"), values.getText("officer"));
+            // The values besides title, date and info may include fields specific to the category
+            if (values.getFlags().size() > 3) {
+                newCase.update(values);
+            }
+            if (!isOpen) {
+                newCase.setClosed();
+            }
+            return newCase;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package seedu.sgsafe.utils.storage;
+
+/**
+ * Specifies the file format that cases are exported in.
+ */
+public enum ExportFormat {
+    /** One row per case, with a header row naming the columns; the rows can be imported again. */
+    CSV,
+
+    /** One JSON object per line per case. */
+    JSONL
+}
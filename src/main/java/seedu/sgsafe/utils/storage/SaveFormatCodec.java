@@ -0,0 +1,340 @@
+package seedu.sgsafe.utils.storage;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseEdit;
+import seedu.sgsafe.domain.casefiles.CaseIdAllocator;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseFactory;
+import seedu.sgsafe.domain.casefiles.type.InvalidCase;
+import seedu.sgsafe.utils.exceptions.InvalidSavedCategoryException;
+import seedu.sgsafe.utils.exceptions.InvalidSavedDateException;
+import seedu.sgsafe.utils.exceptions.InvalidSavedFieldsException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encodes {@link Case} objects into the pipe-delimited save format and decodes them back.
+ * <p>
+ * A saved case is a single line of {@code key:value} fields separated by {@code |}, for example
+ * {@code id:00002a|category:THEFT|title:Wallet stolen|date:01/02/2024|...}. The decoder walks the line
+ * using index arithmetic, so no regular expressions are involved, and parses and validates each value before
+ * handing it to the case as a typed value in a {@link CaseEdit}. The encoder formats the typed values passed by
+ * {@link Case#writeSaveFields(java.util.function.BiConsumer)} into a {@link StringBuilder} that is reused
+ * from one case to the next.
+ * <p>
+ * Decoding is stateless and safe to call from several threads at once. Each encoder instance owns
+ * its buffer, so an instance must only be used to encode from one thread at a time.
+ */
+public class SaveFormatCodec {
+
+    /** Separator between fields of a saved case. */
+    static final char FIELD_SEPARATOR = '|';
+
+    /** Separator between the key and the value of a field. */
+    static final char KEY_VALUE_SEPARATOR = ':';
+
+    /** Formatters for the save patterns, built once since they never change. */
+    private static final DateTimeFormatter SAVE_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern(Storage.getSaveDatePattern());
+    private static final DateTimeFormatter SAVE_DATETIME_FORMATTER =
+            DateTimeFormatter.ofPattern(Storage.getSaveDateTimePattern());
+
+    /** The fields holding amounts; every other numeric field holds a whole number. */
+    private static final Set<String> AMOUNT_FIELDS = Set.of("financial-value", "monetary-damage");
+
+    /** The amounts saved with two decimal places; others are saved the way {@link Double#toString()} writes them. */
+    private static final Set<String> TWO_DECIMAL_FIELDS = Set.of("financial-value");
+
+    /** The additional fields of each category, which are the only fields other than the shared ones decoded. */
+    private static final Map<CaseCategory, Set<String>> ADDITIONAL_FIELDS = new EnumMap<>(CaseCategory.class);
+
+    static {
+        for (CaseCategory category : CaseCategory.values()) {
+            Case template = CaseFactory.createCase(category, null, null, null, null, null, null);
+            ADDITIONAL_FIELDS.put(category, Set.copyOf(template.getAdditionalFields()));
+        }
+    }
+
+    /** Buffer reused by {@link #encode(Case)}. */
+    private final StringBuilder encodeBuffer = new StringBuilder(256);
+
+    /**
+     * Encodes a case into the reusable buffer of this codec.
+     * <p>
+     * The returned sequence is only valid until the next call to this method.
+     *
+     * @param caseToEncode the case to encode
+     * @return the save line of the case, without a line separator
+     */
+    public CharSequence encode(Case caseToEncode) {
+        encodeBuffer.setLength(0);
+        appendSaveLine(encodeBuffer, caseToEncode);
+        return encodeBuffer;
+    }
+
+    /**
+     * Encodes a case into a new string.
+     *
+     * @param caseToEncode the case to encode
+     * @return the save line of the case, without a line separator
+     */
+    public static String toSaveString(Case caseToEncode) {
+        StringBuilder builder = new StringBuilder(256);
+        appendSaveLine(builder, caseToEncode);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the save line of a case to {@code builder}. A case that could not be loaded is written back
+     * as it was read.
+     */
+    private static void appendSaveLine(StringBuilder builder, Case caseToEncode) {
+        if (caseToEncode instanceof InvalidCase invalidCase) {
+            builder.append(invalidCase.getInvalidSaveString());
+            return;
+        }
+        int lineStart = builder.length();
+        // Encode a loaded copy so that saving does not keep every field of every case in memory
+        caseToEncode.getFullyLoadedView().writeSaveFields((key, value) -> {
+            if (builder.length() > lineStart) {
+                builder.append(FIELD_SEPARATOR);
+            }
+            builder.append(key).append(KEY_VALUE_SEPARATOR);
+            appendValue(builder, key, value);
+        });
+    }
+
+    /**
+     * Appends a value in the form it is saved in. A {@code null} value is left empty.
+     */
+    private static void appendValue(StringBuilder builder, String key, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof LocalDate date) {
+            SAVE_DATE_FORMATTER.formatTo(date, builder);
+        } else if (value instanceof LocalDateTime dateTime) {
+            SAVE_DATETIME_FORMATTER.formatTo(dateTime, builder);
+        } else if (value instanceof Boolean flag) {
+            builder.append(flag ? '1' : '0');
+        } else if (value instanceof Double amount && TWO_DECIMAL_FIELDS.contains(key)) {
+            builder.append(BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).toPlainString());
+        } else {
+            builder.append(value);
+        }
+    }
+
+    /**
+     * Formats one of the additional fields of a case in the form it is saved in.
+     *
+     * @param key   the field name
+     * @param value the value passed by {@link Case#writeAdditionalSaveFields(java.util.function.BiConsumer)}
+     * @return the saved value, or an empty string if the value is {@code null}
+     */
+    static String formatSavedValue(String key, Object value) {
+        StringBuilder builder = new StringBuilder();
+        appendValue(builder, key, value);
+        return builder.toString();
+    }
+
+    /**
+     * Parses and validates the saved value of one of the additional fields of a case, and adds it to
+     * {@code savedFields} as a typed value.
+     *
+     * @param savedFields the values being restored
+     * @param key         the field name
+     * @param value       the non-empty saved value
+     * @throws IllegalArgumentException if the value cannot be parsed for the field
+     */
+    static void putSavedValue(CaseEdit savedFields, String key, String value) {
+        if (AMOUNT_FIELDS.contains(key)) {
+            savedFields.setDouble(key, parseSavedAmount(value));
+        } else if (CaseEdit.isNumericFlag(key)) {
+            savedFields.setInt(key, parseSavedCount(value));
+        } else {
+            savedFields.setText(key, value);
+        }
+    }
+
+    /**
+     * Parses a saved whole-number field, such as a number of victims.
+     *
+     * @param value the saved value
+     * @return the parsed number
+     * @throws IllegalArgumentException if the value is not a non-negative integer
+     */
+    private static int parseSavedCount(String value) {
+        int count = Integer.parseInt(value);
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + value);
+        }
+        return count;
+    }
+
+    /**
+     * Parses a saved monetary field, rounded to two decimal places like user input.
+     *
+     * @param value the saved value
+     * @return the parsed amount
+     * @throws IllegalArgumentException if the value is not a finite, non-negative number
+     */
+    private static double parseSavedAmount(String value) {
+        double amount = Double.parseDouble(value);
+        if (amount < 0 || Double.isInfinite(amount) || Double.isNaN(amount)) {
+            throw new IllegalArgumentException("Invalid amount: " + value);
+        }
+        return Math.round(amount * 100.0) / 100.0;
+    }
+
+    /**
+     * Decodes a save line into a {@link Case}.
+     * <p>
+     * Empty values are treated as missing. If a key appears more than once, the last value wins.
+     * Fields that the case's category does not use are ignored. Lines saved before IDs were saved with the
+     * cases have no {@code id} field, in which case the given ID is used.
+     *
+     * @param line a line of text representing a serialized case
+     * @param id   the ID to give the decoded case if the line does not hold one
+     * @return the decoded case
+     * @throws InvalidSavedFieldsException   if a mandatory field is missing or a field value is malformed
+     * @throws InvalidSavedDateException     if a date or timestamp cannot be parsed
+     * @throws InvalidSavedCategoryException if the category is not recognised
+     */
+    public static Case decode(String line, String id) {
+        String savedId = null;
+        String category = null;
+        String title = null;
+        String date = null;
+        String info = null;
+        String victim = null;
+        String officer = null;
+        String isDeleted = null;
+        String isOpen = null;
+        String createdAt = null;
+        String updatedAt = null;
+        boolean hasExtraFields = false;
+
+        // First pass: pick out the fields shared by every case
+        int fieldStart = 0;
+        int length = line.length();
+        while (fieldStart <= length) {
+            int fieldEnd = findFieldEnd(line, fieldStart);
+            int separator = line.indexOf(KEY_VALUE_SEPARATOR, fieldStart);
+            String value = separator != -1 && separator < fieldEnd
+                    ? extractValue(line, separator, fieldEnd)
+                    : null;
+            if (value != null) {
+                switch (line.substring(fieldStart, separator)) {
+                case "id" -> savedId = value;
+                case "category" -> category = value;
+                case "title" -> title = value;
+                case "date" -> date = value;
+                case "info" -> info = value;
+                case "victim" -> victim = value;
+                case "officer" -> officer = value;
+                case "is-deleted" -> isDeleted = value;
+                case "is-open" -> isOpen = value;
+                case "created-at" -> createdAt = value;
+                case "updated-at" -> updatedAt = value;
+                default -> hasExtraFields = true;
+                }
+            }
+            fieldStart = fieldEnd + 1;
+        }
+
+        if (category == null || title == null || date == null || info == null
+                || isDeleted == null || isOpen == null || createdAt == null || updatedAt == null) {
+            throw new InvalidSavedFieldsException(line);
+        }
+
+        LocalDate parsedDate;
+        LocalDateTime parsedCreatedAt;
+        LocalDateTime parsedUpdatedAt;
+        try {
+            parsedDate = LocalDate.parse(date, SAVE_DATE_FORMATTER);
+            parsedCreatedAt = LocalDateTime.parse(createdAt, SAVE_DATETIME_FORMATTER);
+            parsedUpdatedAt = LocalDateTime.parse(updatedAt, SAVE_DATETIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new InvalidSavedDateException(line);
+        }
+
+        String caseId = id;
+        if (savedId != null) {
+            int parsedId = CaseIdAllocator.parse(savedId);
+            if (parsedId == CaseIdAllocator.NO_ID) {
+                throw new InvalidSavedFieldsException(line);
+            }
+            caseId = CaseIdAllocator.format(parsedId);
+        }
+
+        CaseCategory caseCategory;
+        try {
+            caseCategory = CaseCategory.valueOf(category);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSavedCategoryException(line);
+        }
+
+        Case newCase = CaseFactory.createCase(caseCategory, caseId, title, parsedDate, info, victim, officer);
+
+        // Second pass: hand the category-specific fields to the case itself
+        if (hasExtraFields) {
+            restoreExtraFields(newCase, line);
+        }
+
+        newCase.initialiseMetadataFromSave(isOpen.equals("1"), isDeleted.equals("1"),
+                parsedCreatedAt, parsedUpdatedAt);
+        return newCase;
+    }
+
+    /**
+     * Restores every non-empty additional field of the case's category from the line. Fields shared by every
+     * case, and fields the category does not have, are ignored.
+     */
+    private static void restoreExtraFields(Case newCase, String line) {
+        Set<String> additionalFields = ADDITIONAL_FIELDS.get(newCase.getCategory());
+        CaseEdit savedFields = new CaseEdit();
+        int fieldStart = 0;
+        int length = line.length();
+        while (fieldStart <= length) {
+            int fieldEnd = findFieldEnd(line, fieldStart);
+            int separator = line.indexOf(KEY_VALUE_SEPARATOR, fieldStart);
+            if (separator != -1 && separator < fieldEnd) {
+                String key = line.substring(fieldStart, separator);
+                String value = extractValue(line, separator, fieldEnd);
+                if (value != null && additionalFields.contains(key)) {
+                    try {
+                        putSavedValue(savedFields, key, value);
+                    } catch (IllegalArgumentException e) {
+                        throw new InvalidSavedFieldsException(line);
+                    }
+                }
+            }
+            fieldStart = fieldEnd + 1;
+        }
+        newCase.restoreSavedFields(savedFields);
+    }
+
+    private static int findFieldEnd(String line, int fieldStart) {
+        int fieldEnd = line.indexOf(FIELD_SEPARATOR, fieldStart);
+        return fieldEnd == -1 ? line.length() : fieldEnd;
+    }
+
+    /**
+     * Returns the stripped value between a key-value separator and the end of its field,
+     * or {@code null} if the value is empty.
+     */
+    private static String extractValue(String line, int separator, int fieldEnd) {
+        if (separator + 1 == fieldEnd) {
+            return null;
+        }
+        return line.substring(separator + 1, fieldEnd).strip();
+    }
+}
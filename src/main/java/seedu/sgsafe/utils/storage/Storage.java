@@ -1,48 +1,33 @@
 package seedu.sgsafe.utils.storage;
 
 import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseIdAllocator;
 import seedu.sgsafe.domain.casefiles.CaseManager;
-import seedu.sgsafe.domain.casefiles.type.CaseCategory;
 import seedu.sgsafe.domain.casefiles.type.InvalidCase;
-import seedu.sgsafe.domain.casefiles.type.OthersCase;
-import seedu.sgsafe.domain.casefiles.type.financial.BurglaryCase;
-import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
-import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
-import seedu.sgsafe.domain.casefiles.type.property.ArsonCase;
-import seedu.sgsafe.domain.casefiles.type.property.VandalismCase;
-import seedu.sgsafe.domain.casefiles.type.sexual.RapeCase;
-import seedu.sgsafe.domain.casefiles.type.sexual.VoyeurismCase;
-import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
-import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
-import seedu.sgsafe.domain.casefiles.type.violent.AssaultCase;
-import seedu.sgsafe.domain.casefiles.type.violent.MurderCase;
-import seedu.sgsafe.domain.casefiles.type.violent.RobberyCase;
 
 import seedu.sgsafe.utils.exceptions.InvalidSaveStringException;
-import seedu.sgsafe.utils.exceptions.InvalidSavedCategoryException;
-import seedu.sgsafe.utils.exceptions.InvalidSavedDateException;
-import seedu.sgsafe.utils.exceptions.InvalidSavedFieldsException;
 
 import seedu.sgsafe.utils.ui.Display;
-import seedu.sgsafe.utils.ui.Parser;
-import seedu.sgsafe.utils.ui.Validator;
 
 import seedu.sgsafe.utils.settings.Settings;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileReader;
 import java.io.IOException;
-
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Scanner;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 /**
  * The {@code Storage} class handles the persistence (saving and loading)
@@ -50,30 +35,203 @@ import java.util.List;
  * <p>
  * Each case is serialized into a string format that uses key-value pairs separated by
  * a pipe character ("|"), with each key and value separated by a colon (":").
+ * Encoding and decoding of this format is done by {@link SaveFormatCodec}. Every case is saved with its ID,
+ * and the ID that the next new case will be given is saved on a line of its own, so that IDs are never
+ * reused. Cases in save files written before IDs were saved are given IDs matching their line order.
+ * <p>
+ * When constructed with a journal file, {@code Storage} runs in journal mode: instead of rewriting
+ * the whole save file after every change, each changed case (or settings change) is appended to the
+ * journal as a single record. The journal is folded back into the save file once it grows past
+ * {@link #JOURNAL_COMPACTION_THRESHOLD} records, and whenever the application starts up.
+ * <p>
+ * Deleted cases stay in the save file until they are removed with {@link CaseManager#removeDeletedCases()},
+ * after which the save file is rewritten without them. They are also removed automatically on start-up and
+ * when the journal is folded back, once there are at least {@link #AUTO_REMOVAL_MIN_DELETED_CASES} of them
+ * and they make up at least {@link #AUTO_REMOVAL_MIN_DELETED_FRACTION} of all cases.
+ * <p>
+ * The save file is never overwritten in place. It is written to a temporary file, which is forced to disk and
+ * then renamed over the save file, so a crash during a save leaves the previous save file intact. Journal
+ * records are written straight away but forced to disk at most once every {@link #GROUP_COMMIT_INTERVAL_NANOS},
+ * so that a burst of changes shares one forced write; {@link #close()} forces any that are still pending.
+ * <p>
+ * Saving may run on a different thread from the commands that change the cases, as it does under
+ * {@link BackgroundSaver}. Cases are encoded while {@link CaseManager#readWithoutChanges} keeps them from
+ * changing, and a {@code Storage} must only be used by one thread at a time.
  * <p>
  * This class also provides date and datetime patterns used for consistent formatting.
  */
 public class Storage {
+    private static final Logger logger = Logger.getLogger(Storage.class.getName());
+
     /** The date pattern used for saving and parsing case dates (e.g., 29/10/2025). */
     private static final String SAVE_DATE_PATTERN = "dd/MM/yyyy";
 
     /** The date-time pattern used for saving and parsing timestamps (e.g., 29/10/2025 13:45:22). */
     private static final String SAVE_DATETIME_PATTERN = "dd/MM/yyyy HH:mm:ss";
 
+    /** Number of lines read from the save file before they are parsed and added to the {@link CaseManager}. */
+    private static final int LOAD_BATCH_SIZE = 16384;
+
+    /** Batches with fewer lines than this are parsed on the calling thread. */
+    private static final int PARALLEL_PARSE_THRESHOLD = 2048;
+
     private static final String SETTING_PREFIX = "settings:";
 
+    /** Prefix of the line holding the ID that the next new case will be given. */
+    private static final String NEXT_ID_PREFIX = "next-id:";
+
+    /** Number of journal records after which the journal is folded back into the save file. */
+    static final int JOURNAL_COMPACTION_THRESHOLD = 1000;
+
+    /** Smallest number of deleted cases that are removed automatically. */
+    static final int AUTO_REMOVAL_MIN_DELETED_CASES = 1000;
+
+    /** Smallest fraction of all cases that deleted cases must make up to be removed automatically. */
+    static final double AUTO_REMOVAL_MIN_DELETED_FRACTION = 0.25;
+
+    /** Suffix of the temporary file that a new save file is written to before it replaces the old one. */
+    static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    /** Suffix of a snapshot written while the one it replaces is still mapped; it is moved into place on start-up. */
+    static final String PENDING_SNAPSHOT_SUFFIX = ".next";
+
+    /** Shortest time between two forced writes of the journal; records appended in between share the next. */
+    static final long GROUP_COMMIT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * Smallest save file whose load time is used to estimate the effect of removing cases. Loading a smaller
+     * file takes mostly the time to warm up the JVM, whatever its size.
+     */
+    static final long MIN_LOAD_SAMPLE_BYTES = 1L << 20;
+
     /** The filename where cases are stored. */
     private final String filename;
 
-    private final Validator validator = new Validator();
+    /** The filename of the journal, or {@code null} if journal mode is disabled. */
+    private final String journalFilename;
+
+    /** The filename of the binary snapshot, or {@code null} if snapshots are disabled. */
+    private final String snapshotFilename;
+
+    /** Whether cases are loaded from a memory-mapped snapshot with their details deferred until needed. */
+    private boolean isLazyLoading = false;
+
+    /** Whether the snapshot file is mapped into memory, so that it cannot be replaced until the program exits. */
+    private boolean isSnapshotMapped = false;
+
+    /** Encodes cases for saving, reusing one buffer across cases. */
+    private final SaveFormatCodec codec = new SaveFormatCodec();
+
+    /** Writes encoded lines to the save file and journal, reusing one buffer across saves. */
+    private final ChannelLineWriter lineWriter = new ChannelLineWriter();
+
+    /** The {@link System#nanoTime()} at which the journal was last forced to disk. */
+    private long lastJournalSyncNanos = System.nanoTime() - GROUP_COMMIT_INTERVAL_NANOS;
+
+    /** Whether records have been appended to the journal since it was last forced to disk. */
+    private boolean hasUnsyncedJournalRecords = false;
+
+    /**
+     * Whether the last attempt to write the save file or append to the journal failed, so that the next save
+     * must rewrite the save file with every case.
+     */
+    private boolean isFullSaveNeeded = false;
+
+    /** Number of records appended to the journal since it was last compacted. */
+    private int journalRecordCount = 0;
+
+    /** The {@link Settings#getVersion()} that was last persisted. */
+    private long persistedSettingsVersion = -1;
+
+    /** The {@link CaseManager#getVersion()} that was last persisted. */
+    private long persistedCaseVersion = -1;
+
+    /** The {@link CaseManager#getRemovedCaseCount()} that was last persisted. */
+    private long persistedRemovedCaseCount = CaseManager.getRemovedCaseCount();
+
+    /**
+     * The time taken to load each byte of the save file on start-up, used to estimate the effect of removing
+     * cases, or 0 if the save file was not loaded or was too small to measure.
+     */
+    private double loadNanosPerByte = 0;
+
+    /** Total number of bytes written to the save file and journal by this {@code Storage}. */
+    private long bytesWritten = 0;
+
+    /** Receives the messages shown while saving, or {@code null} to print them straight away. */
+    private Consumer<String> saveMessageSink = null;
 
     /**
      * Constructs a {@code Storage} object with the specified filename.
+     * Every save rewrites the whole file.
      *
      * @param filename the name of the file used to save and load case data
      */
     public Storage(String filename) {
+        this(filename, null);
+    }
+
+    /**
+     * Constructs a {@code Storage} object in journal mode.
+     *
+     * @param filename        the name of the file used to save and load case data
+     * @param journalFilename the name of the file that changes are appended to between compactions,
+     *                        or {@code null} to always rewrite the save file
+     */
+    public Storage(String filename, String journalFilename) {
+        this(filename, journalFilename, null);
+    }
+
+    /**
+     * Constructs a {@code Storage} object that also keeps a {@link BinarySnapshot} of the save file.
+     * <p>
+     * Every time the save file is written, the snapshot is written alongside it. On start-up, the snapshot
+     * is loaded instead of the save file as long as the save file has not changed since; otherwise the
+     * save file is loaded and the snapshot is written from it.
+     *
+     * @param filename         the name of the file used to save and load case data
+     * @param journalFilename  the name of the file that changes are appended to between compactions,
+     *                         or {@code null} to always rewrite the save file
+     * @param snapshotFilename the name of the binary snapshot file, or {@code null} to disable snapshots
+     */
+    public Storage(String filename, String journalFilename, String snapshotFilename) {
         this.filename = filename;
+        this.journalFilename = journalFilename;
+        this.snapshotFilename = snapshotFilename;
+    }
+
+    /**
+     * Sets whether cases are loaded lazily from the snapshot.
+     * <p>
+     * When enabled, the snapshot is mapped into memory and only the ID, category, status, date and title of
+     * each case are read on start-up. The other fields of a case are read from the mapped snapshot the first
+     * time they are needed, such as when the case is read, edited or listed verbosely. This has no effect
+     * unless snapshots are enabled, and cases are still loaded from the save file when the snapshot is
+     * missing or out of date.
+     *
+     * @param isLazyLoading {@code true} to load cases lazily
+     */
+    public void setLazyLoading(boolean isLazyLoading) {
+        this.isLazyLoading = isLazyLoading;
+    }
+
+    /**
+     * Passes the messages shown while saving, such as save errors, to {@code sink} instead of printing them,
+     * so that a thread that saves in the background can leave them for the command thread to show.
+     *
+     * @param sink receives each message, or {@code null} to print messages straight away
+     */
+    public void setSaveMessageSink(Consumer<String> sink) {
+        this.saveMessageSink = sink;
+    }
+
+    /**
+     * Returns the total number of bytes this {@code Storage} has written to disk.
+     *
+     * @return the number of bytes written to the save file and journal
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
     }
 
     /**
@@ -94,117 +252,28 @@ public class Storage {
         return SAVE_DATETIME_PATTERN;
     }
 
-    /**
-     * Parses a serialized save string into a map of field names and their corresponding values.
-     * Fields are separated by {@code |}, and key-value pairs are separated by {@code :}.
-     *
-     * @param saveString the serialized string representation of a case
-     * @return a map containing field names as keys and their string values
-     */
-    private Map<String, String> getFields(String saveString) {
-        Map<String, String> fields = new HashMap<>();
-        for (String field : saveString.split("\\|")) {
-            String[] splitField = field.split(":", 2);
-            if(splitField.length == 2) {
-                String key = splitField[0];
-                String value = (splitField[1].isEmpty()) ? null : splitField[1].strip();
-                if (value != null) {
-                    fields.put(key, value);
-                }
-            }
-        }
-        return fields;
-    }
-
     /**
      * Converts a serialized save string into a corresponding {@link Case} object.
      * <p>
-     * The method uses the {@code category} field to determine which subclass of {@link Case}
-     * to instantiate (e.g., {@link TheftCase}, {@link MurderCase}, etc.).
+     * The {@code category} field determines which subclass of {@link Case} is instantiated;
+     * see {@link SaveFormatCodec#decode(String, String)}.
      *
      * @param line a line of text representing a serialized case
      * @return a {@code Case} object reconstructed from the save string
      */
     public Case getCaseFromSaveString(String line) {
-        Map<String, String> fields = getFields(line);
-
-        // List of required flags
-        List<String> requiredFlags = List.of(
-                "category",
-                "title",
-                "date",
-                "info",
-                "is-deleted",
-                "is-open",
-                "created-at",
-                "updated-at"
-        );
-
-        if(!validator.haveAllRequiredFlags(fields, requiredFlags)) {
-            throw new InvalidSavedFieldsException(line);
-        }
-
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(getSaveDatePattern());
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(getSaveDateTimePattern());
-
-        String id = CaseManager.generateHexId();
-
-        // Parse base attributes
-        String title = fields.get("title");
-        String info = fields.get("info");
-        String victim = fields.get("victim");
-        String officer = fields.get("officer");
-        boolean isDeleted = fields.get("is-deleted").equals("1");
-        boolean isOpen = fields.get("is-open").equals("1");
-        String category = fields.get("category");
-
-        LocalDate date;
-        LocalDateTime createdAt;
-        LocalDateTime updatedAt;
-        try {
-            date = LocalDate.parse(fields.get("date"), dateFormatter);
-            createdAt = LocalDateTime.parse(fields.get("created-at"), dateTimeFormatter);
-            updatedAt = LocalDateTime.parse(fields.get("updated-at"), dateTimeFormatter);
-        } catch (DateTimeParseException e) {
-            throw new InvalidSavedDateException(line);
-        }
-
-        CaseCategory caseCategory;
-        try {
-            caseCategory = CaseCategory.valueOf(category);
-        } catch (IllegalArgumentException e) {
-            throw new InvalidSavedCategoryException(line);
-        }
-
-        // Instantiate the appropriate subclass of Case
-        Case newCase = switch (caseCategory) {
-        case BURGLARY -> new BurglaryCase(id, title, date, info, victim, officer);
-        case SCAM -> new ScamCase(id, title, date, info, victim, officer);
-        case THEFT -> new TheftCase(id, title, date, info, victim, officer);
-        case ARSON -> new ArsonCase(id, title, date, info, victim, officer);
-        case VANDALISM -> new VandalismCase(id, title, date, info, victim, officer);
-        case RAPE -> new RapeCase(id, title, date, info, victim, officer);
-        case VOYEURISM -> new VoyeurismCase(id, title, date, info, victim, officer);
-        case ACCIDENT -> new AccidentCase(id, title, date, info, victim, officer);
-        case SPEEDING -> new SpeedingCase(id, title, date, info, victim, officer);
-        case ASSAULT -> new AssaultCase(id, title, date, info, victim, officer);
-        case MURDER -> new MurderCase(id, title, date, info, victim, officer);
-        case ROBBERY -> new RobberyCase(id, title, date, info, victim, officer);
-        case OTHERS -> new OthersCase(id, title, date, info, victim, officer);
-        };
-
-        // Only retain additional fields that are specific to the subclass
-        List<String> additionalFields = newCase.getAdditionalFields();
-        fields.keySet().retainAll(additionalFields);
-
-        // Convert field values to appropriate data types
-        Map<String, Object> typedFields = Parser.convertFlagValueTypes(fields);
-        newCase.update(typedFields);
-
-        // Set timestamps and status flags
-        newCase.initialiseMetadataFromSave(isOpen, isDeleted, createdAt, updatedAt);
+        return getCaseFromSaveString(line, CaseManager.generateHexId());
+    }
 
-        return newCase;
+    /**
+     * Converts a serialized save string into a corresponding {@link Case} object with the given ID.
+     *
+     * @param line a line of text representing a serialized case
+     * @param id   the ID to give the reconstructed case
+     * @return a {@code Case} object reconstructed from the save string
+     */
+    private Case getCaseFromSaveString(String line, String id) {
+        return SaveFormatCodec.decode(line, id);
     }
 
     private void loadSettings(String settingString) throws IllegalArgumentException {
@@ -218,74 +287,663 @@ public class Storage {
         Settings.setDateTimeFormat(settings[2].strip());
     }
 
-    private void parseLine(String line) {
-        if (line.startsWith(SETTING_PREFIX)) {
-            ArrayList<String> settingResult = new ArrayList<>();
-            settingResult.add("Loading settings from save...");
+    private void parseSettingsLine(String line) {
+        ArrayList<String> settingResult = new ArrayList<>();
+        settingResult.add("Loading settings from save...");
 
-            try {
-                loadSettings(line);
-            } catch (IllegalArgumentException e) {
-                settingResult.add("Invalid settings format. " +
-                        "Some of them could not be loaded from the save file.");
-            }
+        try {
+            loadSettings(line);
+        } catch (IllegalArgumentException e) {
+            settingResult.add("Invalid settings format. " +
+                    "Some of them could not be loaded from the save file.");
+        }
 
-            settingResult.add("Date input format was set to: " + Settings.getInputDateFormat());
-            settingResult.add("Date output format was set to: " + Settings.getOutputDateFormat());
-            settingResult.add("Timestamp output format was set to: " + Settings.getDateTimeFormat());
+        settingResult.add("Date input format was set to: " + Settings.getInputDateFormat());
+        settingResult.add("Date output format was set to: " + Settings.getOutputDateFormat());
+        settingResult.add("Timestamp output format was set to: " + Settings.getDateTimeFormat());
+
+        Display.printMessage(settingResult.toArray(new String[0]));
+    }
+
+    /**
+     * Restores the ID that the next new case will be given, unless cases with larger IDs were already loaded.
+     *
+     * @param line the line holding the next ID
+     */
+    private void parseNextIdLine(String line) {
+        int nextId = CaseIdAllocator.parse(line.substring(NEXT_ID_PREFIX.length()).strip());
+        if (nextId == CaseIdAllocator.NO_ID) {
+            logger.log(Level.WARNING, "Ignoring unreadable next case ID: " + line);
+            return;
+        }
+        restoreNextId(nextId);
+    }
+
+    private static void restoreNextId(int nextId) {
+        if (nextId > CaseManager.getNextId()) {
+            CaseManager.setNextId(nextId);
+        }
+    }
+
+    private static boolean isCaseLine(String line) {
+        return !line.startsWith(SETTING_PREFIX) && !line.startsWith(NEXT_ID_PREFIX) && !line.trim().isEmpty();
+    }
+
+    /**
+     * Parses a batch of lines from the save file and adds the resulting cases to the {@link CaseManager}.
+     * <p>
+     * Case lines are parsed in parallel on the common fork-join pool when the batch is large enough.
+     * Since a case saved without its ID is given the ID matching its position, those IDs are worked out
+     * before parsing starts, and the parsed cases are added strictly in file order, so the result is the
+     * same as parsing line by line.
+     *
+     * @param lines consecutive lines of the save file
+     */
+    private void loadBatch(List<String> lines) {
+        int lineCount = lines.size();
+        String[] ids = new String[lineCount];
+        int nextSlot = CaseManager.getCaseListSize();
+        for (int i = 0; i < lineCount; i++) {
+            if (isCaseLine(lines.get(i))) {
+                ids[i] = CaseManager.getHexIdForSlot(nextSlot++);
+            }
+        }
 
-            Display.printMessage(settingResult.toArray(new String[0]));
-        } else if (!line.trim().isEmpty()) {
-            try {
-                Case newCase = getCaseFromSaveString(line);
-                CaseManager.addCase(newCase);
-            } catch (InvalidSaveStringException e) {
+        Object[] results = new Object[lineCount];
+        IntStream indices = IntStream.range(0, lineCount);
+        if (lineCount >= PARALLEL_PARSE_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.filter(i -> ids[i] != null).forEach(i -> results[i] = parseCaseLine(lines.get(i), ids[i]));
+
+        for (int i = 0; i < lineCount; i++) {
+            String line = lines.get(i);
+            if (line.startsWith(SETTING_PREFIX)) {
+                parseSettingsLine(line);
+            } else if (line.startsWith(NEXT_ID_PREFIX)) {
+                parseNextIdLine(line);
+            } else if (results[i] instanceof Case parsedCase) {
+                CaseManager.addCase(parsedCase);
+            } else if (results[i] instanceof InvalidSaveStringException e) {
                 Display.printMessage(e.getErrorMessage());
                 CaseManager.addCase(new InvalidCase(line));
             }
         }
     }
 
+    /**
+     * Parses a single case line, returning the exception instead of throwing it so that
+     * errors can be reported in file order after a parallel parse.
+     *
+     * @param line a case line from the save file
+     * @param id   the ID to give the case if the line does not hold one
+     * @return the parsed {@link Case}, or the {@link InvalidSaveStringException} describing why it is invalid
+     */
+    private Object parseCaseLine(String line, String id) {
+        try {
+            return getCaseFromSaveString(line, id);
+        } catch (InvalidSaveStringException e) {
+            return e;
+        }
+    }
+
     /**
      * Loads all cases from the file into the {@link CaseManager}.
      * <p>
      * Each non-empty line in the file represents a serialized {@link Case} object.
+     * The file is streamed in batches of {@link #LOAD_BATCH_SIZE} lines, and each batch is parsed in parallel.
      * If the file does not exist, this method does nothing.
+     * If snapshots are enabled and the snapshot is up to date, the snapshot is loaded instead, and if it
+     * is missing or out of date, it is written from the loaded cases.
+     * In journal mode, the journal is then replayed on top of the loaded cases and folded
+     * back into the save file. The load throughput is written to the log. A temporary file left behind by
+     * a save that was cut short is removed, since the save file it was meant to replace is still complete.
      */
     public void loadCaseManager() {
+        deleteTemporaryFile(Path.of(this.filename + TEMPORARY_FILE_SUFFIX));
         File file = new File(this.filename);
+        boolean isLoadedFromSnapshot = isSnapshotMode() && loadSnapshot(file);
+        if (!isLoadedFromSnapshot) {
+            loadTextFile(file);
+        }
+
+        boolean isCompacted = false;
+        int replayedCount = isJournalMode() ? replayJournal() : 0;
+        if (removeDeletedCasesIfDue() || replayedCount > 0) {
+            compactJournal();
+            isCompacted = true;
+        }
+
+        // Migrate an existing save file, unless compacting already wrote the snapshot
+        if (isSnapshotMode() && !isLoadedFromSnapshot && !isCompacted && file.exists()) {
+            CaseManager.readWithoutChanges(cases -> {
+                writeSnapshot(cases);
+                return null;
+            });
+        }
+
+        // Everything in memory now matches what is on disk
+        CaseManager.drainChangedCases();
+        markPersisted(Settings.getVersion(), CaseManager.getVersion(), CaseManager.getRemovedCaseCount());
+    }
+
+    /**
+     * Loads all cases from the text save file, if it exists.
+     *
+     * @param file the text save file
+     */
+    private void loadTextFile(File file) {
+        long startTime = System.nanoTime();
+        long lineCount = 0;
+
         if (file.exists()) {
-            try (Scanner s = new Scanner(file)) {
-                while (s.hasNextLine()) {
-                    String line = s.nextLine();
-                    parseLine(line);
+            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                List<String> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    batch.add(line);
+                    lineCount++;
+                    if (batch.size() == LOAD_BATCH_SIZE) {
+                        loadBatch(batch);
+                        batch.clear();
+                    }
                 }
+                loadBatch(batch);
             } catch (IOException e) {
-                System.out.println("Something went wrong while loading from the save file: " + e.getMessage());
+                Display.printLine("Something went wrong while loading from the save file: " + e.getMessage());
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        logLoadThroughput(lineCount, elapsedNanos);
+        recordLoadTime(file.length(), elapsedNanos);
+    }
+
+    /**
+     * Loads the settings and cases from the binary snapshot, if it exists and matches the text save file.
+     * Corrupted entries kept in the snapshot are reported the same way as when loading the save file.
+     *
+     * @param textFile the text save file the snapshot must match
+     * @return {@code true} if the snapshot was loaded; {@code false} if the save file should be loaded instead
+     */
+    private boolean loadSnapshot(File textFile) {
+        File snapshotFile = new File(this.snapshotFilename);
+        movePendingSnapshotIntoPlace(snapshotFile);
+        if (!snapshotFile.exists() || CaseManager.getCaseListSize() != 0) {
+            return false;
+        }
+
+        long startTime = System.nanoTime();
+        BinarySnapshot snapshot;
+        try {
+            snapshot = isLazyLoading ? BinarySnapshot.map(snapshotFile) : BinarySnapshot.read(snapshotFile);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Ignoring unreadable snapshot " + this.snapshotFilename, e);
+            return false;
+        }
+        isSnapshotMapped = isLazyLoading;
+        if (!snapshot.isCurrentFor(textFile)) {
+            logger.log(Level.INFO, "Snapshot is out of date, loading " + this.filename + " instead");
+            return false;
+        }
+
+        parseSettingsLine(SETTING_PREFIX + snapshot.getInputDateFormat() + "|"
+                + snapshot.getOutputDateFormat() + "|"
+                + snapshot.getDateTimeFormat());
+        for (Case c : snapshot.getCases()) {
+            if (c instanceof InvalidCase invalidCase) {
+                reportInvalidCase(invalidCase.getInvalidSaveString());
+            }
+            CaseManager.addCase(c);
+        }
+        restoreNextId(snapshot.getNextId());
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        double elapsedSeconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+        logger.log(Level.INFO, String.format("Loaded %d cases from %s in %.3f s",
+                snapshot.getCases().size(), this.snapshotFilename, elapsedSeconds));
+        return true;
+    }
+
+    /**
+     * Replaces the snapshot with the pending snapshot written during the previous run, if there is one.
+     * Nothing is mapped yet on start-up, so the snapshot can be replaced on every platform. If the pending
+     * snapshot cannot be moved, it is removed and the snapshot is checked against the save file as usual.
+     *
+     * @param snapshotFile the snapshot file to replace
+     */
+    private void movePendingSnapshotIntoPlace(File snapshotFile) {
+        Path pendingSnapshot = Path.of(this.snapshotFilename + PENDING_SNAPSHOT_SUFFIX);
+        if (!Files.exists(pendingSnapshot)) {
+            return;
+        }
+        try {
+            Files.move(pendingSnapshot, snapshotFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to move " + pendingSnapshot + " into place", e);
+            deleteTemporaryFile(pendingSnapshot);
+        }
+    }
+
+    /**
+     * Prints the reason a corrupted save line could not be loaded.
+     *
+     * @param line the corrupted save line
+     */
+    private void reportInvalidCase(String line) {
+        try {
+            SaveFormatCodec.decode(line, CaseManager.getHexIdForSlot(0));
+        } catch (InvalidSaveStringException e) {
+            Display.printMessage(e.getErrorMessage());
+        }
+    }
+
+    private void recordLoadTime(long fileLength, long elapsedNanos) {
+        if (fileLength >= MIN_LOAD_SAMPLE_BYTES) {
+            loadNanosPerByte = (double) elapsedNanos / fileLength;
+        }
+    }
+
+    private void logLoadThroughput(long lineCount, long elapsedNanos) {
+        double elapsedSeconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+        logger.log(Level.INFO, String.format("Loaded %d lines from %s in %.3f s (%.0f lines/second)",
+                lineCount, this.filename, elapsedSeconds, lineCount / elapsedSeconds));
+    }
+
+    /**
+     * Applies every record in the journal to the {@link CaseManager}, in the order they were written.
+     * Records that cannot be applied (e.g. a record cut short by a crash) are reported and skipped.
+     *
+     * @return the number of records read from the journal
+     */
+    private int replayJournal() {
+        File journal = new File(this.journalFilename);
+        if (!journal.exists()) {
+            return 0;
+        }
+
+        int recordCount = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(journal))) {
+            String record;
+            while ((record = reader.readLine()) != null) {
+                if (record.trim().isEmpty()) {
+                    continue;
+                }
+                recordCount++;
+                try {
+                    applyJournalRecord(record);
+                } catch (InvalidSaveStringException e) {
+                    Display.printMessage(e.getErrorMessage());
+                } catch (IllegalArgumentException e) {
+                    Display.printMessage("Skipped an unreadable change in the journal: " + record);
+                }
+            }
+        } catch (IOException e) {
+            Display.printLine("Something went wrong while loading from the journal: " + e.getMessage());
+        }
+        return recordCount;
+    }
+
+    /**
+     * Applies a single journal record. A case record, which is a save line holding the ID of the case,
+     * either replaces the case with the same ID or adds a new case; a settings record replaces the current
+     * settings.
+     *
+     * @param record a line from the journal
+     * @throws IllegalArgumentException if the record is malformed
+     */
+    private void applyJournalRecord(String record) {
+        if (record.startsWith(SETTING_PREFIX)) {
+            loadSettings(record);
+            return;
+        }
+
+        Case journalledCase = getCaseFromSaveString(record, null);
+        if (journalledCase.getIdNumber() == CaseIdAllocator.NO_ID) {
+            throw new IllegalArgumentException();
+        }
+        int slot = CaseManager.findSlotById(journalledCase.getIdNumber());
+        if (slot != -1) {
+            CaseManager.replaceCase(slot, journalledCase);
+        } else {
+            CaseManager.addCase(journalledCase);
+        }
+    }
+
+    /**
+     * Persists the changes made since the last save.
+     * <p>
+     * If neither {@link CaseManager#getVersion()} nor {@link Settings#getVersion()} moved since the last save
+     * (e.g. after a read-only command, or a command that failed), the disk is not touched at all.
+     * Otherwise, in journal mode, only the cases reported by {@link CaseManager#drainChangedCases()}
+     * are serialized and appended to the journal, together with the settings if they changed;
+     * outside journal mode, if cases were removed, or if the last save failed, the whole save file
+     * is rewritten.
+     * <p>
+     * The versions are read before the changed cases are drained, so a change made by another thread while
+     * saving is never recorded as persisted before it is saved.
+     */
+    public void saveChanges() {
+        long settingsVersion = Settings.getVersion();
+        long caseVersion = CaseManager.getVersion();
+        long removedCaseCount = CaseManager.getRemovedCaseCount();
+        boolean haveSettingsChanged = settingsVersion != persistedSettingsVersion;
+        boolean haveCasesChanged = caseVersion != persistedCaseVersion;
+        if (!haveSettingsChanged && !haveCasesChanged) {
+            return;
+        }
+
+        List<Case> changedCases = CaseManager.drainChangedCases();
+        if (!isJournalMode() || removedCaseCount != persistedRemovedCaseCount || isFullSaveNeeded) {
+            // The journal can only add and replace cases, so removed cases need a full rewrite
+            compactJournal();
+            return;
+        }
+
+        if ((haveSettingsChanged || !changedCases.isEmpty()) && !appendToJournal(haveSettingsChanged, changedCases)) {
+            // The drained cases are written nowhere yet, so the next save writes every case instead
+            isFullSaveNeeded = true;
+            return;
+        }
+        markPersisted(settingsVersion, caseVersion, removedCaseCount);
+
+        if (journalRecordCount >= JOURNAL_COMPACTION_THRESHOLD) {
+            removeDeletedCasesIfDue();
+            compactJournal();
+        }
+    }
+
+    /**
+     * Removes the deleted cases if there are enough of them for the automatic removal policy described in
+     * the class comment.
+     *
+     * @return {@code true} if cases were removed
+     */
+    private boolean removeDeletedCasesIfDue() {
+        int deletedCount = CaseManager.getDeletedCaseCount();
+        if (deletedCount < AUTO_REMOVAL_MIN_DELETED_CASES
+                || deletedCount < AUTO_REMOVAL_MIN_DELETED_FRACTION * CaseManager.getCaseListSize()) {
+            return false;
+        }
+        logger.log(Level.INFO, "Removing " + deletedCount + " deleted cases automatically");
+        return CaseManager.removeDeletedCases() > 0;
+    }
+
+    /**
+     * Records that the settings and cases, as they were at the given versions, have been persisted.
+     */
+    private void markPersisted(long settingsVersion, long caseVersion, long removedCaseCount) {
+        persistedSettingsVersion = settingsVersion;
+        persistedCaseVersion = caseVersion;
+        persistedRemovedCaseCount = removedCaseCount;
+    }
+
+    /**
+     * Appends a record for the settings, if requested, and for each changed case to the end of the journal,
+     * one per line. The journal is forced to disk unless it already was within the last
+     * {@link #GROUP_COMMIT_INTERVAL_NANOS}, in which case the records wait for the next forced write.
+     * The records are encoded while the cases are kept from changing, and written out afterwards.
+     *
+     * @param includeSettings whether to append a settings record
+     * @param changedCases    the cases to append a record for
+     * @return {@code true} if the records were appended; {@code false} if they could not be
+     */
+    private boolean appendToJournal(boolean includeSettings, List<Case> changedCases) {
+        List<String> records = CaseManager.readWithoutChanges(cases -> {
+            List<String> encoded = new ArrayList<>(changedCases.size() + 1);
+            if (includeSettings) {
+                encoded.add(getSettingsSaveString());
+            }
+            for (Case c : changedCases) {
+                encoded.add(codec.encode(c).toString());
+            }
+            return encoded;
+        });
+        try (FileChannel channel = FileChannel.open(Path.of(this.journalFilename),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            lineWriter.start(channel);
+            for (String record : records) {
+                lineWriter.writeLine(record);
+            }
+            bytesWritten += lineWriter.finish();
+            journalRecordCount += records.size();
+            hasUnsyncedJournalRecords = true;
+            if (System.nanoTime() - lastJournalSyncNanos >= GROUP_COMMIT_INTERVAL_NANOS) {
+                forceJournal(channel);
             }
+            return true;
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to append to journal " + this.journalFilename, e);
+            showSaveProblem("Something went wrong while saving: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void forceJournal(FileChannel channel) throws IOException {
+        channel.force(false);
+        lastJournalSyncNanos = System.nanoTime();
+        hasUnsyncedJournalRecords = false;
+    }
+
+    /**
+     * Forces any journal records that are still waiting for a group commit to disk. Call this before the
+     * application exits.
+     */
+    public void close() {
+        if (!hasUnsyncedJournalRecords || !isJournalMode()) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(Path.of(this.journalFilename), StandardOpenOption.WRITE)) {
+            forceJournal(channel);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to force the journal to disk", e);
         }
     }
 
+    /**
+     * Folds the journal back into the save file by writing a full snapshot and then emptying the journal.
+     * If the application stops between the two steps, replaying the journal again on the next start
+     * leaves the cases unchanged, since every record replaces its case by ID. If the save file cannot be
+     * written, the journal is kept.
+     */
+    public void compactJournal() {
+        long removedCount = CaseManager.getRemovedCaseCount() - persistedRemovedCaseCount;
+        long lengthBefore = getPersistedLength();
+        if (!saveToFile()) {
+            return;
+        }
+        if (isJournalMode()) {
+            File journal = new File(this.journalFilename);
+            if (journal.exists() && !journal.delete()) {
+                showSaveProblem("Something went wrong while clearing the journal.");
+            }
+            hasUnsyncedJournalRecords = false;
+        }
+        journalRecordCount = 0;
+        if (removedCount > 0) {
+            reportRemovedCases(removedCount, lengthBefore, getPersistedLength());
+        }
+    }
+
+    /**
+     * Returns the number of bytes the save file and journal take up on disk.
+     */
+    private long getPersistedLength() {
+        long length = new File(this.filename).length();
+        if (isJournalMode()) {
+            length += new File(this.journalFilename).length();
+        }
+        return length;
+    }
+
+    /**
+     * Reports how much was reclaimed by rewriting the save file without removed cases. If the save file was
+     * large enough to time when it was loaded, the start-up time saved is estimated from the bytes reclaimed.
+     *
+     * @param removedCount the number of cases removed
+     * @param lengthBefore the size of the save file and journal before they were rewritten
+     * @param lengthAfter  the size of the save file and journal afterwards
+     */
+    private void reportRemovedCases(long removedCount, long lengthBefore, long lengthAfter) {
+        String message = String.format("Reclaimed %d deleted case(s) from the save file: %.1f KB -> %.1f KB",
+                removedCount, lengthBefore / 1024.0, lengthAfter / 1024.0);
+        if (loadNanosPerByte > 0 && lengthBefore > lengthAfter) {
+            message += String.format(", about %.1f ms less to load",
+                    (lengthBefore - lengthAfter) * loadNanosPerByte / 1_000_000);
+        }
+        logger.log(Level.INFO, message);
+        if (saveMessageSink != null) {
+            saveMessageSink.accept(message + ".");
+        } else {
+            Display.printMessage(message + ".");
+        }
+    }
+
+    /**
+     * Shows a problem met while saving, as a line of its own.
+     */
+    private void showSaveProblem(String line) {
+        if (saveMessageSink != null) {
+            saveMessageSink.accept(line);
+        } else {
+            Display.printLine(line);
+        }
+    }
+
+    private boolean isJournalMode() {
+        return this.journalFilename != null;
+    }
+
+    private boolean isSnapshotMode() {
+        return this.snapshotFilename != null;
+    }
+
+    /**
+     * Builds the settings line written at the top of the save file.
+     *
+     * @return the serialized settings
+     */
+    private String getSettingsSaveString() {
+        return SETTING_PREFIX + Settings.getInputDateFormat() + "|"
+                + Settings.getOutputDateFormat() + "|"
+                + Settings.getDateTimeFormat();
+    }
+
     /**
      * Saves all cases currently managed by {@link CaseManager} to the file.
      * <p>
      * Each case is written to the file in its serialized string format,
-     * with one line per case.
-     */
-    public void saveToFile() {
-        ArrayList<Case> cases = CaseManager.getCaseList();
-        try (FileWriter fw = new FileWriter(this.filename)) {
-            fw.append(SETTING_PREFIX);
-            fw.append(Settings.getInputDateFormat()).append("|");
-            fw.append(Settings.getOutputDateFormat()).append("|");
-            fw.append(Settings.getDateTimeFormat()).append(System.lineSeparator());
+     * with one line per case, after the settings and the ID the next new case will be given.
+     * The lines are written to a temporary file, which is forced to disk and then atomically renamed over
+     * the save file, so the save file always holds either the previous or the new cases in full.
+     * The cases are kept from changing until the save file and snapshot have both been written, so that the
+     * two always hold the same cases.
+     *
+     * @return {@code true} if the save file was written; {@code false} if it was left as it was
+     */
+    public boolean saveToFile() {
+        long settingsVersion = Settings.getVersion();
+        long caseVersion = CaseManager.getVersion();
+        long removedCaseCount = CaseManager.getRemovedCaseCount();
+        // Every case is written below, so there are no outstanding changes left to journal
+        CaseManager.drainChangedCases();
+        Path temporaryFile = Path.of(this.filename + TEMPORARY_FILE_SUFFIX);
+        try {
+            CaseManager.readWithoutChanges(cases -> {
+                writeSaveFile(temporaryFile, cases);
+                if (isSnapshotMode()) {
+                    writeSnapshot(cases);
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write save file " + this.filename, e);
+            showSaveProblem("Something went wrong while saving: " + e.getMessage());
+            deleteTemporaryFile(temporaryFile);
+            isFullSaveNeeded = true;
+            return false;
+        }
+        isFullSaveNeeded = false;
+        markPersisted(settingsVersion, caseVersion, removedCaseCount);
+        return true;
+    }
+
+    /**
+     * Writes every case to the temporary file, forces it to disk and renames it over the save file.
+     *
+     * @param temporaryFile the file to write the cases to before it replaces the save file
+     * @param cases         every case, including deleted ones
+     * @throws IOException if the temporary file cannot be written or renamed
+     */
+    private void writeSaveFile(Path temporaryFile, List<Case> cases) throws IOException {
+        Path saveFile = Path.of(this.filename);
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            lineWriter.start(channel);
+            lineWriter.writeLine(getSettingsSaveString());
+            lineWriter.writeLine(NEXT_ID_PREFIX + CaseIdAllocator.format(CaseManager.getNextId()));
             for (Case c : cases) {
-                fw.append(c.toSaveString());
-                fw.append(System.lineSeparator());
+                lineWriter.writeLine(codec.encode(c));
             }
-            fw.flush();
+            bytesWritten += lineWriter.finish();
+            channel.force(true);
+        }
+        Files.move(temporaryFile, saveFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(saveFile);
+    }
+
+    /**
+     * Forces the directory holding {@code file} to disk, so that a rename into it survives a power loss.
+     * Some platforms cannot open a directory, in which case the rename is left to the file system.
+     */
+    private static void forceDirectory(Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.log(Level.FINE, "Could not force directory " + directory + " to disk", e);
+        }
+    }
+
+    private static void deleteTemporaryFile(Path temporaryFile) {
+        try {
+            Files.deleteIfExists(temporaryFile);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to delete temporary file " + temporaryFile, e);
+        }
+    }
+
+    /**
+     * Writes the binary snapshot of the current settings and cases, recording the state of the text
+     * save file so that the snapshot is only used while the save file is unchanged.
+     * <p>
+     * The snapshot is written to a temporary file that then replaces it. While the snapshot is mapped for lazy
+     * loading, it cannot be replaced on every platform, and cases not yet loaded still read from it, so the
+     * new snapshot is written beside it instead and moved into place on the next start. If writing fails,
+     * the snapshot is removed so that the save file is loaded on the next start; a mapped snapshot is left
+     * in place, since it no longer matches the save file and is ignored anyway.
+     *
+     * @param cases every case, including deleted ones
+     */
+    private void writeSnapshot(List<Case> cases) {
+        File textFile = new File(this.filename);
+        File snapshotFile = isSnapshotMapped
+                ? new File(this.snapshotFilename + PENDING_SNAPSHOT_SUFFIX)
+                : new File(this.snapshotFilename);
+        File temporaryFile = new File(this.snapshotFilename + TEMPORARY_FILE_SUFFIX);
+        BinarySnapshot snapshot = new BinarySnapshot(Settings.getInputDateFormat(), Settings.getOutputDateFormat(),
+                Settings.getDateTimeFormat(), CaseManager.getNextId(), textFile.length(), textFile.lastModified(),
+                cases);
+        try {
+            snapshot.write(temporaryFile);
+            bytesWritten += temporaryFile.length();
+            Files.move(temporaryFile.toPath(), snapshotFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            forceDirectory(snapshotFile.toPath());
         } catch (IOException e) {
-            System.out.println("Something went wrong while saving: " + e.getMessage());
+            showSaveProblem("Something went wrong while saving the snapshot: " + e.getMessage());
+            temporaryFile.delete();
+            snapshotFile.delete();
         }
     }
 }
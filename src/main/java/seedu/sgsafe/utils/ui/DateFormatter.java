@@ -6,14 +6,53 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for parsing and formatting dates.
  * Provides methods to convert between LocalDate objects and their string representations
  * based on a specified date format.
+ * <p>
+ * Compiled formatters are cached by pattern, since the same few patterns from {@code Settings} are
+ * used for every case that is displayed or parsed. The cache is cleared whenever a format setting
+ * changes, so it only ever holds the patterns currently in use.
  */
 public class DateFormatter {
 
+    /** Formatters used for formatting, keyed by pattern. */
+    private static final Map<String, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+
+    /** Strict formatters used for parsing, keyed by the pattern as given by the caller. */
+    private static final Map<String, DateTimeFormatter> strictParsers = new ConcurrentHashMap<>();
+
+    /**
+     * Discards all cached formatters. Called whenever a date format setting changes.
+     */
+    public static void clearCache() {
+        formatters.clear();
+        strictParsers.clear();
+    }
+
+    /**
+     * Returns the cached formatter for the given pattern, compiling it on first use.
+     *
+     * @param pattern the pattern, following the DateTimeFormatter pattern syntax
+     * @return the formatter for {@code pattern}
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter getFormatter(String pattern) {
+        return formatters.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+    }
+
+    private static DateTimeFormatter getStrictParser(String dateFormat) {
+        return strictParsers.computeIfAbsent(dateFormat, format -> {
+            // Convert yyyy to uuuu for strict parsing
+            String strictDateFormat = format.replace("yyyy", "uuuu");
+            return DateTimeFormatter.ofPattern(strictDateFormat).withResolverStyle(ResolverStyle.STRICT);
+        });
+    }
+
     /**
      * Parses a date string into a LocalDate object using the specified date format.
      *
@@ -23,11 +62,7 @@ public class DateFormatter {
      * @throws DateTimeParseException if the date string cannot be parsed with the given format.
      */
     public static LocalDate parseDate(String dateString, String dateFormat) throws DateTimeParseException {
-        // Convert yyyy to uuuu for strict parsing
-        String strictDateFormat = dateFormat.replace("yyyy", "uuuu");
-        DateTimeFormatter formatter =
-                DateTimeFormatter.ofPattern(strictDateFormat).withResolverStyle(ResolverStyle.STRICT);
-        return LocalDate.parse(dateString, formatter);
+        return LocalDate.parse(dateString, getStrictParser(dateFormat));
     }
 
     /**
@@ -41,8 +76,7 @@ public class DateFormatter {
         if (date == null) {
             return "";
         }
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateFormat);
-        return date.format(formatter);
+        return date.format(getFormatter(dateFormat));
     }
 
     /**
@@ -56,7 +90,6 @@ public class DateFormatter {
         if (dateTime == null) {
             return "";
         }
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateTimeFormat);
-        return dateTime.format(formatter);
+        return dateTime.format(getFormatter(dateTimeFormat));
     }
 }
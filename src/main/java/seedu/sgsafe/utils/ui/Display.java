@@ -1,11 +1,32 @@
 package seedu.sgsafe.utils.ui;
 
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 /**
  * Handles all user-facing output for the SGSafe application.
  * Provides formatted messages and feedback for command execution.
+ * <p>
+ * Output is written through a large buffer rather than line by line. By default the buffer is written out
+ * at the end of every message; the application turns this off with {@link #setAutoFlush(boolean)} and calls
+ * {@link #flush()} once at the end of each command instead. When standard output is redirected to a file or
+ * pipe, the buffer is written straight to its file channel.
  */
 public class Display {
 
+    private static final Logger logger = Logger.getLogger(Display.class.getName());
+
     /** Visual divider used to wrap printed messages for clarity. */
     private static final String DIVIDER = "\t____________________________________________________________";
 
@@ -16,6 +37,27 @@ public class Display {
     private static final String GOODBYE_MESSAGE_LINE_1 = "Thanks for using SGSafe :)";
     private static final String GOODBYE_MESSAGE_LINE_2 = "We hope to see you again!";
 
+    /** Number of characters held in the output buffer before it is written out. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The standard output stream as it was when the application started. */
+    private static final PrintStream STANDARD_OUT = System.out;
+
+    /** The stream that {@link #sink} writes to, used to notice when {@code System.out} is replaced. */
+    private static PrintStream sinkTarget;
+
+    /** The buffered writer that all output goes through. */
+    private static Writer sink;
+
+    /** Whether dividers and indentation are left out, for output read by other programs. */
+    private static boolean isPlainOutput = false;
+
+    /** Whether the buffer is written out at the end of every message. */
+    private static boolean isAutoFlush = true;
+
+    /** Whether messages are discarded instead of printed. */
+    private static boolean isMuted = false;
+
     /**
      * Prints the welcome message to the console.
      * This is typically shown when the application starts.
@@ -39,10 +81,174 @@ public class Display {
      * @param message variable number of message lines to display
      */
     public static void printMessage(String... message) {
-        System.out.println(DIVIDER);
-        for (String line : message) {
-            System.out.println("\t" + line);
+        try (MessageWriter writer = startMessage()) {
+            for (String line : message) {
+                writer.writeLine(line);
+            }
+        }
+    }
+
+    /**
+     * Prints a single line as it is, without a divider or indentation.
+     *
+     * @param line the line to print
+     */
+    public static void printLine(String line) {
+        writeLine(false, line);
+        endMessage();
+    }
+
+    /**
+     * Starts a message whose lines are written one at a time, for output that is produced incrementally
+     * (e.g. a long list of cases). The message looks the same as one printed by {@link #printMessage(String...)}
+     * and ends when the writer is closed.
+     *
+     * @return a writer for the lines of the message, which must be closed
+     */
+    public static MessageWriter startMessage() {
+        return new MessageWriter();
+    }
+
+    /**
+     * Sets whether messages are printed without dividers and indentation, so that each line of output is
+     * exactly one line of content.
+     *
+     * @param isPlain {@code true} to leave out dividers and indentation
+     */
+    public static void setPlainOutput(boolean isPlain) {
+        isPlainOutput = isPlain;
+    }
+
+    /**
+     * Sets whether messages are discarded instead of printed, for example while running a batch of commands
+     * whose results are summarised at the end. Lines printed with {@link #printLine(String)}, such as storage
+     * errors, are still shown.
+     *
+     * @param isEnabled {@code true} to discard messages
+     */
+    public static void setMuted(boolean isEnabled) {
+        isMuted = isEnabled;
+    }
+
+    /**
+     * Sets whether the output buffer is written out at the end of every message. When turned off, output
+     * only appears once the buffer fills up or {@link #flush()} is called.
+     *
+     * @param isEnabled {@code true} to write out every message as soon as it ends
+     */
+    public static void setAutoFlush(boolean isEnabled) {
+        isAutoFlush = isEnabled;
+    }
+
+    /**
+     * Writes out everything that is still buffered.
+     */
+    public static void flush() {
+        if (sink == null) {
+            return;
+        }
+        try {
+            // Anything printed to the stream directly must come out before the buffered output
+            sinkTarget.flush();
+            sink.flush();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write output", e);
+        }
+    }
+
+    private static void endMessage() {
+        if (isAutoFlush) {
+            flush();
+        }
+    }
+
+    private static void writeLine(boolean isIndented, String line) {
+        try {
+            Writer writer = getSink();
+            if (isIndented) {
+                writer.write('\t');
+            }
+            writer.write(line);
+            writer.write(System.lineSeparator());
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write output", e);
+        }
+    }
+
+    /**
+     * Returns the writer for the current {@code System.out}, replacing the previous writer if
+     * {@code System.out} has been replaced since it was created.
+     */
+    private static Writer getSink() {
+        if (sink == null || sinkTarget != System.out) {
+            flush();
+            sinkTarget = System.out;
+            sink = new BufferedWriter(createUnbufferedWriter(sinkTarget), BUFFER_SIZE);
+        }
+        return sink;
+    }
+
+    private static Writer createUnbufferedWriter(PrintStream target) {
+        Charset charset = getOutputCharset();
+        if (target == STANDARD_OUT && System.console() == null) {
+            // Redirected output gains nothing from the stream's own buffering and locking. Characters the
+            // charset cannot encode are replaced, as the stream itself would do.
+            CharsetEncoder encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            return Channels.newWriter(new FileOutputStream(FileDescriptor.out).getChannel(), encoder, -1);
+        }
+        return new OutputStreamWriter(target, charset);
+    }
+
+    private static Charset getOutputCharset() {
+        String encoding = System.getProperty("stdout.encoding");
+        if (encoding != null && Charset.isSupported(encoding)) {
+            return Charset.forName(encoding);
+        }
+        return Charset.defaultCharset();
+    }
+
+    /**
+     * Writes the lines of one message, wrapped in a visual divider.
+     * <p>
+     * Lines go straight into the output buffer, so long messages are printed without holding every line in
+     * memory and without a write per line.
+     */
+    public static class MessageWriter implements AutoCloseable {
+
+        private final boolean isDiscarded = isMuted;
+
+        private MessageWriter() {
+            if (!isDiscarded && !isPlainOutput) {
+                Display.writeLine(false, DIVIDER);
+            }
+        }
+
+        /**
+         * Adds a line to the message, indented for readability.
+         *
+         * @param line the line to add
+         */
+        public void writeLine(String line) {
+            if (isDiscarded) {
+                return;
+            }
+            Display.writeLine(!isPlainOutput, line);
+        }
+
+        /**
+         * Ends the message with a divider.
+         */
+        @Override
+        public void close() {
+            if (isDiscarded) {
+                return;
+            }
+            if (!isPlainOutput) {
+                Display.writeLine(false, DIVIDER);
+            }
+            endMessage();
         }
-        System.out.println(DIVIDER);
     }
 }
@@ -0,0 +1,101 @@
+package seedu.sgsafe.utils.ui;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import seedu.sgsafe.utils.exceptions.IncorrectFlagException;
+
+/**
+ * The flags of one command and their values, as extracted by {@link Parser}.
+ * <p>
+ * A command has at most a handful of flags, so they are kept in two small arrays in the order they were typed
+ * and looked up by scanning, which is faster than hashing for so few entries. The map is read-only to callers;
+ * only {@link Parser} adds flags to it.
+ */
+final class FlagValues extends AbstractMap<String, String> {
+
+    /** Maximum number of flags in one command; no command accepts nearly as many. */
+    static final int CAPACITY = 16;
+
+    private final String[] flags = new String[CAPACITY];
+    private final String[] values = new String[CAPACITY];
+    private int size = 0;
+
+    /**
+     * Adds a flag that is not in the map yet.
+     *
+     * @param flag  the flag name, without its {@code --} prefix
+     * @param value the value of the flag
+     * @throws IncorrectFlagException if the map already holds {@link #CAPACITY} flags
+     */
+    void add(String flag, String value) {
+        assert !containsKey(flag) : "Duplicate flags should be rejected before they are added";
+        if (size == CAPACITY) {
+            throw new IncorrectFlagException();
+        }
+        flags[size] = flag;
+        values[size] = value;
+        size++;
+    }
+
+    private int indexOf(Object flag) {
+        for (int i = 0; i < size; i++) {
+            if (flags[i].equals(flag)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object flag) {
+        return indexOf(flag) != -1;
+    }
+
+    @Override
+    public String get(Object flag) {
+        int index = indexOf(flag);
+        return index == -1 ? null : values[index];
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, String>> iterator() {
+                return new Iterator<>() {
+                    private int next = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Map.Entry<String, String> next() {
+                        if (next >= size) {
+                            throw new NoSuchElementException();
+                        }
+                        Map.Entry<String, String> entry = new SimpleImmutableEntry<>(flags[next], values[next]);
+                        next++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
@@ -1,21 +1,28 @@
 package seedu.sgsafe.utils.ui;
 
+import seedu.sgsafe.domain.casefiles.CaseEdit;
+import seedu.sgsafe.domain.casefiles.DateBucket;
 import seedu.sgsafe.utils.command.AddCommand;
 import seedu.sgsafe.utils.command.ByeCommand;
 import seedu.sgsafe.utils.command.CaseListingMode;
 import seedu.sgsafe.utils.command.CloseCommand;
 import seedu.sgsafe.utils.command.Command;
+import seedu.sgsafe.utils.command.CompactCommand;
 import seedu.sgsafe.utils.command.FindCommand;
 import seedu.sgsafe.utils.command.HelpCommand;
+import seedu.sgsafe.utils.command.ImportCommand;
 import seedu.sgsafe.utils.command.ListCommand;
 import seedu.sgsafe.utils.command.EditCommand;
 import seedu.sgsafe.utils.command.EditPromptCommand;
+import seedu.sgsafe.utils.command.ExportCommand;
 import seedu.sgsafe.utils.command.DeleteCommand;
 import seedu.sgsafe.utils.command.ReadCommand;
 
 import seedu.sgsafe.utils.command.OpenCommand;
+import seedu.sgsafe.utils.command.Pagination;
 import seedu.sgsafe.utils.command.SettingCommand;
 import seedu.sgsafe.utils.command.SettingType;
+import seedu.sgsafe.utils.command.StatsCommand;
 import seedu.sgsafe.utils.exceptions.DoubleLengthExceededException;
 import seedu.sgsafe.utils.exceptions.DuplicateFlagException;
 import seedu.sgsafe.utils.exceptions.EmptyCommandException;
@@ -24,10 +31,13 @@ import seedu.sgsafe.utils.exceptions.InputLengthExceededException;
 import seedu.sgsafe.utils.exceptions.InvalidByeCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidCaseIdException;
 import seedu.sgsafe.utils.exceptions.InvalidCloseCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidCompactCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidDateInputException;
 import seedu.sgsafe.utils.exceptions.InvalidDoubleException;
 import seedu.sgsafe.utils.exceptions.InvalidEditCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidFindCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidImportCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidExportCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidFormatStringException;
 import seedu.sgsafe.utils.exceptions.InvalidHelpCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidIntegerException;
@@ -35,16 +45,18 @@ import seedu.sgsafe.utils.exceptions.InvalidListCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidAddCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidNumberException;
 import seedu.sgsafe.utils.exceptions.InvalidOpenCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidPageException;
 import seedu.sgsafe.utils.exceptions.InvalidReadCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidSettingCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidStatsCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidStatusException;
 import seedu.sgsafe.utils.exceptions.UnknownCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidDeleteCommandException;
 import  seedu.sgsafe.utils.exceptions.InvalidCharacterException;
 import seedu.sgsafe.utils.settings.Settings;
+import seedu.sgsafe.utils.storage.ExportFormat;
 
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -59,12 +71,12 @@ public class Parser {
     // Logger for logging parsing activities and errors
     private static final Logger logger = Logger.getLogger(Parser.class.getName());
 
-    // Regular expression used to split input into flags and their values. It retains the delimiter.
-    private static final String FLAG_SEPARATOR_REGEX = "\\s+(?=--)";
-
     // Prefix used to identify flags in the input
     private static final String FLAG_PREFIX = "--";
 
+    // Sequence used in a value to stand for a literal -- that does not start a flag
+    private static final String ESCAPED_FLAG_PREFIX = "\\--";
+
     // Validator instance for input validation
     private static final Validator validator = new Validator();
 
@@ -74,9 +86,6 @@ public class Parser {
     // Maximum allowed value for double
     private static final double MAX_DOUBLE = 1_000_000_000_000.0; // adjust per domain
 
-    // Placeholder for escaped flag sequences
-    private static final String ESCAPED_FLAG_PLACEHOLDER = "<<<ESCAPED_DOUBLE_DASH>>>";
-
     /**
      * Parses raw user input into a {@link Command} object.
      * <p>
@@ -109,6 +118,10 @@ public class Parser {
         case "setting" -> parseSettingCommand(remainder);
         case "read" -> parseReadCommand(remainder);
         case "find" -> parseFindCommand(remainder);
+        case "import" -> parseImportCommand(remainder);
+        case "export" -> parseExportCommand(remainder);
+        case "compact" -> parseCompactCommand(remainder);
+        case "stats" -> parseStatsCommand(remainder);
         default -> throw new UnknownCommandException(userInput, keyword);
         };
     }
@@ -172,9 +185,11 @@ public class Parser {
      *   <li>{@code list --status open} — Lists only open cases</li>
      *   <li>{@code list --status closed} — Lists only closed cases</li>
      *   <li>{@code list --mode verbose} — Enables verbose output</li>
+     *   <li>{@code list --page 2 --limit 50} — Shows the second page of 50 cases</li>
      * </ul>
      * If {@code --status} is present, its value must be one of {@code open}, {@code closed}, or {@code all}.
      * If {@code --mode} is present, its value must be either {@code verbose} or {@code summary}.
+     * If {@code --page} or {@code --limit} is present, see {@link #parsePagination(Map)}.
      * Any invalid flag or value will result in a {@link IncorrectFlagException}.
      *
      * @param remainder the portion of the input following the {@code list} keyword
@@ -187,7 +202,7 @@ public class Parser {
         }
 
         Map<String, String> flagValues = extractFlagValues(remainder);
-        List<String> validFlags = List.of("status", "mode");
+        List<String> validFlags = List.of("status", "mode", "page", "limit");
 
         if (!validator.haveValidFlags(flagValues, validFlags)) {
             throw new InvalidListCommandException();
@@ -195,8 +210,9 @@ public class Parser {
 
         CaseListingMode listingMode = parseListStatus(flagValues.get("status"));
         boolean isVerbose = parseListMode(flagValues.get("mode"));
+        Pagination pagination = parsePagination(flagValues);
 
-        return new ListCommand(listingMode, isVerbose);
+        return new ListCommand(listingMode, isVerbose, pagination);
     }
 
     /**
@@ -253,6 +269,39 @@ public class Parser {
 
     //@@ author
 
+    /**
+     * Parses the optional {@code --page} and {@code --limit} flags of a listing command.
+     * <p>
+     * If neither flag is present, every result is shown. If only {@code --page} is present, pages hold
+     * {@link Pagination#DEFAULT_LIMIT} cases; if only {@code --limit} is present, the first page is shown.
+     *
+     * @param flagValues the flags of the command and their values
+     * @return the page of results to show
+     * @throws InvalidPageException if either value is not a positive whole number
+     */
+    private static Pagination parsePagination(Map<String, String> flagValues) {
+        String page = flagValues.get("page");
+        String limit = flagValues.get("limit");
+        if (page == null && limit == null) {
+            return Pagination.none();
+        }
+        int pageNumber = page == null ? 1 : parsePositiveInteger("page", page);
+        int pageSize = limit == null ? Pagination.DEFAULT_LIMIT : parsePositiveInteger("limit", limit);
+        return new Pagination(pageNumber, pageSize);
+    }
+
+    private static int parsePositiveInteger(String flag, String value) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            logger.log(Level.WARNING, "Invalid value for --" + flag + ": " + value);
+        }
+        throw new InvalidPageException(flag);
+    }
+
     /**
      * Parses the {@code add} command and validates its arguments.
      * <p>
@@ -344,59 +393,126 @@ public class Parser {
     /**
      * Extracts flags and their corresponding values from the input string.
      * <p>
-     * The input is split based on the defined flag separator regex, and each part is processed
-     * to isolate the flag name and its value. The results are stored in a map.
-     * \-- is used as an escape character for -- to use -- in body text.
+     * The input is scanned once. A flag starts at every {@code --} that begins the input or follows whitespace,
+     * and its name runs up to the next space; its value is the rest of the text up to the whitespace before the
+     * next flag. \-- is used as an escape character for -- to use -- in body text. Duplicate flags and values
+     * that are too long are rejected as soon as they are found.
      *
      * @param input the portion of the input containing flags and their values
-     * @return a map of flag names with their corresponding values
-     * @throws DuplicateFlagException if a flag appears more than once in the input
-     * @throws IncorrectFlagException if a flag is malformed or missing its value
+     * @return a map of flag names with their corresponding values, in the order they were typed
+     * @throws DuplicateFlagException        if a flag appears more than once in the input
+     * @throws IncorrectFlagException        if a flag is malformed or missing its value, or there are too many flags
+     * @throws InputLengthExceededException  if a value is longer than {@link #MAX_INPUT_LENGTH}
      */
-    private static Map<String, String> extractFlagValues(String input) {
-
-        // Replace \-- with a placeholder
-        String escapedInput = input.replace("\\--", ESCAPED_FLAG_PLACEHOLDER);
-
-        String[] parts = escapedInput.split(FLAG_SEPARATOR_REGEX);
-        Map<String, String> flagValues = new HashMap<>();
-
-        for (String part : parts) {
-
-            // First, the prefix -- is removed.
-            String trimmedPart = part.replaceFirst(FLAG_PREFIX, "").trim();
-            if (trimmedPart.isEmpty()) {
-                logger.log(Level.WARNING, "Incorrect flag usage detected");
-                throw new IncorrectFlagException();
+    static Map<String, String> extractFlagValues(String input) {
+        FlagValues flagValues = new FlagValues();
+        int length = input.length();
+        int partStart = 0;
+        do {
+            // A part ends at the first run of whitespace that is followed by --
+            int partEnd = length;
+            int nextPartStart = length;
+            int i = partStart;
+            while (i < length) {
+                if (!isFlagSeparatorWhitespace(input.charAt(i))) {
+                    i++;
+                    continue;
+                }
+                int whitespaceEnd = i + 1;
+                while (whitespaceEnd < length && isFlagSeparatorWhitespace(input.charAt(whitespaceEnd))) {
+                    whitespaceEnd++;
+                }
+                if (input.startsWith(FLAG_PREFIX, whitespaceEnd)) {
+                    partEnd = i;
+                    nextPartStart = whitespaceEnd;
+                    break;
+                }
+                i = whitespaceEnd;
             }
+            addFlagValue(input, partStart, partEnd, flagValues);
+            partStart = nextPartStart;
+        } while (partStart < length);
+        return flagValues;
+    }
 
-            int spaceIndex = trimmedPart.indexOf(" ");
-            if (spaceIndex == -1) {
-                logger.log(Level.WARNING, "Incorrect flag usage detected");
-                throw new IncorrectFlagException();
-            }
+    /**
+     * Separates one {@code --flag value} part of the input into its flag and value and adds them.
+     *
+     * @param input      the input containing the part
+     * @param partStart  the index of the start of the part
+     * @param partEnd    the index just after the end of the part
+     * @param flagValues the flags found so far
+     */
+    private static void addFlagValue(String input, int partStart, int partEnd, FlagValues flagValues) {
+        // First, the prefix -- is removed.
+        int start = input.startsWith(FLAG_PREFIX, partStart) ? partStart + FLAG_PREFIX.length() : partStart;
+        int end = partEnd;
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            logger.log(Level.WARNING, "Incorrect flag usage detected");
+            throw new IncorrectFlagException();
+        }
+
+        int spaceIndex = input.indexOf(' ', start);
+        if (spaceIndex == -1 || spaceIndex >= end) {
+            logger.log(Level.WARNING, "Incorrect flag usage detected");
+            throw new IncorrectFlagException();
+        }
 
-            // Then we separate the flag from its value.
-            String flag = trimmedPart.substring(0, spaceIndex).trim();
-            String value = trimmedPart.substring(spaceIndex + 1).trim();
+        // Then we separate the flag from its value.
+        int flagEnd = spaceIndex;
+        while (flagEnd > start && input.charAt(flagEnd - 1) <= ' ') {
+            flagEnd--;
+        }
+        int valueStart = spaceIndex + 1;
+        while (valueStart < end && input.charAt(valueStart) <= ' ') {
+            valueStart++;
+        }
+        String flag = input.substring(start, flagEnd);
+        String value = unescapeFlagPrefixes(input, valueStart, end);
 
-            // Replace the placeholder back with --
-            value = value.replace(ESCAPED_FLAG_PLACEHOLDER, "--");
+        if (value.length() > MAX_INPUT_LENGTH) {
+            logger.log(Level.WARNING, "Input exceeds character limit");
+            throw new InputLengthExceededException();
+        }
 
-            if(value.length() > MAX_INPUT_LENGTH){
-                logger.log(Level.WARNING, "Input exceeds character limit");
-                throw new InputLengthExceededException();
-            }
+        if (flagValues.containsKey(flag)) {
+            logger.log(Level.WARNING, "Duplicated flags detected");
+            throw new DuplicateFlagException();
+        }
 
-            if (flagValues.containsKey(flag)) {
-                logger.log(Level.WARNING, "Duplicated flags detected");
-                throw new DuplicateFlagException();
-            }
+        // Finally, we store the flag and its value in the map.
+        flagValues.add(flag, value);
+    }
 
-            // Finally, we store the flag and its value in the map.
-            flagValues.put(flag, value);
+    /**
+     * Returns the text between two indexes of the input, with every \-- replaced by --.
+     */
+    private static String unescapeFlagPrefixes(String input, int start, int end) {
+        int escapeIndex = input.indexOf(ESCAPED_FLAG_PREFIX, start);
+        if (escapeIndex == -1 || escapeIndex + ESCAPED_FLAG_PREFIX.length() > end) {
+            return input.substring(start, end);
         }
-        return flagValues;
+        StringBuilder value = new StringBuilder(end - start);
+        int copiedUpTo = start;
+        while (escapeIndex != -1 && escapeIndex + ESCAPED_FLAG_PREFIX.length() <= end) {
+            value.append(input, copiedUpTo, escapeIndex).append(FLAG_PREFIX);
+            copiedUpTo = escapeIndex + ESCAPED_FLAG_PREFIX.length();
+            escapeIndex = input.indexOf(ESCAPED_FLAG_PREFIX, copiedUpTo);
+        }
+        return value.append(input, copiedUpTo, end).toString();
+    }
+
+    /**
+     * Returns whether a character is whitespace that may separate a value from the next flag.
+     */
+    private static boolean isFlagSeparatorWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B';
     }
 
     /**
@@ -434,8 +550,7 @@ public class Parser {
         // Check if replacements start with --
         if (replacements.startsWith("--")) {
             Map<String, String> flagValues = extractFlagValues(replacements);
-            Map<String, Object> typedFlagValues = convertFlagValueTypes(flagValues);
-            return new EditCommand(caseId, typedFlagValues);
+            return new EditCommand(caseId, convertFlagValueTypes(flagValues));
         } else {
             logger.log(Level.WARNING, "Incorrect flag usage detected");
             throw new IncorrectFlagException();
@@ -444,15 +559,16 @@ public class Parser {
 
     /**
      * Converts raw flag values from strings to their appropriate types based on flag names.
+     * Numeric values are parsed straight into the {@link CaseEdit}, without being boxed.
      * @param rawValues map of flag names and their string values as input by the user
-     * @return map of flag names and their values converted to appropriate types
+     * @return the edit holding the values converted to appropriate types
      * @throws InvalidDateInputException if a date value cannot be parsed using the system input date format
      * @throws InvalidIntegerException if a numerical flag value is non-numeric or negative
      */
-    public static Map<String, Object> convertFlagValueTypes(Map<String, String> rawValues) {
+    public static CaseEdit convertFlagValueTypes(Map<String, String> rawValues) {
         logger.fine("Starting flag value type conversion.");
 
-        Map<String, Object> typedValues = new HashMap<>();
+        CaseEdit typedValues = new CaseEdit();
         LocalDate parsedDate;
 
         for (Map.Entry<String, String> entry : rawValues.entrySet()) {
@@ -464,7 +580,7 @@ public class Parser {
             case "date":
                 try {
                     parsedDate = DateFormatter.parseDate(rawValues.get("date"), Settings.getInputDateFormat());
-                    typedValues.put(flag, parsedDate);
+                    typedValues.setDate(parsedDate);
                 } catch (Exception e) {
                     logger.log(Level.WARNING, "Failed to parse date value '" + value + "' for flag '" + flag + "'.");
                     throw new InvalidDateInputException();
@@ -476,12 +592,12 @@ public class Parser {
                  "exceeded-speed",
                  "speed-limit":
                 try {
-                    Integer intValue = Integer.parseInt(value);
+                    int intValue = Integer.parseInt(value);
                     if (intValue < 0) {
                         logger.log(Level.WARNING,"Value for flag '" + flag + "' is negative: " + intValue);
                         throw new InvalidIntegerException(flag);
                     }
-                    typedValues.put(flag, intValue);
+                    typedValues.setInt(flag, intValue);
                 } catch (NumberFormatException e) {
                     logger.log(Level.WARNING, "Failed to parse integer from non-numeric string '" + value
                             + "' for flag '" + flag + "'.");
@@ -492,7 +608,7 @@ public class Parser {
             case "monetary-damage",
                  "financial-value":
                 try {
-                    Double doubleValue = Double.parseDouble(value);
+                    double doubleValue = Double.parseDouble(value);
                     if (doubleValue < 0) {
                         logger.log(Level.WARNING, "Value for flag '" + flag + "' is negative: " + doubleValue);
                         throw new InvalidDoubleException(flag);
@@ -503,7 +619,7 @@ public class Parser {
                         throw new DoubleLengthExceededException(flag);
                     }
                     doubleValue = Math.round(doubleValue * 100.0) / 100.0;
-                    typedValues.put(flag, doubleValue);
+                    typedValues.setDouble(flag, doubleValue);
                 } catch (NumberFormatException e) {
                     logger.log(Level.WARNING, "Failed to parse double from non-numeric string '" + value
                             + "' for flag '" + flag + "'.");
@@ -513,7 +629,7 @@ public class Parser {
 
             default:
                 // All other flags remain as String
-                typedValues.put(flag, value);
+                typedValues.setText(flag, value);
             }
         }
 
@@ -583,6 +699,13 @@ public class Parser {
         return new ByeCommand();
     }
 
+    private static Command parseCompactCommand(String remainder) {
+        if (!remainder.isEmpty()) {
+            throw new InvalidCompactCommandException();
+        }
+        return new CompactCommand();
+    }
+
     private static Command parseHelpCommand(String remainder) {
         if (!remainder.isEmpty()) {
             throw new InvalidHelpCommandException();
@@ -614,7 +737,7 @@ public class Parser {
         List<String> requiredFlags = List.of("keyword");
 
         //  List of valid flags to be taken as input from the user
-        List<String> validFlags = List.of("keyword", "status");
+        List<String> validFlags = List.of("keyword", "status", "page", "limit");
 
 
         if (validator.inputIsEmpty(remainder)) {
@@ -629,9 +752,117 @@ public class Parser {
         }
 
         CaseListingMode listingMode = parseListStatus(flagValues.get("status"));
+        Pagination pagination = parsePagination(flagValues);
 
-        return new FindCommand(flagValues.get("keyword"), listingMode);
+        return new FindCommand(flagValues.get("keyword"), listingMode, pagination);
     }
 
     //@@ author
+
+    /**
+     * Parses the {@code import} command and validates its arguments.
+     * <p>
+     * Supported format:
+     * <ul>
+     *   <li>{@code import --file <path>} — Adds a case for every row of the CSV file at the given path</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code import} keyword
+     * @return an {@link ImportCommand} for the given file
+     * @throws InvalidImportCommandException if the {@code --file} flag is missing or any other flag is present
+     */
+    private static Command parseImportCommand(String remainder) {
+        List<String> validFlags = List.of("file");
+
+        if (validator.inputIsEmpty(remainder)) {
+            throw new InvalidImportCommandException();
+        }
+
+        Map<String, String> flagValues = extractFlagValues(remainder);
+
+        if (!validator.haveAllRequiredFlags(flagValues, validFlags)
+                || !validator.haveValidFlags(flagValues, validFlags)) {
+            throw new InvalidImportCommandException();
+        }
+
+        return new ImportCommand(flagValues.get("file"));
+    }
+
+    /**
+     * Parses the {@code export} command and validates its arguments.
+     * <p>
+     * Supported format:
+     * <ul>
+     *   <li>{@code export --format csv|jsonl --file <path> [--status open|closed]} — Writes the cases with the
+     *   given status, or every case, to the file at the given path</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code export} keyword
+     * @return an {@link ExportCommand} for the given format, file and status
+     * @throws InvalidExportCommandException if a required flag is missing, any other flag is present,
+     *                                       or the format is not {@code csv} or {@code jsonl}
+     * @throws InvalidStatusException        if the status is not {@code open} or {@code closed}
+     */
+    private static Command parseExportCommand(String remainder) {
+        List<String> requiredFlags = List.of("format", "file");
+        List<String> validFlags = List.of("format", "file", "status");
+
+        if (validator.inputIsEmpty(remainder)) {
+            throw new InvalidExportCommandException();
+        }
+
+        Map<String, String> flagValues = extractFlagValues(remainder);
+
+        if (!validator.haveAllRequiredFlags(flagValues, requiredFlags)
+                || !validator.haveValidFlags(flagValues, validFlags)) {
+            throw new InvalidExportCommandException();
+        }
+
+        ExportFormat format = switch (flagValues.get("format").toLowerCase()) {
+        case "csv" -> ExportFormat.CSV;
+        case "jsonl" -> ExportFormat.JSONL;
+        default -> throw new InvalidExportCommandException();
+        };
+        CaseListingMode listingMode = parseListStatus(flagValues.get("status"));
+
+        return new ExportCommand(format, flagValues.get("file"), listingMode);
+    }
+
+    /**
+     * Parses the {@code stats} command and validates its optional flags.
+     * <p>
+     * Supported format:
+     * <ul>
+     *   <li>{@code stats [--status open|closed] [--by month|year]} — Shows aggregate figures over the cases
+     *   with the given status, or every case, grouping them by month unless {@code --by year} is given</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code stats} keyword
+     * @return a {@link StatsCommand} for the given status and date grouping
+     * @throws InvalidStatsCommandException if any other flag is present or the grouping is not {@code month}
+     *                                      or {@code year}
+     * @throws InvalidStatusException       if the status is not {@code open} or {@code closed}
+     */
+    private static Command parseStatsCommand(String remainder) {
+        if (remainder.isEmpty()) {
+            return new StatsCommand(CaseListingMode.DEFAULT, DateBucket.MONTH);
+        }
+
+        Map<String, String> flagValues = extractFlagValues(remainder);
+        List<String> validFlags = List.of("status", "by");
+
+        if (!validator.haveValidFlags(flagValues, validFlags)) {
+            throw new InvalidStatsCommandException();
+        }
+
+        CaseListingMode listingMode = parseListStatus(flagValues.get("status"));
+        String by = flagValues.get("by");
+        DateBucket dateBucket = by == null ? DateBucket.MONTH : switch (by.toLowerCase()) {
+        case "month" -> DateBucket.MONTH;
+        case "year" -> DateBucket.YEAR;
+        default -> throw new InvalidStatsCommandException();
+        };
+
+        return new StatsCommand(listingMode, dateBucket);
+    }
 }
@@ -16,7 +16,7 @@ public class Validator {
     // Logger for logging validation events
     private static final Logger logger = Logger.getLogger(Validator.class.getName());
     // Constant for case ID validation pattern
-    private static final String CASE_ID_REGEX = "^[0-9A-Fa-f]{6}$";
+    private static final String CASE_ID_REGEX = "^[0-9A-Fa-f]{6,8}$";
 
     // Pattern to validate date time format strings
     private static final Pattern VALID_FORMAT_PATTERN =
@@ -76,9 +76,10 @@ public class Validator {
 
     //@@author shennontay
     /**
-     * Checks whether the provided case ID is a valid 6-character hexadecimal string.
+     * Checks whether the provided case ID is a valid hexadecimal string of 6 to 8 characters.
      * <p>
-     * A valid case ID must be exactly six hexadecimal characters (0–9, A–F, a–f).
+     * A valid case ID must be six to eight hexadecimal characters (0–9, A–F, a–f). IDs are shown with six
+     * digits until more are needed, and leading zeros may be typed up to eight digits.
      *
      * @param caseId the case ID to validate
      * @return {@code true} if the case ID is valid; {@code false} otherwise
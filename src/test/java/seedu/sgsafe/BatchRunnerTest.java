@@ -0,0 +1,93 @@
+package seedu.sgsafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.utils.settings.Settings;
+import seedu.sgsafe.utils.storage.Storage;
+
+class BatchRunnerTest {
+
+    private static final String ADD_LINE =
+            "add --category theft --title Stolen bike --date 01/02/2024 --info At Yishun";
+
+    private File saveFile;
+    private File journalFile;
+    private Storage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        CaseManager.clearCases();
+        Settings.setInputDateFormat("dd/MM/yyyy");
+        Settings.setOutputDateFormat("dd/MM/yyyy");
+        Settings.setDateTimeFormat("dd/MM/yyyy HH:mm:ss");
+        saveFile = File.createTempFile("sgsafe-batch", ".txt");
+        journalFile = File.createTempFile("sgsafe-batch", ".journal");
+        saveFile.delete();
+        journalFile.delete();
+        storage = new Storage(saveFile.getPath(), journalFile.getPath());
+        storage.loadCaseManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CaseManager.clearCases();
+        saveFile.delete();
+        journalFile.delete();
+    }
+
+    private static BufferedReader script(String... lines) {
+        return new BufferedReader(new StringReader(String.join(System.lineSeparator(), lines)));
+    }
+
+    @Test
+    void run_mixedScript_countsFailuresAndSavesOnce() throws IOException {
+        BatchRunner batchRunner = new BatchRunner(storage, 0);
+        batchRunner.run(script(ADD_LINE, ADD_LINE, "", "close 000001", "close 00abcd", "unknown", ADD_LINE));
+
+        assertEquals(6, batchRunner.getCommandCount());
+        assertEquals(2, batchRunner.getFailureCount());
+        assertEquals(1, batchRunner.getSaveCount());
+        assertEquals(3, CaseManager.getCaseListSize());
+
+        String[] summary = batchRunner.getSummary();
+        assertEquals("Batch complete: 6 command(s) run, 2 failed.", summary[0]);
+        assertTrue(Arrays.asList(summary).contains("Line 5: close 00abcd"));
+        assertTrue(Arrays.asList(summary).contains("Line 6: unknown"));
+
+        CaseManager.clearCases();
+        storage.loadCaseManager();
+        assertEquals(3, CaseManager.getCaseListSize());
+        assertFalse(CaseManager.getCaseById("000001").isOpen());
+    }
+
+    @Test
+    void run_withSaveInterval_savesAfterEveryIntervalAndAtTheEnd() throws IOException {
+        BatchRunner batchRunner = new BatchRunner(storage, 2);
+        batchRunner.run(script(ADD_LINE, ADD_LINE, ADD_LINE, ADD_LINE, ADD_LINE));
+
+        assertEquals(5, batchRunner.getCommandCount());
+        assertEquals(3, batchRunner.getSaveCount());
+    }
+
+    @Test
+    void run_byeLine_stopsTheScript() throws IOException {
+        BatchRunner batchRunner = new BatchRunner(storage, 0);
+        batchRunner.run(script(ADD_LINE, "bye", ADD_LINE));
+
+        assertEquals(1, batchRunner.getCommandCount());
+        assertEquals(1, CaseManager.getCaseListSize());
+    }
+}
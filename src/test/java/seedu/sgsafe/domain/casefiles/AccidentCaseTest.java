@@ -2,6 +2,7 @@ package seedu.sgsafe.domain.casefiles;
 
 import org.junit.jupiter.api.Test;
 import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
+import seedu.sgsafe.utils.storage.SaveFormatCodec;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -129,14 +130,14 @@ public class AccidentCaseTest {
         AccidentCase c = new AccidentCase("A001T1", "Crash", date,
                 "Info", "V", "O");
 
-        String emptySave = c.toSaveString();
+        String emptySave = SaveFormatCodec.toSaveString(c);
         assertTrue(emptySave.contains("|number-of-casualties:"));
 
         Map<String, Object> updates = new HashMap<>();
         updates.put("number-of-casualties", 5);
         c.update(updates);
 
-        String save = c.toSaveString();
+        String save = SaveFormatCodec.toSaveString(c);
         assertTrue(save.contains("|number-of-casualties:5"));
     }
 
@@ -2,6 +2,7 @@ package seedu.sgsafe.domain.casefiles;
 
 import org.junit.jupiter.api.Test;
 import seedu.sgsafe.domain.casefiles.type.property.ArsonCase;
+import seedu.sgsafe.utils.storage.SaveFormatCodec;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -49,12 +50,12 @@ public class ArsonCaseTest {
         updates.put("monetary-damage", 2000.0);
         c.update(updates);
 
-        String saveString = c.toSaveString();
+        String saveString = SaveFormatCodec.toSaveString(c);
         assertTrue(saveString.contains("|monetary-damage:2000.0"));
 
         ArsonCase c2 = new ArsonCase("A002", "House Fire", date,
                 "Suspected arson", "Jane", "Officer Tan");
-        String saveString2 = c2.toSaveString();
+        String saveString2 = SaveFormatCodec.toSaveString(c2);
         assertTrue(saveString2.contains("|monetary-damage:"));
     }
 
@@ -2,6 +2,7 @@ package seedu.sgsafe.domain.casefiles;
 
 import org.junit.jupiter.api.Test;
 import seedu.sgsafe.domain.casefiles.type.financial.BurglaryCase;
+import seedu.sgsafe.utils.storage.SaveFormatCodec;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -72,7 +73,7 @@ public class BurglaryCaseTest {
         LocalDate date = LocalDate.of(2025, 10, 14);
         BurglaryCase c = new BurglaryCase("F001B", "Title", date, "Info", "V", "O");
 
-        String emptySave = c.toSaveString();
+        String emptySave = SaveFormatCodec.toSaveString(c);
         assertTrue(emptySave.contains("|financial-value:"));
         assertTrue(emptySave.contains("|location:"));
 
@@ -81,7 +82,7 @@ public class BurglaryCaseTest {
         updates.put("location", "Pasir Ris");
         c.update(updates);
 
-        String populated = c.toSaveString();
+        String populated = SaveFormatCodec.toSaveString(c);
         assertTrue(populated.contains("|financial-value:50000.00"));
         assertTrue(populated.contains("|location:Pasir Ris"));
     }
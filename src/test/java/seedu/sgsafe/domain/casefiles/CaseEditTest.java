@@ -0,0 +1,58 @@
+package seedu.sgsafe.domain.casefiles;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sgsafe.utils.ui.Parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseEditTest {
+
+    @Test
+    void of_boxedValues_keepsNumbersAsPrimitives() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("speed-limit", 60);
+        values.put("financial-value", 12.5);
+        values.put("number-of-victims", null);
+        values.put("victim", null);
+        values.put("date", LocalDate.of(2025, 1, 2));
+
+        CaseEdit edit = CaseEdit.of(values);
+
+        assertTrue(edit.hasInt("speed-limit"));
+        assertEquals(60, edit.getInt("speed-limit"));
+        assertTrue(edit.hasDouble("financial-value"));
+        assertEquals(12.5, edit.getDouble("financial-value"));
+        assertFalse(edit.hasInt("number-of-victims"));
+        assertTrue(edit.getFlags().contains("number-of-victims"));
+        assertTrue(edit.hasValue("victim"));
+        assertNull(edit.getText("victim"));
+        assertEquals(LocalDate.of(2025, 1, 2), edit.getDate());
+    }
+
+    @Test
+    void convertFlagValueTypes_numericFlags_setsTypedValuesInOrder() {
+        Map<String, String> rawValues = new LinkedHashMap<>();
+        rawValues.put("title", "Speeding");
+        rawValues.put("exceeded-speed", "90");
+        rawValues.put("monetary-damage", "100.25");
+
+        CaseEdit edit = Parser.convertFlagValueTypes(rawValues);
+
+        assertEquals(List.of("title", "exceeded-speed", "monetary-damage"), List.copyOf(edit.getFlags()));
+        assertEquals("Speeding", edit.getText("title"));
+        assertEquals(90, edit.getInt("exceeded-speed"));
+        assertFalse(edit.hasDouble("exceeded-speed"));
+        assertEquals(100.25, edit.getDouble("monetary-damage"));
+        assertFalse(edit.hasValue("exceeded-speed"));
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.sgsafe.domain.casefiles;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
+import seedu.sgsafe.domain.casefiles.type.property.ArsonCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+import seedu.sgsafe.domain.casefiles.type.violent.MurderCase;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Estimates the heap used by each case the way JOL reports it on a 64-bit HotSpot JVM with compressed
+ * references: a 12-byte object header, 4-byte references, fields packed without gaps and the object padded
+ * to a multiple of 8 bytes. Boxed numbers reachable from a case are counted at 16 bytes each, except small
+ * {@link Integer}s, which come from the shared cache.
+ * <p>
+ * Setting a numeric field must not change the estimate, since the fields are primitives with a presence mask
+ * rather than references to boxed numbers.
+ */
+public class CaseFootprintTest {
+
+    private static final int HEADER_BYTES = 12;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int BOXED_NUMBER_BYTES = 16;
+
+    private static final LocalDate DATE = LocalDate.of(2025, 10, 14);
+
+    @Test
+    void numericFields_allCaseTypes_areStoredAsPrimitives() {
+        List<Class<?>> caseTypes = List.of(SpeedingCase.class, AccidentCase.class, MurderCase.class,
+                ScamCase.class, ArsonCase.class);
+        for (Class<?> caseType : caseTypes) {
+            for (Class<?> c = caseType; c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    assertTrue(!Number.class.isAssignableFrom(field.getType()),
+                            c.getSimpleName() + "." + field.getName() + " should not be a boxed number");
+                }
+            }
+        }
+    }
+
+    @Test
+    void setNumericFields_largeValues_allocateNothingExtra() throws IllegalAccessException {
+        SpeedingCase speedingCase = new SpeedingCase("000001", "t", DATE, "i", null, null);
+        long unsetBytes = estimateRetainedBytes(speedingCase);
+        speedingCase.setSpeedLimit(200);
+        speedingCase.setExceededSpeed(300);
+        assertEquals(unsetBytes, estimateRetainedBytes(speedingCase));
+
+        ScamCase scamCase = new ScamCase("000002", "t", DATE, "i", null, null);
+        unsetBytes = estimateRetainedBytes(scamCase);
+        scamCase.setFinancialValue(1234.5);
+        assertEquals(unsetBytes, estimateRetainedBytes(scamCase));
+
+        AccidentCase accidentCase = new AccidentCase("000003", "t", DATE, "i", null, null);
+        unsetBytes = estimateRetainedBytes(accidentCase);
+        accidentCase.setNumberOfCasualties(1000);
+        assertEquals(unsetBytes, estimateRetainedBytes(accidentCase));
+    }
+
+    /**
+     * Returns the estimated shallow size of {@code c} plus the boxed numbers referenced by its fields.
+     * Strings, dates and other shared objects are left out, as their size does not depend on the field layout.
+     */
+    private static long estimateRetainedBytes(Case c) throws IllegalAccessException {
+        long shallowBytes = HEADER_BYTES;
+        long boxedBytes = 0;
+        for (Class<?> type = c.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                shallowBytes += getFieldBytes(field.getType());
+                if (!field.getType().isPrimitive()) {
+                    field.setAccessible(true);
+                    boxedBytes += getBoxedBytes(field.get(c));
+                }
+            }
+        }
+        return (shallowBytes + 7) / 8 * 8 + boxedBytes;
+    }
+
+    private static int getFieldBytes(Class<?> fieldType) {
+        if (fieldType == long.class || fieldType == double.class) {
+            return 8;
+        } else if (fieldType == int.class || fieldType == float.class) {
+            return 4;
+        } else if (fieldType == short.class || fieldType == char.class) {
+            return 2;
+        } else if (fieldType == byte.class || fieldType == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_BYTES;
+    }
+
+    private static int getBoxedBytes(Object value) {
+        if (value instanceof Integer integer && integer >= -128 && integer <= 127) {
+            return 0;
+        }
+        return value instanceof Number ? BOXED_NUMBER_BYTES : 0;
+    }
+}
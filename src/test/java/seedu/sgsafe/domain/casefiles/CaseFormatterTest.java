@@ -3,7 +3,6 @@ package seedu.sgsafe.domain.casefiles;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -103,6 +102,19 @@ class CaseFormatterTest {
         assertTrue(line.contains(longId));
     }
 
+    @Test
+    void formatCaseSummaryLine_eightDigitId_keepsColumnsAligned() {
+        String header = String.format(CaseFormatter.SUMMARY_FORMAT_STRING, "STATUS", "CATEGORY", "ID", "DATE",
+                "TITLE");
+        String shortIdLine = CaseFormatter.formatCaseSummaryLine(true, "Scam", "000001", "16/10/2025", "Fake loan");
+        String longIdLine = CaseFormatter.formatCaseSummaryLine(true, "Scam", CaseIdAllocator.format(0x7fffffff),
+                "16/10/2025", "Fake loan");
+
+        assertTrue(longIdLine.contains(" 7fffffff 16/10/2025 "));
+        assertEquals(header.indexOf("DATE"), shortIdLine.indexOf("16/10/2025"));
+        assertEquals(header.indexOf("DATE"), longIdLine.indexOf("16/10/2025"));
+    }
+
     @Test
     void formatCaseSummaryLine_handlesLongDate() {
         String longDate = "16/10/2025-Extra";
@@ -338,32 +350,76 @@ class CaseFormatterTest {
         assertTrue(lines.get(0).endsWith("-"), "First chunk should end with a dash");
     }
 
-    // ----------- TESTS FOR TRY ADDING WORD TO LINE ----------- //
+    @Test
+    void wrapField_repeatedSpaces_keptBetweenWordsAndDroppedAtEnd() {
+        List<String> lines = CaseFormatter.wrapField(false, "Info", "ab  cd  ", 30);
+
+        assertEquals(List.of("Info              : ab  cd"), lines);
+    }
 
     @Test
-    void tryAddWord_doesNotWrapWhenWithinWidth() {
-        List<String> lines = new ArrayList<>();
-        StringBuilder line = new StringBuilder("Prefix: ");
-        // Remaining width is large enough to hold "word"
-        CaseFormatter.LineState state = CaseFormatter.tryAddWord(
-                "word", line, 0, 20, "Prefix: ", lines);
+    void wrapField_verboseValueFillingLineLimit_notTruncated() {
+        String prefix = "Info       : ";
+        String indent = " ".repeat(prefix.length());
+        List<String> lines = CaseFormatter.wrapField(true, "Info", "aaaa ".repeat(10), 23);
 
-        assertNotNull(state);
-        // Word should be appended to the current line
-        assertTrue(state.line().toString().contains("Prefix: word"));
-        // No new line should have been added to lines
-        assertTrue(lines.isEmpty(), "Lines list should remain empty when no wrap occurs");
+        assertEquals(List.of(prefix + "aaaa aaaa", indent + "aaaa aaaa", indent + "aaaa aaaa",
+                indent + "aaaa aaaa", indent + "aaaa aaaa"), lines);
     }
 
     @Test
-    void tryAddWord_wrapsWhenExceedingWidth() {
-        List<String> lines = new ArrayList<>();
-        StringBuilder line = new StringBuilder("Prefix: ");
-        CaseFormatter.LineState state = CaseFormatter.tryAddWord(
-                "word", line, 0, 5, "Prefix: ", lines);
+    void wrapField_verboseValueBeyondLineLimit_matchesReadModeUpToTheLimit() {
+        String longValue = ("Stolen bicycle outside the community centre " + "X".repeat(150) + " ").repeat(40);
+        // Give read mode, which has a wider prefix, the same room for the value on each line
+        int readIndent = CaseFormatter.formatPrefix("Info", false).length();
+        int verboseIndent = CaseFormatter.formatPrefix("Info", true).length();
+        List<String> readLines = CaseFormatter.wrapField(false, "Info", longValue,
+                CaseFormatter.MAX_DISPLAY_WIDTH_CHARACTERS + readIndent - verboseIndent);
+        List<String> verboseLines = CaseFormatter.wrapField(true, "Info", longValue,
+                CaseFormatter.MAX_DISPLAY_WIDTH_CHARACTERS);
+
+        assertEquals(CaseFormatter.MAX_VERBOSE_LINES_PER_FIELD, verboseLines.size());
+        for (int i = 0; i < CaseFormatter.MAX_VERBOSE_LINES_PER_FIELD - 1; i++) {
+            assertEquals(readLines.get(i).substring(readIndent), verboseLines.get(i).substring(verboseIndent));
+        }
+        assertTrue(verboseLines.get(CaseFormatter.MAX_VERBOSE_LINES_PER_FIELD - 1).endsWith("..."));
+    }
 
-        assertNotNull(state);
-        assertTrue(state.line().toString().contains("word"));
+    @Test
+    void wrapField_wordsWithinWidth_staysOnOneLine() {
+        List<String> lines = CaseFormatter.wrapField(true, "Info", "one two", 23);
+
+        assertEquals(List.of("Info       : one two"), lines);
+    }
+
+    @Test
+    void wrapField_wordExceedingWidth_movesToIndentedLine() {
+        List<String> lines = CaseFormatter.wrapField(true, "Info", "one two three", 23);
+
+        assertEquals(List.of("Info       : one two", "             three"), lines);
+    }
+
+    @Test
+    void wrapField_wordLongerThanLine_splitIntoDashedChunks() {
+        List<String> lines = CaseFormatter.wrapField(true, "Info", "abcdefghijklmnopqrstu cd", 23);
+
+        assertEquals(List.of("Info       : abcdefghi-", "             jklmnopqr-", "             stu cd"), lines);
+    }
+
+    @Test
+    void wrapField_verboseLongWordBeyondLineLimit_truncatedWithEllipses() {
+        List<String> lines = CaseFormatter.wrapField(true, "Info", "x".repeat(100), 23);
+        String indent = " ".repeat(CaseFormatter.formatPrefix("Info", true).length());
+
+        assertEquals(CaseFormatter.MAX_VERBOSE_LINES_PER_FIELD, lines.size());
+        assertEquals("Info       : xxxxxxxxx-", lines.get(0));
+        assertEquals(indent + "xxxxxxxxx-...", lines.get(CaseFormatter.MAX_VERBOSE_LINES_PER_FIELD - 1));
+    }
+
+    @Test
+    void formatPrefix_readAndVerbose_padsLabelToModeWidth() {
+        assertEquals("Info              : ", CaseFormatter.formatPrefix("Info", false));
+        assertEquals("Info       : ", CaseFormatter.formatPrefix("Info", true));
     }
 
 }
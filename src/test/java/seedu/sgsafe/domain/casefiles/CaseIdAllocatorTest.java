@@ -0,0 +1,44 @@
+package seedu.sgsafe.domain.casefiles;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CaseIdAllocatorTest {
+
+    @Test
+    void format_smallAndLargeIds_padsToSixDigitsAndGrowsBeyond() {
+        assertEquals("000000", CaseIdAllocator.format(0));
+        assertEquals("00beef", CaseIdAllocator.format(0xbeef));
+        assertEquals("ffffff", CaseIdAllocator.format(0xffffff));
+        assertEquals("1000000", CaseIdAllocator.format(0x1000000));
+        assertEquals("7fffffff", CaseIdAllocator.format(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void parse_validAndInvalidText_returnsIdOrNoId() {
+        assertEquals(0xbeef, CaseIdAllocator.parse("00BEEF"));
+        assertEquals(0x1000000, CaseIdAllocator.parse("01000000"));
+        assertEquals(Integer.MAX_VALUE, CaseIdAllocator.parse("7fffffff"));
+        assertEquals(CaseIdAllocator.NO_ID, CaseIdAllocator.parse("80000000"));
+        assertEquals(CaseIdAllocator.NO_ID, CaseIdAllocator.parse("000000000"));
+        assertEquals(CaseIdAllocator.NO_ID, CaseIdAllocator.parse("00beeg"));
+        assertEquals(CaseIdAllocator.NO_ID, CaseIdAllocator.parse(""));
+        assertEquals(CaseIdAllocator.NO_ID, CaseIdAllocator.parse(null));
+    }
+
+    @Test
+    void advancePast_usedIds_neverLeavesUsedIdFree() {
+        CaseIdAllocator allocator = new CaseIdAllocator();
+        assertEquals(0, allocator.peek());
+        allocator.advancePast(0);
+        assertEquals(1, allocator.peek());
+        allocator.advancePast(41);
+        allocator.advancePast(7);
+        allocator.advancePast(CaseIdAllocator.NO_ID);
+        assertEquals(42, allocator.peek());
+
+        allocator.reset();
+        assertEquals(0, allocator.peek());
+    }
+}
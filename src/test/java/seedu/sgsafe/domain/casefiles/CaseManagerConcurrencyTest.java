@@ -0,0 +1,172 @@
+package seedu.sgsafe.domain.casefiles;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.utils.exceptions.CaseAlreadyClosedException;
+import seedu.sgsafe.utils.exceptions.CaseAlreadyOpenException;
+import seedu.sgsafe.utils.exceptions.CaseCannotBeEditedException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseManagerConcurrencyTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int OPERATIONS_PER_THREAD = 2000;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        CaseManager.clearCases();
+        executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        CaseManager.clearCases();
+    }
+
+    @Test
+    void caseStore_manyThreadsAddEditCloseAndList_keepsInvariants() throws Exception {
+        ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Integer>> workers = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            Random random = new Random(t);
+            workers.add(() -> {
+                start.await();
+                return runOperations(random, violations);
+            });
+        }
+        List<Future<Integer>> results = new ArrayList<>();
+        for (Callable<Integer> worker : workers) {
+            results.add(executor.submit(worker));
+        }
+        start.countDown();
+        int addedCount = 0;
+        for (Future<Integer> result : results) {
+            addedCount += result.get(2, TimeUnit.MINUTES);
+        }
+
+        assertEquals(List.of(), new ArrayList<>(violations));
+        assertEquals(addedCount, CaseManager.getCaseListSize());
+        assertEquals(addedCount, CaseManager.getNextId());
+
+        // Every ID was handed out exactly once, and every case can be found by it
+        Set<Integer> ids = new HashSet<>();
+        for (Case c : CaseManager.getCases(CaseQuery.all())) {
+            assertTrue(ids.add(c.getIdNumber()), "Duplicate ID " + c.getId());
+            assertEquals(c, CaseManager.getCaseById(c.getId()));
+        }
+        assertEquals(addedCount, ids.size());
+
+        // The indexes agree with the cases themselves
+        int openCount = 0;
+        int editedCount = 0;
+        for (Case c : CaseManager.getCases(CaseQuery.all())) {
+            openCount += c.isOpen() ? 1 : 0;
+            editedCount += c.getTitle().startsWith("Edited") ? 1 : 0;
+        }
+        assertEquals(openCount, CaseManager.countCases(CaseQuery.all().withOpen(true)));
+        assertEquals(addedCount - openCount, CaseManager.countCases(CaseQuery.all().withOpen(false)));
+        assertEquals(editedCount, CaseManager.findCasesByKeyword("edited").size());
+        assertEquals(addedCount, CaseManager.drainChangedCases().size());
+    }
+
+    @Test
+    void getCaseById_unknownIdWhileAnotherThreadReads_doesNotWaitForTheReader() throws Exception {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        CaseManager.addNewCase(newId -> new TheftCase(newId, "Wallet stolen", date, "info", null, null));
+        CaseManager.getCaseById("000000");
+
+        List<Future<Case>> lookUps = new ArrayList<>();
+        CaseManager.forEachCase(CaseQuery.all(), c -> {
+            // The read lock is held here, so a lookup that takes the write lock would wait until this returns
+            lookUps.add(executor.submit(() -> CaseManager.getCaseById("00ffff")));
+            lookUps.add(executor.submit(() -> CaseManager.findSlotById(0xffff) == -1 ? null : c));
+            try {
+                for (Future<Case> lookUp : lookUps) {
+                    assertNull(lookUp.get(10, TimeUnit.SECONDS));
+                }
+            } catch (Exception e) {
+                throw new AssertionError("Lookup did not finish while the read lock was held", e);
+            }
+        });
+        assertEquals(2, lookUps.size());
+    }
+
+    /**
+     * Adds, edits, closes, reopens, looks up, lists and searches cases at random, recording anything that breaks
+     * an invariant that must hold at every point in time.
+     *
+     * @return the number of cases this thread added
+     */
+    private static int runOperations(Random random, ConcurrentLinkedQueue<String> violations) {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        int addedCount = 0;
+        for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+            int nextId = CaseManager.getNextId();
+            if (nextId == 0) {
+                nextId = 1;
+                CaseManager.addNewCase(newId -> new TheftCase(newId, "Wallet stolen", date, "info", null, null));
+                addedCount++;
+            }
+            String id = CaseIdAllocator.format(random.nextInt(nextId));
+            try {
+                switch (random.nextInt(7)) {
+                case 0, 1 -> {
+                    CaseManager.addNewCase(newId -> new TheftCase(newId, "Wallet stolen", date, "info", null, null));
+                    addedCount++;
+                }
+                case 2 -> CaseManager.editCase(id, Map.of("title", "Edited title " + i));
+                case 3 -> CaseManager.closeCase(id);
+                case 4 -> CaseManager.openCase(id);
+                case 5 -> checkListing(violations);
+                default -> {
+                    if (CaseManager.getCaseById(id) == null) {
+                        violations.add("Case " + id + " was added but cannot be found");
+                    }
+                    CaseManager.findCasesByKeyword("wallet");
+                }
+                }
+            } catch (CaseCannotBeEditedException | CaseAlreadyClosedException | CaseAlreadyOpenException e) {
+                // Another thread closed or reopened the case first
+            } catch (RuntimeException e) {
+                violations.add(e.toString());
+            }
+        }
+        return addedCount;
+    }
+
+    private static void checkListing(ConcurrentLinkedQueue<String> violations) {
+        ArrayList<Case> cases = CaseManager.getCases(CaseQuery.all());
+        Set<String> ids = new HashSet<>();
+        for (Case c : cases) {
+            assertNotNull(c);
+            if (!ids.add(c.getId())) {
+                violations.add("Case " + c.getId() + " was listed twice");
+            }
+        }
+    }
+}
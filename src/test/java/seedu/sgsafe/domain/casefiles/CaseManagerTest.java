@@ -2,12 +2,19 @@ package seedu.sgsafe.domain.casefiles;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseType;
+import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
 import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+import seedu.sgsafe.domain.casefiles.type.violent.MurderCase;
 import seedu.sgsafe.utils.exceptions.CaseNotFoundException;
 
 import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -105,4 +112,154 @@ class CaseManagerTest {
         CaseManager.deleteCase("000000");
         assertThrows(CaseNotFoundException.class, () -> CaseManager.deleteCase("000000"));
     }
+
+    @Test
+    void removeDeletedCases_afterDelete_removesOnlyDeletedCasesAndKeepsIds() throws Exception {
+        LocalDate date = LocalDate.of(2023, 10, 5);
+        CaseManager.addCase(new TheftCase("000000", "Shop theft", date, "Broken window", "Alice", "Officer Lee"));
+        CaseManager.addCase(new TheftCase("000001", "Bike theft", date, "Cut lock", "Bob", "Officer Lee"));
+        CaseManager.addCase(new TheftCase("000002", "Car theft", date, "Smashed window", "Cara", "Officer Lee"));
+        CaseManager.deleteCase("000001");
+        assertEquals(1, CaseManager.getDeletedCaseCount());
+
+        assertEquals(1, CaseManager.removeDeletedCases());
+
+        assertEquals(2, caseList.size());
+        assertEquals(0, CaseManager.getDeletedCaseCount());
+        assertNull(CaseManager.getCaseById("000001"));
+        assertEquals("Car theft", CaseManager.getCaseById("000002").getTitle());
+        assertEquals(2, CaseManager.countCases(CaseQuery.all()));
+        assertEquals("000002", CaseManager.findCasesByKeyword("car").get(0).getId());
+        assertTrue(CaseIdAllocator.parse(CaseManager.generateHexId()) > 2);
+        assertEquals(0, CaseManager.removeDeletedCases());
+    }
+
+    // ----------- TESTS FOR STATISTICS ----------- //
+
+    @Test
+    void computeStatistics_mixedCases_groupsCountsAndTotalsNumericFields() throws Exception {
+        CaseManager.addCase(new ScamCase("000000", "Phishing", LocalDate.of(2025, 10, 1), "Link", null, null));
+        CaseManager.addCase(new ScamCase("000001", "Love scam", LocalDate.of(2025, 10, 31), "Chat", null, null));
+        CaseManager.addCase(new SpeedingCase("000002", "PIE", LocalDate.of(2024, 11, 5), "Camera", null, null));
+        CaseManager.addCase(new SpeedingCase("000003", "CTE", LocalDate.of(2024, 11, 6), "Camera", null, null));
+        CaseManager.addCase(new TheftCase("000004", "Bike theft", LocalDate.of(2025, 1, 2), "Lock", null, null));
+        CaseManager.editCase("000000", Map.of("financial-value", 100.25));
+        CaseManager.editCase("000001", Map.of("financial-value", 50.0));
+        CaseManager.editCase("000002", Map.of("speed-limit", 60, "exceeded-speed", 95));
+        CaseManager.editCase("000003", Map.of("speed-limit", 80));
+        CaseManager.closeCase("000001");
+        CaseManager.deleteCase("000004");
+
+        CaseStatistics statistics = CaseManager.computeStatistics(CaseQuery.all(), DateBucket.MONTH);
+
+        assertEquals(4, statistics.getCaseCount());
+        assertEquals(1, statistics.getClosedCount());
+        assertEquals(2, statistics.getCount(CaseType.FINANCIAL));
+        assertEquals(1, statistics.getOpenCount(CaseType.FINANCIAL));
+        assertEquals(0, statistics.getCount(CaseCategory.THEFT));
+        assertEquals(2, statistics.getCount(CaseCategory.SPEEDING));
+        assertEquals(150.25, statistics.getTotalAmount(CaseCategory.SCAM));
+        assertEquals(2, statistics.getAmountCount(CaseCategory.SCAM));
+        assertEquals(1, statistics.getSpeedingCount());
+        assertEquals(35.0, statistics.getAverageExcessSpeed());
+        assertEquals(List.of(LocalDate.of(2024, 11, 1), LocalDate.of(2025, 10, 1)),
+                List.copyOf(statistics.getDateBucketStarts()));
+        assertEquals(2, statistics.getCountInBucket(LocalDate.of(2025, 10, 1)));
+        assertEquals(1, statistics.getOpenCountInBucket(LocalDate.of(2025, 10, 1)));
+
+        CaseStatistics openByYear = CaseManager.computeStatistics(CaseQuery.all().withOpen(true), DateBucket.YEAR);
+        assertEquals(3, openByYear.getCaseCount());
+        assertEquals(100.25, openByYear.getTotalAmount(CaseCategory.SCAM));
+        assertEquals(2, openByYear.getCountInBucket(LocalDate.of(2024, 1, 1)));
+    }
+
+    // ----------- TESTS FOR FIND ----------- //
+
+    @Test
+    void findCasesByKeyword_termsAcrossFields_returnsCasesMatchingAllTerms() {
+        LocalDate date = LocalDate.of(2023, 10, 5);
+        CaseManager.addCase(new TheftCase("000000", "Shop Theft", date, "Broken window", "Alice", "Officer Lee"));
+        CaseManager.addCase(new TheftCase("000001", "Bicycle Theft", date, "Outside mall", "Bob", "Officer Tan"));
+        CaseManager.addCase(new TheftCase("000002", "Shop Theft", date, "Cash register", "Carol", "Officer Tan"));
+
+        assertEquals(3, CaseManager.findCasesByKeyword("THEFT").size());
+        assertEquals(2, CaseManager.findCasesByKeyword("officer tan").size());
+        assertEquals("000002", CaseManager.findCasesByKeyword("shop tan").get(0).getId());
+        assertEquals(1, CaseManager.findCasesByKeyword("bicy").size());
+        assertTrue(CaseManager.findCasesByKeyword("shop bob").isEmpty());
+        assertTrue(CaseManager.findCasesByKeyword("!!").isEmpty());
+    }
+
+    @Test
+    void findCasesByKeyword_afterEditAndDelete_reflectsChanges() throws Exception {
+        LocalDate date = LocalDate.of(2023, 10, 5);
+        CaseManager.addCase(new TheftCase("000000", "Shop Theft", date, "Broken window", "Alice", "Officer Lee"));
+        CaseManager.addCase(new TheftCase("000001", "Bicycle Theft", date, "Outside mall", "Bob", "Officer Tan"));
+
+        CaseManager.editCase("000000", Map.of("title", "Car Theft", "stolen-object", "Dashcam"));
+        assertTrue(CaseManager.findCasesByKeyword("shop").isEmpty());
+        assertEquals("000000", CaseManager.findCasesByKeyword("car dashcam").get(0).getId());
+
+        CaseManager.deleteCase("000001");
+        assertEquals(1, CaseManager.findCasesByKeyword("theft").size());
+    }
+
+    // ----------- TESTS FOR SECONDARY INDEXES ----------- //
+
+    @Test
+    void getCases_afterCloseEditAndDelete_reflectsChanges() throws Exception {
+        LocalDate date = LocalDate.of(2023, 10, 5);
+        CaseManager.addCase(new TheftCase("000000", "Shop Theft", date, "Broken window", "Alice", "Officer Lee"));
+        CaseManager.addCase(new MurderCase("000001", "Stabbing", date, "Back alley", "Bob", "Officer Tan"));
+        CaseManager.addCase(new TheftCase("000002", "Bicycle Theft", date, "Outside mall", "Carol", "Officer Tan"));
+
+        CaseManager.closeCase("000000");
+        CaseManager.editCase("000002", Map.of("date", LocalDate.of(2024, 1, 1)));
+        CaseManager.deleteCase("000001");
+
+        CaseQuery openQuery = CaseQuery.all().withOpen(true);
+        assertEquals(1, CaseManager.countCases(openQuery));
+        assertEquals("000002", CaseManager.getCases(openQuery).get(0).getId());
+        assertEquals(1, CaseManager.countCases(CaseQuery.all().withOpen(false)));
+        assertEquals(2, CaseManager.countCases(CaseQuery.all()));
+        assertEquals(2, CaseManager.countCases(CaseQuery.all().withType(CaseType.FINANCIAL)));
+        assertEquals(0, CaseManager.countCases(CaseQuery.all().withCategory(CaseCategory.MURDER)));
+        assertEquals("000000", CaseManager.getCases(CaseQuery.all().withDateRange(null, date)).get(0).getId());
+        assertEquals(1, CaseManager.countCases(CaseQuery.all().withDateRange(date.plusDays(1), null)));
+
+        CaseManager.openCase("000000");
+        assertEquals(2, CaseManager.countCases(openQuery));
+        assertEquals(1, CaseManager.findCasesByKeyword("theft", CaseQuery.all().withOpen(true)
+                .withDateRange(date, date)).size());
+    }
+
+    @Test
+    void getCases_caseListModifiedDirectly_rebuildsIndexes() {
+        LocalDate date = LocalDate.of(2023, 10, 5);
+        CaseManager.addCase(new TheftCase("000000", "Shop Theft", date, "Broken window", "Alice", "Officer Lee"));
+        assertEquals(1, CaseManager.countCases(CaseQuery.all().withOpen(true)));
+
+        Case closedCase = new MurderCase("000000", "Stabbing", date, "Back alley", "Bob", "Officer Tan");
+        closedCase.setClosed();
+        caseList.clear();
+        caseList.add(closedCase);
+
+        assertEquals(0, CaseManager.countCases(CaseQuery.all().withOpen(true)));
+        assertEquals(closedCase, CaseManager.getCases(CaseQuery.all().withCategory(CaseCategory.MURDER)).get(0));
+    }
+
+    @Test
+    void getCaseById_caseListRefilledWithSameNumberOfCases_findsNewCases() {
+        LocalDate date = LocalDate.of(2023, 10, 5);
+        CaseManager.clearCases();
+        CaseManager.addCase(new TheftCase("000000", "Shop Theft", date, "Broken window", "Alice", "Officer Lee"));
+        assertEquals("Shop Theft", CaseManager.getCaseById("000000").getTitle());
+
+        Case newCase = new MurderCase("00000a", "Stabbing", date, "Back alley", "Bob", "Officer Tan");
+        caseList.clear();
+        caseList.add(newCase);
+
+        assertEquals(newCase, CaseManager.getCaseById("00000a"));
+        assertNull(CaseManager.getCaseById("000000"));
+    }
 }
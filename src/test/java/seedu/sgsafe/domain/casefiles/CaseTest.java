@@ -3,13 +3,19 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import seedu.sgsafe.domain.casefiles.type.OthersCase;
+import seedu.sgsafe.utils.settings.Settings;
 
 public class CaseTest {
 
@@ -82,6 +88,126 @@ public class CaseTest {
         assertTrue(lines.length > 1);
     }
 
+    // ----------- RENDERED LINE CACHE TESTS ----------- //
+
+    @Test
+    void getDisplayLine_calledAgain_returnsCachedLine() {
+        Case c = new OthersCase("0001a3", "Stolen wallet", LocalDate.of(2025, 10, 14), null, null, null);
+
+        assertSame(c.getDisplayLine(), c.getDisplayLine());
+    }
+
+    @Test
+    void getDisplayLine_afterEachChange_neverShowsStaleText() {
+        Case c = new OthersCase("0001a3", "Stolen wallet", LocalDate.of(2025, 10, 14), null, null, null);
+        c.getDisplayLine();
+
+        c.update(Map.of("title", "Stolen bicycle", "date", LocalDate.of(2025, 11, 1)));
+        assertTrue(c.getDisplayLine().contains("Stolen bicycle"));
+        assertTrue(c.getDisplayLine().contains("01/11/2025"));
+
+        c.setClosed();
+        assertTrue(c.getDisplayLine().contains("Closed"));
+        assertTrue(containsLineWith(c.getMultiLineVerboseDisplay(), "Status", "Closed"));
+
+        c.setOpen();
+        assertTrue(c.getDisplayLine().contains("Open"));
+        assertTrue(containsLineWith(c.getMultiLineVerboseDisplay(), "Status", "Open"));
+
+        c.setUpdatedAt(LocalDateTime.of(2025, 12, 25, 8, 30, 0));
+        assertTrue(containsLineWith(c.getMultiLineVerboseDisplay(), "Updated at", "25/12/2025 08:30:00"));
+    }
+
+    @Test
+    void getDisplayLine_outputFormatsChanged_showsNewFormats() {
+        Case c = new OthersCase("0001a3", "Stolen wallet", LocalDate.of(2025, 10, 14), null, null, null);
+        c.setCreatedAt(LocalDateTime.of(2025, 10, 14, 9, 0, 0));
+        String oldDateFormat = Settings.getOutputDateFormat();
+        String oldDateTimeFormat = Settings.getDateTimeFormat();
+        try {
+            Settings.setOutputDateFormat("dd/MM/yyyy");
+            Settings.setDateTimeFormat("dd/MM/yyyy HH:mm:ss");
+            assertTrue(c.getDisplayLine().contains("14/10/2025"));
+            assertTrue(containsLineWith(c.getMultiLineVerboseDisplay(), "Created at", "14/10/2025 09:00:00"));
+
+            Settings.setOutputDateFormat("yyyy-MM-dd");
+            Settings.setDateTimeFormat("yyyy-MM-dd HH:mm");
+            assertTrue(c.getDisplayLine().contains("2025-10-14"));
+            assertTrue(containsLineWith(c.getMultiLineVerboseDisplay(), "Created at", "2025-10-14 09:00"));
+        } finally {
+            Settings.setOutputDateFormat(oldDateFormat);
+            Settings.setDateTimeFormat(oldDateTimeFormat);
+        }
+    }
+
+    @Test
+    void getMultiLineVerboseDisplay_returnedLinesChanged_cachedLinesUnchanged() {
+        Case c = new OthersCase("0001a3", "Stolen wallet", LocalDate.of(2025, 10, 14), null, null, null);
+        String[] lines = c.getMultiLineVerboseDisplay();
+        String header = lines[0];
+
+        lines[0] = "changed by the caller";
+
+        assertEquals(header, c.getMultiLineVerboseDisplay()[0]);
+    }
+
+    // ----------- CONCURRENCY TESTS ----------- //
+
+    @Test
+    void getDisplayLine_renderedWhileAnotherThreadChangesTheCase_showsTheLastChange() throws Exception {
+        Case c = new OthersCase("0001a3", "Title 0", LocalDate.of(2025, 10, 14), null, null, null);
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= 5000; i++) {
+                c.update(Map.of("title", "Title " + i));
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            c.getDisplayLine();
+            c.getMultiLineVerboseDisplay();
+        }
+        writer.join();
+
+        assertTrue(c.getDisplayLine().contains("Title 5000"));
+        assertTrue(containsLineWith(c.getMultiLineVerboseDisplay(), "Title", "Title 5000"));
+    }
+
+    @Test
+    void loadDeferredFields_manyThreadsReadAtOnce_loadsOnceAndEveryThreadSeesTheFields() throws Exception {
+        LocalDate date = LocalDate.of(2025, 10, 14);
+        Case c = new OthersCase("0001a3", "Stolen wallet", date, null, null, null);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        c.deferFields(() -> {
+            loadCount.incrementAndGet();
+            return new OthersCase("0001a3", "Stolen wallet", date, "Wallet stolen at MRT station",
+                    "John Doe", "Officer Tan");
+        });
+
+        ConcurrentLinkedQueue<String> infosRead = new ConcurrentLinkedQueue<>();
+        Thread[] readers = new Thread[8];
+        for (int i = 0; i < readers.length; i++) {
+            readers[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                infosRead.add(c.getInfo() + "/" + c.getOfficer());
+            });
+            readers[i].start();
+        }
+        start.countDown();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(1, loadCount.get());
+        assertEquals(readers.length, infosRead.size());
+        assertTrue(infosRead.stream().allMatch("Wallet stolen at MRT station/Officer Tan"::equals));
+        assertTrue(c.isFullyLoaded());
+    }
+
     // helper
     private boolean containsLineWith(String[] lines, String label, String value) {
         for (String line : lines) {
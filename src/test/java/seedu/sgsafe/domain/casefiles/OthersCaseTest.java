@@ -2,6 +2,7 @@ package seedu.sgsafe.domain.casefiles;
 
 import org.junit.jupiter.api.Test;
 import seedu.sgsafe.domain.casefiles.type.OthersCase;
+import seedu.sgsafe.utils.storage.SaveFormatCodec;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -112,7 +113,7 @@ public class OthersCaseTest {
         OthersCase c = new OthersCase("O001X1", "Unclassified Incident", date,
                 "Unknown event reported", "Kelly", "Officer Tan");
 
-        String s1 = c.toSaveString();
+        String s1 = SaveFormatCodec.toSaveString(c);
         assertTrue(s1.contains("|custom-category:"), "save string should include custom-category field");
         assertTrue(s1.matches(".*\\|custom-category:$") || s1.matches(".*\\|custom-category:\\|.*"));
 
@@ -120,7 +121,7 @@ public class OthersCaseTest {
         updates.put("custom-category", "Cybercrime");
         c.update(updates);
 
-        String s2 = c.toSaveString();
+        String s2 = SaveFormatCodec.toSaveString(c);
         assertTrue(s2.contains("|custom-category:Cybercrime"),
                 "save string should include the set custom-category value");
     }
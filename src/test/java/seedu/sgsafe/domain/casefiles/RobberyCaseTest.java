@@ -2,6 +2,7 @@ package seedu.sgsafe.domain.casefiles;
 
 import org.junit.jupiter.api.Test;
 import seedu.sgsafe.domain.casefiles.type.violent.RobberyCase;
+import seedu.sgsafe.utils.storage.SaveFormatCodec;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -144,7 +145,7 @@ public class RobberyCaseTest {
         LocalDate date = LocalDate.of(2025, 10, 14);
         RobberyCase c = new RobberyCase("R001V1", "T", date, "I", "V", "O");
 
-        String save = c.toSaveString();
+        String save = SaveFormatCodec.toSaveString(c);
         assertTrue(save.contains("|number-of-victims:"));
         assertTrue(save.contains("|weapon:"));
 
@@ -162,7 +163,7 @@ public class RobberyCaseTest {
         updates.put("number-of-victims", 7);
         c.update(updates);
 
-        String save = c.toSaveString();
+        String save = SaveFormatCodec.toSaveString(c);
         assertTrue(save.contains("|number-of-victims:7"));
         assertTrue(save.contains("|weapon:Bat"));
     }
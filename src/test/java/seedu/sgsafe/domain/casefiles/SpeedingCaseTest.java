@@ -2,12 +2,14 @@ package seedu.sgsafe.domain.casefiles;
 
 import org.junit.jupiter.api.Test;
 import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+import seedu.sgsafe.utils.storage.SaveFormatCodec;
 
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -65,6 +67,19 @@ public class SpeedingCaseTest {
         assertEquals(120, c.getExceededSpeed());
     }
 
+    @Test
+    void setSpeedLimit_zero_isSetAndSurvivesSaving() {
+        LocalDate date = LocalDate.of(2025, 10, 14);
+        SpeedingCase c = new SpeedingCase("000001", "Speeding", date, "I", "V", "O");
+        c.setSpeedLimit(0);
+
+        SpeedingCase decoded = (SpeedingCase) SaveFormatCodec.decode(SaveFormatCodec.toSaveString(c), "000001");
+        assertEquals(0, decoded.getSpeedLimit());
+        assertTrue(decoded.hasSpeedLimit());
+        assertFalse(decoded.hasExceededSpeed());
+        assertEquals(0, decoded.getExceededSpeedAsInt());
+    }
+
     @Test
     void getReadCaseDisplay_includesTrafficAndSpeedingFields() {
         LocalDate date = LocalDate.of(2025, 10, 14);
@@ -110,7 +125,7 @@ public class SpeedingCaseTest {
         LocalDate date = LocalDate.of(2025, 10, 14);
         SpeedingCase c = new SpeedingCase("T001T1", "Speeding", date, "I", "V", "O");
 
-        String empty = c.toSaveString();
+        String empty = SaveFormatCodec.toSaveString(c);
         assertTrue(empty.contains("|vehicle-type:"));
         assertTrue(empty.contains("|vehicle-plate:"));
         assertTrue(empty.contains("|road-name:"));
@@ -125,7 +140,7 @@ public class SpeedingCaseTest {
         updates.put("exceeded-speed", 100);
         c.update(updates);
 
-        String populated = c.toSaveString();
+        String populated = SaveFormatCodec.toSaveString(c);
         assertTrue(populated.contains("|vehicle-type:Van"));
         assertTrue(populated.contains("|vehicle-plate:SBA1234A"));
         assertTrue(populated.contains("|road-name:CTE"));
@@ -2,6 +2,7 @@ package seedu.sgsafe.domain.casefiles;
 
 import org.junit.jupiter.api.Test;
 import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.utils.storage.SaveFormatCodec;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -112,7 +113,7 @@ public class TheftCaseTest {
         LocalDate date = LocalDate.of(2025, 10, 14);
         TheftCase c = new TheftCase("F002T", "Title", date, "Info", "V", "O");
 
-        String emptySave = c.toSaveString();
+        String emptySave = SaveFormatCodec.toSaveString(c);
         assertTrue(emptySave.contains("|financial-value:"));
         assertTrue(emptySave.contains("|stolen-object:"));
 
@@ -121,7 +122,7 @@ public class TheftCaseTest {
         updates.put("stolen-object", "Watch");
         c.update(updates);
 
-        String populated = c.toSaveString();
+        String populated = SaveFormatCodec.toSaveString(c);
         assertTrue(populated.contains("|financial-value:2500.00"));
         assertTrue(populated.contains("|stolen-object:Watch"));
     }
@@ -24,7 +24,7 @@ public class EditCommandTest {
 
     @BeforeEach
     void setUp() {
-        CaseManager.getCaseList().clear();
+        CaseManager.clearCases();
         LocalDate date = LocalDate.of(2025, 10, 10);
         sampleCase = new RobberyCase("000001", "Robbery", date, "Suspect armed", "Alice", "Officer Tan") {};
         CaseManager.addCase(sampleCase);
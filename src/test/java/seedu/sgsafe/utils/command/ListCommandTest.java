@@ -14,9 +14,7 @@ import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
 import seedu.sgsafe.domain.casefiles.type.property.VandalismCase;
 import seedu.sgsafe.domain.casefiles.type.violent.AssaultCase;
 
-import java.lang.reflect.Field;
 import java.time.LocalDate;
-import java.util.ArrayList;
 
 /**
  * Unit tests for {@link ListCommand}, verifying correct filtering, formatting,
@@ -29,20 +27,15 @@ class ListCommandTest {
     private static final int NUMBER_OF_PREAMBLE_LINES_SUMMARY = NUMBER_OF_PREAMBLE_LINES_SHARED + 5 + 1;
     private static final int NUMBER_OF_LINES_BETWEEN_VERBOSE_MODE = 2; // Created at and updated at
 
-    private ArrayList<Case> caseList;
-
     @BeforeEach
-    void resetCaseList() throws Exception {
-        Field caseListField = CaseManager.class.getDeclaredField("caseList");
-        caseListField.setAccessible(true);
-        caseList = (ArrayList<Case>) caseListField.get(null);
-        caseList.clear();
+    void resetCaseList() {
+        CaseManager.clearCases();
     }
 
     @Test
     void list_withNoCases_returnsHeaderOnly() {
         ListCommand command = new ListCommand(CaseListingMode.DEFAULT, false);
-        String[] output = command.getCaseDescriptions(caseList);
+        String[] output = command.getCaseDescriptions();
 
         assertEquals(1, output.length);
         assertEquals("You currently have no cases in total. Add some now!", output[0]);
@@ -51,10 +44,10 @@ class ListCommandTest {
     @Test
     void list_withOneOpenCase_returnsCorrectHeaderAndLine() {
         LocalDate date = LocalDate.of(2025, 10, 1);
-        caseList.add(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
+        CaseManager.addCase(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
 
         ListCommand command = new ListCommand(CaseListingMode.OPEN_ONLY, false);
-        String[] output = command.getCaseDescriptions(caseList);
+        String[] output = command.getCaseDescriptions();
 
         assertEquals(NUMBER_OF_PREAMBLE_LINES_SUMMARY+1, output.length);
         assertEquals("You currently have 1 case open", output[0]);
@@ -65,21 +58,21 @@ class ListCommandTest {
     @Test
     void list_withMixedCases_filtersByStatusCorrectly() {
         LocalDate date = LocalDate.of(2025, 10, 1);
-        caseList.add(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
-        caseList.add(new ScamCase("000002", "Fraud", date, "Email scam", "Jane Doe", "Officer Lim"));
+        CaseManager.addCase(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
+        CaseManager.addCase(new ScamCase("000002", "Fraud", date, "Email scam", "Jane Doe", "Officer Lim"));
 
         Case closedCase = new AssaultCase("000003", "Trespass", date,
                 "Unauthorized entry", "Jake Doe", "Officer Ong");
         closedCase.setClosed();
-        caseList.add(closedCase);
+        CaseManager.addCase(closedCase);
 
-        String[] openOutput = new ListCommand(CaseListingMode.OPEN_ONLY, false).getCaseDescriptions(caseList);
+        String[] openOutput = new ListCommand(CaseListingMode.OPEN_ONLY, false).getCaseDescriptions();
         assertEquals("You currently have 2 cases open", openOutput[0]);
         assertEquals(NUMBER_OF_PREAMBLE_LINES_SUMMARY + 2, openOutput.length);
         assertTrue(openOutput[NUMBER_OF_PREAMBLE_LINES_SUMMARY].contains("Robbery"));
         assertTrue(openOutput[NUMBER_OF_PREAMBLE_LINES_SUMMARY+1].contains("Fraud"));
 
-        String[] closedOutput = new ListCommand(CaseListingMode.CLOSED_ONLY, false).getCaseDescriptions(caseList);
+        String[] closedOutput = new ListCommand(CaseListingMode.CLOSED_ONLY, false).getCaseDescriptions();
         assertEquals("You currently have 1 case closed", closedOutput[0]);
         assertEquals(NUMBER_OF_PREAMBLE_LINES_SUMMARY+1, closedOutput.length);
         assertTrue(closedOutput[NUMBER_OF_PREAMBLE_LINES_SUMMARY].contains("Trespass"));
@@ -89,15 +82,15 @@ class ListCommandTest {
     @Test
     void list_withAllMode_returnsAllCases() {
         LocalDate date = LocalDate.of(2025, 10, 1);
-        caseList.add(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
-        caseList.add(new ScamCase("000002", "Fraud", date, "Email scam", "Jane Doe", "Officer Lim"));
+        CaseManager.addCase(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
+        CaseManager.addCase(new ScamCase("000002", "Fraud", date, "Email scam", "Jane Doe", "Officer Lim"));
 
         Case closedCase = new AssaultCase("000003", "Trespass", date,
                 "Unauthorized entry", "Jake Doe", "Officer Ong");
         closedCase.setClosed();
-        caseList.add(closedCase);
+        CaseManager.addCase(closedCase);
 
-        String[] output = new ListCommand(CaseListingMode.DEFAULT, false).getCaseDescriptions(caseList);
+        String[] output = new ListCommand(CaseListingMode.DEFAULT, false).getCaseDescriptions();
         assertEquals("You currently have 3 cases in total", output[0]);
         assertEquals(NUMBER_OF_PREAMBLE_LINES_SUMMARY+3, output.length);
         assertTrue(output[NUMBER_OF_PREAMBLE_LINES_SUMMARY].contains("Robbery"));
@@ -108,10 +101,10 @@ class ListCommandTest {
     @Test
     void list_withDefaultMode_behavesLikeAll() {
         LocalDate date = LocalDate.of(2025, 10, 1);
-        caseList.add(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
-        caseList.add(new ScamCase("000002", "Fraud", date, "Email scam", "Jane Doe", "Officer Lim"));
+        CaseManager.addCase(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
+        CaseManager.addCase(new ScamCase("000002", "Fraud", date, "Email scam", "Jane Doe", "Officer Lim"));
 
-        String[] output = new ListCommand(CaseListingMode.DEFAULT, false).getCaseDescriptions(caseList);
+        String[] output = new ListCommand(CaseListingMode.DEFAULT, false).getCaseDescriptions();
         assertEquals("You currently have 2 cases in total", output[0]);
         assertEquals(NUMBER_OF_PREAMBLE_LINES_SUMMARY+2, output.length);
         assertTrue(output[NUMBER_OF_PREAMBLE_LINES_SUMMARY].contains("Robbery"));
@@ -121,10 +114,10 @@ class ListCommandTest {
     @Test
     void list_verboseMode_includesDetailedInfo() {
         LocalDate date = LocalDate.of(2025, 10, 1);
-        caseList.add(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
+        CaseManager.addCase(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
 
         ListCommand command = new ListCommand(CaseListingMode.DEFAULT, true);
-        String[] output = command.getCaseDescriptions(caseList);
+        String[] output = command.getCaseDescriptions();
 
         assertTrue(output[NUMBER_OF_PREAMBLE_LINES_VERBOSE].startsWith("======== CASE ID 000001 ========"));
         assertTrue(output[NUMBER_OF_PREAMBLE_LINES_VERBOSE+1].contains("Open"));
@@ -146,10 +139,10 @@ class ListCommandTest {
     @Test
     void list_summaryMode_omitsDetailedInfo() {
         LocalDate date = LocalDate.of(2025, 10, 1);
-        caseList.add(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
+        CaseManager.addCase(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
 
         ListCommand command = new ListCommand(CaseListingMode.DEFAULT, false);
-        String[] output = command.getCaseDescriptions(caseList);
+        String[] output = command.getCaseDescriptions();
 
         assertEquals(NUMBER_OF_PREAMBLE_LINES_SUMMARY+1, output.length);
         assertTrue(output[NUMBER_OF_PREAMBLE_LINES_SUMMARY].contains("Robbery"));
@@ -158,16 +151,16 @@ class ListCommandTest {
     @Test
     void list_verboseMixed_includesDetails() {
         LocalDate date = LocalDate.of(2025, 10, 1);
-        caseList.add(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
-        caseList.add(new ScamCase("000002", "Fraud", date, "Email scam", "Jane Doe", "Officer Lim"));
+        CaseManager.addCase(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
+        CaseManager.addCase(new ScamCase("000002", "Fraud", date, "Email scam", "Jane Doe", "Officer Lim"));
 
         Case closedCase = new AssaultCase("000003", "Trespass", date,
                 "Unauthorized entry", "Jake Doe", "Officer Ong");
         closedCase.setClosed();
-        caseList.add(closedCase);
+        CaseManager.addCase(closedCase);
 
         ListCommand command = new ListCommand(CaseListingMode.DEFAULT, true);
-        String[] output = command.getCaseDescriptions(caseList);
+        String[] output = command.getCaseDescriptions();
 
         boolean foundFraudCategory = false;
         boolean foundTheftCategory = false;
@@ -188,16 +181,16 @@ class ListCommandTest {
     @Test
     void list_summaryMixed_omitsDetails() {
         LocalDate date = LocalDate.of(2025, 10, 1);
-        caseList.add(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
-        caseList.add(new ScamCase("000002", "Fraud", date, "Email scam", "Jane Doe", "Officer Lim"));
+        CaseManager.addCase(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
+        CaseManager.addCase(new ScamCase("000002", "Fraud", date, "Email scam", "Jane Doe", "Officer Lim"));
 
         Case closedCase = new AssaultCase("000003", "Trespass", date,
                 "Unauthorized entry", "Jake Doe", "Officer Ong");
         closedCase.setClosed();
-        caseList.add(closedCase);
+        CaseManager.addCase(closedCase);
 
         ListCommand command = new ListCommand(CaseListingMode.DEFAULT, false);
-        String[] output = command.getCaseDescriptions(caseList);
+        String[] output = command.getCaseDescriptions();
 
         assertEquals(NUMBER_OF_PREAMBLE_LINES_SUMMARY+3, output.length);
         assertFalse(output[NUMBER_OF_PREAMBLE_LINES_SUMMARY].contains("Masked suspect"));
@@ -209,10 +202,10 @@ class ListCommandTest {
     void list_verboseMode_wrapsLongInfo() {
         LocalDate date = LocalDate.of(2025, 10, 1);
         String longInfo = "X".repeat(150); // long unbroken string
-        caseList.add(new ScamCase("000004", "Forgery", date, longInfo, "Alex", "Officer Lee"));
+        CaseManager.addCase(new ScamCase("000004", "Forgery", date, longInfo, "Alex", "Officer Lee"));
 
         ListCommand command = new ListCommand(CaseListingMode.DEFAULT, true);
-        String[] output = command.getCaseDescriptions(caseList);
+        String[] output = command.getCaseDescriptions();
 
         boolean foundInfoLabel = false;
         boolean foundWrappedLine = false;
@@ -232,10 +225,10 @@ class ListCommandTest {
     @Test
     void list_verboseMode_handlesMissingFieldsGracefully() {
         LocalDate date = LocalDate.of(2025, 10, 1);
-        caseList.add(new VandalismCase("000005", "Vandalism", date, "Graffiti", null, null));
+        CaseManager.addCase(new VandalismCase("000005", "Vandalism", date, "Graffiti", null, null));
 
         ListCommand command = new ListCommand(CaseListingMode.DEFAULT, true);
-        String[] output = command.getCaseDescriptions(caseList);
+        String[] output = command.getCaseDescriptions();
 
         assertTrue(output[NUMBER_OF_PREAMBLE_LINES_VERBOSE+2].startsWith("Category"));
         assertTrue(output[NUMBER_OF_PREAMBLE_LINES_VERBOSE+3].contains("Vandalism"));
@@ -250,10 +243,10 @@ class ListCommandTest {
     @Test
     void list_verboseMode_includesCategoryField() {
         LocalDate date = LocalDate.of(2023, 10, 5);
-        caseList.add(new ScamCase("000006", "Forgery", date, "Fake documents", "Sam", "Officer Teo"));
+        CaseManager.addCase(new ScamCase("000006", "Forgery", date, "Fake documents", "Sam", "Officer Teo"));
 
         ListCommand command = new ListCommand(CaseListingMode.DEFAULT, true);
-        String[] output = command.getCaseDescriptions(caseList);
+        String[] output = command.getCaseDescriptions();
 
         boolean foundCategory = false;
         for (String line : output) {
@@ -264,4 +257,38 @@ class ListCommandTest {
 
         assertTrue(foundCategory, "Expected 'Category : SCAM' to appear in verbose output");
     }
+
+    //@@author
+
+    @Test
+    void list_withPage_returnsOnlyCasesOnThatPage() {
+        LocalDate date = LocalDate.of(2025, 10, 1);
+        CaseManager.addCase(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
+        CaseManager.addCase(new ScamCase("000002", "Fraud", date, "Email scam", "Jane Doe", "Officer Lim"));
+        CaseManager.addCase(new AssaultCase("000003", "Trespass", date,
+                "Unauthorized entry", "Jake Doe", "Officer Ong"));
+
+        ListCommand command = new ListCommand(CaseListingMode.DEFAULT, false, new Pagination(2, 1));
+        String[] output = command.getCaseDescriptions();
+
+        assertEquals("You currently have 3 cases in total", output[0]);
+        assertEquals("Showing 2-2 of 3 (page 2 of 3)", output[1]);
+        assertEquals(NUMBER_OF_PREAMBLE_LINES_SUMMARY + 2, output.length);
+        assertTrue(output[NUMBER_OF_PREAMBLE_LINES_SUMMARY + 1].contains("Fraud"));
+    }
+
+    @Test
+    void list_withPageBeyondLast_reportsLastPage() {
+        LocalDate date = LocalDate.of(2025, 10, 1);
+        CaseManager.addCase(new TheftCase("000001", "Robbery", date, "Masked suspect", "John Doe", "Officer Tan"));
+        CaseManager.addCase(new ScamCase("000002", "Fraud", date, "Email scam", "Jane Doe", "Officer Lim"));
+
+        ListCommand command = new ListCommand(CaseListingMode.DEFAULT, false, new Pagination(3, 1));
+        String[] output = command.getCaseDescriptions();
+
+        assertEquals("There is nothing on page 3. The last page is page 2.", output[1]);
+        for (String line : output) {
+            assertFalse(line.contains("Robbery") || line.contains("Fraud"));
+        }
+    }
 }
@@ -1,11 +1,14 @@
 package seedu.sgsafe.utils.settings;
 
 import org.junit.jupiter.api.Test;
+import seedu.sgsafe.utils.ui.DateFormatter;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SettingsTest {
 
@@ -79,4 +82,41 @@ class SettingsTest {
         Settings.setOutputDateFormat("MMM dd, yyyy");
         assertEquals("MMM dd, yyyy", Settings.getOutputDateFormat());
     }
+
+    @Test
+    void getVersion_formatChangedToNewValue_incrementsVersion() {
+        Settings.setDateTimeFormat("dd/MM/yyyy HH:mm:ss");
+        long version = Settings.getVersion();
+        Settings.setDateTimeFormat("yyyy-MM-dd HH:mm:ss");
+        assertTrue(Settings.getVersion() > version);
+    }
+
+    @Test
+    void getVersion_formatSetToSameValue_keepsVersion() {
+        Settings.setDateTimeFormat("dd/MM/yyyy HH:mm:ss");
+        long version = Settings.getVersion();
+        Settings.setDateTimeFormat("dd/MM/yyyy HH:mm:ss");
+        assertEquals(version, Settings.getVersion());
+    }
+
+    @Test
+    void setOutputDateFormat_afterFormattingWithPreviousFormat_formatsWithNewFormat() {
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        Settings.setOutputDateFormat("dd/MM/yyyy");
+        assertEquals("15/01/2024", DateFormatter.formatDate(date, Settings.getOutputDateFormat()));
+
+        Settings.setOutputDateFormat("yyyy-MM-dd");
+        assertEquals("2024-01-15", DateFormatter.formatDate(date, Settings.getOutputDateFormat()));
+    }
+
+    @Test
+    void setInputDateFormat_afterParsingWithPreviousFormat_parsesWithNewFormat() {
+        Settings.setInputDateFormat("dd/MM/yyyy");
+        assertEquals(LocalDate.of(2024, 1, 15), DateFormatter.parseDate("15/01/2024", Settings.getInputDateFormat()));
+
+        Settings.setInputDateFormat("yyyy-MM-dd");
+        assertEquals(LocalDate.of(2024, 1, 15), DateFormatter.parseDate("2024-01-15", Settings.getInputDateFormat()));
+        assertThrows(DateTimeParseException.class, () ->
+                DateFormatter.parseDate("15/01/2024", Settings.getInputDateFormat()));
+    }
 }
@@ -0,0 +1,202 @@
+package seedu.sgsafe.utils.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackgroundSaverTest {
+
+    private File saveFile;
+    private File journalFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        CaseManager.clearCases();
+        saveFile = File.createTempFile("sgsafe-data", ".txt");
+        journalFile = File.createTempFile("sgsafe-data", ".journal");
+        saveFile.delete();
+        journalFile.delete();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CaseManager.clearCases();
+        saveFile.delete();
+        journalFile.delete();
+    }
+
+    private static void addTheftCase(String title) {
+        LocalDate date = LocalDate.of(2024, 3, 1);
+        CaseManager.addCase(new TheftCase(CaseManager.generateHexId(), title, date, "info", "victim", "officer"));
+    }
+
+    @Test
+    void close_afterRequestingSaves_writesEveryChangeToDisk() {
+        Storage storage = new Storage(saveFile.getPath(), journalFile.getPath());
+        storage.loadCaseManager();
+        BackgroundSaver saver = new BackgroundSaver(storage);
+
+        addTheftCase("Wallet stolen");
+        saver.requestSave();
+        addTheftCase("Bicycle stolen");
+        saver.requestSave();
+        saver.close();
+        saver.close();
+
+        CaseManager.clearCases();
+        new Storage(saveFile.getPath(), journalFile.getPath()).loadCaseManager();
+        assertEquals(2, CaseManager.getCaseListSize());
+        assertEquals("Bicycle stolen", CaseManager.getCaseById("000001").getTitle());
+    }
+
+    @Test
+    void requestSave_burstWhileSaving_coalescedIntoOneSave() throws InterruptedException {
+        GatedStorage storage = new GatedStorage(saveFile.getPath());
+        BackgroundSaver saver = new BackgroundSaver(storage);
+
+        saver.requestSave();
+        assertTrue(storage.saveStarted.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            addTheftCase("Case " + i);
+            saver.requestSave();
+        }
+        storage.gate.countDown();
+        saver.flush();
+
+        // The first request, then every request made while it was being served
+        assertEquals(2, storage.saveCount.get());
+        assertEquals(2, saver.getSaveCount());
+        assertEquals(0, saver.getBackpressureCount());
+        saver.close();
+    }
+
+    @Test
+    void requestSave_queueFull_waitsUntilSavingCatchesUp() throws InterruptedException {
+        GatedStorage storage = new GatedStorage(saveFile.getPath());
+        BackgroundSaver saver = new BackgroundSaver(storage, 2);
+
+        saver.requestSave();
+        assertTrue(storage.saveStarted.await(10, TimeUnit.SECONDS));
+        saver.requestSave();
+        saver.requestSave();
+        Thread requester = new Thread(saver::requestSave);
+        requester.start();
+        requester.join(200);
+
+        assertTrue(requester.isAlive(), "A request should wait while the queue is full");
+        storage.gate.countDown();
+        requester.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(requester.isAlive());
+        assertEquals(1, saver.getBackpressureCount());
+        saver.close();
+        // The two requests that filled the queue were served together
+        assertTrue(storage.saveCount.get() < 4, "Waiting requests should be coalesced");
+    }
+
+    @Test
+    void requestSave_savingThreadStopped_savesOnTheCallingThread() throws InterruptedException {
+        FailingStorage storage = new FailingStorage(saveFile.getPath());
+        BackgroundSaver saver = new BackgroundSaver(storage, 1);
+        addTheftCase("Wallet stolen");
+        saver.requestSave();
+        assertTrue(storage.firstSaveFailed.await(10, TimeUnit.SECONDS));
+
+        Thread requester = new Thread(() -> {
+            for (int i = 0; i < 3; i++) {
+                saver.requestSave();
+            }
+            saver.close();
+        });
+        requester.setDaemon(true);
+        requester.start();
+        requester.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertFalse(requester.isAlive(), "Requests should not wait for a saving thread that has stopped");
+        assertTrue(storage.saveCount.get() >= 2, "Requests after the thread stopped should still be saved");
+    }
+
+    @Test
+    void close_saveFails_leavesTheMessageForTheCommandThread() throws IOException {
+        assertTrue(saveFile.createNewFile());
+        Storage storage = new Storage(new File(saveFile, "data.txt").getPath());
+        BackgroundSaver saver = new BackgroundSaver(storage);
+        addTheftCase("Wallet stolen");
+        saver.requestSave();
+
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            saver.close();
+            Display.flush();
+            assertEquals("", output.toString());
+
+            saver.showPendingMessages();
+            Display.flush();
+            assertTrue(output.toString().contains("Something went wrong while saving"));
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
+
+    /**
+     * A storage whose saving thread stops with an error during the first save, standing in for a thread that
+     * died unexpectedly.
+     */
+    private static class FailingStorage extends Storage {
+        private final CountDownLatch firstSaveFailed = new CountDownLatch(1);
+        private final AtomicInteger saveCount = new AtomicInteger();
+
+        FailingStorage(String filename) {
+            super(filename);
+        }
+
+        @Override
+        public void saveChanges() {
+            if (saveCount.incrementAndGet() == 1) {
+                firstSaveFailed.countDown();
+                throw new AssertionError("Saving thread stopped");
+            }
+        }
+    }
+
+    /**
+     * A storage whose first save waits until {@link #gate} is opened, standing in for a slow disk.
+     */
+    private static class GatedStorage extends Storage {
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final AtomicInteger saveCount = new AtomicInteger();
+
+        GatedStorage(String filename) {
+            super(filename);
+        }
+
+        @Override
+        public void saveChanges() {
+            saveCount.incrementAndGet();
+            saveStarted.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package seedu.sgsafe.utils.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.CaseQuery;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.InvalidCase;
+import seedu.sgsafe.utils.settings.Settings;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinarySnapshotTest {
+
+    private static final String BASE_FIELDS = "|title:Incident|date:14/10/2025|info:Some info"
+            + "|victim:John Tan|officer:Sgt. Lim|is-deleted:0|is-open:1"
+            + "|created-at:14/10/2025 10:45:33|updated-at:20/10/2025 12:12:10";
+
+    private static final String ADDITIONAL_FIELDS = "|financial-value:1250.50|location:Blk 123"
+            + "|stolen-object:Phone|monetary-damage:800.0|number-of-victims:2|weapon:Knife"
+            + "|vehicle-type:Car|vehicle-plate:SGX1234A|road-name:Orchard Road|speed-limit:60"
+            + "|exceeded-speed:95|number-of-casualties:1|custom-category:Littering";
+
+    private File saveFile;
+    private File snapshotFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        CaseManager.clearCases();
+        Settings.setInputDateFormat("dd/MM/yyyy");
+        Settings.setOutputDateFormat("dd/MM/yyyy");
+        Settings.setDateTimeFormat("dd/MM/yyyy HH:mm:ss");
+        saveFile = File.createTempFile("sgsafe-data", ".txt");
+        snapshotFile = File.createTempFile("sgsafe-data", ".snapshot");
+        snapshotFile.delete();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CaseManager.clearCases();
+        saveFile.delete();
+        snapshotFile.delete();
+        new File(snapshotFile.getPath() + Storage.PENDING_SNAPSHOT_SUFFIX).delete();
+    }
+
+    private static List<Case> createCaseOfEveryCategory() {
+        List<Case> cases = new ArrayList<>();
+        for (CaseCategory category : CaseCategory.values()) {
+            String id = CaseManager.getHexIdForSlot(cases.size());
+            cases.add(SaveFormatCodec.decode("category:" + category + BASE_FIELDS + ADDITIONAL_FIELDS, id));
+        }
+        return cases;
+    }
+
+    private void writeSaveFile(List<String> caseLines) throws IOException {
+        try (FileWriter writer = new FileWriter(saveFile)) {
+            writer.write("settings:dd/MM/yyyy|dd/MM/yyyy|dd/MM/yyyy HH:mm:ss" + System.lineSeparator());
+            for (String line : caseLines) {
+                writer.write(line + System.lineSeparator());
+            }
+        }
+    }
+
+    private static List<String> getSaveStrings(List<Case> cases) {
+        List<String> saveStrings = new ArrayList<>();
+        for (Case c : cases) {
+            saveStrings.add(SaveFormatCodec.toSaveString(c));
+        }
+        return saveStrings;
+    }
+
+    @Test
+    void read_writtenSnapshotOfEveryCategory_roundTripsUnchanged() throws IOException {
+        List<Case> cases = createCaseOfEveryCategory();
+        cases.get(1).setClosed();
+        cases.get(2).setDeleted(true);
+        cases.add(new InvalidCase("category:THEFT|title:cut short"));
+
+        new BinarySnapshot("dd/MM/yyyy", "yyyy-MM-dd", "dd/MM/yyyy HH:mm:ss", 10, 20, cases).write(snapshotFile);
+        BinarySnapshot snapshot = BinarySnapshot.read(snapshotFile);
+
+        assertEquals("yyyy-MM-dd", snapshot.getOutputDateFormat());
+        assertEquals(cases.size(), snapshot.getCases().size());
+        for (int i = 0; i < cases.size(); i++) {
+            Case original = cases.get(i);
+            Case restored = snapshot.getCases().get(i);
+            assertEquals(original.getClass(), restored.getClass());
+            assertEquals(SaveFormatCodec.toSaveString(original), SaveFormatCodec.toSaveString(restored));
+        }
+        assertEquals(CaseManager.getHexIdForSlot(3), snapshot.getCases().get(3).getId());
+    }
+
+    @Test
+    void loadCaseManager_saveFileWithoutSnapshot_migratesToSnapshot() throws IOException {
+        List<String> caseLines = getSaveStrings(createCaseOfEveryCategory());
+        writeSaveFile(caseLines);
+
+        new Storage(saveFile.getPath(), null, snapshotFile.getPath()).loadCaseManager();
+        assertTrue(snapshotFile.exists());
+
+        CaseManager.clearCases();
+        new Storage(saveFile.getPath(), null, snapshotFile.getPath()).loadCaseManager();
+        assertEquals(caseLines, getSaveStrings(CaseManager.getCases(CaseQuery.all())));
+    }
+
+    @Test
+    void loadCaseManager_saveFileChangedAfterSnapshot_loadsSaveFile() throws IOException {
+        List<String> caseLines = getSaveStrings(createCaseOfEveryCategory());
+        writeSaveFile(caseLines);
+        new Storage(saveFile.getPath(), null, snapshotFile.getPath()).loadCaseManager();
+
+        caseLines.add(caseLines.get(0).replace("title:Incident", "title:Added later"));
+        writeSaveFile(caseLines);
+        CaseManager.clearCases();
+        new Storage(saveFile.getPath(), null, snapshotFile.getPath()).loadCaseManager();
+
+        assertEquals(caseLines, getSaveStrings(CaseManager.getCases(CaseQuery.all())));
+    }
+
+    @Test
+    void loadCaseManager_corruptSnapshot_loadsSaveFile() throws IOException {
+        List<String> caseLines = getSaveStrings(createCaseOfEveryCategory());
+        writeSaveFile(caseLines);
+        Files.write(snapshotFile.toPath(), new byte[] {1, 2, 3});
+
+        new Storage(saveFile.getPath(), null, snapshotFile.getPath()).loadCaseManager();
+
+        assertEquals(caseLines, getSaveStrings(CaseManager.getCases(CaseQuery.all())));
+        assertInstanceOf(BinarySnapshot.class, BinarySnapshot.read(snapshotFile));
+    }
+
+    @Test
+    void map_writtenSnapshot_defersDetailsUntilRead() throws IOException {
+        List<Case> cases = createCaseOfEveryCategory();
+        cases.get(1).setClosed();
+        new BinarySnapshot("dd/MM/yyyy", "dd/MM/yyyy", "dd/MM/yyyy HH:mm:ss", 10, 20, cases).write(snapshotFile);
+
+        List<Case> mappedCases = BinarySnapshot.map(snapshotFile).getCases();
+
+        for (int i = 0; i < cases.size(); i++) {
+            Case original = cases.get(i);
+            Case mapped = mappedCases.get(i);
+            assertEquals(original.getDisplayLine(), mapped.getDisplayLine());
+            assertEquals(SaveFormatCodec.toSaveString(original), SaveFormatCodec.toSaveString(mapped));
+            assertFalse(mapped.isFullyLoaded());
+
+            assertArrayEquals(original.getReadCaseDisplay(), mapped.getReadCaseDisplay());
+            assertTrue(mapped.isFullyLoaded());
+            assertEquals(SaveFormatCodec.toSaveString(original), SaveFormatCodec.toSaveString(mapped));
+        }
+    }
+
+    @Test
+    void loadCaseManager_lazyLoading_findsWithoutLoadingDetailsAndSavesChanges() throws IOException {
+        List<String> caseLines = getSaveStrings(createCaseOfEveryCategory());
+        writeSaveFile(caseLines);
+        new Storage(saveFile.getPath(), null, snapshotFile.getPath()).loadCaseManager();
+        CaseManager.clearCases();
+
+        Storage storage = new Storage(saveFile.getPath(), null, snapshotFile.getPath());
+        storage.setLazyLoading(true);
+        storage.loadCaseManager();
+        assertEquals(caseLines.size(), CaseManager.findCasesByKeyword("sgt lim").size());
+        for (Case c : CaseManager.getCases(CaseQuery.all())) {
+            assertFalse(c.isFullyLoaded());
+        }
+
+        Case editedCase = CaseManager.getCases(CaseQuery.all()).get(0);
+        editedCase.update(Map.of("victim", "Mary Lee"));
+        assertTrue(editedCase.isFullyLoaded());
+        assertEquals("Some info", editedCase.getInfo());
+        storage.saveToFile();
+        caseLines.set(0, SaveFormatCodec.toSaveString(editedCase));
+
+        CaseManager.clearCases();
+        new Storage(saveFile.getPath(), null, snapshotFile.getPath()).loadCaseManager();
+        assertEquals(caseLines, getSaveStrings(CaseManager.getCases(CaseQuery.all())));
+    }
+
+    @Test
+    void saveToFile_snapshotMapped_leavesItInPlaceAndUsesTheNewSnapshotOnTheNextStart() throws IOException {
+        List<String> caseLines = getSaveStrings(createCaseOfEveryCategory());
+        writeSaveFile(caseLines);
+        new Storage(saveFile.getPath(), null, snapshotFile.getPath()).loadCaseManager();
+        CaseManager.clearCases();
+        byte[] mappedBytes = Files.readAllBytes(snapshotFile.toPath());
+
+        Storage storage = new Storage(saveFile.getPath(), null, snapshotFile.getPath());
+        storage.setLazyLoading(true);
+        storage.loadCaseManager();
+        Case editedCase = CaseManager.getCases(CaseQuery.all()).get(0);
+        editedCase.update(Map.of("victim", "Mary Lee"));
+        storage.saveToFile();
+        caseLines.set(0, SaveFormatCodec.toSaveString(editedCase));
+        File pendingSnapshotFile = new File(snapshotFile.getPath() + Storage.PENDING_SNAPSHOT_SUFFIX);
+        assertArrayEquals(mappedBytes, Files.readAllBytes(snapshotFile.toPath()));
+        assertTrue(pendingSnapshotFile.exists());
+
+        CaseManager.clearCases();
+        storage = new Storage(saveFile.getPath(), null, snapshotFile.getPath());
+        storage.setLazyLoading(true);
+        storage.loadCaseManager();
+        assertFalse(pendingSnapshotFile.exists());
+        for (Case c : CaseManager.getCases(CaseQuery.all())) {
+            assertFalse(c.isFullyLoaded());
+        }
+        assertEquals(caseLines, getSaveStrings(CaseManager.getCases(CaseQuery.all())));
+    }
+}
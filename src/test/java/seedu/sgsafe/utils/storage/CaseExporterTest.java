@@ -0,0 +1,112 @@
+package seedu.sgsafe.utils.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.CaseQuery;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.property.ArsonCase;
+import seedu.sgsafe.domain.casefiles.type.violent.MurderCase;
+import seedu.sgsafe.utils.settings.Settings;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseExporterTest {
+
+    @BeforeEach
+    void setUp() {
+        CaseManager.clearCases();
+        Settings.setInputDateFormat("dd/MM/yyyy");
+
+        Case murder = new MurderCase("000000", "Stabbing", LocalDate.of(2024, 2, 1), "Void deck, \"block\" 123",
+                "John Doe", null);
+        murder.update(Map.of("weapon", "knife", "number-of-victims", 2));
+        CaseManager.addCase(murder);
+        CaseManager.addCase(new TheftCase("000001", "Stolen bike", LocalDate.of(2024, 2, 2), "At the MRT",
+                null, "Sgt. Lim"));
+        CaseManager.closeCase("000001");
+    }
+
+    @AfterEach
+    void tearDown() {
+        CaseManager.clearCases();
+    }
+
+    private static String export(ExportFormat format, CaseQuery query) throws IOException {
+        StringWriter output = new StringWriter();
+        new CaseExporter(output, format).export(query);
+        return output.toString();
+    }
+
+    @Test
+    void export_jsonl_writesOneEscapedObjectPerCase() throws IOException {
+        String[] lines = export(ExportFormat.JSONL, CaseQuery.all()).split("\n");
+
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"000000\",\"status\":\"open\",\"category\":\"murder\","
+                + "\"title\":\"Stabbing\",\"date\":\"2024-02-01\",\"info\":\"Void deck, \\\"block\\\" 123\","
+                + "\"victim\":\"John Doe\",\"officer\":null,"));
+        assertTrue(lines[0].endsWith(",\"weapon\":\"knife\",\"number-of-victims\":2}"));
+        assertTrue(lines[1].contains("\"status\":\"closed\""));
+        assertTrue(lines[1].endsWith(",\"financial-value\":null,\"stolen-object\":null}"));
+    }
+
+    @Test
+    void export_amounts_writtenAsPlainDecimalsInBothFormats() throws IOException {
+        Case theft = new TheftCase("000002", "Stolen watch", LocalDate.of(2024, 2, 3), "At home", null, null);
+        theft.update(Map.of("financial-value", 1234.5));
+        CaseManager.addCase(theft);
+        Case arson = new ArsonCase("000003", "Warehouse fire", LocalDate.of(2024, 2, 4), "Docks", null, null);
+        arson.update(Map.of("monetary-damage", 12345678.9));
+        CaseManager.addCase(arson);
+
+        String jsonl = export(ExportFormat.JSONL, CaseQuery.all());
+        String csv = export(ExportFormat.CSV, CaseQuery.all());
+
+        assertTrue(jsonl.contains(",\"financial-value\":1234.50,"));
+        assertTrue(jsonl.contains(",\"monetary-damage\":12345678.90}"));
+        assertTrue(csv.contains(",1234.50,"));
+        assertTrue(csv.contains(",12345678.90"));
+        assertFalse(jsonl.contains("E7") || csv.contains("E7"));
+    }
+
+    @Test
+    void export_withStatusQuery_writesOnlyMatchingCases() throws IOException {
+        String csv = export(ExportFormat.CSV, CaseQuery.all().withOpen(false));
+        String[] lines = csv.split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals(String.join(",", CaseExporter.getCsvColumns()), lines[0]);
+        assertTrue(lines[1].startsWith("000001,closed,theft,Stolen bike,02/02/2024,At the MRT,,Sgt. Lim,"));
+        assertFalse(csv.contains("Stabbing"));
+    }
+
+    @Test
+    void export_csv_canBeImportedAgain() throws IOException {
+        String csv = export(ExportFormat.CSV, CaseQuery.all());
+        CaseManager.clearCases();
+
+        CsvCaseImporter importer = new CsvCaseImporter(new BufferedReader(new StringReader(csv)));
+        importer.importCases();
+
+        assertEquals(2, importer.getImportedCount());
+        assertTrue(importer.getRejectedRows().isEmpty());
+        MurderCase murder = (MurderCase) CaseManager.getCaseById("000000");
+        assertEquals("Void deck, \"block\" 123", murder.getInfo());
+        assertEquals("knife", murder.getWeapon());
+        assertEquals(LocalDate.of(2024, 2, 1), murder.getDate());
+        assertFalse(CaseManager.getCaseById("000001").isOpen());
+        assertEquals("Sgt. Lim", CaseManager.getCaseById("000001").getOfficer());
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.sgsafe.utils.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+import seedu.sgsafe.domain.casefiles.type.violent.ViolentCase;
+import seedu.sgsafe.utils.exceptions.InvalidImportFileException;
+import seedu.sgsafe.utils.settings.Settings;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvCaseImporterTest {
+
+    @BeforeEach
+    void setUp() {
+        CaseManager.clearCases();
+        Settings.setInputDateFormat("dd/MM/yyyy");
+    }
+
+    @AfterEach
+    void tearDown() {
+        CaseManager.clearCases();
+    }
+
+    private static CsvCaseImporter importer(String... lines) {
+        return new CsvCaseImporter(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+
+    @Test
+    void importCases_validRows_addsCasesInFileOrder() throws IOException {
+        CsvCaseImporter importer = importer(
+                "category,title,date,info,victim,weapon,vehicle-plate,speed-limit",
+                "murder,Stabbing,01/02/2024,\"Void deck, block 123\",John Doe,knife,,",
+                "theft,Stolen bike,02/02/2024,At the MRT,,,,",
+                "speeding,Fast car,03/02/2024,On the PIE,,,SGX1234A,90");
+        importer.importCases();
+
+        assertEquals(3, importer.getImportedCount());
+        assertTrue(importer.getRejectedRows().isEmpty());
+
+        ViolentCase murder = (ViolentCase) CaseManager.getCaseById("000000");
+        assertEquals(CaseCategory.MURDER, murder.getCategory());
+        assertEquals("Void deck, block 123", murder.getInfo());
+        assertEquals("John Doe", murder.getVictim());
+        assertEquals("knife", murder.getWeapon());
+        assertEquals(LocalDate.of(2024, 2, 1), murder.getDate());
+
+        assertEquals("Stolen bike", CaseManager.getCaseById("000001").getTitle());
+
+        SpeedingCase speeding = (SpeedingCase) CaseManager.getCaseById("000002");
+        assertEquals("SGX1234A", speeding.getVehiclePlate());
+        assertEquals(90, speeding.getSpeedLimit());
+    }
+
+    @Test
+    void importCases_invalidRows_rejectsThemWithReasonsAndKeepsGoing() throws IOException {
+        CsvCaseImporter importer = importer(
+                "category,title,date,info,weapon",
+                "theft,Stolen bike,02/02/2024,At the MRT,",
+                "piracy,Fire,02/02/2024,At the MRT,",
+                "theft,Stolen bike,02/02/2024,At the MRT,knife",
+                "theft,,02/02/2024,At the MRT,",
+                "theft,Stolen bike,02/02/2024",
+                "",
+                "theft,Stolen phone,03/02/2024,At the mall,");
+        importer.importCases();
+
+        assertEquals(2, importer.getImportedCount());
+        assertEquals(2, CaseManager.getCaseListSize());
+        assertEquals("Stolen phone", CaseManager.getCaseById("000001").getTitle());
+
+        List<String> rejectedRows = importer.getRejectedRows();
+        assertEquals(4, rejectedRows.size());
+        assertEquals("Line 3: The category 'piracy' does not exist.", rejectedRows.get(0));
+        assertEquals("Line 4: The value for 'weapon' does not apply to theft cases.", rejectedRows.get(1));
+        assertEquals("Line 5: The value for 'title' is missing.", rejectedRows.get(2));
+        assertEquals("Line 6: Expected 5 values but found 3.", rejectedRows.get(3));
+    }
+
+    @Test
+    void importCases_invalidHeader_throwsAndAddsNothing() {
+        assertThrows(InvalidImportFileException.class,
+                () -> importer("category,title,date,info,colour", "theft,Bike,02/02/2024,MRT,red").importCases());
+        assertThrows(InvalidImportFileException.class,
+                () -> importer("category,title,date", "theft,Bike,02/02/2024").importCases());
+        assertThrows(InvalidImportFileException.class,
+                () -> importer("category,title,title,date,info").importCases());
+        assertThrows(InvalidImportFileException.class, () -> importer("").importCases());
+        assertEquals(0, CaseManager.getCaseListSize());
+    }
+
+    @Test
+    void importCases_readFailsPartWay_keepsCasesReadBeforeAndReportsTheLine() {
+        String text = String.join("\n",
+                "category,title,date,info",
+                "theft,Stolen bike,02/02/2024,At the MRT",
+                "",
+                "theft,Stolen phone,03/02/2024,At the mall",
+                "theft,Stolen wallet,04/02/2024,At the market");
+        int failingOffset = text.indexOf("theft,Stolen wallet");
+        BufferedReader reader = new BufferedReader(new StringReader(text) {
+            private int offset = 0;
+
+            @Override
+            public int read(char[] buffer, int start, int length) throws IOException {
+                if (offset >= failingOffset) {
+                    throw new IOException("Disk unplugged");
+                }
+                int count = super.read(buffer, start, Math.min(length, failingOffset - offset));
+                offset += Math.max(count, 0);
+                return count;
+            }
+        });
+        CsvCaseImporter importer = new CsvCaseImporter(reader);
+
+        IOException e = assertThrows(IOException.class, importer::importCases);
+        assertEquals("Disk unplugged", e.getMessage());
+        assertEquals(2, importer.getImportedCount());
+        assertEquals(2, CaseManager.getCaseListSize());
+        assertEquals(4, importer.getLineNumber());
+    }
+
+    @Test
+    void splitRow_quotedValues_keepsCommasAndUnescapesQuotes() {
+        assertEquals(List.of("a", "b, c", "say \"hi\"", ""),
+                CsvCaseImporter.splitRow("a,\"b, c\",\"say \"\"hi\"\"\","));
+    }
+}
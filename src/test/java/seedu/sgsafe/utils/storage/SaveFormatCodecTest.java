@@ -0,0 +1,84 @@
+package seedu.sgsafe.utils.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.violent.MurderCase;
+import seedu.sgsafe.utils.exceptions.InvalidSavedCategoryException;
+import seedu.sgsafe.utils.exceptions.InvalidSavedDateException;
+import seedu.sgsafe.utils.exceptions.InvalidSavedFieldsException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SaveFormatCodecTest {
+
+    private static final String BASE_FIELDS = "|title:Incident|date:14/10/2025|info:Some info"
+            + "|victim:John Tan|officer:Sgt. Lim|is-deleted:0|is-open:1"
+            + "|created-at:14/10/2025 10:45:33|updated-at:20/10/2025 12:12:10";
+
+    private static final String ADDITIONAL_FIELDS = "|financial-value:1250.50|location:Blk 123"
+            + "|stolen-object:Phone|monetary-damage:800.0|number-of-victims:2|weapon:Knife"
+            + "|vehicle-type:Car|vehicle-plate:SGX1234A|road-name:Orchard Road|speed-limit:60"
+            + "|exceeded-speed:95|number-of-casualties:1|custom-category:Littering";
+
+    @Test
+    public void decode_encodedCaseOfEveryCategory_roundTripsUnchanged() {
+        SaveFormatCodec codec = new SaveFormatCodec();
+        for (CaseCategory category : CaseCategory.values()) {
+            Case original = SaveFormatCodec.decode("category:" + category + BASE_FIELDS + ADDITIONAL_FIELDS, "00000a");
+            String encoded = codec.encode(original).toString();
+
+            Case decoded = SaveFormatCodec.decode(encoded, "00000a");
+
+            assertEquals(category, decoded.getCategory());
+            assertEquals("00000a", decoded.getId());
+            assertEquals(SaveFormatCodec.toSaveString(original), encoded);
+            assertEquals(encoded, SaveFormatCodec.toSaveString(decoded));
+        }
+    }
+
+    @Test
+    public void decode_additionalFields_restoresTypedValues() {
+        Case decoded = SaveFormatCodec.decode("category:MURDER" + BASE_FIELDS + ADDITIONAL_FIELDS, "000000");
+
+        assertEquals(2, ((MurderCase) decoded).getNumberOfVictims());
+        assertEquals("Knife", ((MurderCase) decoded).getWeapon());
+    }
+
+    @Test
+    public void encode_amounts_keepsTheFormOfEachField() {
+        Case theft = SaveFormatCodec.decode("category:THEFT" + BASE_FIELDS + "|financial-value:12345678.9", "000000");
+        Case arson = SaveFormatCodec.decode("category:ARSON" + BASE_FIELDS + "|monetary-damage:2000", "000000");
+
+        assertTrue(SaveFormatCodec.toSaveString(theft).contains("|financial-value:12345678.90|"));
+        assertTrue(SaveFormatCodec.toSaveString(arson).endsWith("|monetary-damage:2000.0"));
+    }
+
+    @Test
+    public void decode_emptyAndDuplicateFields_keepsLastNonEmptyValue() {
+        Case decoded = SaveFormatCodec.decode("category:THEFT" + BASE_FIELDS
+                + "|title:Renamed|title:|victim: |stolen-object:", "000000");
+
+        assertEquals("Renamed", decoded.getTitle());
+        assertEquals("", decoded.getVictim());
+        assertNull(((TheftCase) decoded).getStolenObject());
+    }
+
+    @Test
+    public void decode_malformedLines_throwsMatchingException() {
+        assertThrows(InvalidSavedFieldsException.class, () ->
+                SaveFormatCodec.decode("category:THEFT|title:Incident|date:14/10/2025", "000000"));
+        assertThrows(InvalidSavedFieldsException.class, () ->
+                SaveFormatCodec.decode("category:MURDER" + BASE_FIELDS + "|number-of-victims:-1", "000000"));
+        assertThrows(InvalidSavedFieldsException.class, () ->
+                SaveFormatCodec.decode("category:SCAM" + BASE_FIELDS + "|financial-value:lots", "000000"));
+        assertThrows(InvalidSavedDateException.class, () ->
+                SaveFormatCodec.decode("category:THEFT" + BASE_FIELDS + "|date:2025-10-14", "000000"));
+        assertThrows(InvalidSavedCategoryException.class, () ->
+                SaveFormatCodec.decode("category:PICKPOCKET" + BASE_FIELDS, "000000"));
+    }
+}
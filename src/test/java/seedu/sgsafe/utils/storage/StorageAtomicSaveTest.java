@@ -0,0 +1,174 @@
+package seedu.sgsafe.utils.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageAtomicSaveTest {
+
+    /** Printed by {@link SlowSaveProcess} once part of the new save file has been written. */
+    private static final String SAVING_MARKER = "saving";
+
+    /** Enough cases for the interrupted save to fill the write buffer several times over. */
+    private static final int CASES_BEFORE_STALL = 5000;
+
+    private static final long MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private File saveFile;
+    private File journalFile;
+    private File temporaryFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        CaseManager.clearCases();
+        saveFile = File.createTempFile("sgsafe-data", ".txt");
+        journalFile = File.createTempFile("sgsafe-data", ".journal");
+        temporaryFile = new File(saveFile.getPath() + Storage.TEMPORARY_FILE_SUFFIX);
+        saveFile.delete();
+        journalFile.delete();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CaseManager.clearCases();
+        saveFile.delete();
+        journalFile.delete();
+        temporaryFile.delete();
+    }
+
+    private static void addTheftCase(String title) {
+        LocalDate date = LocalDate.of(2024, 3, 1);
+        CaseManager.addCase(new TheftCase(CaseManager.generateHexId(), title, date, "info", "victim", "officer"));
+    }
+
+    @Test
+    void saveToFile_processKilledMidSave_previousSaveFileSurvives() throws Exception {
+        Storage storage = new Storage(saveFile.getPath());
+        storage.loadCaseManager();
+        addTheftCase("Wallet stolen");
+        addTheftCase("Bicycle stolen");
+        assertTrue(storage.saveToFile());
+        byte[] previousSave = Files.readAllBytes(saveFile.toPath());
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                SlowSaveProcess.class.getName(), saveFile.getPath())
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            assertTrue(waitForMarker(process, output), "The save process should report that it is saving");
+        } finally {
+            process.destroyForcibly().waitFor();
+        }
+
+        assertTrue(temporaryFile.length() > 0, "The interrupted save should have written part of its file");
+        assertArrayEquals(previousSave, Files.readAllBytes(saveFile.toPath()));
+
+        CaseManager.clearCases();
+        new Storage(saveFile.getPath()).loadCaseManager();
+        assertEquals(2, CaseManager.getCaseListSize());
+        assertEquals("Bicycle stolen", CaseManager.getCaseById("000001").getTitle());
+        assertFalse(temporaryFile.exists());
+    }
+
+    /**
+     * Reads the output of the process until it prints {@link #SAVING_MARKER}, giving up if the process exits
+     * or {@link #MAX_WAIT_NANOS} pass first.
+     */
+    private static boolean waitForMarker(Process process, BufferedReader output)
+            throws IOException, InterruptedException {
+        InputStream stream = process.getInputStream();
+        long deadline = System.nanoTime() + MAX_WAIT_NANOS;
+        while (System.nanoTime() < deadline) {
+            if (stream.available() == 0 && !output.ready()) {
+                if (!process.isAlive()) {
+                    return false;
+                }
+                Thread.sleep(10);
+                continue;
+            }
+            String line = output.readLine();
+            if (line == null) {
+                return false;
+            } else if (line.equals(SAVING_MARKER)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    void compactJournal_saveFileCannotBeWritten_keepsSaveFileAndJournal() throws IOException {
+        Storage storage = new Storage(saveFile.getPath(), journalFile.getPath());
+        storage.loadCaseManager();
+        addTheftCase("Wallet stolen");
+        storage.compactJournal();
+        addTheftCase("Bicycle stolen");
+        storage.saveChanges();
+        List<String> previousSave = Files.readAllLines(saveFile.toPath());
+
+        // A directory in the way of the temporary file makes the next full save fail
+        assertTrue(temporaryFile.mkdir());
+        storage.compactJournal();
+
+        assertEquals(previousSave, Files.readAllLines(saveFile.toPath()));
+        assertEquals(1, Files.readAllLines(journalFile.toPath()).size());
+
+        // The failed save cleans up after itself and is retried in full by the next save
+        assertFalse(temporaryFile.exists());
+        addTheftCase("Phone stolen");
+        storage.saveChanges();
+        assertFalse(journalFile.exists());
+        assertEquals(5, Files.readAllLines(saveFile.toPath()).size());
+    }
+
+    /**
+     * Saves a large number of cases to the save file given as its argument, stalling for good once the
+     * encoder reaches the last case, so that the test can kill it in the middle of the save.
+     */
+    static class SlowSaveProcess {
+        public static void main(String[] args) {
+            Storage storage = new Storage(args[0]);
+            storage.loadCaseManager();
+            for (int i = 0; i < CASES_BEFORE_STALL; i++) {
+                addTheftCase("Replacement case " + i);
+            }
+            LocalDate date = LocalDate.of(2024, 3, 1);
+            CaseManager.addCase(new TheftCase(CaseManager.generateHexId(), "Stalling case", date, "info", null, null) {
+                @Override
+                public void writeAdditionalSaveFields(BiConsumer<String, Object> writer) {
+                    super.writeAdditionalSaveFields(writer);
+                    System.out.println(SAVING_MARKER);
+                    System.out.flush();
+                    try {
+                        Thread.sleep(Long.MAX_VALUE);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            storage.saveToFile();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package seedu.sgsafe.utils.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.CaseQuery;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageJournalTest {
+
+    private File saveFile;
+    private File journalFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        CaseManager.clearCases();
+        saveFile = File.createTempFile("sgsafe-data", ".txt");
+        journalFile = File.createTempFile("sgsafe-data", ".journal");
+        saveFile.delete();
+        journalFile.delete();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CaseManager.clearCases();
+        saveFile.delete();
+        journalFile.delete();
+    }
+
+    private Storage newStorage() {
+        return new Storage(saveFile.getPath(), journalFile.getPath());
+    }
+
+    private void addTheftCase(String title) {
+        LocalDate date = LocalDate.of(2024, 3, 1);
+        CaseManager.addCase(new TheftCase(CaseManager.generateHexId(), title, date, "info", "victim", "officer"));
+    }
+
+    @Test
+    void saveChanges_afterAddingCase_appendsOneRecordWithoutRewritingSaveFile() throws IOException {
+        Storage storage = newStorage();
+        storage.loadCaseManager();
+
+        addTheftCase("Wallet stolen");
+        storage.saveChanges();
+
+        List<String> records = Files.readAllLines(journalFile.toPath());
+        assertEquals(1, records.size());
+        assertTrue(records.get(0).startsWith("id:000000|category:THEFT|title:Wallet stolen"));
+        assertFalse(saveFile.exists());
+    }
+
+    @Test
+    void saveChanges_journalUnwritable_writesTheChangeOnTheNextSave() throws Exception {
+        Storage storage = newStorage();
+        storage.loadCaseManager();
+        List<String> problems = new ArrayList<>();
+        storage.setSaveMessageSink(problems::add);
+        addTheftCase("Wallet stolen");
+        // A directory in place of the journal cannot be appended to
+        assertTrue(journalFile.mkdir());
+
+        storage.saveChanges();
+        assertEquals(1, problems.size());
+        assertFalse(saveFile.exists());
+
+        assertTrue(journalFile.delete());
+        storage.saveChanges();
+
+        CaseManager.clearCases();
+        newStorage().loadCaseManager();
+        assertEquals("Wallet stolen", CaseManager.getCaseById("000000").getTitle());
+    }
+
+    @Test
+    void saveChanges_withoutChanges_doesNotWriteAnything() {
+        Storage storage = newStorage();
+        storage.loadCaseManager();
+
+        storage.saveChanges();
+
+        assertFalse(journalFile.exists());
+        assertFalse(saveFile.exists());
+    }
+
+    @Test
+    void loadCaseManager_withJournal_replaysChangesAndCompacts() throws Exception {
+        Storage storage = newStorage();
+        storage.loadCaseManager();
+        addTheftCase("Wallet stolen");
+        addTheftCase("Bicycle stolen");
+        storage.saveChanges();
+        CaseManager.closeCase("000000");
+        CaseManager.deleteCase("000001");
+        storage.saveChanges();
+        assertEquals(4, Files.readAllLines(journalFile.toPath()).size());
+
+        CaseManager.clearCases();
+        newStorage().loadCaseManager();
+
+        List<Case> cases = CaseManager.getCases(CaseQuery.all());
+        assertEquals(1, cases.size());
+        assertEquals("Wallet stolen", cases.get(0).getTitle());
+        assertFalse(cases.get(0).isOpen());
+        assertEquals(1, CaseManager.getDeletedCaseCount());
+        assertFalse(journalFile.exists());
+        // The settings, the next case ID and the two cases
+        assertEquals(4, Files.readAllLines(saveFile.toPath()).size());
+    }
+
+    @Test
+    void loadCaseManager_afterSavingWithIdsAheadOfSlots_keepsIdsAndNextId() throws Exception {
+        Storage storage = newStorage();
+        storage.loadCaseManager();
+        CaseManager.setNextId(0x100);
+        addTheftCase("Wallet stolen");
+        addTheftCase("Bicycle stolen");
+        CaseManager.setNextId(0x200);
+        storage.compactJournal();
+
+        CaseManager.clearCases();
+        newStorage().loadCaseManager();
+
+        List<Case> cases = CaseManager.getCases(CaseQuery.all());
+        assertEquals("000100", cases.get(0).getId());
+        assertEquals("000101", cases.get(1).getId());
+        assertEquals("Bicycle stolen", CaseManager.getCaseById("000101").getTitle());
+        assertEquals("000200", CaseManager.generateHexId());
+    }
+
+    @Test
+    void loadCaseManager_saveFileWithoutIds_givesIdsMatchingLineOrder() throws Exception {
+        String fields = "|title:Wallet stolen|date:01/03/2024|info:info|victim:victim|officer:officer"
+                + "|is-deleted:0|is-open:1|created-at:01/03/2024 10:00:00|updated-at:01/03/2024 10:00:00";
+        Files.write(saveFile.toPath(), List.of("settings:dd/MM/yyyy|dd/MM/yyyy|dd/MM/yyyy HH:mm:ss",
+                "category:THEFT" + fields, "category:SCAM" + fields));
+
+        newStorage().loadCaseManager();
+
+        assertEquals("000000", CaseManager.getCases(CaseQuery.all()).get(0).getId());
+        assertEquals("000001", CaseManager.getCases(CaseQuery.all()).get(1).getId());
+        assertEquals("000002", CaseManager.generateHexId());
+    }
+
+    @Test
+    void saveChanges_afterRemovingDeletedCases_rewritesSaveFileWithoutThem() throws Exception {
+        Storage storage = newStorage();
+        storage.loadCaseManager();
+        addTheftCase("Wallet stolen");
+        addTheftCase("Bicycle stolen");
+        CaseManager.deleteCase("000000");
+        storage.saveChanges();
+
+        CaseManager.removeDeletedCases();
+        storage.saveChanges();
+
+        assertFalse(journalFile.exists());
+        List<String> lines = Files.readAllLines(saveFile.toPath());
+        assertEquals(3, lines.size());
+        assertEquals("next-id:000002", lines.get(1));
+        assertTrue(lines.get(2).startsWith("id:000001|"));
+
+        CaseManager.clearCases();
+        newStorage().loadCaseManager();
+        assertEquals(1, CaseManager.getCaseListSize());
+        assertEquals("Bicycle stolen", CaseManager.getCaseById("000001").getTitle());
+        assertEquals("000002", CaseManager.generateHexId());
+    }
+
+    @Test
+    void saveChanges_removedCasesFromSmallSaveFile_reportsSizesWithoutLoadEstimate() throws Exception {
+        Storage storage = newStorage();
+        storage.loadCaseManager();
+        addTheftCase("Wallet stolen");
+        addTheftCase("Bicycle stolen");
+        storage.saveChanges();
+        CaseManager.clearCases();
+
+        Storage reloaded = newStorage();
+        reloaded.loadCaseManager();
+        List<String> messages = new ArrayList<>();
+        reloaded.setSaveMessageSink(messages::add);
+        CaseManager.deleteCase("000000");
+        CaseManager.removeDeletedCases();
+        reloaded.saveChanges();
+
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).startsWith("Reclaimed 1 deleted case(s) from the save file: "));
+        assertFalse(messages.get(0).contains("less to load"));
+    }
+
+    @Test
+    void loadCaseManager_mostlyDeletedCases_removesThemAutomatically() throws Exception {
+        String fields = "|category:THEFT|title:Wallet stolen|date:01/03/2024|info:info|victim:|officer:"
+                + "|is-open:1|created-at:01/03/2024 10:00:00|updated-at:01/03/2024 10:00:00";
+        List<String> lines = new ArrayList<>();
+        lines.add("settings:dd/MM/yyyy|dd/MM/yyyy|dd/MM/yyyy HH:mm:ss");
+        for (int i = 0; i < Storage.AUTO_REMOVAL_MIN_DELETED_CASES; i++) {
+            lines.add("id:" + CaseManager.getHexIdForSlot(i) + fields + "|is-deleted:1");
+        }
+        lines.add("corrupted line");
+        lines.add("id:" + CaseManager.getHexIdForSlot(5000) + fields + "|is-deleted:0");
+        Files.write(saveFile.toPath(), lines);
+
+        newStorage().loadCaseManager();
+
+        assertEquals(1, CaseManager.getCaseListSize());
+        assertEquals("Wallet stolen", CaseManager.getCaseById("001388").getTitle());
+        assertEquals(3, Files.readAllLines(saveFile.toPath()).size());
+    }
+
+    @Test
+    void loadCaseManager_fewDeletedCases_keepsThem() throws Exception {
+        Storage storage = newStorage();
+        storage.loadCaseManager();
+        addTheftCase("Wallet stolen");
+        CaseManager.deleteCase("000000");
+        storage.compactJournal();
+
+        CaseManager.clearCases();
+        newStorage().loadCaseManager();
+
+        assertEquals(1, CaseManager.getCaseListSize());
+        assertEquals(1, CaseManager.getDeletedCaseCount());
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.sgsafe.utils.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.utils.command.Command;
+import seedu.sgsafe.utils.settings.Settings;
+import seedu.sgsafe.utils.ui.Parser;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs scripted sessions the same way {@code SGSafe.handleUserCommand} does and counts the bytes
+ * {@link Storage} writes after each command.
+ */
+class StorageSessionTest {
+
+    private File saveFile;
+    private File journalFile;
+    private Storage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        CaseManager.clearCases();
+        Settings.setInputDateFormat("dd/MM/yyyy");
+        Settings.setOutputDateFormat("dd/MM/yyyy");
+        Settings.setDateTimeFormat("dd/MM/yyyy HH:mm:ss");
+        saveFile = File.createTempFile("sgsafe-data", ".txt");
+        journalFile = File.createTempFile("sgsafe-data", ".journal");
+        saveFile.delete();
+        journalFile.delete();
+        storage = new Storage(saveFile.getPath(), journalFile.getPath());
+        storage.loadCaseManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CaseManager.clearCases();
+        saveFile.delete();
+        journalFile.delete();
+    }
+
+    /**
+     * Runs a single command and returns the number of bytes written while saving after it.
+     */
+    private long runCommand(String input) {
+        long before = storage.getBytesWritten();
+        Command command = Parser.parseInput(input);
+        command.execute();
+        if (command.isMutating()) {
+            storage.saveChanges();
+        }
+        return storage.getBytesWritten() - before;
+    }
+
+    @Test
+    void session_readOnlyCommands_writeNoBytes() {
+        assertTrue(runCommand("add --category theft --title Wallet stolen --date 01/02/2024 --info At the mall") > 0);
+
+        assertEquals(0, runCommand("list"));
+        assertEquals(0, runCommand("list --mode verbose"));
+        assertEquals(0, runCommand("read 000000"));
+        assertEquals(0, runCommand("find --keyword wallet"));
+        assertEquals(0, runCommand("help"));
+        assertEquals(0, runCommand("edit 000000"));
+        assertFalse(saveFile.exists());
+    }
+
+    @Test
+    void session_failedMutatingCommands_writeNoBytes() {
+        runCommand("add --category theft --title Wallet stolen --date 01/02/2024 --info At the mall");
+
+        assertEquals(0, runCommand("close 00000f"));
+        assertEquals(0, runCommand("delete 00000f"));
+        assertEquals(0, runCommand("setting --type dateoutput --value dd/MM/yyyy"));
+        assertEquals(0, runCommand("setting --type dateoutput --value ddmy"));
+    }
+
+    @Test
+    void session_mutatingCommands_writeOnlyTheChangedCase() {
+        for (int i = 0; i < 50; i++) {
+            runCommand("add --category scam --title Phishing email " + i + " --date 01/02/2024 --info Fake bank");
+        }
+        long totalBefore = storage.getBytesWritten();
+
+        long closeBytes = runCommand("close 000010");
+        long editBytes = runCommand("edit 000011 --title Renamed");
+
+        assertTrue(closeBytes > 0);
+        assertTrue(editBytes > 0);
+        // A full rewrite would cost about as much as all 50 adds together
+        assertTrue(closeBytes + editBytes < totalBefore / 10);
+    }
+}
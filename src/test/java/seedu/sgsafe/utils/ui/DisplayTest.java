@@ -0,0 +1,62 @@
+package seedu.sgsafe.utils.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+class DisplayTest {
+
+    private static final String DIVIDER = "\t____________________________________________________________";
+    private static final String NEWLINE = System.lineSeparator();
+
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private PrintStream originalOut;
+
+    @BeforeEach
+    void captureOutput() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+    }
+
+    @AfterEach
+    void restoreOutput() {
+        Display.flush();
+        Display.setPlainOutput(false);
+        Display.setAutoFlush(true);
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void printMessage_default_wrapsIndentedLinesInDividers() {
+        Display.printMessage("first", "second");
+
+        assertEquals(DIVIDER + NEWLINE + "\tfirst" + NEWLINE + "\tsecond" + NEWLINE + DIVIDER + NEWLINE,
+                outputStream.toString());
+    }
+
+    @Test
+    void printMessage_plainOutput_printsLinesAsTheyAre() {
+        Display.setPlainOutput(true);
+        Display.printMessage("first", "second");
+
+        assertEquals("first" + NEWLINE + "second" + NEWLINE, outputStream.toString());
+    }
+
+    @Test
+    void printMessage_autoFlushOff_holdsOutputUntilFlushed() {
+        Display.setAutoFlush(false);
+        Display.printMessage("first");
+        Display.printLine("second");
+
+        assertEquals("", outputStream.toString());
+
+        Display.flush();
+        assertEquals(DIVIDER + NEWLINE + "\tfirst" + NEWLINE + DIVIDER + NEWLINE + "second" + NEWLINE,
+                outputStream.toString());
+    }
+}
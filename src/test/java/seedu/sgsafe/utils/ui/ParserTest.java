@@ -3,28 +3,37 @@ package seedu.sgsafe.utils.ui;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
+import seedu.sgsafe.domain.casefiles.DateBucket;
 import seedu.sgsafe.utils.command.CaseListingMode;
 import seedu.sgsafe.utils.command.Command;
 import seedu.sgsafe.utils.command.CommandType;
+import seedu.sgsafe.utils.command.ExportCommand;
 import seedu.sgsafe.utils.command.ListCommand;
 import seedu.sgsafe.utils.command.AddCommand;
 import seedu.sgsafe.utils.command.ByeCommand;
+import seedu.sgsafe.utils.command.CompactCommand;
 import seedu.sgsafe.utils.command.SettingCommand;
 import seedu.sgsafe.utils.command.SettingType;
+import seedu.sgsafe.utils.command.StatsCommand;
 import seedu.sgsafe.utils.exceptions.IncorrectFlagException;
 import seedu.sgsafe.utils.exceptions.EmptyCommandException;
 import seedu.sgsafe.utils.exceptions.InputLengthExceededException;
 import seedu.sgsafe.utils.exceptions.DuplicateFlagException;
 import seedu.sgsafe.utils.exceptions.InvalidAddCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidByeCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidCompactCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidCaseIdException;
 import seedu.sgsafe.utils.exceptions.InvalidDateInputException;
 import seedu.sgsafe.utils.exceptions.InvalidEditCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidExportCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidCloseCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidDeleteCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidFormatStringException;
@@ -33,9 +42,11 @@ import seedu.sgsafe.utils.exceptions.InvalidReadCommandException;
 
 import seedu.sgsafe.utils.exceptions.InvalidOpenCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidSettingCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidStatsCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidStatusException;
 import seedu.sgsafe.utils.exceptions.UnknownCommandException;
 import seedu.sgsafe.utils.settings.Settings;
+import seedu.sgsafe.utils.storage.ExportFormat;
 
 /**
  * Unit tests for {@link Parser}, verifying correct command parsing and exception handling.
@@ -319,7 +330,7 @@ class ParserTest {
 
     @Test
     void parseInput_deleteTooLongCaseId_throwsInvalidDeleteCommandException() {
-        String input = "delete abc1234";
+        String input = "delete abc123456";
         assertThrows(InvalidDeleteCommandException.class, () -> Parser.parseInput(input));
     }
 
@@ -375,6 +386,37 @@ class ParserTest {
                 () -> Parser.parseInput("bye now"));
     }
 
+    // ----------- TESTS FOR COMPACT COMMANDS ----------- //
+
+    @Test
+    void parseInput_compactCommand_returnsMutatingCompactCommand() {
+        Command cmd = Parser.parseInput("compact");
+        assertEquals(CompactCommand.class, cmd.getClass());
+        assertTrue(cmd.isMutating());
+    }
+
+    @Test
+    void parseInput_compactCommandWithExtraArgs_throwsInvalidCompactCommandException() {
+        assertThrows(InvalidCompactCommandException.class, () -> Parser.parseInput("compact now"));
+    }
+
+    @Test
+    void parseInput_statsCommand_returnsStatsCommandByMonthOverAllCases() {
+        StatsCommand command = (StatsCommand) Parser.parseInput("stats");
+        assertEquals(CaseListingMode.DEFAULT, command.getListingMode());
+        assertEquals(DateBucket.MONTH, command.getDateBucket());
+
+        command = (StatsCommand) Parser.parseInput("stats --by YEAR --status open");
+        assertEquals(CaseListingMode.OPEN_ONLY, command.getListingMode());
+        assertEquals(DateBucket.YEAR, command.getDateBucket());
+    }
+
+    @Test
+    void parseInput_statsCommandWithInvalidFlags_throwsInvalidStatsCommandException() {
+        assertThrows(InvalidStatsCommandException.class, () -> Parser.parseInput("stats --by week"));
+        assertThrows(InvalidStatsCommandException.class, () -> Parser.parseInput("stats --keyword theft"));
+    }
+
     // ----------- TESTS FOR SETTING COMMANDS ----------- //
 
     @Test
@@ -446,4 +488,40 @@ class ParserTest {
                         longValue));
     }
 
+    @Test
+    void parseInput_exportWithStatus_returnsExportCommand() {
+        Command command = Parser.parseInput("export --format JSONL --file out.jsonl --status closed");
+
+        ExportCommand exportCommand = assertInstanceOf(ExportCommand.class, command);
+        assertEquals(ExportFormat.JSONL, exportCommand.getFormat());
+        assertEquals("out.jsonl", exportCommand.getFilename());
+        assertEquals(CaseListingMode.CLOSED_ONLY, exportCommand.getListingMode());
+    }
+
+    @Test
+    void parseInput_exportWithUnknownFormatOrMissingFile_throwsInvalidExportCommandException() {
+        assertThrows(InvalidExportCommandException.class,
+                () -> Parser.parseInput("export --format xml --file out.xml"));
+        assertThrows(InvalidExportCommandException.class, () -> Parser.parseInput("export --format csv"));
+    }
+
+    @Test
+    void extractFlagValues_escapedPrefixAndExtraWhitespace_keepsValuesInTypedOrder() {
+        Map<String, String> flagValues = Parser.extractFlagValues(
+                "--title   Fight \\--at night  --info a--b \\-- c\t --victim  Tan Ah Kow ");
+
+        assertEquals(List.of("title", "info", "victim"), List.copyOf(flagValues.keySet()));
+        assertEquals("Fight --at night", flagValues.get("title"));
+        assertEquals("a--b -- c", flagValues.get("info"));
+        assertEquals("Tan Ah Kow", flagValues.get("victim"));
+    }
+
+    @Test
+    void extractFlagValues_malformedFlags_throwsExceptions() {
+        assertThrows(DuplicateFlagException.class, () -> Parser.extractFlagValues("--title a --title b"));
+        assertThrows(IncorrectFlagException.class, () -> Parser.extractFlagValues("--title a --info"));
+        assertThrows(IncorrectFlagException.class, () -> Parser.extractFlagValues("--title a -- --info b"));
+        assertThrows(InputLengthExceededException.class,
+                () -> Parser.extractFlagValues("--info " + "a".repeat(5001)));
+    }
 }
@@ -59,4 +59,22 @@ public class ValidatorTest {
 
         assertEquals(false, validator.inputIsEmpty(input));
     }
+
+    @Test
+    void isValidCaseId_sixToEightHexDigits_returnsTrue() {
+        Validator validator = new Validator();
+
+        assertEquals(true, validator.isValidCaseId("00beef"));
+        assertEquals(true, validator.isValidCaseId("1000000"));
+        assertEquals(true, validator.isValidCaseId("01ABCDEF"));
+    }
+
+    @Test
+    void isValidCaseId_tooShortTooLongOrNotHex_returnsFalse() {
+        Validator validator = new Validator();
+
+        assertEquals(false, validator.isValidCaseId("beef"));
+        assertEquals(false, validator.isValidCaseId("000000001"));
+        assertEquals(false, validator.isValidCaseId("00beeg"));
+    }
 }